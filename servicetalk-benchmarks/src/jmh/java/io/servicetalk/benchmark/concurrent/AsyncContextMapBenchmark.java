@@ -16,12 +16,14 @@
 package io.servicetalk.benchmark.concurrent;
 
 import io.servicetalk.concurrent.api.AsyncContext;
+import io.servicetalk.context.api.ContextMap;
 import io.servicetalk.context.api.ContextMap.Key;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -39,6 +41,11 @@ import java.util.function.Consumer;
 import static io.servicetalk.context.api.ContextMap.Key.newKey;
 import static java.util.Collections.unmodifiableSet;
 
+/*
+ * The *Many benchmarks put 8 to 64 keys, as contexts used for tracing, MDC and tenant propagation do. Compare the
+ * default copy-on-write map with the persistent map via
+ * -jvmArgsAppend -Dio.servicetalk.concurrent.api.asyncContext.usePersistentContextMap=true
+ */
 @Fork(2)
 @State(Scope.Benchmark)
 @Warmup(iterations = 10, time = 2)
@@ -108,6 +115,57 @@ public class AsyncContextMapBenchmark {
         AsyncContext.removeAllEntries(FourList.INSTANCE);
     }
 
+    @Benchmark
+    public void putGetMany(final ManyKeys state) {
+        final Key<String>[] keys = state.keys;
+        for (Key<String> key : keys) {
+            AsyncContext.put(key, "v");
+        }
+        for (Key<String> key : keys) {
+            AsyncContext.get(key);
+        }
+    }
+
+    @Benchmark
+    public ContextMap putManyCopyPutOne(final ManyKeys state) {
+        final Key<String>[] keys = state.keys;
+        for (Key<String> key : keys) {
+            AsyncContext.put(key, "v");
+        }
+        // A snapshot per request, which is then modified, e.g. by a filter adding a tracing span.
+        final ContextMap copy = AsyncContext.context().copy();
+        copy.put(keys[0], "v2");
+        return copy;
+    }
+
+    @Benchmark
+    public void updateOneOfMany(final ManyKeys state) {
+        final Key<String>[] keys = state.keys;
+        for (Key<String> key : keys) {
+            AsyncContext.put(key, "v");
+        }
+        for (int i = 0; i < keys.length; ++i) {
+            AsyncContext.put(keys[i & 7], "v2");
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ManyKeys {
+        @Param({"8", "16", "32", "64"})
+        public int size;
+
+        Key<String>[] keys;
+
+        @Setup(Level.Trial)
+        @SuppressWarnings("unchecked")
+        public void setup() {
+            keys = new Key[size];
+            for (int i = 0; i < size; ++i) {
+                keys[i] = newKey("key" + i, String.class);
+            }
+        }
+    }
+
     private static final class FourList extends AbstractList<Key<?>> {
         static final List<Key<?>> INSTANCE = new FourList();
 
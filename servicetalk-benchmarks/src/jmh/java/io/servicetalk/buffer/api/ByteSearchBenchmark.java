@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.buffer.api;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+
+import static io.servicetalk.buffer.api.CharSequences.contentEqualsIgnoreCase;
+import static io.servicetalk.buffer.api.CharSequences.contentEqualsIgnoreCaseUnknownTypes;
+import static io.servicetalk.buffer.api.CharSequences.isAscii;
+import static io.servicetalk.buffer.api.CharSequences.newAsciiString;
+import static io.servicetalk.buffer.api.ReadOnlyBufferAllocators.DEFAULT_RO_ALLOCATOR;
+
+/*
+ * This benchmark compares the 8 bytes at a time (SWAR) search and comparison of Buffer and AsciiBuffer against the
+ * byte-by-byte baseline. The byte to find and the non-ASCII byte are located at the end of the input (or absent for
+ * the descending search) to measure a full scan. Inputs shorter than 8 bytes take the byte-by-byte path.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+public class ByteSearchBenchmark {
+
+    @Param({"7", "32", "256", "4096"})
+    public int length;
+
+    private Buffer buffer;
+    private CharSequence lowerCase;
+    private CharSequence upperCase;
+    private CharSequence nonAscii;
+    private ByteProcessor findLF;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final byte[] bytes = new byte[length];
+        Arrays.fill(bytes, (byte) 'a');
+        bytes[length - 2] = '\r';
+        bytes[length - 1] = '\n';
+        buffer = DEFAULT_RO_ALLOCATOR.wrap(bytes);
+
+        final byte[] upperBytes = bytes.clone();
+        Arrays.fill(upperBytes, 0, length - 2, (byte) 'A');
+        lowerCase = newAsciiString(DEFAULT_RO_ALLOCATOR.wrap(bytes.clone()));
+        upperCase = newAsciiString(DEFAULT_RO_ALLOCATOR.wrap(upperBytes));
+        final byte[] nonAsciiBytes = bytes.clone();
+        nonAsciiBytes[length - 1] = (byte) 0xE9;
+        nonAscii = newAsciiString(DEFAULT_RO_ALLOCATOR.wrap(nonAsciiBytes));
+        findLF = value -> value != '\n';
+    }
+
+    @Benchmark
+    public int indexOfLF() {
+        return buffer.indexOf(buffer.readerIndex(), buffer.writerIndex(), (byte) '\n');
+    }
+
+    @Benchmark
+    public int forEachByteLF() {
+        return buffer.forEachByte(findLF);
+    }
+
+    @Benchmark
+    public int lastIndexOfMissing() {
+        return buffer.indexOf(buffer.writerIndex(), buffer.readerIndex(), (byte) 'z');
+    }
+
+    @Benchmark
+    public boolean contentEqualsIgnoreCaseSwar() {
+        return contentEqualsIgnoreCase(lowerCase, upperCase);
+    }
+
+    @Benchmark
+    public boolean contentEqualsIgnoreCaseBaseline() {
+        return contentEqualsIgnoreCaseUnknownTypes(lowerCase, upperCase);
+    }
+
+    @Benchmark
+    public boolean isAsciiSwar() {
+        return isAscii(nonAscii);
+    }
+
+    @Benchmark
+    public boolean isAsciiBaseline() {
+        for (int i = 0; i < nonAscii.length(); ++i) {
+            if (nonAscii.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
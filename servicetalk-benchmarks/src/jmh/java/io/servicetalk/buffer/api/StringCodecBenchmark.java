@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.buffer.api;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+
+import static io.servicetalk.buffer.api.CharSequences.newAsciiString;
+import static io.servicetalk.buffer.api.ReadOnlyBufferAllocators.PREFER_DIRECT_RO_ALLOCATOR;
+import static io.servicetalk.buffer.api.ReadOnlyBufferAllocators.PREFER_HEAP_RO_ALLOCATOR;
+import static io.servicetalk.buffer.netty.BufferAllocators.PREFER_DIRECT_ALLOCATOR;
+import static io.servicetalk.buffer.netty.BufferAllocators.PREFER_HEAP_ALLOCATOR;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/*
+ * This benchmark measures String to Buffer conversions and back for ASCII, Latin-1 and multibyte inputs with the
+ * read-only and netty allocators, and compares them with the generic CharsetEncoder/CharsetDecoder baseline which the
+ * read-only allocator used before.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+public class StringCodecBenchmark {
+
+    @Param({"ASCII", "LATIN1", "MULTIBYTE"})
+    public String content;
+
+    @Param({"16", "1024"})
+    public int length;
+
+    @Param({"RO_HEAP", "RO_DIRECT", "NETTY_HEAP", "NETTY_DIRECT"})
+    public String allocatorType;
+
+    private String string;
+    private BufferAllocator allocator;
+    private Buffer utf8;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; ++i) {
+            final char c = (char) ('a' + i % 26);
+            if (i % 8 != 7 || "ASCII".equals(content)) {
+                sb.append(c);
+            } else {
+                sb.append("LATIN1".equals(content) ? (char) (c + 0x80) : (char) (c + 0x400));
+            }
+        }
+        string = sb.toString();
+        switch (allocatorType) {
+            case "RO_HEAP":
+                allocator = PREFER_HEAP_RO_ALLOCATOR;
+                break;
+            case "RO_DIRECT":
+                allocator = PREFER_DIRECT_RO_ALLOCATOR;
+                break;
+            case "NETTY_HEAP":
+                allocator = PREFER_HEAP_ALLOCATOR;
+                break;
+            case "NETTY_DIRECT":
+                allocator = PREFER_DIRECT_ALLOCATOR;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown allocatorType: " + allocatorType);
+        }
+        utf8 = allocator.fromUtf8(string);
+    }
+
+    @Benchmark
+    public Buffer fromUtf8() {
+        return allocator.fromUtf8(string);
+    }
+
+    @Benchmark
+    public ByteBuffer fromUtf8Baseline() throws CharacterCodingException {
+        return UTF_8.newEncoder().encode(CharBuffer.wrap(string));
+    }
+
+    @Benchmark
+    public Buffer fromAscii() {
+        return allocator.fromAscii(string);
+    }
+
+    @Benchmark
+    public CharSequence newAsciiStringFromString() {
+        return newAsciiString(string);
+    }
+
+    @Benchmark
+    public String toStringUtf8() {
+        return utf8.toString(UTF_8);
+    }
+
+    @Benchmark
+    public String toStringUtf8Baseline() throws CharacterCodingException {
+        return UTF_8.newDecoder().decode(utf8.toNioBuffer()).toString();
+    }
+}
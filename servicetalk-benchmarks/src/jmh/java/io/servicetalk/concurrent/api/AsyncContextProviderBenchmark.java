@@ -58,12 +58,17 @@ public class AsyncContextProviderBenchmark {
     private static final String EXPECTED = "hello, world!";
 
     private Function<String, String> wrappedFunction;
+    private Function<String, String> otherContextFunction;
 
     @Setup
     public void setup() {
         // This will capture the current context
         wrappedFunction = AsyncContext.wrapFunction(ignored -> AsyncContext.context().get(KEY));
         AsyncContext.context().put(KEY, EXPECTED);
+        // This will capture a context different from the current one, which has to be restored after the call
+        final AsyncContextProvider provider = AsyncContext.provider();
+        otherContextFunction = provider.wrapFunction(ignored -> AsyncContext.context().get(KEY),
+                provider.captureContextCopy());
     }
 
     @Benchmark
@@ -71,6 +76,11 @@ public class AsyncContextProviderBenchmark {
         return wrappedFunction.apply("ignored");
     }
 
+    @Benchmark
+    public String contextSwitchAndRestoreCost() {
+        return otherContextFunction.apply("ignored");
+    }
+
     @Benchmark
     public String contextSaveAndRestoreCost() {
         return AsyncContext.wrapFunction(Function.<String>identity()).apply("ignored");
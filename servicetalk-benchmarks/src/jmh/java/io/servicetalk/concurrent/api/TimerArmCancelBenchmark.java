@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.concurrent.api;
+
+import io.servicetalk.concurrent.Cancellable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.Thread.NORM_PRIORITY;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/*
+ * Arms and cancels timers from many threads concurrently, which is what timeout filters do for every request.
+ * Compares the default scheduler of Executors created from a non-scheduled executor (a timing wheel) with a
+ * ScheduledThreadPoolExecutor, which was the previous default.
+ */
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.Throughput)
+public class TimerArmCancelBenchmark {
+    static {
+        AsyncContext.disable(); // reduce noise in benchmarks.
+    }
+
+    private static final Runnable NOOP = () -> { };
+
+    @Param({"TIMING_WHEEL", "SCHEDULED_THREAD_POOL"})
+    public String scheduler;
+
+    private Executor executor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        if ("TIMING_WHEEL".equals(scheduler)) {
+            executor = Executors.newCachedThreadExecutor();
+        } else {
+            final ScheduledThreadPoolExecutor scheduledExecutor = new ScheduledThreadPoolExecutor(1,
+                    new DefaultThreadFactory("benchmark-scheduler", true, NORM_PRIORITY));
+            scheduledExecutor.setRemoveOnCancelPolicy(true);
+            executor = Executors.from(newCachedThreadPool(), scheduledExecutor);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        executor.closeAsync().toFuture().get();
+    }
+
+    @Benchmark
+    public void armAndCancel() {
+        final Cancellable cancellable = executor.schedule(NOOP, 30, SECONDS);
+        cancellable.cancel();
+    }
+
+    @Benchmark
+    public Cancellable armOnly() {
+        // Timers expire after 1 second, this measures arming with a large number of outstanding timers.
+        return executor.schedule(NOOP, 1, SECONDS);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.netty;
+
+import io.servicetalk.concurrent.api.AsyncContext;
+import io.servicetalk.concurrent.api.Single;
+import io.servicetalk.http.api.HttpClient;
+import io.servicetalk.http.api.HttpConnection;
+import io.servicetalk.http.api.HttpProtocolConfig;
+import io.servicetalk.http.api.HttpResponse;
+import io.servicetalk.transport.api.ServerContext;
+import io.servicetalk.transport.api.TransportConfig;
+import io.servicetalk.transport.api.TransportConfigBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static io.servicetalk.concurrent.api.Single.collectUnordered;
+import static io.servicetalk.concurrent.api.Single.succeeded;
+import static io.servicetalk.http.api.HttpExecutionStrategies.offloadNone;
+import static io.servicetalk.http.netty.HttpProtocolConfigs.h1;
+import static io.servicetalk.http.netty.HttpProtocolConfigs.h2Default;
+import static io.servicetalk.transport.netty.internal.AddressUtils.localAddress;
+import static io.servicetalk.transport.netty.internal.AddressUtils.serverHostAndPort;
+import static java.time.Duration.ofMillis;
+
+/*
+ * Compares the default flush-on-each strategy with adaptive flushing enabled via
+ * TransportConfigBuilder#maxFlushDelay(Duration) for pipelined HTTP/1.x requests and concurrent HTTP/2 streams over a
+ * single loopback connection. Run with {@code -prof perfnorm} or under {@code strace -c -f} to compare the number of
+ * write syscalls per operation.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+public class AdaptiveFlushLoopbackBenchmark {
+    static {
+        AsyncContext.disable(); // reduce noise in benchmarks.
+    }
+
+    @Param({"0", "1"})
+    public int maxFlushDelayMs;
+
+    @Param({"HTTP_1", "HTTP_2"})
+    public String protocol;
+
+    @Param({"1", "16", "64"})
+    public int concurrency;
+
+    private ServerContext serverContext;
+    private HttpClient client;
+    private HttpConnection connection;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        final TransportConfig transportConfig = new TransportConfigBuilder()
+                .maxFlushDelay(ofMillis(maxFlushDelayMs))
+                .build();
+        final HttpProtocolConfig protocolConfig = "HTTP_2".equals(protocol) ? h2Default() :
+                h1().maxPipelinedRequests(concurrency).build();
+        serverContext = HttpServers.forAddress(localAddress(0))
+                .executionStrategy(offloadNone())
+                .protocols(protocolConfig)
+                .transportConfig(transportConfig)
+                .listenAndAwait((ctx, request, responseFactory) -> succeeded(responseFactory.ok()));
+        client = HttpClients.forSingleAddress(serverHostAndPort(serverContext))
+                .executionStrategy(offloadNone())
+                .protocols(protocolConfig)
+                .transportConfig(transportConfig)
+                .build();
+        connection = client.reserveConnection(client.get("/")).toFuture().get();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        connection.close();
+        client.close();
+        serverContext.close();
+    }
+
+    @Benchmark
+    public Collection<HttpResponse> requests() throws Exception {
+        final List<Single<HttpResponse>> requests = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; ++i) {
+            requests.add(connection.request(connection.get("/")));
+        }
+        return collectUnordered(requests, concurrency).toFuture().get();
+    }
+}
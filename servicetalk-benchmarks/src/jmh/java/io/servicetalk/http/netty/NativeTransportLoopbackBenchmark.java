@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.netty;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.concurrent.api.AsyncContext;
+import io.servicetalk.http.api.BlockingHttpClient;
+import io.servicetalk.http.api.HttpResponse;
+import io.servicetalk.transport.api.ServerContext;
+import io.servicetalk.transport.netty.internal.EventLoopAwareNettyIoExecutor;
+import io.servicetalk.transport.netty.internal.IoUringUtils;
+import io.servicetalk.transport.netty.internal.NettyIoExecutors;
+
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.incubator.channel.uring.IOUringEventLoopGroup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static io.servicetalk.concurrent.api.Single.succeeded;
+import static io.servicetalk.http.api.HttpExecutionStrategies.offloadNone;
+import static io.servicetalk.http.netty.HttpProtocolConfigs.h1Default;
+import static io.servicetalk.http.netty.HttpProtocolConfigs.h2Default;
+import static io.servicetalk.transport.netty.internal.AddressUtils.localAddress;
+import static io.servicetalk.transport.netty.internal.AddressUtils.serverHostAndPort;
+import static java.util.Arrays.fill;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/*
+ * Compares request latency of a loopback HTTP/1.x and HTTP/2 client/server pair running on the epoll and io_uring
+ * transports. Run with {@code -prof perfnorm} (or {@code strace -c -f -p <pid>} attached to the forked JVM) to compare
+ * syscalls per request, the sample mode reports p99 latency for every combination.
+ * Benchmarks are expected to run on Linux with io_uring support (kernel 5.9+), otherwise the io_uring variant falls
+ * back to epoll and the setup fails fast to avoid reporting misleading results.
+ */
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(MICROSECONDS)
+public class NativeTransportLoopbackBenchmark {
+    static {
+        AsyncContext.disable(); // reduce noise in benchmarks.
+    }
+
+    @Param({"epoll", "io_uring"})
+    public String transport;
+
+    @Param({"HTTP_1", "HTTP_2"})
+    public String protocol;
+
+    @Param({"256"})
+    public int payloadSize;
+
+    private EventLoopAwareNettyIoExecutor ioExecutor;
+    private ServerContext serverContext;
+    private BlockingHttpClient client;
+    private Buffer payload;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        final boolean ioUring = "io_uring".equals(transport);
+        IoUringUtils.tryIoUring(ioUring);
+        ioExecutor = NettyIoExecutors.createIoExecutor(2, "loopback-" + transport);
+        final Class<?> expectedGroup = ioUring ? IOUringEventLoopGroup.class : EpollEventLoopGroup.class;
+        if (!expectedGroup.isInstance(ioExecutor.eventLoopGroup())) {
+            throw new IllegalStateException("Requested " + transport + " transport, but got " +
+                    ioExecutor.eventLoopGroup().getClass().getSimpleName());
+        }
+
+        final boolean h2 = "HTTP_2".equals(protocol);
+        serverContext = HttpServers.forAddress(localAddress(0))
+                .ioExecutor(ioExecutor)
+                .executionStrategy(offloadNone())
+                .protocols(h2 ? h2Default() : h1Default())
+                .listenAndAwait((ctx, request, responseFactory) ->
+                        succeeded(responseFactory.ok().payloadBody(request.payloadBody())));
+        client = HttpClients.forSingleAddress(serverHostAndPort(serverContext))
+                .ioExecutor(ioExecutor)
+                .executionStrategy(offloadNone())
+                .protocols(h2 ? h2Default() : h1Default())
+                .buildBlocking();
+        payload = client.executionContext().bufferAllocator().fromAscii(repeat('a', payloadSize));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        try {
+            client.close();
+            serverContext.close();
+        } finally {
+            ioExecutor.closeAsync().toFuture().get();
+            IoUringUtils.tryIoUring(false);
+        }
+    }
+
+    @Benchmark
+    public HttpResponse request() throws Exception {
+        return client.request(client.post("/").payloadBody(payload.duplicate()));
+    }
+
+    private static String repeat(final char c, final int count) {
+        final char[] chars = new char[count];
+        fill(chars, c);
+        return new String(chars);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.netty;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.buffer.api.BufferAllocator;
+import io.servicetalk.buffer.netty.PooledBufferAllocator;
+import io.servicetalk.concurrent.api.AsyncContext;
+import io.servicetalk.http.api.HttpClient;
+import io.servicetalk.http.api.HttpPayloadWriter;
+import io.servicetalk.http.api.HttpResponse;
+import io.servicetalk.transport.api.ServerContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.buffer.netty.BufferAllocators.DEFAULT_ALLOCATOR;
+import static io.servicetalk.buffer.netty.BufferAllocators.pooledAllocator;
+import static io.servicetalk.transport.netty.internal.AddressUtils.localAddress;
+import static io.servicetalk.transport.netty.internal.AddressUtils.serverHostAndPort;
+
+/*
+ * Compares the default unpooled allocator with PooledBufferAllocator for a streaming response whose payload body
+ * chunks are allocated per request and released once written. Run with {@code -prof gc} to compare the allocation and
+ * GC rate, the sample time mode reports p99 latency.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PooledAllocatorLoopbackBenchmark {
+    static {
+        AsyncContext.disable(); // reduce noise in benchmarks.
+    }
+
+    @Param({"UNPOOLED", "POOLED"})
+    public String allocator;
+
+    @Param({"256", "8192"})
+    public int chunkSize;
+
+    @Param({"16"})
+    public int chunks;
+
+    private ServerContext serverContext;
+    private HttpClient client;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        final PooledBufferAllocator pooled = "POOLED".equals(allocator) ? pooledAllocator() : null;
+        final BufferAllocator alloc = pooled == null ? DEFAULT_ALLOCATOR : pooled;
+        serverContext = HttpServers.forAddress(localAddress(0))
+                .listenBlockingStreamingAndAwait((ctx, request, response) -> {
+                    try (PooledBufferAllocator.Scope ignored = newScope(pooled);
+                         HttpPayloadWriter<Buffer> writer = response.sendMetaData()) {
+                        for (int i = 0; i < chunks; ++i) {
+                            final Buffer chunk = alloc.newBuffer(chunkSize);
+                            chunk.writerIndex(chunkSize);
+                            writer.write(chunk);
+                        }
+                    }
+                });
+        client = HttpClients.forSingleAddress(serverHostAndPort(serverContext)).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        client.close();
+        serverContext.close();
+    }
+
+    @Benchmark
+    public HttpResponse request() throws Exception {
+        return client.request(client.get("/")).toFuture().get();
+    }
+
+    @Nullable
+    private static PooledBufferAllocator.Scope newScope(@Nullable final PooledBufferAllocator pooled) {
+        return pooled == null ? null : pooled.newScope();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.netty;
+
+import io.servicetalk.concurrent.api.AsyncContext;
+import io.servicetalk.transport.api.IoExecutor;
+import io.servicetalk.transport.api.ServerContext;
+import io.servicetalk.transport.netty.internal.NettyIoExecutors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+import static io.servicetalk.concurrent.api.Single.succeeded;
+import static io.servicetalk.http.api.HttpExecutionStrategies.offloadNone;
+import static io.servicetalk.transport.netty.internal.AddressUtils.localAddress;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/*
+ * Measures the accept rate of a loopback HTTP/1.x server under connection churn: every operation opens a new TCP
+ * connection, sends a single "Connection: close" request and reads the response until the server closes the
+ * connection. Compares a single listen socket with one SO_REUSEPORT listen socket per IO thread.
+ * Run with {@code -prof perfnorm} or under {@code mpstat -P ALL 1} to compare how evenly the load is spread across
+ * cores. SO_REUSEPORT listeners require the epoll or io_uring transport, other transports fall back to a single
+ * listen socket.
+ */
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+public class ReusePortAcceptBenchmark {
+    static {
+        AsyncContext.disable(); // reduce noise in benchmarks.
+    }
+
+    private static final byte[] REQUEST = "GET / HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n"
+            .getBytes(US_ASCII);
+
+    @Param({"false", "true"})
+    public boolean reusePortListeners;
+
+    @Param({"4"})
+    public int ioThreads;
+
+    private IoExecutor ioExecutor;
+    private ServerContext serverContext;
+    private InetSocketAddress serverAddress;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        ioExecutor = NettyIoExecutors.createIoExecutor(ioThreads);
+        serverContext = HttpServers.forAddress(localAddress(0))
+                .ioExecutor(ioExecutor)
+                .executionStrategy(offloadNone())
+                .reusePortListeners(reusePortListeners)
+                .listenAndAwait((ctx, request, responseFactory) -> succeeded(responseFactory.ok()));
+        serverAddress = (InetSocketAddress) serverContext.listenAddress();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        try {
+            serverContext.close();
+        } finally {
+            ioExecutor.closeAsync().toFuture().get();
+        }
+    }
+
+    @Benchmark
+    public int newConnectionPerRequest() throws IOException {
+        try (Socket socket = new Socket(serverAddress.getAddress(), serverAddress.getPort())) {
+            socket.setTcpNoDelay(true);
+            final OutputStream out = socket.getOutputStream();
+            out.write(REQUEST);
+            out.flush();
+            final InputStream in = socket.getInputStream();
+            final byte[] buffer = new byte[256];
+            int total = 0;
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                total += read;
+            }
+            return total;
+        }
+    }
+}
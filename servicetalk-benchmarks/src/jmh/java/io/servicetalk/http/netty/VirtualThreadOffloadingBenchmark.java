@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.netty;
+
+import io.servicetalk.concurrent.api.AsyncContext;
+import io.servicetalk.concurrent.api.Executor;
+import io.servicetalk.concurrent.api.Executors;
+import io.servicetalk.concurrent.api.Single;
+import io.servicetalk.http.api.Http2SettingsBuilder;
+import io.servicetalk.http.api.HttpClient;
+import io.servicetalk.http.api.HttpResponse;
+import io.servicetalk.transport.api.ServerContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static io.servicetalk.concurrent.api.Single.collectUnordered;
+import static io.servicetalk.http.netty.HttpProtocolConfigs.h2;
+import static io.servicetalk.transport.netty.internal.AddressUtils.localAddress;
+import static io.servicetalk.transport.netty.internal.AddressUtils.serverHostAndPort;
+
+/*
+ * Compares offloading a BlockingHttpService onto the cached thread executor with offloading it onto virtual threads
+ * (Executors#newVirtualThreadExecutor()) at 10k concurrent blocking requests. Requires Java 21 for the VIRTUAL
+ * executor. Run with {@code -prof gc} to compare allocation rate and memory, the CACHED executor additionally
+ * allocates a platform thread (and its stack) per in-flight request.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+public class VirtualThreadOffloadingBenchmark {
+    static {
+        AsyncContext.disable(); // reduce noise in benchmarks.
+    }
+
+    private static final int CONCURRENCY = 10_000;
+
+    @Param({"CACHED", "VIRTUAL"})
+    public String executorType;
+
+    @Param({"1", "10"})
+    public int blockingMillis;
+
+    private Executor executor;
+    private ServerContext serverContext;
+    private HttpClient client;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        executor = "VIRTUAL".equals(executorType) ? Executors.newVirtualThreadExecutor() :
+                Executors.newCachedThreadExecutor();
+        final H2ProtocolConfig protocolConfig = h2()
+                .initialSettings(new Http2SettingsBuilder().maxConcurrentStreams(CONCURRENCY).build())
+                .build();
+        serverContext = HttpServers.forAddress(localAddress(0))
+                .executor(executor)
+                .protocols(protocolConfig)
+                .listenBlockingAndAwait((ctx, request, responseFactory) -> {
+                    Thread.sleep(blockingMillis); // simulate a blocking call, e.g. to a database
+                    return responseFactory.ok();
+                });
+        client = HttpClients.forSingleAddress(serverHostAndPort(serverContext))
+                .protocols(protocolConfig)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        client.close();
+        serverContext.close();
+        executor.closeAsync().toFuture().get();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENCY)
+    public Collection<HttpResponse> requests() throws Exception {
+        final List<Single<HttpResponse>> requests = new ArrayList<>(CONCURRENCY);
+        for (int i = 0; i < CONCURRENCY; ++i) {
+            requests.add(client.request(client.get("/")));
+        }
+        return collectUnordered(requests, CONCURRENCY).toFuture().get();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.netty;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.concurrent.api.AsyncContext;
+import io.servicetalk.http.api.HttpProtocolConfig;
+import io.servicetalk.http.api.StreamingHttpClient;
+import io.servicetalk.http.api.StreamingHttpResponse;
+import io.servicetalk.transport.api.ServerContext;
+import io.servicetalk.transport.api.TransportConfig;
+import io.servicetalk.transport.api.TransportConfigBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static io.servicetalk.buffer.netty.BufferAllocators.DEFAULT_ALLOCATOR;
+import static io.servicetalk.concurrent.api.Publisher.range;
+import static io.servicetalk.concurrent.api.Single.succeeded;
+import static io.servicetalk.http.api.HttpExecutionStrategies.offloadNone;
+import static io.servicetalk.http.netty.HttpProtocolConfigs.h1Default;
+import static io.servicetalk.http.netty.HttpProtocolConfigs.h2Default;
+import static io.servicetalk.transport.netty.internal.AddressUtils.localAddress;
+import static io.servicetalk.transport.netty.internal.AddressUtils.serverHostAndPort;
+import static java.time.Duration.ofMillis;
+
+/*
+ * Streams responses which consist of many small messages (e.g. server-sent events or gRPC messages) over a loopback
+ * connection, with and without write coalescing enabled via TransportConfigBuilder#maxCoalescedWriteBytes(int).
+ * Adaptive flushing is enabled in both cases so that multiple messages are written between flushes. Run with
+ * {@code -prof perfnorm} or under {@code strace -c -f} to compare the number of write syscalls and iovecs per
+ * operation.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.Throughput)
+public class WriteCoalescingLoopbackBenchmark {
+    static {
+        AsyncContext.disable(); // reduce noise in benchmarks.
+    }
+
+    private static final int MESSAGES_PER_RESPONSE = 1024;
+
+    @Param({"0", "16384"})
+    public int maxCoalescedWriteBytes;
+
+    @Param({"32", "128", "512"})
+    public int messageSize;
+
+    @Param({"HTTP_1", "HTTP_2"})
+    public String protocol;
+
+    private ServerContext serverContext;
+    private StreamingHttpClient client;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        final TransportConfig transportConfig = new TransportConfigBuilder()
+                .maxFlushDelay(ofMillis(1))
+                .maxCoalescedWriteBytes(maxCoalescedWriteBytes)
+                .build();
+        final HttpProtocolConfig protocolConfig = "HTTP_2".equals(protocol) ? h2Default() : h1Default();
+        final Buffer message = DEFAULT_ALLOCATOR.newBuffer(messageSize).writeBytes(new byte[messageSize]);
+        serverContext = HttpServers.forAddress(localAddress(0))
+                .executionStrategy(offloadNone())
+                .protocols(protocolConfig)
+                .transportConfig(transportConfig)
+                .listenStreamingAndAwait((ctx, request, responseFactory) -> succeeded(responseFactory.ok()
+                        .payloadBody(range(0, MESSAGES_PER_RESPONSE).map(__ -> message.duplicate()))));
+        client = HttpClients.forSingleAddress(serverHostAndPort(serverContext))
+                .executionStrategy(offloadNone())
+                .protocols(protocolConfig)
+                .transportConfig(transportConfig)
+                .buildStreaming();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        client.close();
+        serverContext.close();
+    }
+
+    @Benchmark
+    public void streamingResponse() throws Exception {
+        client.request(client.get("/"))
+                .flatMapPublisher(StreamingHttpResponse::payloadBody)
+                .ignoreElements()
+                .toFuture().get();
+    }
+}
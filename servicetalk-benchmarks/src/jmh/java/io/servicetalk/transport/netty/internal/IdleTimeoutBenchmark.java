@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.netty.internal;
+
+import io.netty.channel.EventLoop;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/*
+ * Compares the cost of arming and disarming idle timeouts for many connections on a single event loop:
+ * - eventLoopTimers: one scheduled task per connection, which is what IdleStateHandler does on every timeout period.
+ * - timingWheel: one IdleTimingWheel entry per connection, which is what TimingWheelIdleStateHandler does once per
+ *   connection lifetime.
+ * Run with {@code -prof gc} to compare the allocated bytes per connection (gc.alloc.rate.norm / connections).
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+public class IdleTimeoutBenchmark {
+    private static final Runnable NOOP = () -> { };
+    private static final long TIMEOUT_NANOS = SECONDS.toNanos(30);
+
+    @Param({"100000", "200000"})
+    public int connections;
+
+    private EmbeddedChannel channel;
+    private EventLoop eventLoop;
+    private ScheduledFuture<?>[] futures;
+    private IdleTimingWheel.Entry[] entries;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        channel = new EmbeddedChannel();
+        eventLoop = channel.eventLoop();
+        futures = new ScheduledFuture<?>[connections];
+        entries = new IdleTimingWheel.Entry[connections];
+        for (int i = 0; i < connections; ++i) {
+            entries[i] = new IdleTimingWheel.Entry(TIMEOUT_NANOS) {
+                @Override
+                void onIdle() {
+                }
+            };
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Benchmark
+    public int eventLoopTimers() {
+        for (int i = 0; i < connections; ++i) {
+            futures[i] = eventLoop.schedule(NOOP, TIMEOUT_NANOS, NANOSECONDS);
+        }
+        for (ScheduledFuture<?> future : futures) {
+            future.cancel(false);
+        }
+        return futures.length;
+    }
+
+    @Benchmark
+    public int timingWheel() {
+        final IdleTimingWheel wheel = new IdleTimingWheel(eventLoop, System::nanoTime);
+        for (IdleTimingWheel.Entry entry : entries) {
+            wheel.add(entry);
+        }
+        final int size = wheel.size();
+        for (IdleTimingWheel.Entry entry : entries) {
+            wheel.remove(entry);
+        }
+        wheel.run();
+        return size;
+    }
+}
@@ -34,6 +34,9 @@ import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 
 import static io.servicetalk.buffer.api.EmptyBuffer.EMPTY_BUFFER_HASH_CODE;
+import static io.servicetalk.buffer.api.SwarUtils.SWAR_THRESHOLD;
+import static io.servicetalk.buffer.api.SwarUtils.compilePattern;
+import static io.servicetalk.buffer.api.SwarUtils.hasByte;
 import static java.lang.Double.longBitsToDouble;
 import static java.lang.Float.intBitsToFloat;
 import static java.lang.Short.reverseBytes;
@@ -529,11 +532,63 @@ abstract class AbstractBuffer implements Buffer {
     }
 
     protected int firstIndexOf(int fromIndex, int toIndex, byte value) {
-        return forEachByte(fromIndex, toIndex - fromIndex, new IndexOfByteProcessor(value));
+        checkIndex0(fromIndex, toIndex - fromIndex);
+        int i = fromIndex;
+        if (toIndex - fromIndex >= SWAR_THRESHOLD) {
+            // Skip 8 bytes at a time while there is no match, the byte order of the word does not matter.
+            final long pattern = compilePattern(value);
+            final int wordsEnd = toIndex - Long.BYTES;
+            while (i <= wordsEnd && !hasByte(getLongNoBounds(i), pattern)) {
+                i += Long.BYTES;
+            }
+        }
+        for (; i < toIndex; ++i) {
+            if (getByteNoBounds(i) == value) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     protected int lastIndexOf(int fromIndex, int toIndex, byte value) {
-        return forEachByteDesc(toIndex, fromIndex - toIndex, new IndexOfByteProcessor(value));
+        checkIndex0(toIndex, fromIndex - toIndex);
+        int i = fromIndex;
+        if (fromIndex - toIndex >= SWAR_THRESHOLD) {
+            final long pattern = compilePattern(value);
+            final int wordsEnd = toIndex + Long.BYTES;
+            while (i >= wordsEnd && !hasByte(getLongNoBounds(i - Long.BYTES), pattern)) {
+                i -= Long.BYTES;
+            }
+        }
+        while (--i >= toIndex) {
+            if (getByteNoBounds(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Determine if all bytes in the range are 7-bit ASCII, 8 bytes at a time.
+     *
+     * @param index the index of the first byte to check.
+     * @param length the number of bytes to check.
+     * @return {@code true} if all bytes in the range are 7-bit ASCII.
+     */
+    final boolean isAscii(int index, int length) {
+        final int end = index + length;
+        int i = index;
+        for (; i <= end - Long.BYTES; i += Long.BYTES) {
+            if (!SwarUtils.isAscii(getLongNoBounds(i))) {
+                return false;
+            }
+        }
+        for (; i < end; ++i) {
+            if (getByteNoBounds(i) < 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
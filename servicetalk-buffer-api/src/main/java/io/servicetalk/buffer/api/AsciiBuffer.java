@@ -34,6 +34,7 @@ import java.nio.ByteOrder;
 
 import static io.servicetalk.buffer.api.CharSequences.contentEqualsIgnoreCaseUnknownTypes;
 import static io.servicetalk.buffer.api.CharSequences.contentEqualsUnknownTypes;
+import static io.servicetalk.buffer.api.SwarUtils.toLowerCaseAscii;
 import static java.nio.charset.StandardCharsets.US_ASCII;
 
 final class AsciiBuffer implements CharSequence {
@@ -140,9 +141,63 @@ final class AsciiBuffer implements CharSequence {
     }
 
     boolean contentEqualsIgnoreCase(CharSequence cs) {
+        if (cs.getClass() == AsciiBuffer.class) {
+            return contentEqualsIgnoreCase(buffer, ((AsciiBuffer) cs).buffer);
+        }
         return contentEqualsIgnoreCaseUnknownTypes(this, cs);
     }
 
+    /**
+     * Case-insensitive comparison of the readable bytes of two buffers of the same length, 8 bytes at a time.
+     *
+     * @param a first {@link Buffer} to compare.
+     * @param b second {@link Buffer} to compare.
+     * @return {@code true} if readable bytes of both buffers are equal when ignoring the ASCII case.
+     */
+    private static boolean contentEqualsIgnoreCase(final Buffer a, final Buffer b) {
+        final int length = a.readableBytes();
+        assert length == b.readableBytes();
+        final int aIndex = a.readerIndex();
+        final int bIndex = b.readerIndex();
+        int i = 0;
+        for (; i <= length - Long.BYTES; i += Long.BYTES) {
+            final long aWord = a.getLong(aIndex + i);
+            final long bWord = b.getLong(bIndex + i);
+            if (aWord != bWord && toLowerCaseAscii(aWord) != toLowerCaseAscii(bWord)) {
+                return false;
+            }
+        }
+        for (; i < length; ++i) {
+            final byte aByte = a.getByte(aIndex + i);
+            final byte bByte = b.getByte(bIndex + i);
+            if (aByte != bByte && toLowerCaseAscii(aByte) != toLowerCaseAscii(bByte)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Determine if all readable bytes are 7-bit ASCII.
+     *
+     * @return {@code true} if all readable bytes are 7-bit ASCII.
+     */
+    boolean isAscii() {
+        final int end = buffer.writerIndex();
+        int i = buffer.readerIndex();
+        for (; i <= end - Long.BYTES; i += Long.BYTES) {
+            if (!SwarUtils.isAscii(buffer.getLong(i))) {
+                return false;
+            }
+        }
+        for (; i < end; ++i) {
+            if (buffer.getByte(i) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Calculate a hash code of a byte array assuming ASCII character encoding.
      * The resulting hash code will be case insensitive.
@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.buffer.api;
+
+/**
+ * An observer of {@link Buffer}s allocated by a {@link BufferAllocator} which is wrapped by
+ * {@link ObservableBufferAllocators#observe(BufferAllocator, BufferAllocatorObserver)}.
+ * <p>
+ * Callbacks are invoked synchronously on the allocating thread, which is frequently an IO thread. Implementations must
+ * be thread-safe, must not block and must not throw, typically they only update counters and histograms of a metrics
+ * system.
+ */
+@FunctionalInterface
+public interface BufferAllocatorObserver {
+
+    /**
+     * Callback when a new {@link Buffer} is allocated.
+     *
+     * @param category the {@link AllocationCategory} of the call site which allocated the {@link Buffer}.
+     * @param capacity the capacity in bytes of the allocated {@link Buffer}.
+     * @param direct {@code true} if the allocated {@link Buffer} is direct (off-heap), {@code false} otherwise.
+     */
+    void onBufferAllocated(AllocationCategory category, int capacity, boolean direct);
+
+    /**
+     * Category of the call site which allocates a {@link Buffer}.
+     */
+    enum AllocationCategory {
+        /**
+         * Protocol codecs of the transport which allocate from the observed {@link BufferAllocator}, for example
+         * encoded headers. Allocations of netty handlers through {@code ChannelHandlerContext#alloc()}, such as socket
+         * reads, use the transport's own allocator and are not attributed to any category.
+         */
+        CODEC,
+        /**
+         * Serializers which convert application objects to {@link Buffer}s.
+         */
+        SERIALIZER,
+        /**
+         * Application code and any other call site which uses the {@link BufferAllocator} directly.
+         */
+        USER
+    }
+}
@@ -179,6 +179,24 @@ public final class CharSequences {
         return contentEqualsUnknownTypes(a, b);
     }
 
+    /**
+     * Determine if all characters of the {@link CharSequence} are 7-bit ASCII.
+     *
+     * @param sequence The {@link CharSequence} to check.
+     * @return {@code true} if all characters of the {@link CharSequence} are 7-bit ASCII.
+     */
+    public static boolean isAscii(final CharSequence sequence) {
+        if (isAsciiString(sequence)) {
+            return ((AsciiBuffer) sequence).isAscii();
+        }
+        for (int i = 0; i < sequence.length(); ++i) {
+            if (sequence.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Find the index of {@code c} within {@code sequence} starting at index {@code fromIndex}.
      *
@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.buffer.api;
+
+import java.nio.channels.FileChannel;
+
+/**
+ * A read only {@link Buffer} which represents a region of a file.
+ * <p>
+ * Transports may write the readable bytes of this {@link Buffer} directly from the file to the network without copying
+ * them through user space (e.g. {@code sendfile}) when the connection allows it. In all other cases (e.g. TLS, HTTP/2
+ * framing, or direct access by the application) the region is memory mapped on first access and behaves like any other
+ * read only {@link Buffer}.
+ * <p>
+ * The {@link FileChannel} is owned by the caller and must remain open until all {@link Buffer}s referencing it have
+ * been written.
+ */
+public interface FileRegionBuffer extends Buffer {
+    /**
+     * Get the {@link FileChannel} which contains the bytes of this region.
+     *
+     * @return the {@link FileChannel} which contains the bytes of this region.
+     */
+    FileChannel fileChannel();
+
+    /**
+     * Get the position in the {@link #fileChannel() file} which corresponds to the {@link #readerIndex()} of this
+     * {@link Buffer}. The number of bytes to transfer from this position is {@link #readableBytes()}.
+     *
+     * @return the position in the {@link #fileChannel() file} which corresponds to the {@link #readerIndex()} of this
+     * {@link Buffer}.
+     */
+    long filePosition();
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.buffer.api;
+
+import java.nio.channels.FileChannel;
+
+import static io.servicetalk.buffer.api.EmptyBuffer.EMPTY_BUFFER;
+
+/**
+ * Utility methods to create {@link FileRegionBuffer}s.
+ */
+public final class FileRegionBuffers {
+    private FileRegionBuffers() {
+        // no instances
+    }
+
+    /**
+     * Create a new {@link Buffer} which represents {@code length} bytes of {@code fileChannel} starting at
+     * {@code position}.
+     * <p>
+     * The file is not read when this method is called. The returned {@link Buffer} is a {@link FileRegionBuffer}
+     * unless {@code length} is {@code 0}.
+     *
+     * @param fileChannel the {@link FileChannel} which contains the bytes. It is owned by the caller and must remain
+     * open until the returned {@link Buffer} has been written.
+     * @param position the position in {@code fileChannel} of the first byte of the region.
+     * @param length the number of bytes in the region.
+     * @return a new {@link Buffer} which represents {@code length} bytes of {@code fileChannel} starting at
+     * {@code position}.
+     */
+    public static Buffer newFileRegionBuffer(final FileChannel fileChannel, final long position, final int length) {
+        if (position < 0) {
+            throw new IllegalArgumentException("position: " + position + " (expected >=0)");
+        }
+        if (length < 0) {
+            throw new IllegalArgumentException("length: " + length + " (expected >=0)");
+        }
+        return length == 0 ? EMPTY_BUFFER : new FileRegionByteBuffer(fileChannel, position, length);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.buffer.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import javax.annotation.Nullable;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link FileRegionBuffer} which maps the file region into memory only when its content is accessed.
+ */
+final class FileRegionByteBuffer extends ReadOnlyByteBuffer implements FileRegionBuffer {
+    private static final ByteBuffer UNMAPPED = ByteBuffer.allocate(0);
+
+    private final FileChannel fileChannel;
+    private final long position;
+    private final int length;
+    /**
+     * Mapped lazily by the first thread which reads the content. Volatile to safely publish the mapping to other
+     * threads, concurrent first reads may map the region more than once.
+     */
+    @Nullable
+    private volatile ByteBuffer mapped;
+
+    FileRegionByteBuffer(final FileChannel fileChannel, final long position, final int length) {
+        super(UNMAPPED, 0, length);
+        this.fileChannel = requireNonNull(fileChannel);
+        this.position = position;
+        this.length = length;
+    }
+
+    @Override
+    ByteBuffer byteBuffer() {
+        ByteBuffer mapped = this.mapped;
+        if (mapped == null) {
+            try {
+                mapped = fileChannel.map(READ_ONLY, position, length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.mapped = mapped;
+        }
+        return mapped;
+    }
+
+    @Override
+    public FileChannel fileChannel() {
+        return fileChannel;
+    }
+
+    @Override
+    public long filePosition() {
+        return position + readerIndex();
+    }
+
+    @Override
+    public int capacity() {
+        return length;
+    }
+
+    @Override
+    public boolean isDirect() {
+        return true;
+    }
+
+    @Override
+    public Buffer readSlice(int length) {
+        checkReadableBytes0(length);
+        Buffer buf = new FileRegionByteBuffer(fileChannel, filePosition(), length);
+        skipBytes0(length);
+        return buf;
+    }
+
+    @Override
+    public Buffer slice(int index, int length) {
+        checkIndex0(index, length);
+        return new FileRegionByteBuffer(fileChannel, position + index, length);
+    }
+
+    @Override
+    public Buffer duplicate() {
+        return new FileRegionByteBuffer(fileChannel, position, length);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(ridx: " + readerIndex() + ", widx: " + writerIndex() +
+                ", filePosition: " + position + ')';
+    }
+}
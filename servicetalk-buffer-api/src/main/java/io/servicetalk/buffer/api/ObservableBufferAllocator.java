@@ -0,0 +1,223 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.buffer.api;
+
+import io.servicetalk.buffer.api.BufferAllocatorObserver.AllocationCategory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.buffer.api.BufferAllocatorObserver.AllocationCategory.USER;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link BufferAllocator} which notifies a {@link BufferAllocatorObserver} about every allocation of its delegate.
+ *
+ * @see ObservableBufferAllocators#observe(BufferAllocator, BufferAllocatorObserver)
+ */
+public final class ObservableBufferAllocator implements BufferAllocator {
+    private final BufferAllocator delegate;
+    private final BufferAllocatorObserver observer;
+    private final AllocationCategory category;
+    /**
+     * Shared by all category views of the same observed {@link BufferAllocator}.
+     */
+    private final SharedState shared;
+
+    ObservableBufferAllocator(final BufferAllocator delegate, final BufferAllocatorObserver observer) {
+        this.delegate = requireNonNull(delegate);
+        this.observer = requireNonNull(observer);
+        this.category = USER;
+        final AllocationCategory[] categories = AllocationCategory.values();
+        final ObservableBufferAllocator[] views = new ObservableBufferAllocator[categories.length];
+        shared = new SharedState(views);
+        for (AllocationCategory category : categories) {
+            views[category.ordinal()] = category == USER ? this : new ObservableBufferAllocator(this, category);
+        }
+    }
+
+    private ObservableBufferAllocator(final ObservableBufferAllocator user, final AllocationCategory category) {
+        this.delegate = user.delegate;
+        this.observer = user.observer;
+        this.category = category;
+        this.shared = user.shared;
+    }
+
+    /**
+     * Get the observed {@link BufferAllocator}.
+     *
+     * @return the observed {@link BufferAllocator}.
+     */
+    public BufferAllocator delegate() {
+        return delegate;
+    }
+
+    /**
+     * Get the {@link BufferAllocatorObserver} which is notified about allocations.
+     *
+     * @return the {@link BufferAllocatorObserver} which is notified about allocations.
+     */
+    public BufferAllocatorObserver observer() {
+        return observer;
+    }
+
+    /**
+     * Get the {@link AllocationCategory} of allocations made through this {@link BufferAllocator}.
+     *
+     * @return the {@link AllocationCategory} of allocations made through this {@link BufferAllocator}.
+     */
+    public AllocationCategory category() {
+        return category;
+    }
+
+    /**
+     * Get the allocator of type {@code type} derived from this {@link BufferAllocator}, for example to adapt it to
+     * the allocator type of a transport. The derived allocator is created by {@code factory} on first use and shared
+     * by all category views of the same observed {@link BufferAllocator}.
+     *
+     * @param type the type of the derived allocator.
+     * @param factory creates the derived allocator if it does not exist yet. Racing threads may invoke it more than
+     * once, so it must create equivalent instances.
+     * @param <T> the type of the derived allocator.
+     * @return the allocator of type {@code type} derived from this {@link BufferAllocator}.
+     */
+    public <T> T derivedAllocator(final Class<T> type,
+                                  final Function<? super ObservableBufferAllocator, ? extends T> factory) {
+        final Object derived = shared.derived;
+        if (type.isInstance(derived)) {
+            return type.cast(derived);
+        }
+        final T created = requireNonNull(factory.apply(this));
+        shared.derived = created;
+        return created;
+    }
+
+    /**
+     * Get the view of this {@link BufferAllocator} which attributes its allocations to {@code category}.
+     *
+     * @param category the {@link AllocationCategory} for allocations of the returned {@link BufferAllocator}.
+     * @return the view of this {@link BufferAllocator} which attributes its allocations to {@code category}.
+     */
+    ObservableBufferAllocator withCategory(final AllocationCategory category) {
+        return shared.views[category.ordinal()];
+    }
+
+    @Override
+    public Buffer newBuffer() {
+        return observe(delegate.newBuffer());
+    }
+
+    @Override
+    public Buffer newBuffer(final boolean direct) {
+        return observe(delegate.newBuffer(direct));
+    }
+
+    @Override
+    public Buffer newBuffer(final int initialCapacity) {
+        return observe(delegate.newBuffer(initialCapacity));
+    }
+
+    @Override
+    public Buffer newBuffer(final int initialCapacity, final int maxCapacity) {
+        return observe(delegate.newBuffer(initialCapacity, maxCapacity));
+    }
+
+    @Override
+    public Buffer newBuffer(final int initialCapacity, final boolean direct) {
+        return observe(delegate.newBuffer(initialCapacity, direct));
+    }
+
+    @Override
+    public CompositeBuffer newCompositeBuffer() {
+        // Components are allocated separately, the composite itself does not own memory.
+        return delegate.newCompositeBuffer();
+    }
+
+    @Override
+    public CompositeBuffer newCompositeBuffer(final int maxComponents) {
+        return delegate.newCompositeBuffer(maxComponents);
+    }
+
+    @Override
+    public Buffer fromSequence(final CharSequence data, final Charset charset) {
+        return observe(delegate.fromSequence(data, charset));
+    }
+
+    @Override
+    public Buffer fromSequence(final CharSequence data, final Charset charset, final boolean direct) {
+        return observe(delegate.fromSequence(data, charset, direct));
+    }
+
+    @Override
+    public Buffer fromUtf8(final CharSequence data) {
+        return observe(delegate.fromUtf8(data));
+    }
+
+    @Override
+    public Buffer fromUtf8(final CharSequence data, final boolean direct) {
+        return observe(delegate.fromUtf8(data, direct));
+    }
+
+    @Override
+    public Buffer fromAscii(final CharSequence data) {
+        return observe(delegate.fromAscii(data));
+    }
+
+    @Override
+    public Buffer fromAscii(final CharSequence data, final boolean direct) {
+        return observe(delegate.fromAscii(data, direct));
+    }
+
+    @Override
+    public Buffer wrap(final byte[] bytes) {
+        return delegate.wrap(bytes);
+    }
+
+    @Override
+    public Buffer wrap(final byte[] bytes, final int offset, final int len) {
+        return delegate.wrap(bytes, offset, len);
+    }
+
+    @Override
+    public Buffer wrap(final ByteBuffer buffer) {
+        return delegate.wrap(buffer);
+    }
+
+    private Buffer observe(final Buffer buffer) {
+        final int capacity = buffer.capacity();
+        if (capacity > 0) {
+            observer.onBufferAllocated(category, capacity, buffer.isDirect());
+        }
+        return buffer;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{delegate=" + delegate + ", category=" + category + '}';
+    }
+
+    private static final class SharedState {
+        final ObservableBufferAllocator[] views;
+        @Nullable
+        volatile Object derived;
+
+        SharedState(final ObservableBufferAllocator[] views) {
+            this.views = views;
+        }
+    }
+}
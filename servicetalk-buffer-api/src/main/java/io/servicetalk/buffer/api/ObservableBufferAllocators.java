@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.buffer.api;
+
+import io.servicetalk.buffer.api.BufferAllocatorObserver.AllocationCategory;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.buffer.api.BufferAllocatorObserver.AllocationCategory.USER;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Utility methods to observe allocations of {@link BufferAllocator}s.
+ */
+public final class ObservableBufferAllocators {
+    @Nullable
+    private static final BufferPoolMXBean DIRECT_BUFFER_POOL = directBufferPool();
+
+    private ObservableBufferAllocators() {
+        // no instances
+    }
+
+    /**
+     * Wrap the passed {@link BufferAllocator} to notify the {@link BufferAllocatorObserver} about every allocation.
+     * <p>
+     * Allocations made through the returned {@link BufferAllocator} are attributed to
+     * {@link AllocationCategory#USER} unless a view for a different category is obtained via
+     * {@link #withCategory(BufferAllocator, AllocationCategory)}. {@link Buffer}s which only wrap existing memory are
+     * not reported. Neither is memory which the transport allocates from its own allocator rather than from the
+     * observed {@link BufferAllocator}, such as socket reads and TLS records.
+     *
+     * @param allocator the {@link BufferAllocator} to observe.
+     * @param observer the {@link BufferAllocatorObserver} to notify.
+     * @return a {@link BufferAllocator} which notifies the {@link BufferAllocatorObserver} about every allocation.
+     */
+    public static BufferAllocator observe(final BufferAllocator allocator, final BufferAllocatorObserver observer) {
+        return new ObservableBufferAllocator(allocator instanceof ObservableBufferAllocator ?
+                ((ObservableBufferAllocator) allocator).delegate() : allocator, observer);
+    }
+
+    /**
+     * Get a {@link BufferAllocator} which attributes its allocations to the passed {@link AllocationCategory}.
+     * <p>
+     * This method returns the passed {@link BufferAllocator} as-is if it was not created by
+     * {@link #observe(BufferAllocator, BufferAllocatorObserver)}, so it adds no cost when allocations are not observed.
+     * Otherwise, it returns a view which is created once per observed {@link BufferAllocator} and category.
+     *
+     * @param allocator the {@link BufferAllocator} which may be observed.
+     * @param category the {@link AllocationCategory} for allocations of the returned {@link BufferAllocator}.
+     * @return a {@link BufferAllocator} which attributes its allocations to the passed {@link AllocationCategory}.
+     */
+    public static BufferAllocator withCategory(final BufferAllocator allocator, final AllocationCategory category) {
+        requireNonNull(category);
+        if (!(allocator instanceof ObservableBufferAllocator)) {
+            return allocator;
+        }
+        return ((ObservableBufferAllocator) allocator).withCategory(category);
+    }
+
+    /**
+     * Get the amount of direct (off-heap) memory, in bytes, which is currently reserved by the JVM for direct
+     * {@link java.nio.ByteBuffer}s, including the direct {@link Buffer}s of the default allocators.
+     *
+     * @return the amount of reserved direct memory in bytes, or {@code -1} if it is not available.
+     */
+    public static long usedDirectMemory() {
+        return DIRECT_BUFFER_POOL == null ? -1 : DIRECT_BUFFER_POOL.getMemoryUsed();
+    }
+
+    @Nullable
+    private static BufferPoolMXBean directBufferPool() {
+        try {
+            for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+                if ("direct".equals(pool.getName())) {
+                    return pool;
+                }
+            }
+        } catch (Throwable ignored) {
+            // java.management may not be available.
+        }
+        return null;
+    }
+}
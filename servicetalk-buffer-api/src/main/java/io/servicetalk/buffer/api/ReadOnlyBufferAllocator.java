@@ -23,6 +23,8 @@ import java.nio.charset.CharsetEncoder;
 import java.nio.charset.CoderResult;
 
 import static io.servicetalk.buffer.api.EmptyBuffer.EMPTY_BUFFER;
+import static io.servicetalk.buffer.api.Utf8Utils.encode;
+import static io.servicetalk.buffer.api.Utf8Utils.utf8Bytes;
 import static java.nio.ByteBuffer.allocate;
 import static java.nio.ByteBuffer.allocateDirect;
 import static java.nio.charset.StandardCharsets.US_ASCII;
@@ -75,6 +77,9 @@ final class ReadOnlyBufferAllocator implements BufferAllocator {
         if (charset == US_ASCII) {
             return fromAscii(data, direct);
         }
+        if (charset == UTF_8) {
+            return fromUtf8(data, direct);
+        }
 
         if (data.length() == 0) {
             return EMPTY_BUFFER;
@@ -106,7 +111,18 @@ final class ReadOnlyBufferAllocator implements BufferAllocator {
 
     @Override
     public Buffer fromUtf8(CharSequence data, boolean direct) {
-        return fromSequence(data, UTF_8, direct);
+        if (data.length() == 0) {
+            return EMPTY_BUFFER;
+        }
+        final int utf8Bytes = utf8Bytes(data);
+        if (utf8Bytes == data.length()) {
+            // All characters are ASCII, which are the same bytes in UTF-8.
+            return fromAscii(data, direct);
+        }
+        ByteBuffer byteBuffer = direct ? allocateDirect(utf8Bytes) : allocate(utf8Bytes);
+        encode(data, byteBuffer);
+        byteBuffer.flip();
+        return new ReadOnlyByteBuffer(byteBuffer);
     }
 
     @Override
@@ -119,8 +135,13 @@ final class ReadOnlyBufferAllocator implements BufferAllocator {
         if (data.length() == 0) {
             return EMPTY_BUFFER;
         }
-        ByteBuffer byteBuffer = direct ? allocateDirect(data.length()) : allocate(data.length());
-        byteBuffer.put(data.toString().getBytes(US_ASCII));
+        // String#getBytes copies the Latin-1 bytes of compact strings, wrap them instead of copying them again.
+        final byte[] bytes = data.toString().getBytes(US_ASCII);
+        if (!direct) {
+            return new ReadOnlyByteBuffer(ByteBuffer.wrap(bytes));
+        }
+        ByteBuffer byteBuffer = allocateDirect(bytes.length);
+        byteBuffer.put(bytes);
         byteBuffer.flip();
         return new ReadOnlyByteBuffer(byteBuffer);
     }
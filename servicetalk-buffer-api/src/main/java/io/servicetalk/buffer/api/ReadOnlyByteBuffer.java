@@ -39,18 +39,35 @@ import java.nio.charset.Charset;
 import static io.servicetalk.buffer.api.EmptyBuffer.EMPTY_BUFFER;
 import static java.nio.ByteBuffer.allocate;
 import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
-final class ReadOnlyByteBuffer extends AbstractBuffer {
+class ReadOnlyByteBuffer extends AbstractBuffer {
     private final ByteBuffer buffer;
 
     ReadOnlyByteBuffer(ByteBuffer buffer) {
-        super(buffer.position(), buffer.limit());
+        this(buffer, buffer.position(), buffer.limit());
+    }
+
+    ReadOnlyByteBuffer(ByteBuffer buffer, int readerIndex, int writerIndex) {
+        super(readerIndex, writerIndex);
         this.buffer = buffer;
     }
 
+    /**
+     * Get the {@link ByteBuffer} which backs this {@link Buffer}. Sub-classes may override this method to provide the
+     * storage lazily.
+     *
+     * @return the {@link ByteBuffer} which backs this {@link Buffer}.
+     */
+    ByteBuffer byteBuffer() {
+        return buffer;
+    }
+
     @Override
     public int capacity() {
-        return buffer.capacity();
+        return byteBuffer().capacity();
     }
 
     @Override
@@ -85,28 +102,29 @@ final class ReadOnlyByteBuffer extends AbstractBuffer {
 
     @Override
     protected byte getByteNoBounds(int index) {
-        return buffer.get(index);
+        return byteBuffer().get(index);
     }
 
     @Override
     protected short getShortNoBounds(int index) {
-        return buffer.getShort(index);
+        return byteBuffer().getShort(index);
     }
 
     @Override
     protected int getIntNoBounds(int index) {
-        return buffer.getInt(index);
+        return byteBuffer().getInt(index);
     }
 
     @Override
     protected long getLongNoBounds(int index) {
-        return buffer.getLong(index);
+        return byteBuffer().getLong(index);
     }
 
     @Override
     public Buffer getBytes(int index, Buffer dst, int dstIndex, int length) {
         checkDstIndex(index, length, dstIndex, dst.capacity());
 
+        final ByteBuffer buffer = byteBuffer();
         if (dst.hasArray()) {
             getBytes0(index, dst.array(), dst.arrayOffset() + dstIndex, length);
         } else if (buffer.hasArray()) {
@@ -125,6 +143,7 @@ final class ReadOnlyByteBuffer extends AbstractBuffer {
     }
 
     private Buffer getBytes0(int index, byte[] dst, int dstIndex, int length) {
+        final ByteBuffer buffer = byteBuffer();
         if (buffer.hasArray()) {
             System.arraycopy(buffer.array(), buffer.arrayOffset() + index, dst, dstIndex, length);
         } else {
@@ -140,6 +159,7 @@ final class ReadOnlyByteBuffer extends AbstractBuffer {
         int bytesToCopy = Math.min(capacity() - index, dst.remaining());
         checkIndex0(index, bytesToCopy);
 
+        final ByteBuffer buffer = byteBuffer();
         if (buffer.hasArray()) {
             dst.put(buffer.array(), buffer.arrayOffset() + index, bytesToCopy);
         } else {
@@ -380,6 +400,10 @@ final class ReadOnlyByteBuffer extends AbstractBuffer {
         throw new ReadOnlyBufferException();
     }
 
+    private static boolean isAsciiCompatible(Charset charset) {
+        return charset == US_ASCII || charset == UTF_8 || charset == ISO_8859_1;
+    }
+
     @Override
     public Buffer readSlice(int length) {
         checkReadableBytes0(length);
@@ -421,7 +445,7 @@ final class ReadOnlyByteBuffer extends AbstractBuffer {
     }
 
     private ByteBuffer sliceByteBuffer0(int index, int length) {
-        return (ByteBuffer) buffer.duplicate().position(index).limit(index + length);
+        return (ByteBuffer) byteBuffer().duplicate().position(index).limit(index + length);
     }
 
     @Override
@@ -465,7 +489,7 @@ final class ReadOnlyByteBuffer extends AbstractBuffer {
 
     @Override
     public boolean isDirect() {
-        return buffer.isDirect();
+        return byteBuffer().isDirect();
     }
 
     @Override
@@ -486,6 +510,16 @@ final class ReadOnlyByteBuffer extends AbstractBuffer {
     @Override
     public String toString(int index, int length, Charset charset) {
         ByteBuffer slice = sliceByteBuffer(index, length);
+        if (isAsciiCompatible(charset) && isAscii(index, length)) {
+            // ASCII bytes are the same characters in all these charsets, and the String constructor copies Latin-1
+            // bytes directly into the compact string storage.
+            if (slice.hasArray()) {
+                return new String(slice.array(), slice.arrayOffset() + slice.position(), length, ISO_8859_1);
+            }
+            final byte[] bytes = new byte[length];
+            slice.get(bytes);
+            return new String(bytes, ISO_8859_1);
+        }
         try {
             // TODO(scott): thread local for the decoder?
             return charset.newDecoder().decode(slice).toString();
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.buffer.api;
+
+/**
+ * SIMD within a register (SWAR) helpers which process 8 bytes per {@code long}.
+ */
+final class SwarUtils {
+    /**
+     * Minimum number of bytes for which it is worth to switch from a byte-by-byte loop to SWAR.
+     */
+    static final int SWAR_THRESHOLD = Long.BYTES;
+
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+    // 0x80 - 'A', the high bit of each byte is set when the byte is >= 'A'
+    private static final long GE_UPPER_A = 0x3F3F3F3F3F3F3F3FL;
+    // 0x80 - ('Z' + 1), the high bit of each byte is set when the byte is > 'Z'
+    private static final long GT_UPPER_Z = 0x2525252525252525L;
+
+    private SwarUtils() {
+        // no instances
+    }
+
+    /**
+     * Broadcast {@code value} to every byte of a {@code long}.
+     *
+     * @param value the byte to broadcast
+     * @return a pattern for {@link #hasByte(long, long)}
+     */
+    static long compilePattern(final byte value) {
+        return (value & 0xFFL) * ONES;
+    }
+
+    /**
+     * Determine if any byte of {@code word} is equal to the byte used to {@link #compilePattern(byte) compile} the
+     * {@code pattern}. There are no false positives, so the caller only needs to find the position of the match.
+     *
+     * @param word 8 bytes to inspect
+     * @param pattern the result of {@link #compilePattern(byte)}
+     * @return {@code true} if any byte of {@code word} is equal to the byte of the {@code pattern}
+     */
+    static boolean hasByte(final long word, final long pattern) {
+        final long input = word ^ pattern;
+        // The high bit of a byte is set when any bit in that byte of input is set, no carry crosses byte boundaries.
+        return ~(((input & LOW_BITS) + LOW_BITS) | input | LOW_BITS) != 0;
+    }
+
+    /**
+     * Determine if all 8 bytes of {@code word} are 7-bit ASCII.
+     *
+     * @param word 8 bytes to inspect
+     * @return {@code true} if all 8 bytes of {@code word} are 7-bit ASCII
+     */
+    static boolean isAscii(final long word) {
+        return (word & HIGH_BITS) == 0;
+    }
+
+    /**
+     * Convert every ASCII upper case byte of {@code word} to lower case, other bytes are not modified.
+     *
+     * @param word 8 bytes to convert
+     * @return {@code word} with all ASCII upper case bytes converted to lower case
+     */
+    static long toLowerCaseAscii(final long word) {
+        final long heptets = word & LOW_BITS;
+        final long upperCase = ((heptets + GE_UPPER_A) ^ (heptets + GT_UPPER_Z)) & ~word & HIGH_BITS;
+        // 0x80 >>> 2 == 0x20, the difference between upper and lower case ASCII letters
+        return word | (upperCase >>> 2);
+    }
+
+    /**
+     * Convert an ASCII upper case byte to lower case, other bytes are not modified.
+     *
+     * @param value the byte to convert
+     * @return the lower case byte
+     */
+    static byte toLowerCaseAscii(final byte value) {
+        return value >= 'A' && value <= 'Z' ? (byte) (value + 32) : value;
+    }
+}
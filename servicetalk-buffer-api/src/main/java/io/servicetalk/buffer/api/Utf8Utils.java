@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.buffer.api;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.MalformedInputException;
+
+/**
+ * UTF-8 encoder which writes directly into the memory of a {@link ByteBuffer}, without intermediate arrays or a
+ * {@link java.nio.charset.CharsetEncoder}.
+ */
+final class Utf8Utils {
+    private Utf8Utils() {
+        // no instances
+    }
+
+    /**
+     * Calculate the exact number of bytes required to encode {@code seq} in UTF-8.
+     *
+     * @param seq the {@link CharSequence} to encode.
+     * @return the exact number of bytes required to encode {@code seq} in UTF-8.
+     * @throws IllegalArgumentException if {@code seq} contains an unpaired surrogate.
+     */
+    static int utf8Bytes(final CharSequence seq) {
+        final int length = seq.length();
+        int bytes = length;
+        int i = 0;
+        // Most of the text is ASCII, count it with the tightest possible loop.
+        while (i < length && seq.charAt(i) < 0x80) {
+            ++i;
+        }
+        for (; i < length; ++i) {
+            final char c = seq.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                bytes += 1;
+            } else if (Character.isSurrogate(c)) {
+                if (!Character.isHighSurrogate(c) || ++i == length || !Character.isLowSurrogate(seq.charAt(i))) {
+                    throw new IllegalArgumentException(new MalformedInputException(1));
+                }
+                // 2 chars are encoded as 4 bytes
+                bytes += 2;
+            } else {
+                bytes += 2;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Encode {@code seq} in UTF-8 into {@code dst} starting at its current position.
+     *
+     * @param seq the {@link CharSequence} to encode, must be validated by {@link #utf8Bytes(CharSequence)}.
+     * @param dst the {@link ByteBuffer} with at least {@link #utf8Bytes(CharSequence)} bytes remaining. The position is
+     * advanced by the number of written bytes.
+     */
+    static void encode(final CharSequence seq, final ByteBuffer dst) {
+        if (dst.hasArray()) {
+            final int offset = dst.arrayOffset() + dst.position();
+            final int written = encode(seq, dst.array(), offset) - offset;
+            dst.position(dst.position() + written);
+            return;
+        }
+        final int length = seq.length();
+        int index = dst.position();
+        for (int i = 0; i < length; ++i) {
+            final char c = seq.charAt(i);
+            if (c < 0x80) {
+                dst.put(index++, (byte) c);
+            } else if (c < 0x800) {
+                dst.put(index++, (byte) (0xC0 | (c >> 6)));
+                dst.put(index++, (byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c)) {
+                final int codePoint = Character.toCodePoint(c, seq.charAt(++i));
+                dst.put(index++, (byte) (0xF0 | (codePoint >> 18)));
+                dst.put(index++, (byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                dst.put(index++, (byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                dst.put(index++, (byte) (0x80 | (codePoint & 0x3F)));
+            } else {
+                dst.put(index++, (byte) (0xE0 | (c >> 12)));
+                dst.put(index++, (byte) (0x80 | ((c >> 6) & 0x3F)));
+                dst.put(index++, (byte) (0x80 | (c & 0x3F)));
+            }
+        }
+        dst.position(index);
+    }
+
+    private static int encode(final CharSequence seq, final byte[] dst, int index) {
+        final int length = seq.length();
+        for (int i = 0; i < length; ++i) {
+            final char c = seq.charAt(i);
+            if (c < 0x80) {
+                dst[index++] = (byte) c;
+            } else if (c < 0x800) {
+                dst[index++] = (byte) (0xC0 | (c >> 6));
+                dst[index++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c)) {
+                final int codePoint = Character.toCodePoint(c, seq.charAt(++i));
+                dst[index++] = (byte) (0xF0 | (codePoint >> 18));
+                dst[index++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                dst[index++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                dst[index++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                dst[index++] = (byte) (0xE0 | (c >> 12));
+                dst[index++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                dst[index++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return index;
+    }
+}
@@ -22,7 +22,9 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.function.Function;
 
+import static io.servicetalk.buffer.api.CharSequences.contentEqualsIgnoreCase;
 import static io.servicetalk.buffer.api.CharSequences.indexOf;
+import static io.servicetalk.buffer.api.CharSequences.isAscii;
 import static io.servicetalk.buffer.api.CharSequences.newAsciiString;
 import static io.servicetalk.buffer.api.CharSequences.split;
 import static io.servicetalk.buffer.api.ReadOnlyBufferAllocators.DEFAULT_RO_ALLOCATOR;
@@ -229,4 +231,30 @@ class CharSequencesTest {
         char twoBytesChar = ('2' << 8) | '2';
         assertThat(indexOf(cs, twoBytesChar, 0), is(-1));
     }
+
+    @Test
+    void contentEqualsIgnoreCaseAsciiString() {
+        assertThat(contentEqualsIgnoreCase(newAsciiString("Content-Type"), newAsciiString("content-type")), is(true));
+        assertThat(contentEqualsIgnoreCase(newAsciiString("X-FORWARDED-FOR"), newAsciiString("x-forwarded-for")),
+                is(true));
+        assertThat(contentEqualsIgnoreCase(newAsciiString("x-forwarded-for"), newAsciiString("x-forwarded-fox")),
+                is(false));
+        assertThat(contentEqualsIgnoreCase(newAsciiString("@[`{@[`{"), newAsciiString("`{@[`{@[")), is(false));
+        assertThat(contentEqualsIgnoreCase(newAsciiString("Transfer-Encoding"), "transfer-encoding"), is(true));
+    }
+
+    @Test
+    void isAsciiAsciiString() {
+        assertThat(isAscii(newAsciiString("transfer-encoding")), is(true));
+        assertThat(isAscii(newAsciiString(DEFAULT_RO_ALLOCATOR.wrap(new byte[] {'a', 'b', 'c', 'd', 'e', 'f', 'g',
+                'h', 'i', (byte) 0x80}))), is(false));
+        assertThat(isAscii(newAsciiString(DEFAULT_RO_ALLOCATOR.wrap(new byte[] {'a', 'b', 'c', 'd', (byte) 0xFF,
+                'f', 'g', 'h', 'i'}))), is(false));
+    }
+
+    @Test
+    void isAsciiString() {
+        assertThat(isAscii("transfer-encoding"), is(true));
+        assertThat(isAscii("transf\u00e9r-encoding"), is(false));
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.buffer.api;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static io.servicetalk.buffer.api.EmptyBuffer.EMPTY_BUFFER;
+import static io.servicetalk.buffer.api.FileRegionBuffers.newFileRegionBuffer;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.file.StandardOpenOption.READ;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FileRegionBuffersTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void readsRegionOfFile() throws Exception {
+        try (FileChannel fileChannel = newFile("0123456789")) {
+            Buffer buffer = newFileRegionBuffer(fileChannel, 2, 5);
+            assertThat(buffer, instanceOf(FileRegionBuffer.class));
+            assertThat(buffer.readableBytes(), is(5));
+            assertThat(buffer.capacity(), is(5));
+            assertThat(((FileRegionBuffer) buffer).filePosition(), is(2L));
+            assertThat(buffer.toString(US_ASCII), is("23456"));
+            assertThat(buffer.readByte(), is((byte) '2'));
+            assertThat(((FileRegionBuffer) buffer).filePosition(), is(3L));
+        }
+    }
+
+    @Test
+    void slicesRemainFileRegions() throws Exception {
+        try (FileChannel fileChannel = newFile("0123456789")) {
+            Buffer buffer = newFileRegionBuffer(fileChannel, 1, 8);
+            buffer.skipBytes(2);
+            Buffer readSlice = buffer.readSlice(3);
+            assertThat(readSlice, instanceOf(FileRegionBuffer.class));
+            assertThat(((FileRegionBuffer) readSlice).filePosition(), is(3L));
+            assertThat(readSlice.toString(US_ASCII), is("345"));
+            Buffer slice = buffer.slice(0, 2);
+            assertThat(slice, instanceOf(FileRegionBuffer.class));
+            assertThat(slice.toString(US_ASCII), is("12"));
+            assertThat(buffer.toString(US_ASCII), is("678"));
+        }
+    }
+
+    @Test
+    void readOnly() throws Exception {
+        try (FileChannel fileChannel = newFile("0123456789")) {
+            Buffer buffer = newFileRegionBuffer(fileChannel, 0, 10);
+            assertThat(buffer.isReadOnly(), is(true));
+            assertThrows(ReadOnlyBufferException.class, () -> buffer.setByte(0, 1));
+        }
+    }
+
+    @Test
+    void emptyRegion() throws Exception {
+        try (FileChannel fileChannel = newFile("0123456789")) {
+            assertThat(newFileRegionBuffer(fileChannel, 3, 0), sameInstance(EMPTY_BUFFER));
+            assertThrows(IllegalArgumentException.class, () -> newFileRegionBuffer(fileChannel, -1, 1));
+            assertThrows(IllegalArgumentException.class, () -> newFileRegionBuffer(fileChannel, 0, -1));
+        }
+    }
+
+    private FileChannel newFile(String content) throws Exception {
+        Path file = Files.write(tempDir.resolve("file"), content.getBytes(US_ASCII));
+        return FileChannel.open(file, READ);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.buffer.api;
+
+import io.servicetalk.buffer.api.BufferAllocatorObserver.AllocationCategory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.servicetalk.buffer.api.BufferAllocatorObserver.AllocationCategory.CODEC;
+import static io.servicetalk.buffer.api.BufferAllocatorObserver.AllocationCategory.SERIALIZER;
+import static io.servicetalk.buffer.api.BufferAllocatorObserver.AllocationCategory.USER;
+import static io.servicetalk.buffer.api.ObservableBufferAllocators.observe;
+import static io.servicetalk.buffer.api.ObservableBufferAllocators.withCategory;
+import static io.servicetalk.buffer.api.ReadOnlyBufferAllocators.DEFAULT_RO_ALLOCATOR;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+class ObservableBufferAllocatorsTest {
+    private final List<String> allocations = new ArrayList<>();
+    private final BufferAllocator allocator = observe(DEFAULT_RO_ALLOCATOR, this::onBufferAllocated);
+
+    private void onBufferAllocated(AllocationCategory category, int capacity, boolean direct) {
+        allocations.add(category + ":" + capacity + ":" + direct);
+    }
+
+    @Test
+    void allocationsAreReportedWithCategory() {
+        allocator.fromAscii("hello");
+        withCategory(allocator, SERIALIZER).fromSequence("hi", UTF_8);
+        withCategory(allocator, CODEC).fromAscii("abc", true);
+        assertThat(allocations, contains(USER + ":5:false", SERIALIZER + ":2:false", CODEC + ":3:true"));
+    }
+
+    @Test
+    void emptyAndWrappedBuffersAreNotReported() {
+        allocator.fromAscii("");
+        allocator.wrap(new byte[8]);
+        assertThat(allocations, is(empty()));
+    }
+
+    @Test
+    void withCategoryIsNoopIfNotObserved() {
+        assertThat(withCategory(DEFAULT_RO_ALLOCATOR, SERIALIZER), is(sameInstance(DEFAULT_RO_ALLOCATOR)));
+        assertThat(withCategory(allocator, USER), is(sameInstance(allocator)));
+        assertThat(withCategory(allocator, SERIALIZER), is(sameInstance(withCategory(allocator, SERIALIZER))));
+        assertThat(withCategory(withCategory(allocator, SERIALIZER), USER), is(sameInstance(allocator)));
+    }
+
+    @Test
+    void observeDoesNotNest() {
+        final BufferAllocator observed = observe(withCategory(allocator, CODEC), this::onBufferAllocated);
+        observed.fromAscii("a");
+        assertThat(allocations, contains(USER + ":1:false"));
+    }
+}
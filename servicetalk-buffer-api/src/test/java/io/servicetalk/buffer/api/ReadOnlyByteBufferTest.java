@@ -20,8 +20,13 @@ import org.junit.jupiter.api.Test;
 import java.nio.ByteBuffer;
 
 import static io.servicetalk.buffer.api.ReadOnlyBufferAllocators.DEFAULT_RO_ALLOCATOR;
+import static io.servicetalk.buffer.api.ReadOnlyBufferAllocators.PREFER_DIRECT_RO_ALLOCATOR;
+import static io.servicetalk.buffer.api.ReadOnlyBufferAllocators.PREFER_HEAP_RO_ALLOCATOR;
 import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
 import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -97,4 +102,48 @@ class ReadOnlyByteBufferTest {
         assertEquals(3, buffer.indexOf(4, 0, (byte) 't'));
         assertEquals(0, buffer.indexOf(3, 0, (byte) 't'));
     }
+
+    @Test
+    void testIndexOfLongerThanWord() {
+        Buffer buffer = DEFAULT_RO_ALLOCATOR.fromAscii("GET / HTTP/1.1\r\nHost: a\r\n");
+
+        assertEquals(14, buffer.indexOf(0, buffer.writerIndex(), (byte) '\r'));
+        assertEquals(23, buffer.indexOf(15, buffer.writerIndex(), (byte) '\r'));
+        assertEquals(-1, buffer.indexOf(0, 14, (byte) '\r'));
+        assertEquals(-1, buffer.indexOf(0, buffer.writerIndex(), (byte) 0x80));
+
+        assertEquals(24, buffer.indexOf(buffer.writerIndex(), 0, (byte) '\n'));
+        assertEquals(15, buffer.indexOf(24, 0, (byte) '\n'));
+        assertEquals(-1, buffer.indexOf(15, 0, (byte) '\n'));
+    }
+
+    @Test
+    void fromUtf8MultiByte() {
+        String expected = "ascii, latin-1 \u00e9, cyrillic \u0436, cjk \u4e2d, emoji \ud83d\ude00";
+        for (BufferAllocator allocator : new BufferAllocator[] {PREFER_HEAP_RO_ALLOCATOR, PREFER_DIRECT_RO_ALLOCATOR}) {
+            Buffer buffer = allocator.fromUtf8(expected);
+            byte[] actual = new byte[buffer.readableBytes()];
+            buffer.getBytes(buffer.readerIndex(), actual);
+            assertArrayEquals(expected.getBytes(UTF_8), actual);
+            assertEquals(expected, buffer.toString(UTF_8));
+        }
+    }
+
+    @Test
+    void fromUtf8UnpairedSurrogate() {
+        assertThrows(IllegalArgumentException.class, () -> DEFAULT_RO_ALLOCATOR.fromUtf8("a\ud83d"));
+        assertThrows(IllegalArgumentException.class, () -> DEFAULT_RO_ALLOCATOR.fromUtf8("\ude00a"));
+    }
+
+    @Test
+    void toStringAscii() {
+        String expected = "content-type: application/json";
+        for (BufferAllocator allocator : new BufferAllocator[] {PREFER_HEAP_RO_ALLOCATOR, PREFER_DIRECT_RO_ALLOCATOR}) {
+            Buffer buffer = allocator.fromAscii(expected);
+            assertEquals(expected, buffer.toString(US_ASCII));
+            assertEquals(expected, buffer.toString(UTF_8));
+            assertEquals(expected, buffer.toString(ISO_8859_1));
+            assertEquals("application", buffer.toString(14, 11, UTF_8));
+        }
+    }
 }
@@ -18,6 +18,8 @@ package io.servicetalk.buffer.netty;
 import io.servicetalk.buffer.api.Buffer;
 import io.servicetalk.buffer.api.BufferAllocator;
 
+import static io.netty.util.internal.PlatformDependent.directBufferPreferred;
+
 /**
  * Available {@link BufferAllocator}s.
  */
@@ -42,4 +44,20 @@ public final class BufferAllocators {
     private BufferAllocators() {
         // no instances
     }
+
+    /**
+     * Shared {@link PooledBufferAllocator} whose {@link Buffer}s are allocated from pooled memory while a
+     * {@link PooledBufferAllocator.Scope} is open on the current thread. See {@link PooledBufferAllocator} for the
+     * lease semantics of the returned {@link Buffer}s.
+     *
+     * @return the shared {@link PooledBufferAllocator}
+     */
+    public static PooledBufferAllocator pooledAllocator() {
+        return PooledAllocatorHolder.POOLED_ALLOCATOR;
+    }
+
+    private static final class PooledAllocatorHolder {
+        // Lazily initialized to avoid creating arenas unless pooling is used.
+        static final PooledBufferAllocator POOLED_ALLOCATOR = new PooledBufferAllocator(directBufferPreferred());
+    }
 }
@@ -18,6 +18,7 @@ package io.servicetalk.buffer.netty;
 import io.servicetalk.buffer.api.Buffer;
 import io.servicetalk.buffer.api.BufferAllocator;
 import io.servicetalk.buffer.api.EmptyBuffer;
+import io.servicetalk.buffer.api.ObservableBufferAllocator;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
@@ -36,7 +37,6 @@ public final class BufferUtils {
 
     static final BufferAllocator PREFER_HEAP_ALLOCATOR = new ServiceTalkBufferAllocator(false);
     static final BufferAllocator PREFER_DIRECT_ALLOCATOR = new ServiceTalkBufferAllocator(true);
-
     private BufferUtils() {
         // no instances
     }
@@ -99,12 +99,17 @@ public final class BufferUtils {
     }
 
     /**
-     * Returns the {@link ByteBufAllocator} taking the {@link BufferAllocator} into account.
+     * Returns the {@link ByteBufAllocator} taking the {@link BufferAllocator} into account. Allocations of the returned
+     * {@link ByteBufAllocator} for an {@link ObservableBufferAllocator} are reported as codec allocations.
      *
      * @param allocator the {@link BufferAllocator} that is used.
      * @return the {@link ByteBufAllocator} to use.
      */
     public static ByteBufAllocator getByteBufAllocator(BufferAllocator allocator) {
+        if (allocator instanceof ObservableBufferAllocator) {
+            return ((ObservableBufferAllocator) allocator).derivedAllocator(ByteBufAllocator.class, observable ->
+                    new ObservableByteBufAllocator(getByteBufAllocator(observable.delegate()), observable.observer()));
+        }
         return (ByteBufAllocator) (allocator instanceof ByteBufAllocator ? allocator :
                 directBufferPreferred() ? PREFER_DIRECT_ALLOCATOR : PREFER_HEAP_ALLOCATOR);
     }
@@ -119,6 +124,72 @@ public final class BufferUtils {
         return new NettyBuffer<>(buffer);
     }
 
+    /**
+     * Return a leased {@link Buffer} for the given {@link ByteBuf}. The returned {@link Buffer} takes ownership of the
+     * passed {@code buffer} which will be released once by {@link #releaseLeased(Object)}.
+     *
+     * @param buffer the buffer to wrap, typically allocated from pooled memory.
+     * @return the created leased buffer.
+     */
+    public static Buffer newLeasedBufferFrom(ByteBuf buffer) {
+        return new LeasedBuffer(buffer);
+    }
+
+    /**
+     * Determine if the passed object is a {@link Buffer} created by {@link #newLeasedBufferFrom(ByteBuf)}.
+     *
+     * @param msg the object to check.
+     * @return {@code true} if the passed object is a leased {@link Buffer}.
+     */
+    public static boolean isLeased(@Nullable Object msg) {
+        return msg instanceof LeasedBuffer;
+    }
+
+    /**
+     * Determine if the passed object is a leased {@link Buffer} whose underlying memory was already released, and
+     * therefore may be reused by other {@link Buffer}s.
+     *
+     * @param msg the object to check.
+     * @return {@code true} if the passed object is a leased {@link Buffer} which was already released.
+     */
+    public static boolean isReleasedLease(@Nullable Object msg) {
+        return msg instanceof LeasedBuffer && ((LeasedBuffer) msg).isReleased();
+    }
+
+    /**
+     * Release the passed object if it is a leased {@link Buffer} which was neither released nor transferred by
+     * {@link #transferLeased(Object)} yet. Subsequent calls for the same object are ignored.
+     *
+     * @param msg the object to release.
+     * @return {@code true} if this call released the underlying memory.
+     */
+    public static boolean releaseLeased(@Nullable Object msg) {
+        return msg instanceof LeasedBuffer && ((LeasedBuffer) msg).release();
+    }
+
+    /**
+     * Transfer ownership of the passed leased {@link Buffer} to the caller (e.g. a write path). Afterwards,
+     * {@link #releaseLeased(Object)} by the previous owner is ignored and the caller must release the memory with
+     * {@link #releaseTransferredLease(Object)}.
+     *
+     * @param msg the leased {@link Buffer} to take ownership of.
+     * @return {@code true} if ownership was transferred, {@code false} if the passed object is not a leased
+     * {@link Buffer}, or it was already transferred or released.
+     */
+    public static boolean transferLeased(@Nullable Object msg) {
+        return msg instanceof LeasedBuffer && ((LeasedBuffer) msg).transfer();
+    }
+
+    /**
+     * Release the passed object if it is a leased {@link Buffer} transferred by {@link #transferLeased(Object)}.
+     *
+     * @param msg the object to release.
+     * @return {@code true} if this call released the underlying memory.
+     */
+    public static boolean releaseTransferredLease(@Nullable Object msg) {
+        return msg instanceof LeasedBuffer && ((LeasedBuffer) msg).releaseTransferred();
+    }
+
     /**
      * Calculate the max bytes length of UTF8 character sequence.
      * @param data the data to be encoded in UTF8.
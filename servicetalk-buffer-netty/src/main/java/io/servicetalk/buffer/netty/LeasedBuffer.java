@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.buffer.netty;
+
+import io.netty.buffer.ByteBuf;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A {@link WrappedBuffer} which holds a reference to (typically pooled) memory that must be released exactly once.
+ * <p>
+ * The memory is released by the owner of the lease, unless ownership was transferred (e.g. to a write path) before,
+ * in which case only the new owner releases it.
+ */
+final class LeasedBuffer extends WrappedBuffer {
+    private static final int LEASED = 0;
+    private static final int TRANSFERRED = 1;
+    private static final int RELEASED = 2;
+    private static final AtomicIntegerFieldUpdater<LeasedBuffer> stateUpdater =
+            AtomicIntegerFieldUpdater.newUpdater(LeasedBuffer.class, "state");
+
+    private final ByteBuf byteBuf;
+    private volatile int state;
+
+    LeasedBuffer(final ByteBuf byteBuf) {
+        super(new NettyBuffer<>(byteBuf));
+        this.byteBuf = byteBuf;
+    }
+
+    /**
+     * Determine if the underlying {@link ByteBuf} was released.
+     *
+     * @return {@code true} if the underlying {@link ByteBuf} was released.
+     */
+    boolean isReleased() {
+        return state == RELEASED;
+    }
+
+    /**
+     * Transfer ownership of the underlying {@link ByteBuf} to the caller, after which {@link #release()} is ignored.
+     *
+     * @return {@code true} if ownership was transferred, {@code false} if it was already transferred or released.
+     */
+    boolean transfer() {
+        return stateUpdater.compareAndSet(this, LEASED, TRANSFERRED);
+    }
+
+    /**
+     * Release the underlying {@link ByteBuf} if it was neither released nor transferred yet.
+     *
+     * @return {@code true} if this call released the underlying {@link ByteBuf}.
+     */
+    boolean release() {
+        return release(LEASED);
+    }
+
+    /**
+     * Release the underlying {@link ByteBuf} after {@link #transfer()}.
+     *
+     * @return {@code true} if this call released the underlying {@link ByteBuf}.
+     */
+    boolean releaseTransferred() {
+        return release(TRANSFERRED);
+    }
+
+    private boolean release(final int expected) {
+        if (stateUpdater.compareAndSet(this, expected, RELEASED)) {
+            byteBuf.release();
+            return true;
+        }
+        return false;
+    }
+}
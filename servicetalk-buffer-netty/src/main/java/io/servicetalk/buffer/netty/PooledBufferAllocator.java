@@ -0,0 +1,285 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.buffer.netty;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.buffer.api.BufferAllocator;
+import io.servicetalk.buffer.api.CompositeBuffer;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocatorMetric;
+import io.netty.util.concurrent.FastThreadLocal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.buffer.api.EmptyBuffer.EMPTY_BUFFER;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A {@link BufferAllocator} which allocates {@link Buffer}s from pooled memory (arenas and thread-local caches) while a
+ * {@link Scope} is open on the current thread.
+ * <p>
+ * Pooled {@link Buffer}s are leased and returned to the pool exactly once. Writing a {@link Buffer} to a connection
+ * transfers its ownership to the write path, which returns it to the pool once the write has been handed to the
+ * pipeline. {@link Buffer}s which did not reach a connection are returned to the pool when the {@link Scope} which
+ * allocated them is closed. See {@link Scope} for the resulting restrictions on accessing a {@link Buffer}.
+ * <p>
+ * Because a pooled {@link Buffer} can only be written once, it must not be used for payloads which may be written
+ * more than once, e.g. a request {@code Publisher} which is re-subscribed by a retrying filter. Writing a
+ * {@link Buffer} which was already written or returned to the pool fails the write with an
+ * {@link IllegalStateException} instead of sending memory which may already be reused. Allocate such payloads
+ * outside of a {@link Scope}.
+ * <p>
+ * Outside of a {@link Scope} this allocator delegates to unpooled memory, so code which is not aware of the lease
+ * semantics (e.g. serializers or aggregation) is not affected. Composite and wrapped buffers are never pooled.
+ * <pre>{@code
+ * try (PooledBufferAllocator.Scope scope = allocator.newScope()) {
+ *     Buffer buffer = allocator.newBuffer(size);
+ *     // fill and write buffer
+ * }
+ * }</pre>
+ */
+public final class PooledBufferAllocator implements BufferAllocator {
+
+    private final FastThreadLocal<Scope> currentScope = new FastThreadLocal<>();
+    private final LongAdder allocations = new LongAdder();
+    private final PooledByteBufAllocator pooled;
+    private final BufferAllocator unpooled;
+
+    /**
+     * Creates a new instance with its own arenas and thread-local caches.
+     *
+     * @param preferDirect {@code true} to prefer direct memory when the type of memory is not specified
+     */
+    public PooledBufferAllocator(final boolean preferDirect) {
+        this(new PooledByteBufAllocator(preferDirect), preferDirect);
+    }
+
+    PooledBufferAllocator(final PooledByteBufAllocator pooled, final boolean preferDirect) {
+        this.pooled = pooled;
+        this.unpooled = preferDirect ? BufferUtils.PREFER_DIRECT_ALLOCATOR : BufferUtils.PREFER_HEAP_ALLOCATOR;
+    }
+
+    /**
+     * Open a new {@link Scope} on the current thread. {@link Buffer}s allocated by this allocator on the current
+     * thread are pooled until the returned {@link Scope} is closed. Scopes can be nested, the innermost scope owns
+     * allocations.
+     *
+     * @return a new {@link Scope} which must be closed on the current thread
+     */
+    public Scope newScope() {
+        final Scope scope = new Scope(currentScope.getIfExists());
+        currentScope.set(scope);
+        return scope;
+    }
+
+    /**
+     * Get a snapshot of the statistics of this allocator.
+     *
+     * @return a snapshot of the statistics of this allocator
+     */
+    public PooledBufferAllocatorStats stats() {
+        final PooledByteBufAllocatorMetric metric = pooled.metric();
+        return new PooledBufferAllocatorStats(metric.numHeapArenas(), metric.numDirectArenas(),
+                metric.usedHeapMemory(), metric.usedDirectMemory(), metric.numThreadLocalCaches(), allocations.sum());
+    }
+
+    @Override
+    public Buffer newBuffer(final int initialCapacity) {
+        final Scope scope = currentScope.getIfExists();
+        return scope == null ? unpooled.newBuffer(initialCapacity) :
+                scope.lease(pooled.buffer(initialCapacity));
+    }
+
+    @Override
+    public Buffer newBuffer(final int initialCapacity, final int maxCapacity) {
+        final Scope scope = currentScope.getIfExists();
+        return scope == null ? unpooled.newBuffer(initialCapacity, maxCapacity) :
+                scope.lease(pooled.buffer(initialCapacity, maxCapacity));
+    }
+
+    @Override
+    public Buffer newBuffer(final int initialCapacity, final boolean direct) {
+        final Scope scope = currentScope.getIfExists();
+        return scope == null ? unpooled.newBuffer(initialCapacity, direct) :
+                scope.lease(newByteBuf(initialCapacity, direct));
+    }
+
+    @Override
+    public CompositeBuffer newCompositeBuffer() {
+        return unpooled.newCompositeBuffer();
+    }
+
+    @Override
+    public CompositeBuffer newCompositeBuffer(final int maxComponents) {
+        return unpooled.newCompositeBuffer(maxComponents);
+    }
+
+    @Override
+    public Buffer fromSequence(final CharSequence data, final Charset charset) {
+        if (charset == US_ASCII) {
+            return fromAscii(data);
+        }
+        if (charset == UTF_8) {
+            return fromUtf8(data);
+        }
+        return unpooled.fromSequence(data, charset);
+    }
+
+    @Override
+    public Buffer fromSequence(final CharSequence data, final Charset charset, final boolean direct) {
+        if (charset == US_ASCII) {
+            return fromAscii(data, direct);
+        }
+        if (charset == UTF_8) {
+            return fromUtf8(data, direct);
+        }
+        return unpooled.fromSequence(data, charset, direct);
+    }
+
+    @Override
+    public Buffer fromUtf8(final CharSequence data) {
+        final Scope scope = currentScope.getIfExists();
+        if (scope == null || data.length() == 0) {
+            return unpooled.fromUtf8(data);
+        }
+        return scope.lease(ByteBufUtil.writeUtf8(pooled, data));
+    }
+
+    @Override
+    public Buffer fromUtf8(final CharSequence data, final boolean direct) {
+        final Scope scope = currentScope.getIfExists();
+        if (scope == null || data.length() == 0) {
+            return unpooled.fromUtf8(data, direct);
+        }
+        final ByteBuf buffer = newByteBuf(ByteBufUtil.utf8MaxBytes(data), direct);
+        ByteBufUtil.writeUtf8(buffer, data);
+        return scope.lease(buffer);
+    }
+
+    @Override
+    public Buffer fromAscii(final CharSequence data) {
+        final Scope scope = currentScope.getIfExists();
+        if (scope == null || data.length() == 0) {
+            return unpooled.fromAscii(data);
+        }
+        return scope.lease(ByteBufUtil.writeAscii(pooled, data));
+    }
+
+    @Override
+    public Buffer fromAscii(final CharSequence data, final boolean direct) {
+        final Scope scope = currentScope.getIfExists();
+        if (scope == null || data.length() == 0) {
+            return unpooled.fromAscii(data, direct);
+        }
+        final ByteBuf buffer = newByteBuf(data.length(), direct);
+        ByteBufUtil.writeAscii(buffer, data);
+        return scope.lease(buffer);
+    }
+
+    @Override
+    public Buffer wrap(final byte[] bytes) {
+        return unpooled.wrap(bytes);
+    }
+
+    @Override
+    public Buffer wrap(final byte[] bytes, final int offset, final int len) {
+        return unpooled.wrap(bytes, offset, len);
+    }
+
+    @Override
+    public Buffer wrap(final ByteBuffer buffer) {
+        return unpooled.wrap(buffer);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + '{' + stats() + '}';
+    }
+
+    private ByteBuf newByteBuf(final int initialCapacity, final boolean direct) {
+        return direct ? pooled.directBuffer(initialCapacity) : pooled.heapBuffer(initialCapacity);
+    }
+
+    /**
+     * A region of code on a single thread which owns the pooled {@link Buffer}s allocated within it. Closing the scope
+     * returns all {@link Buffer}s whose ownership was not transferred to a connection by writing them to the pool.
+     * <p>
+     * There is no guard against accessing a {@link Buffer} after its memory was returned to the pool: the memory may
+     * already be reused by another {@link Buffer}, so reads see unrelated data and writes corrupt it. A
+     * {@link Buffer} must not be accessed after it was written, nor after this scope is closed. In particular, a
+     * {@link Buffer} which is only written after this scope is closed (e.g. an item of a {@code Publisher} which is
+     * subscribed to later, or a write which is still queued in front of the connection) is released by this scope
+     * first, and the write then fails.
+     */
+    public final class Scope implements AutoCloseable {
+        @Nullable
+        private final Scope parent;
+        private final Thread owner;
+        private final List<LeasedBuffer> leases = new ArrayList<>(4);
+        private boolean closed;
+
+        Scope(@Nullable final Scope parent) {
+            this.parent = parent;
+            this.owner = Thread.currentThread();
+        }
+
+        Buffer lease(final ByteBuf buffer) {
+            allocations.increment();
+            final LeasedBuffer leased = new LeasedBuffer(buffer);
+            leases.add(leased);
+            return leased;
+        }
+
+        /**
+         * Release all {@link Buffer}s allocated within this scope which were neither returned to the pool nor
+         * transferred to a connection yet and restore the enclosing scope, if any.
+         *
+         * @throws IllegalStateException if called from a thread other than the one which opened this scope, or if
+         * this scope is not the innermost open scope
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            if (Thread.currentThread() != owner) {
+                throw new IllegalStateException("Scope must be closed by the thread which opened it: " + owner);
+            }
+            if (currentScope.getIfExists() != this) {
+                throw new IllegalStateException("Nested scopes must be closed first");
+            }
+            closed = true;
+            if (parent == null) {
+                currentScope.remove();
+            } else {
+                currentScope.set(parent);
+            }
+            for (LeasedBuffer leased : leases) {
+                leased.release();
+            }
+            leases.clear();
+        }
+    }
+}
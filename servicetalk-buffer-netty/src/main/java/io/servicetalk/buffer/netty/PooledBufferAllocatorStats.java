@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.buffer.netty;
+
+/**
+ * A snapshot of the statistics of a {@link PooledBufferAllocator}.
+ */
+public final class PooledBufferAllocatorStats {
+    private final int heapArenas;
+    private final int directArenas;
+    private final long usedHeapMemory;
+    private final long usedDirectMemory;
+    private final int threadLocalCaches;
+    private final long allocations;
+
+    PooledBufferAllocatorStats(final int heapArenas, final int directArenas, final long usedHeapMemory,
+                               final long usedDirectMemory, final int threadLocalCaches, final long allocations) {
+        this.heapArenas = heapArenas;
+        this.directArenas = directArenas;
+        this.usedHeapMemory = usedHeapMemory;
+        this.usedDirectMemory = usedDirectMemory;
+        this.threadLocalCaches = threadLocalCaches;
+        this.allocations = allocations;
+    }
+
+    /**
+     * Number of heap memory arenas.
+     *
+     * @return number of heap memory arenas
+     */
+    public int heapArenas() {
+        return heapArenas;
+    }
+
+    /**
+     * Number of direct memory arenas.
+     *
+     * @return number of direct memory arenas
+     */
+    public int directArenas() {
+        return directArenas;
+    }
+
+    /**
+     * Number of bytes of heap memory reserved by the arenas.
+     *
+     * @return number of bytes of heap memory reserved by the arenas
+     */
+    public long usedHeapMemory() {
+        return usedHeapMemory;
+    }
+
+    /**
+     * Number of bytes of direct memory reserved by the arenas.
+     *
+     * @return number of bytes of direct memory reserved by the arenas
+     */
+    public long usedDirectMemory() {
+        return usedDirectMemory;
+    }
+
+    /**
+     * Number of thread-local caches in use.
+     *
+     * @return number of thread-local caches in use
+     */
+    public int threadLocalCaches() {
+        return threadLocalCaches;
+    }
+
+    /**
+     * Total number of pooled allocations.
+     *
+     * @return total number of pooled allocations
+     */
+    public long allocations() {
+        return allocations;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() +
+                "{heapArenas=" + heapArenas +
+                ", directArenas=" + directArenas +
+                ", usedHeapMemory=" + usedHeapMemory +
+                ", usedDirectMemory=" + usedDirectMemory +
+                ", threadLocalCaches=" + threadLocalCaches +
+                ", allocations=" + allocations +
+                '}';
+    }
+}
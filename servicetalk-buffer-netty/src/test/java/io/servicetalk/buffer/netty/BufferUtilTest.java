@@ -16,14 +16,27 @@
 package io.servicetalk.buffer.netty;
 
 import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.buffer.api.BufferAllocator;
+import io.servicetalk.buffer.api.BufferAllocatorObserver;
 
+import io.netty.buffer.ByteBufAllocator;
 import org.junit.jupiter.api.Test;
 
+import static io.servicetalk.buffer.api.BufferAllocatorObserver.AllocationCategory.CODEC;
+import static io.servicetalk.buffer.api.BufferAllocatorObserver.AllocationCategory.SERIALIZER;
 import static io.servicetalk.buffer.api.EmptyBuffer.EMPTY_BUFFER;
+import static io.servicetalk.buffer.api.ObservableBufferAllocators.observe;
+import static io.servicetalk.buffer.api.ObservableBufferAllocators.withCategory;
+import static io.servicetalk.buffer.netty.BufferAllocators.DEFAULT_ALLOCATOR;
+import static io.servicetalk.buffer.netty.BufferUtils.getByteBufAllocator;
 import static io.servicetalk.buffer.netty.BufferUtils.toByteBufNoThrow;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 class BufferUtilTest {
 
@@ -38,4 +51,15 @@ class BufferUtilTest {
     void emptyBufferCanBeConvertedToByteBuf() {
         assertNotNull(toByteBufNoThrow(EMPTY_BUFFER));
     }
+
+    @Test
+    void observableByteBufAllocatorIsReused() {
+        BufferAllocatorObserver observer = mock(BufferAllocatorObserver.class);
+        BufferAllocator allocator = observe(DEFAULT_ALLOCATOR, observer);
+        ByteBufAllocator byteBufAllocator = getByteBufAllocator(allocator);
+        assertSame(byteBufAllocator, getByteBufAllocator(allocator));
+        assertSame(byteBufAllocator, getByteBufAllocator(withCategory(allocator, SERIALIZER)));
+        byteBufAllocator.buffer(16).release();
+        verify(observer).onBufferAllocated(eq(CODEC), eq(16), anyBoolean());
+    }
 }
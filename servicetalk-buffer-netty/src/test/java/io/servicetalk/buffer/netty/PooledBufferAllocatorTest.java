@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.buffer.netty;
+
+import io.servicetalk.buffer.api.Buffer;
+
+import io.netty.buffer.ByteBuf;
+import org.junit.jupiter.api.Test;
+
+import static io.servicetalk.buffer.netty.BufferUtils.isLeased;
+import static io.servicetalk.buffer.netty.BufferUtils.isReleasedLease;
+import static io.servicetalk.buffer.netty.BufferUtils.releaseLeased;
+import static io.servicetalk.buffer.netty.BufferUtils.releaseTransferredLease;
+import static io.servicetalk.buffer.netty.BufferUtils.toByteBuf;
+import static io.servicetalk.buffer.netty.BufferUtils.transferLeased;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PooledBufferAllocatorTest {
+
+    private final PooledBufferAllocator allocator = new PooledBufferAllocator(true);
+
+    @Test
+    void unpooledOutsideOfScope() {
+        final Buffer buffer = allocator.newBuffer(16);
+        assertThat(isLeased(buffer), is(false));
+        assertThat(toByteBuf(buffer).alloc().isDirectBufferPooled(), is(false));
+    }
+
+    @Test
+    void scopeReleasesBuffers() {
+        final ByteBuf byteBuf;
+        final ByteBuf utf8;
+        try (PooledBufferAllocator.Scope ignored = allocator.newScope()) {
+            final Buffer buffer = allocator.newBuffer(16).writeLong(1);
+            assertThat(isLeased(buffer), is(true));
+            byteBuf = toByteBuf(buffer);
+            assertThat(byteBuf.alloc().isDirectBufferPooled(), is(true));
+            final Buffer text = allocator.fromUtf8("pooled");
+            assertThat(text.toString(UTF_8), equalTo("pooled"));
+            utf8 = toByteBuf(text);
+        }
+        assertThat(byteBuf.refCnt(), is(0));
+        assertThat(utf8.refCnt(), is(0));
+    }
+
+    @Test
+    void releasedBeforeScopeClosed() {
+        try (PooledBufferAllocator.Scope ignored = allocator.newScope()) {
+            final Buffer buffer = allocator.newBuffer(16, false);
+            final ByteBuf byteBuf = toByteBuf(buffer);
+            assertThat(releaseLeased(buffer), is(true));
+            assertThat(byteBuf.refCnt(), is(0));
+            assertThat(releaseLeased(buffer), is(false));
+        }
+    }
+
+    @Test
+    void transferredNotReleasedByScope() {
+        final Buffer buffer;
+        final ByteBuf byteBuf;
+        try (PooledBufferAllocator.Scope ignored = allocator.newScope()) {
+            buffer = allocator.newBuffer(16);
+            byteBuf = toByteBuf(buffer);
+            assertThat(transferLeased(buffer), is(true));
+            assertThat(transferLeased(buffer), is(false));
+        }
+        assertThat(byteBuf.refCnt(), is(1));
+        assertThat(releaseLeased(buffer), is(false));
+        assertThat(releaseTransferredLease(buffer), is(true));
+        assertThat(byteBuf.refCnt(), is(0));
+        assertThat(isReleasedLease(buffer), is(true));
+    }
+
+    @Test
+    void nestedScopes() {
+        final ByteBuf outerBuf;
+        try (PooledBufferAllocator.Scope ignored = allocator.newScope()) {
+            outerBuf = toByteBuf(allocator.newBuffer(16));
+            final PooledBufferAllocator.Scope inner = allocator.newScope();
+            final ByteBuf innerBuf = toByteBuf(allocator.newBuffer(16));
+            assertThrows(IllegalStateException.class, ignored::close);
+            inner.close();
+            assertThat(innerBuf.refCnt(), is(0));
+            assertThat(outerBuf.refCnt(), is(1));
+            assertThat(isLeased(allocator.newBuffer(16)), is(true));
+        }
+        assertThat(outerBuf.refCnt(), is(0));
+        assertThat(isLeased(allocator.newBuffer(16)), is(false));
+    }
+
+    @Test
+    void stats() {
+        try (PooledBufferAllocator.Scope ignored = allocator.newScope()) {
+            for (int i = 0; i < 16; ++i) {
+                releaseLeased(allocator.newBuffer(64));
+            }
+        }
+        final PooledBufferAllocatorStats stats = allocator.stats();
+        assertThat(stats.allocations(), is(16L));
+        assertThat(stats.directArenas() + stats.heapArenas(), greaterThan(0));
+    }
+}
@@ -35,6 +35,7 @@ import javax.annotation.Nullable;
 
 import static io.servicetalk.concurrent.api.AsyncContextExecutorPlugin.EXECUTOR_PLUGIN;
 import static io.servicetalk.concurrent.api.Executors.EXECUTOR_PLUGINS;
+import static java.lang.Boolean.getBoolean;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -43,6 +44,14 @@ import static java.util.Objects.requireNonNull;
  * This should not be used as a "catch all" to avoid designing APIs which accommodate for your needs. This should be
  * used as a last resort (e.g. for low level framework or infrastructure like tasks) because there maybe non-trivial
  * overhead required to maintain this context.
+ * <p>
+ * On Java 21+ the {@code -Dio.servicetalk.concurrent.api.asyncContext.useScopedValue=true} system property makes
+ * virtual threads started by {@link Executors#newVirtualThreadExecutor()} keep the context in a {@code ScopedValue}
+ * instead of a {@link ThreadLocal}. Other threads are not affected.
+ * <p>
+ * The {@code -Dio.servicetalk.concurrent.api.asyncContext.usePersistentContextMap=true} system property backs the
+ * context by a persistent hash array mapped trie instead of copy-on-write arrays, which is preferable for applications
+ * which put more than a handful of entries into the context.
  */
 public final class AsyncContext {
 
@@ -73,10 +82,17 @@ public final class AsyncContext {
             capturedContextProvider = capturedContextProvider == null ?
                     provider : new CapturedContextProviderUnion(capturedContextProvider, provider);
         }
-        if (capturedContextProvider == null) {
-            DEFAULT_ENABLED_PROVIDER = DefaultAsyncContextProvider.INSTANCE;
+        // Check the property first, it is a constant and doesn't initialize ScopedValueAsyncContextStorage, which
+        // probes ScopedValue support by binding a value.
+        final AsyncContextStorage storage = getBoolean(ScopedValueAsyncContextStorage.ENABLE_PROPERTY_NAME) &&
+                ScopedValueAsyncContextStorage.isEnabled() ?
+                ScopedValueAsyncContextStorage.INSTANCE : ThreadLocalAsyncContextStorage.INSTANCE;
+        if (capturedContextProvider != null) {
+            DEFAULT_ENABLED_PROVIDER = new CustomCaptureAsyncContextProvider(storage, capturedContextProvider);
+        } else if (storage != ThreadLocalAsyncContextStorage.INSTANCE) {
+            DEFAULT_ENABLED_PROVIDER = new DefaultAsyncContextProvider(storage);
         } else {
-            DEFAULT_ENABLED_PROVIDER = new CustomCaptureAsyncContextProvider(capturedContextProvider);
+            DEFAULT_ENABLED_PROVIDER = DefaultAsyncContextProvider.INSTANCE;
         }
         provider = DEFAULT_ENABLED_PROVIDER;
     }
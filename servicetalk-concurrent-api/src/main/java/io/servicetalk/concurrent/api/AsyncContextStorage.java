@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.concurrent.api;
+
+import io.servicetalk.context.api.ContextMap;
+
+/**
+ * Storage of the current {@link ContextMap} used by {@link DefaultAsyncContextProvider}.
+ */
+interface AsyncContextStorage {
+    /**
+     * Get the {@link ContextMap} associated with the current thread, creating a new one if necessary.
+     *
+     * @return the {@link ContextMap} associated with the current thread.
+     */
+    ContextMap get();
+
+    /**
+     * Associate the {@link ContextMap} with the current thread.
+     *
+     * @param contextMap the {@link ContextMap} to associate with the current thread.
+     */
+    void set(ContextMap contextMap);
+
+    /**
+     * Associate the {@link ContextMap} with the current thread and return the previously associated one.
+     * Implementations should avoid updating the state if {@code contextMap} is already associated with the current
+     * thread.
+     *
+     * @param contextMap the {@link ContextMap} to associate with the current thread.
+     * @return the {@link ContextMap} which was associated with the current thread before this call.
+     */
+    ContextMap exchange(ContextMap contextMap);
+}
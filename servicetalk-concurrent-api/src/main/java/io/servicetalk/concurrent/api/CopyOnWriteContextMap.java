@@ -38,73 +38,164 @@ import static java.util.Objects.requireNonNull;
  * Less than 7 elements was chosen because it is not common to have more than this number of
  * {@link ContextMap.Key}-value entries in a single {@link ContextMap}. Common {@link ContextMap.Key}-value entries are
  * (tracing, MDC, auth, 3-custom user entries).
+ * <p>
+ * Entries for {@link ContextMap.Key}s created via {@link ContextMap.Key#registerKey(String, Class)} are stored in a
+ * separate array which only holds the occupied slots, located via a bitmap of {@link ContextMap.Key#slot()}s, which
+ * avoids a search for frequently accessed keys. Therefore {@link #forEach(BiPredicate)} visits these entries first,
+ * ordered by their slot, followed by all other entries. Bulk operations ({@link #putAll(ContextMap)},
+ * {@link #putAll(Map)}, {@link #removeAll(Iterable)} and {@link #clear()}) update both kinds of entries separately,
+ * so a concurrent reader may observe a partially applied bulk operation.
  */
 final class CopyOnWriteContextMap implements ContextMap, Scope, CapturedContext {
     private static final AtomicReferenceFieldUpdater<CopyOnWriteContextMap, CopyContextMap> mapUpdater =
             AtomicReferenceFieldUpdater.newUpdater(CopyOnWriteContextMap.class, CopyContextMap.class, "map");
+    private static final AtomicReferenceFieldUpdater<CopyOnWriteContextMap, Slots> slotsUpdater =
+            AtomicReferenceFieldUpdater.newUpdater(CopyOnWriteContextMap.class, Slots.class, "slots");
 
+    /**
+     * Entries for {@link Key}s without a {@link Key#slot()}.
+     */
     private volatile CopyContextMap map;
+    /**
+     * Entries for {@link Key}s with a {@link Key#slot()}. A new instance is created on every modification and never
+     * reused, which allows {@link #copy()} to detect concurrent modifications by identity.
+     */
+    private volatile Slots slots;
 
     CopyOnWriteContextMap() {
-        this(EmptyContextMap.INSTANCE);
+        this(EmptyContextMap.INSTANCE, Slots.EMPTY);
     }
 
-    private CopyOnWriteContextMap(CopyContextMap map) {
+    private CopyOnWriteContextMap(CopyContextMap map, Slots slots) {
         this.map = map;
+        this.slots = slots;
     }
 
     @Override
     public int size() {
-        return map.size();
+        return map.size() + slots.size();
     }
 
     @Override
     public boolean isEmpty() {
-        return map.isEmpty();
+        return slots.occupied == 0 && map.isEmpty();
     }
 
     @Override
     public boolean containsKey(final Key<?> key) {
+        final int slot = key.slot();
+        if (slot >= 0) {
+            return slots.index(slot) >= 0;
+        }
         return map.containsKey(key);
     }
 
     @Override
     public boolean containsValue(@Nullable final Object value) {
+        final Object[] slots = this.slots.entries;
+        for (int i = 1; i < slots.length; i += 2) {
+            if (Objects.equals(value, slots[i])) {
+                return true;
+            }
+        }
         return map.containsValue(value);
     }
 
     @Override
     public <T> boolean contains(final Key<T> key, @Nullable final T value) {
+        final int slot = key.slot();
+        if (slot >= 0) {
+            final Slots slots = this.slots;
+            final int i = slots.index(slot);
+            return i >= 0 && Objects.equals(value, slots.entries[i + 1]);
+        }
         return map.contains(key, value);
     }
 
     @Nullable
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T get(final Key<T> key) {
+        final int slot = key.slot();
+        if (slot >= 0) {
+            final Slots slots = this.slots;
+            final int i = slots.index(slot);
+            return i >= 0 ? (T) slots.entries[i + 1] : null;
+        }
         return map.get(key);
     }
 
     @Nullable
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T getOrDefault(final Key<T> key, final T defaultValue) {
+        final int slot = key.slot();
+        if (slot >= 0) {
+            final Slots slots = this.slots;
+            final int i = slots.index(slot);
+            return i >= 0 ? (T) slots.entries[i + 1] : defaultValue;
+        }
         return map.getOrDefault(key, defaultValue);
     }
 
     @Nullable
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T put(final Key<T> key, @Nullable final T value) {
+        final int slot = key.slot();
+        if (slot >= 0) {
+            for (;;) {
+                final Slots slots = this.slots;
+                final int i = slots.index(slot);
+                if (i >= 0 && slots.entries[i + 1] == value) {
+                    return value;
+                }
+                if (slotsUpdater.compareAndSet(this, slots, slots.with(slot, key, value))) {
+                    return i >= 0 ? (T) slots.entries[i + 1] : null;
+                }
+            }
+        }
         return map.put(key, value, this, mapUpdater);
     }
 
     @Nullable
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T putIfAbsent(final Key<T> key, @Nullable final T value) {
+        final int slot = key.slot();
+        if (slot >= 0) {
+            for (;;) {
+                final Slots slots = this.slots;
+                final int i = slots.index(slot);
+                if (i >= 0 && slots.entries[i + 1] != null) {
+                    return (T) slots.entries[i + 1];
+                }
+                if (slotsUpdater.compareAndSet(this, slots, slots.with(slot, key, value))) {
+                    return null;
+                }
+            }
+        }
         return map.putIfAbsent(key, value, this, mapUpdater);
     }
 
     @Nullable
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T computeIfAbsent(final Key<T> key, final Function<Key<T>, T> computeFunction) {
+        final int slot = key.slot();
+        if (slot >= 0) {
+            for (;;) {
+                final Slots slots = this.slots;
+                final int i = slots.index(slot);
+                if (i >= 0 && slots.entries[i + 1] != null) {
+                    return (T) slots.entries[i + 1];
+                }
+                final T value = computeFunction.apply(key);
+                if (slotsUpdater.compareAndSet(this, slots, slots.with(slot, key, value))) {
+                    return value;
+                }
+            }
+        }
         return map.computeIfAbsent(key, computeFunction, this, mapUpdater);
     }
 
@@ -114,11 +205,11 @@ final class CopyOnWriteContextMap implements ContextMap, Scope, CapturedContext
         if (size < 1) {
             return;
         }
-        for (;;) {
-            CopyContextMap contextMap = this.map;
-            if (mapUpdater.compareAndSet(this, contextMap, contextMap.putAll(size, map::forEach))) {
-                break;
-            }
+        final int slotted = putAllSlots(map::forEach);
+        if (slotted == 0) {
+            putAll(size, map::forEach);
+        } else if (slotted < size) {
+            putAll(size - slotted, builder -> map.forEach((key, value) -> key.slot() >= 0 || builder.test(key, value)));
         }
     }
 
@@ -128,39 +219,120 @@ final class CopyOnWriteContextMap implements ContextMap, Scope, CapturedContext
         if (size < 1) {
             return;
         }
+        // All entries are validated before any slot is modified, a failure won't leave partial modifications behind.
+        final int slotted = putAllSlots(map::forEach);
+        if (slotted == 0) {
+            putAll(size, map::forEach);
+        } else if (slotted < size) {
+            putAll(size - slotted, builder -> map.forEach((key, value) -> {
+                if (key.slot() < 0) {
+                    builder.accept(key, value);
+                }
+            }));
+        }
+    }
+
+    private void putAll(final int size, final Consumer<PutAllBuilder> forEach) {
         for (;;) {
             CopyContextMap contextMap = this.map;
-            if (mapUpdater.compareAndSet(this, contextMap, contextMap.putAll(size, map::forEach))) {
+            if (mapUpdater.compareAndSet(this, contextMap, contextMap.putAll(size, forEach))) {
                 break;
             }
         }
     }
 
+    /**
+     * Put all entries for {@link Key}s with a {@link Key#slot()}. These entries are published before all other entries.
+     *
+     * @param forEach iterates over all entries to put.
+     * @return the number of entries for {@link Key}s with a {@link Key#slot()}.
+     */
+    private int putAllSlots(final Consumer<PutAllSlotsBuilder> forEach) {
+        for (;;) {
+            final Slots slots = this.slots;
+            final PutAllSlotsBuilder builder = new PutAllSlotsBuilder(slots);
+            forEach.accept(builder);
+            if (builder.count == 0 || slotsUpdater.compareAndSet(this, slots, builder.build())) {
+                return builder.count;
+            }
+        }
+    }
+
     @Nullable
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T remove(final Key<T> key) {
+        final int slot = key.slot();
+        if (slot >= 0) {
+            for (;;) {
+                final Slots slots = this.slots;
+                final int i = slots.index(slot);
+                if (i < 0) {
+                    return null;
+                }
+                if (slotsUpdater.compareAndSet(this, slots, slots.without(slot))) {
+                    return (T) slots.entries[i + 1];
+                }
+            }
+        }
         return map.remove(key, this, mapUpdater);
     }
 
     @Override
     public boolean removeAll(final Iterable<Key<?>> keys) {
-        return map.removeAll(keys, this, mapUpdater);
+        boolean removed = false;
+        for (;;) {
+            final Slots slots = this.slots;
+            Slots newSlots = slots;
+            for (Key<?> k : keys) {
+                final int slot = k.slot();
+                if (slot >= 0 && newSlots.index(slot) >= 0) {
+                    newSlots = newSlots.without(slot);
+                }
+            }
+            if (newSlots == slots) {
+                break;
+            }
+            if (slotsUpdater.compareAndSet(this, slots, newSlots)) {
+                removed = true;
+                break;
+            }
+        }
+        // Keys with a slot are never present in the map, no need to filter them out.
+        return map.removeAll(keys, this, mapUpdater) || removed;
     }
 
     @Override
     public void clear() {
         map = EmptyContextMap.INSTANCE;
+        if (slots.occupied != 0) {
+            slots = new Slots(0, Slots.EMPTY.entries);
+        }
     }
 
     @Nullable
     @Override
     public Key<?> forEach(final BiPredicate<Key<?>, Object> consumer) {
+        // Entries with a slot are visited first, regardless of the insertion order.
+        final Object[] slots = this.slots.entries;
+        for (int i = 0; i < slots.length; i += 2) {
+            final Key<?> key = (Key<?>) slots[i];
+            if (!consumer.test(key, slots[i + 1])) {
+                return key;
+            }
+        }
         return map.forEach(consumer);
     }
 
     @Override
     public ContextMap copy() {
-        return new CopyOnWriteContextMap(map);
+        for (;;) {
+            final Slots slots = this.slots;
+            final CopyContextMap map = this.map;
+            if (slots == this.slots) {
+                return new CopyOnWriteContextMap(map, slots);
+            }
+        }
     }
 
     @Override
@@ -172,14 +344,24 @@ final class CopyOnWriteContextMap implements ContextMap, Scope, CapturedContext
             return false;
         }
         if (o instanceof CopyOnWriteContextMap) {
-            return map.equals(((CopyOnWriteContextMap) o).map);
+            final CopyOnWriteContextMap other = (CopyOnWriteContextMap) o;
+            final Slots slots = this.slots;
+            final Slots otherSlots = other.slots;
+            // A slot is unique per Key, equal bitmaps imply the same keys in the same order.
+            return slots.occupied == otherSlots.occupied && map.equals(other.map) &&
+                    Arrays.equals(slots.entries, otherSlots.entries);
         }
         return ContextMapUtils.equals(this, (ContextMap) o);
     }
 
     @Override
     public int hashCode() {
-        return map.hashCode();
+        final Object[] slots = this.slots.entries;
+        int result = map.hashCode();
+        for (int i = 0; i < slots.length; i += 2) {
+            result += slots[i].hashCode() ^ Objects.hashCode(slots[i + 1]);
+        }
+        return result;
     }
 
     @Override
@@ -356,7 +538,7 @@ final class CopyOnWriteContextMap implements ContextMap, Scope, CapturedContext
 
         @Override
         public int hashCode() {
-            return System.identityHashCode(this);
+            return 0;
         }
 
         @Override
@@ -503,9 +685,7 @@ final class CopyOnWriteContextMap implements ContextMap, Scope, CapturedContext
 
         @Override
         public int hashCode() {
-            int result = keyOne.hashCode();
-            result = 31 * result + Objects.hashCode(valueOne);
-            return result;
+            return keyOne.hashCode() ^ Objects.hashCode(valueOne);
         }
 
         @Override
@@ -721,11 +901,8 @@ final class CopyOnWriteContextMap implements ContextMap, Scope, CapturedContext
 
         @Override
         public int hashCode() {
-            int result = keyOne.hashCode();
-            result = 31 * result + Objects.hashCode(valueOne);
-            result = 31 * result + keyTwo.hashCode();
-            result = 31 * result + Objects.hashCode(valueTwo);
-            return result;
+            return (keyOne.hashCode() ^ Objects.hashCode(valueOne)) +
+                    (keyTwo.hashCode() ^ Objects.hashCode(valueTwo));
         }
 
         @Override
@@ -1006,13 +1183,9 @@ final class CopyOnWriteContextMap implements ContextMap, Scope, CapturedContext
 
         @Override
         public int hashCode() {
-            int result = keyOne.hashCode();
-            result = 31 * result + Objects.hashCode(valueOne);
-            result = 31 * result + keyTwo.hashCode();
-            result = 31 * result + Objects.hashCode(valueTwo);
-            result = 31 * result + keyThree.hashCode();
-            result = 31 * result + Objects.hashCode(valueThree);
-            return result;
+            return (keyOne.hashCode() ^ Objects.hashCode(valueOne)) +
+                    (keyTwo.hashCode() ^ Objects.hashCode(valueTwo)) +
+                    (keyThree.hashCode() ^ Objects.hashCode(valueThree));
         }
 
         @Override
@@ -1359,15 +1532,10 @@ final class CopyOnWriteContextMap implements ContextMap, Scope, CapturedContext
 
         @Override
         public int hashCode() {
-            int result = keyOne.hashCode();
-            result = 31 * result + Objects.hashCode(valueOne);
-            result = 31 * result + keyTwo.hashCode();
-            result = 31 * result + Objects.hashCode(valueTwo);
-            result = 31 * result + keyThree.hashCode();
-            result = 31 * result + Objects.hashCode(valueThree);
-            result = 31 * result + keyFour.hashCode();
-            result = 31 * result + Objects.hashCode(valueFour);
-            return result;
+            return (keyOne.hashCode() ^ Objects.hashCode(valueOne)) +
+                    (keyTwo.hashCode() ^ Objects.hashCode(valueTwo)) +
+                    (keyThree.hashCode() ^ Objects.hashCode(valueThree)) +
+                    (keyFour.hashCode() ^ Objects.hashCode(valueFour));
         }
 
         @Override
@@ -1813,17 +1981,11 @@ final class CopyOnWriteContextMap implements ContextMap, Scope, CapturedContext
 
         @Override
         public int hashCode() {
-            int result = keyOne.hashCode();
-            result = 31 * result + Objects.hashCode(valueOne);
-            result = 31 * result + keyTwo.hashCode();
-            result = 31 * result + Objects.hashCode(valueTwo);
-            result = 31 * result + keyThree.hashCode();
-            result = 31 * result + Objects.hashCode(valueThree);
-            result = 31 * result + keyFour.hashCode();
-            result = 31 * result + Objects.hashCode(valueFour);
-            result = 31 * result + keyFive.hashCode();
-            result = 31 * result + Objects.hashCode(valueFive);
-            return result;
+            return (keyOne.hashCode() ^ Objects.hashCode(valueOne)) +
+                    (keyTwo.hashCode() ^ Objects.hashCode(valueTwo)) +
+                    (keyThree.hashCode() ^ Objects.hashCode(valueThree)) +
+                    (keyFour.hashCode() ^ Objects.hashCode(valueFour)) +
+                    (keyFive.hashCode() ^ Objects.hashCode(valueFive));
         }
 
         @Override
@@ -2428,19 +2590,12 @@ final class CopyOnWriteContextMap implements ContextMap, Scope, CapturedContext
 
         @Override
         public int hashCode() {
-            int result = keyOne.hashCode();
-            result = 31 * result + Objects.hashCode(valueOne);
-            result = 31 * result + keyTwo.hashCode();
-            result = 31 * result + Objects.hashCode(valueTwo);
-            result = 31 * result + keyThree.hashCode();
-            result = 31 * result + Objects.hashCode(valueThree);
-            result = 31 * result + keyFour.hashCode();
-            result = 31 * result + Objects.hashCode(valueFour);
-            result = 31 * result + keyFive.hashCode();
-            result = 31 * result + Objects.hashCode(valueFive);
-            result = 31 * result + keySix.hashCode();
-            result = 31 * result + Objects.hashCode(valueSix);
-            return result;
+            return (keyOne.hashCode() ^ Objects.hashCode(valueOne)) +
+                    (keyTwo.hashCode() ^ Objects.hashCode(valueTwo)) +
+                    (keyThree.hashCode() ^ Objects.hashCode(valueThree)) +
+                    (keyFour.hashCode() ^ Objects.hashCode(valueFour)) +
+                    (keyFive.hashCode() ^ Objects.hashCode(valueFive)) +
+                    (keySix.hashCode() ^ Objects.hashCode(valueSix));
         }
 
         @Override
@@ -2889,7 +3044,11 @@ final class CopyOnWriteContextMap implements ContextMap, Scope, CapturedContext
 
         @Override
         public int hashCode() {
-            return Arrays.hashCode(context);
+            int result = 0;
+            for (int i = 0; i < context.length; i += 2) {
+                result += context[i].hashCode() ^ Objects.hashCode(context[i + 1]);
+            }
+            return result;
         }
 
         private static final class GrowableIntArray {
@@ -2922,6 +3081,99 @@ final class CopyOnWriteContextMap implements ContextMap, Scope, CapturedContext
         }
     }
 
+    /**
+     * Entries for {@link Key}s with a {@link Key#slot()}. Only occupied slots are stored, so a copy costs the same as
+     * for the other entries regardless of how many slots were assigned JVM-wide.
+     */
+    private static final class Slots {
+        static final Slots EMPTY = new Slots(0, new Object[0]);
+
+        /**
+         * Bit {@code s} is set if there is an entry for slot {@code s}, there are at most 64 slots.
+         */
+        final long occupied;
+        /**
+         * Key and value pairs of the occupied slots, ordered by slot.
+         */
+        final Object[] entries;
+
+        Slots(final long occupied, final Object[] entries) {
+            this.occupied = occupied;
+            this.entries = entries;
+        }
+
+        int size() {
+            return Long.bitCount(occupied);
+        }
+
+        /**
+         * Returns the index of the key of {@code slot} in {@link #entries}.
+         *
+         * @param slot the {@link Key#slot()}.
+         * @return the index of the key of {@code slot} in {@link #entries}, or {@code -1} if there is no entry.
+         */
+        int index(final int slot) {
+            final long bit = 1L << slot;
+            return (occupied & bit) == 0 ? -1 : Long.bitCount(occupied & (bit - 1)) << 1;
+        }
+
+        Slots with(final int slot, final Key<?> key, @Nullable final Object value) {
+            final long bit = 1L << slot;
+            final int i = Long.bitCount(occupied & (bit - 1)) << 1;
+            final Object[] newEntries;
+            if ((occupied & bit) != 0) {
+                newEntries = entries.clone();
+            } else {
+                newEntries = new Object[entries.length + 2];
+                arraycopy(entries, 0, newEntries, 0, i);
+                arraycopy(entries, i, newEntries, i + 2, entries.length - i);
+            }
+            newEntries[i] = key;
+            newEntries[i + 1] = value;
+            return new Slots(occupied | bit, newEntries);
+        }
+
+        Slots without(final int slot) {
+            final long bit = 1L << slot;
+            assert (occupied & bit) != 0;
+            final int i = Long.bitCount(occupied & (bit - 1)) << 1;
+            final Object[] newEntries = new Object[entries.length - 2];
+            arraycopy(entries, 0, newEntries, 0, i);
+            arraycopy(entries, i + 2, newEntries, i, newEntries.length - i);
+            return new Slots(occupied & ~bit, newEntries);
+        }
+    }
+
+    private static final class PutAllSlotsBuilder implements BiConsumer<Key<?>, Object>,
+                                                              BiPredicate<Key<?>, Object> {
+        private Slots slots;
+        int count;
+
+        PutAllSlotsBuilder(final Slots slots) {
+            this.slots = slots;
+        }
+
+        Slots build() {
+            return slots;
+        }
+
+        @Override
+        public void accept(final Key<?> key, @Nullable final Object value) {
+            ensureType(key, value);
+            test(key, value);
+        }
+
+        @Override
+        public boolean test(final Key<?> key, @Nullable final Object value) {
+            final int slot = key.slot();
+            if (slot >= 0) {
+                slots = slots.with(slot, key, value);
+                ++count;
+            }
+            return true;
+        }
+    }
+
     private static final class PutAllBuilder implements BiConsumer<Key<?>, Object>, BiPredicate<Key<?>, Object> {
         private final Object[] pairs;
         private int index;
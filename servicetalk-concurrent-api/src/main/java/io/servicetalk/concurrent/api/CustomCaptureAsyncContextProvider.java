@@ -23,7 +23,8 @@ final class CustomCaptureAsyncContextProvider extends DefaultAsyncContextProvide
 
     private final CapturedContextProvider delegate;
 
-    CustomCaptureAsyncContextProvider(CapturedContextProvider delegate) {
+    CustomCaptureAsyncContextProvider(AsyncContextStorage storage, CapturedContextProvider delegate) {
+        super(storage);
         this.delegate = requireNonNull(delegate);
     }
 
@@ -19,7 +19,6 @@ import io.servicetalk.concurrent.CompletableSource;
 import io.servicetalk.concurrent.PublisherSource;
 import io.servicetalk.concurrent.SingleSource;
 import io.servicetalk.context.api.ContextMap;
-import io.servicetalk.context.api.ContextMapHolder;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,45 +32,39 @@ import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
-import static java.lang.ThreadLocal.withInitial;
+import static java.lang.Boolean.getBoolean;
+import static java.util.Objects.requireNonNull;
 
 class DefaultAsyncContextProvider implements AsyncContextProvider {
 
-    private static final ThreadLocal<ContextMap> CONTEXT_THREAD_LOCAL =
-            withInitial(DefaultAsyncContextProvider::newContextMap);
-
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultAsyncContextProvider.class);
+    /**
+     * Opt-in to {@link PersistentContextMap}, which scales better than {@link CopyOnWriteContextMap} when contexts
+     * have more than a handful of entries.
+     */
+    private static final boolean USE_PERSISTENT_CONTEXT_MAP =
+            getBoolean("io.servicetalk.concurrent.api.asyncContext.usePersistentContextMap");
     static final AsyncContextProvider INSTANCE = new DefaultAsyncContextProvider();
     private static final boolean NO_DEBUG_LOGGING = isNoDebugLogging();
 
+    private final AsyncContextStorage storage;
+
     protected DefaultAsyncContextProvider() {
+        this(ThreadLocalAsyncContextStorage.INSTANCE);
+    }
+
+    DefaultAsyncContextProvider(final AsyncContextStorage storage) {
+        this.storage = requireNonNull(storage);
     }
 
     @Override
     public final ContextMap context() {
-        final Thread t = Thread.currentThread();
-        if (t instanceof ContextMapHolder) {
-            final ContextMapHolder contextMapHolder = (ContextMapHolder) t;
-            ContextMap map = contextMapHolder.context();
-            if (map == null) {
-                map = newContextMap();
-                contextMapHolder.context(map);
-            }
-            return map;
-        } else {
-            return CONTEXT_THREAD_LOCAL.get();
-        }
+        return storage.get();
     }
 
     @Override
     public final void setContextMap(ContextMap contextMap) {
-        final Thread currentThread = Thread.currentThread();
-        if (currentThread instanceof ContextMapHolder) {
-            final ContextMapHolder asyncContextMapHolder = (ContextMapHolder) currentThread;
-            asyncContextMapHolder.context(contextMap);
-        } else {
-            CONTEXT_THREAD_LOCAL.set(contextMap);
-        }
+        storage.set(contextMap);
     }
 
     @Override
@@ -324,7 +317,7 @@ class DefaultAsyncContextProvider implements AsyncContextProvider {
         return new ContextPreservingBiFunction<>(func, context);
     }
 
-    private static final class CapturedContextImpl implements CapturedContext {
+    private final class CapturedContextImpl implements CapturedContext {
 
         private final ContextMap contextMap;
 
@@ -343,7 +336,7 @@ class DefaultAsyncContextProvider implements AsyncContextProvider {
         }
     }
 
-    private static final class DetachScope implements Scope {
+    private final class DetachScope implements Scope {
         private final ContextMap expectedContext;
         private final ContextMap toRestore;
 
@@ -354,7 +347,7 @@ class DefaultAsyncContextProvider implements AsyncContextProvider {
 
         @Override
         public void close() {
-            ContextMap current = exchangeContext(toRestore);
+            ContextMap current = storage.exchange(toRestore);
             if (current != expectedContext && !NO_DEBUG_LOGGING) {
                 LOGGER.debug("Current context didn't match the expected context. current: {}, expected: {}",
                         current, expectedContext, new Throwable("stack trace"));
@@ -362,30 +355,13 @@ class DefaultAsyncContextProvider implements AsyncContextProvider {
         }
     }
 
-    private static Scope doAttachContextMap(ContextMap contextMap) {
-        ContextMap prev = exchangeContext(contextMap);
+    private Scope doAttachContextMap(ContextMap contextMap) {
+        ContextMap prev = storage.exchange(contextMap);
         return NO_DEBUG_LOGGING && prev instanceof Scope ? (Scope) prev : new DetachScope(contextMap, prev);
     }
 
-    private static ContextMap exchangeContext(ContextMap contextMap) {
-        final Thread currentThread = Thread.currentThread();
-        ContextMap result;
-        if (currentThread instanceof ContextMapHolder) {
-            final ContextMapHolder asyncContextMapHolder = (ContextMapHolder) currentThread;
-            result = asyncContextMapHolder.context();
-            if (result == null) {
-                result = newContextMap();
-            }
-            asyncContextMapHolder.context(contextMap);
-        } else {
-            result = CONTEXT_THREAD_LOCAL.get();
-            CONTEXT_THREAD_LOCAL.set(contextMap);
-        }
-        return result;
-    }
-
-    private static ContextMap newContextMap() {
-        return new CopyOnWriteContextMap();
+    static ContextMap newContextMap() {
+        return USE_PERSISTENT_CONTEXT_MAP ? new PersistentContextMap() : new CopyOnWriteContextMap();
     }
 
     @SuppressWarnings("PMD.SystemPrintln")
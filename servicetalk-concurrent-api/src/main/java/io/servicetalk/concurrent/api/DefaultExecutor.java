@@ -27,7 +27,6 @@ import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
@@ -39,6 +38,7 @@ import javax.annotation.Nullable;
 import static io.servicetalk.concurrent.Cancellable.IGNORE_CANCEL;
 import static io.servicetalk.utils.internal.ThrowableUtils.throwException;
 import static java.lang.Thread.NORM_PRIORITY;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
@@ -52,22 +52,18 @@ final class DefaultExecutor extends AbstractExecutor implements Consumer<Runnabl
      * We do not execute user code (potentially blocking/long running) on the scheduler thread and hence using a single
      * scheduler thread is usually ok. In cases, when it is not, one can always override the executor with a custom
      * scheduler.
+     * <p>
+     * It isn't uncommon to set timers for longer intervals that required and cancel these timers. For example each
+     * request may have a timeout applied and in the happy path no requests will timeout. A timing wheel arms and
+     * cancels timers in constant time without a shared lock, and makes cancelled timers eligible for GC asap.
      */
-    private static final ScheduledThreadPoolExecutor GLOBAL_SINGLE_THREADED_SCHEDULED_EXECUTOR =
-            new ScheduledThreadPoolExecutor(1, new DefaultThreadFactory("servicetalk-global-scheduler",
-                    true, NORM_PRIORITY));
+    private static final TimingWheelScheduler GLOBAL_SCHEDULER = new TimingWheelScheduler(
+            new DefaultThreadFactory("servicetalk-global-scheduler", true, NORM_PRIORITY), 1, MILLISECONDS);
     private static final RejectedExecutionHandler DEFAULT_REJECTION_HANDLER = new AbortPolicy();
 
     private final InternalExecutor executor;
     private final InternalScheduler scheduler;
 
-    static {
-        // It isn't uncommon to set timers for longer intervals that required and cancel these timers. For example
-        // each request may have a timeout applied and in the happy path no requests will timeout. We don't need to
-        // retain timeout objects for their full duration and we should make them eligible for GC asap.
-        GLOBAL_SINGLE_THREADED_SCHEDULED_EXECUTOR.setRemoveOnCancelPolicy(true);
-    }
-
     DefaultExecutor(int coreSize, int maxSize, BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory) {
         this(new ThreadPoolExecutor(coreSize, maxSize, DEFAULT_KEEP_ALIVE_TIME_SECONDS, SECONDS,
                 workQueue, threadFactory, DEFAULT_REJECTION_HANDLER));
@@ -253,16 +249,20 @@ final class DefaultExecutor extends AbstractExecutor implements Consumer<Runnabl
 
         @Override
         public void close() {
-            // This uses shared scheduled executor service and hence there is no clear lifetime, so, we ignore shutdown.
-            // Since GLOBAL_SINGLE_THREADED_SCHEDULED_EXECUTOR uses daemon threads, the threads will be shutdown on JVM
-            // shutdown.
+            // This uses shared scheduler and hence there is no clear lifetime, so, we ignore shutdown.
+            // Since GLOBAL_SCHEDULER uses a daemon thread, the thread will be shutdown on JVM shutdown.
         }
 
         @Override
         public Cancellable schedule(final Runnable task, final long delay, final TimeUnit unit) {
             // When using the global scheduler, offload timer ticks to the user specified Executor since user code
             // executed on the timer tick can block.
-            ScheduledFuture<?> future = GLOBAL_SINGLE_THREADED_SCHEDULED_EXECUTOR.schedule(
+            // Schedulers are only used to generate a tick and should not execute any user code (unless the
+            // offloadExecutor throws). This means they will never run any blocking code and hence it does not matter
+            // whether we use the interruptOnCancel as sent by the user upon creation in the scheduler. User code
+            // (completion of Completable on tick) will be executed on the configured executor and not the Scheduler
+            // thread.
+            return GLOBAL_SCHEDULER.schedule(
                     () -> {
                         try {
                             offloadExecutor.execute(task);
@@ -281,12 +281,6 @@ final class DefaultExecutor extends AbstractExecutor implements Consumer<Runnabl
                                     task, offloadExecutor, t);
                         }
                     }, delay, unit);
-            // Schedulers are only used to generate a tick and should not execute any user code (unless the
-            // offloadExecutor throws). This means they will never run any blocking code and hence it does not matter
-            // whether we use the interruptOnCancel as sent by the user upon creation in the scheduler. User code
-            // (completion of Completable on tick) will be executed on the configured executor and not the Scheduler
-            // thread.
-            return () -> future.cancel(true);
         }
     }
 }
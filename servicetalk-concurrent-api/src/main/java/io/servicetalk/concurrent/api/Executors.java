@@ -111,6 +111,38 @@ public final class Executors {
                 new DefaultExecutor(1, Integer.MAX_VALUE, new SynchronousQueue<>(), threadFactory));
     }
 
+    /**
+     * Creates a new {@link Executor} that runs each task on a new virtual thread.
+     * <p>
+     * Virtual threads make it cheap to run many concurrent blocking tasks, e.g. blocking HTTP or gRPC services and
+     * clients. Pass the returned {@link Executor} to the {@code executor(Executor)} method of a server or client
+     * builder to offload blocking handlers onto virtual threads. When a running task is cancelled, its virtual thread
+     * will be interrupted.
+     * <p>
+     * Virtual threads are available only starting from Java 21.
+     *
+     * @return A new {@link Executor} that runs each task on a new virtual thread.
+     * @throws UnsupportedOperationException if virtual threads are not available at runtime.
+     */
+    public static Executor newVirtualThreadExecutor() {
+        return newVirtualThreadExecutor(DefaultThreadFactory.DEFAULT_NAME_PREFIX + "-virtual-");
+    }
+
+    /**
+     * Creates a new {@link Executor} that runs each task on a new virtual thread.
+     * <p>
+     * Virtual threads are available only starting from Java 21.
+     *
+     * @param threadNamePrefix the prefix of the names of the created virtual threads, followed by a sequence number.
+     * @return A new {@link Executor} that runs each task on a new virtual thread.
+     * @throws UnsupportedOperationException if virtual threads are not available at runtime.
+     * @see #newVirtualThreadExecutor()
+     */
+    public static Executor newVirtualThreadExecutor(String threadNamePrefix) {
+        return EXECUTOR_PLUGINS.wrapExecutor(
+                new DefaultExecutor(VirtualThreads.newThreadPerTaskExecutor(threadNamePrefix), true));
+    }
+
     /**
      * Creates a new {@link Executor} from the provided {@code jdkExecutor}. <p>
      * Delayed task execution will be delegated to a global scheduler, unless passed
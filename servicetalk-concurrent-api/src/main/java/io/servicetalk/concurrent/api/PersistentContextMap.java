@@ -0,0 +1,571 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.concurrent.api;
+
+import io.servicetalk.concurrent.internal.ContextMapUtils;
+import io.servicetalk.context.api.ContextMap;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+import static java.lang.Integer.bitCount;
+import static java.lang.System.arraycopy;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link ContextMap} backed by a persistent hash array mapped trie.
+ * <p>
+ * Unlike {@link CopyOnWriteContextMap}, which copies all entries on every modification, modifications copy only the
+ * path from the root to the modified entry ({@code O(log32 n)}) and share the rest of the trie. {@link #copy()} is
+ * {@code O(1)} regardless of the number of entries, which makes it a better fit for contexts with many entries.
+ */
+final class PersistentContextMap implements ContextMap, Scope, CapturedContext {
+    private static final AtomicReferenceFieldUpdater<PersistentContextMap, Node> rootUpdater =
+            AtomicReferenceFieldUpdater.newUpdater(PersistentContextMap.class, Node.class, "root");
+    private static final Object NOT_FOUND = new Object();
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private volatile Node root;
+
+    PersistentContextMap() {
+        this(BitmapNode.EMPTY);
+    }
+
+    private PersistentContextMap(Node root) {
+        this.root = root;
+    }
+
+    @Override
+    public int size() {
+        return root.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root.size == 0;
+    }
+
+    @Override
+    public boolean containsKey(final Key<?> key) {
+        return root.find(key, hash(key), 0) != NOT_FOUND;
+    }
+
+    @Override
+    public boolean containsValue(@Nullable final Object value) {
+        return root.forEach((k, v) -> !Objects.equals(value, v)) != null;
+    }
+
+    @Override
+    public <T> boolean contains(final Key<T> key, @Nullable final T value) {
+        final Object current = root.find(key, hash(key), 0);
+        return current != NOT_FOUND && Objects.equals(current, value);
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Key<T> key) {
+        final Object value = root.find(key, hash(key), 0);
+        return value == NOT_FOUND ? null : (T) value;
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getOrDefault(final Key<T> key, final T defaultValue) {
+        final Object value = root.find(key, hash(key), 0);
+        return value == NOT_FOUND ? defaultValue : (T) value;
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T put(final Key<T> key, @Nullable final T value) {
+        final int hash = hash(key);
+        for (;;) {
+            final Node root = this.root;
+            final Node newRoot = root.put(key, hash, 0, value);
+            if (newRoot == root) {
+                return value;
+            }
+            if (rootUpdater.compareAndSet(this, root, newRoot)) {
+                // Nodes are immutable, lookup the previous value only if there was one.
+                return newRoot.size != root.size ? null : (T) root.find(key, hash, 0);
+            }
+        }
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T putIfAbsent(final Key<T> key, @Nullable final T value) {
+        final int hash = hash(key);
+        for (;;) {
+            final Node root = this.root;
+            final Object prev = root.find(key, hash, 0);
+            if (prev != NOT_FOUND && prev != null) {
+                return (T) prev;
+            }
+            if (rootUpdater.compareAndSet(this, root, root.put(key, hash, 0, value))) {
+                return null;
+            }
+        }
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T computeIfAbsent(final Key<T> key, final Function<Key<T>, T> computeFunction) {
+        requireNonNull(computeFunction);
+        final int hash = hash(key);
+        for (;;) {
+            final Node root = this.root;
+            final Object prev = root.find(key, hash, 0);
+            if (prev != NOT_FOUND && prev != null) {
+                return (T) prev;
+            }
+            final T value = computeFunction.apply(key);
+            if (value == null || rootUpdater.compareAndSet(this, root, root.put(key, hash, 0, value))) {
+                return value;
+            }
+        }
+    }
+
+    @Override
+    public void putAll(final ContextMap map) {
+        if (map.isEmpty()) {
+            return;
+        }
+        final Node[] newRoot = new Node[1];
+        for (;;) {
+            final Node root = this.root;
+            newRoot[0] = root;
+            map.forEach((key, value) -> {
+                newRoot[0] = newRoot[0].put(key, hash(key), 0, value);
+                return true;
+            });
+            if (rootUpdater.compareAndSet(this, root, newRoot[0])) {
+                break;
+            }
+        }
+    }
+
+    @Override
+    public void putAll(final Map<Key<?>, Object> map) {
+        if (map.isEmpty()) {
+            return;
+        }
+        // Validate all entries first to add all or nothing.
+        map.forEach(ContextMapUtils::ensureType);
+        final Node[] newRoot = new Node[1];
+        for (;;) {
+            final Node root = this.root;
+            newRoot[0] = root;
+            map.forEach((key, value) -> newRoot[0] = newRoot[0].put(key, hash(key), 0, value));
+            if (rootUpdater.compareAndSet(this, root, newRoot[0])) {
+                break;
+            }
+        }
+    }
+
+    @Nullable
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T remove(final Key<T> key) {
+        final int hash = hash(key);
+        for (;;) {
+            final Node root = this.root;
+            final Object prev = root.find(key, hash, 0);
+            if (prev == NOT_FOUND) {
+                return null;
+            }
+            if (rootUpdater.compareAndSet(this, root, root.remove(key, hash, 0))) {
+                return (T) prev;
+            }
+        }
+    }
+
+    @Override
+    public boolean removeAll(final Iterable<Key<?>> keys) {
+        for (;;) {
+            final Node root = this.root;
+            Node newRoot = root;
+            for (Key<?> key : keys) {
+                newRoot = newRoot.remove(key, hash(key), 0);
+            }
+            if (newRoot == root) {
+                return false;
+            }
+            if (rootUpdater.compareAndSet(this, root, newRoot)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        root = BitmapNode.EMPTY;
+    }
+
+    @Nullable
+    @Override
+    public Key<?> forEach(final BiPredicate<Key<?>, Object> consumer) {
+        return root.forEach(consumer);
+    }
+
+    @Override
+    public ContextMap copy() {
+        return new PersistentContextMap(root);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ContextMap)) {
+            return false;
+        }
+        if (o instanceof PersistentContextMap && root == ((PersistentContextMap) o).root) {
+            return true;
+        }
+        return ContextMapUtils.equals(this, (ContextMap) o);
+    }
+
+    @Override
+    public int hashCode() {
+        final int[] hashCode = new int[1];
+        root.forEach((key, value) -> {
+            hashCode[0] += key.hashCode() ^ Objects.hashCode(value);
+            return true;
+        });
+        return hashCode[0];
+    }
+
+    @Override
+    public String toString() {
+        return ContextMapUtils.toString(this);
+    }
+
+    // CapturedContext methods
+
+    @Override
+    public ContextMap captured() {
+        return this;
+    }
+
+    @Override
+    public Scope attachContext() {
+        return AsyncContext.provider().attachContextMap(this);
+    }
+
+    // Scope method, see CopyOnWriteContextMap#close()
+
+    @Override
+    public void close() {
+        AsyncContext.provider().setContextMap(this);
+    }
+
+    private static int hash(final Key<?> key) {
+        // Key uses identity hash codes, spread the bits which are used at the top of the trie.
+        final int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private abstract static class Node {
+        final int size;
+
+        Node(final int size) {
+            this.size = size;
+        }
+
+        /**
+         * Find the value associated with the {@code key}.
+         *
+         * @return the value or {@link #NOT_FOUND}.
+         */
+        @Nullable
+        abstract Object find(Key<?> key, int hash, int shift);
+
+        /**
+         * Associate the {@code key} with the {@code value}.
+         *
+         * @return a new {@link Node}, or {@code this} if the {@code key} is already associated with {@code value}.
+         */
+        abstract Node put(Key<?> key, int hash, int shift, @Nullable Object value);
+
+        /**
+         * Remove the {@code key}.
+         *
+         * @return a new {@link Node}, or {@code this} if the {@code key} is not present.
+         */
+        abstract Node remove(Key<?> key, int hash, int shift);
+
+        @Nullable
+        abstract Key<?> forEach(BiPredicate<Key<?>, Object> consumer);
+
+        /**
+         * Get the key of a {@link Node} with {@link #size} equal to {@code 1}.
+         */
+        abstract Key<?> singleKey();
+
+        /**
+         * Get the value of a {@link Node} with {@link #size} equal to {@code 1}.
+         */
+        @Nullable
+        abstract Object singleValue();
+    }
+
+    /**
+     * Node with up to 32 slots indexed by {@link #BITS} bits of the hash at a given shift. Only occupied slots are
+     * stored, in pairs in {@link #array}: either a key and its value, or {@code null} and a child {@link Node}.
+     */
+    private static final class BitmapNode extends Node {
+        static final BitmapNode EMPTY = new BitmapNode(0, 0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] array;
+
+        BitmapNode(final int size, final int bitmap, final Object[] array) {
+            super(size);
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        @Nullable
+        @Override
+        Object find(final Key<?> key, final int hash, final int shift) {
+            final int bit = 1 << ((hash >>> shift) & MASK);
+            if ((bitmap & bit) == 0) {
+                return NOT_FOUND;
+            }
+            final int i = index(bit) << 1;
+            final Object keyOrNull = array[i];
+            if (keyOrNull == null) {
+                return ((Node) array[i + 1]).find(key, hash, shift + BITS);
+            }
+            return keyOrNull == key ? array[i + 1] : NOT_FOUND;
+        }
+
+        @Override
+        Node put(final Key<?> key, final int hash, final int shift, @Nullable final Object value) {
+            final int bit = 1 << ((hash >>> shift) & MASK);
+            final int i = index(bit) << 1;
+            if ((bitmap & bit) == 0) {
+                final Object[] newArray = new Object[array.length + 2];
+                arraycopy(array, 0, newArray, 0, i);
+                newArray[i] = key;
+                newArray[i + 1] = value;
+                arraycopy(array, i, newArray, i + 2, array.length - i);
+                return new BitmapNode(size + 1, bitmap | bit, newArray);
+            }
+            final Object keyOrNull = array[i];
+            final Object valueOrNode = array[i + 1];
+            if (keyOrNull == null) {
+                final Node child = (Node) valueOrNode;
+                final Node newChild = child.put(key, hash, shift + BITS, value);
+                return newChild == child ? this :
+                        new BitmapNode(size + newChild.size - child.size, bitmap, replace(i + 1, newChild));
+            }
+            if (keyOrNull == key) {
+                return valueOrNode == value ? this : new BitmapNode(size, bitmap, replace(i + 1, value));
+            }
+            final Object[] newArray = array.clone();
+            newArray[i] = null;
+            newArray[i + 1] = newNode(shift + BITS, (Key<?>) keyOrNull, valueOrNode, key, hash, value);
+            return new BitmapNode(size + 1, bitmap, newArray);
+        }
+
+        @Override
+        Node remove(final Key<?> key, final int hash, final int shift) {
+            final int bit = 1 << ((hash >>> shift) & MASK);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            final int i = index(bit) << 1;
+            final Object keyOrNull = array[i];
+            if (keyOrNull == null) {
+                final Node child = (Node) array[i + 1];
+                final Node newChild = child.remove(key, hash, shift + BITS);
+                if (newChild == child) {
+                    return this;
+                }
+                if (newChild.size == 1) {
+                    // Inline the remaining entry to keep the trie as shallow as possible.
+                    final Object[] newArray = array.clone();
+                    newArray[i] = newChild.singleKey();
+                    newArray[i + 1] = newChild.singleValue();
+                    return new BitmapNode(size - 1, bitmap, newArray);
+                }
+                return new BitmapNode(size - 1, bitmap, replace(i + 1, newChild));
+            }
+            if (keyOrNull != key) {
+                return this;
+            }
+            if (bitmap == bit) {
+                return EMPTY;
+            }
+            final Object[] newArray = new Object[array.length - 2];
+            arraycopy(array, 0, newArray, 0, i);
+            arraycopy(array, i + 2, newArray, i, array.length - i - 2);
+            return new BitmapNode(size - 1, bitmap ^ bit, newArray);
+        }
+
+        @Nullable
+        @Override
+        Key<?> forEach(final BiPredicate<Key<?>, Object> consumer) {
+            for (int i = 0; i < array.length; i += 2) {
+                final Object keyOrNull = array[i];
+                if (keyOrNull == null) {
+                    final Key<?> stoppedAt = ((Node) array[i + 1]).forEach(consumer);
+                    if (stoppedAt != null) {
+                        return stoppedAt;
+                    }
+                } else if (!consumer.test((Key<?>) keyOrNull, array[i + 1])) {
+                    return (Key<?>) keyOrNull;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        Key<?> singleKey() {
+            assert size == 1 && array[0] != null;
+            return (Key<?>) array[0];
+        }
+
+        @Nullable
+        @Override
+        Object singleValue() {
+            assert size == 1;
+            return array[1];
+        }
+
+        private int index(final int bit) {
+            return bitCount(bitmap & (bit - 1));
+        }
+
+        private Object[] replace(final int i, @Nullable final Object value) {
+            final Object[] newArray = array.clone();
+            newArray[i] = value;
+            return newArray;
+        }
+
+        private static Node newNode(final int shift, final Key<?> key1, @Nullable final Object value1,
+                                    final Key<?> key2, final int hash2, @Nullable final Object value2) {
+            final int hash1 = hash(key1);
+            if (hash1 == hash2) {
+                return new CollisionNode(hash1, new Object[] {key1, value1, key2, value2});
+            }
+            // Different hashes always diverge within the 32 bits covered by shifts up to 30.
+            return EMPTY.put(key1, hash1, shift, value1).put(key2, hash2, shift, value2);
+        }
+    }
+
+    /**
+     * Node for keys with the same hash, stored in pairs in {@link #array}.
+     */
+    private static final class CollisionNode extends Node {
+        private final int hash;
+        private final Object[] array;
+
+        CollisionNode(final int hash, final Object[] array) {
+            super(array.length >>> 1);
+            this.hash = hash;
+            this.array = array;
+        }
+
+        @Nullable
+        @Override
+        Object find(final Key<?> key, final int hash, final int shift) {
+            final int i = indexOf(key);
+            return i < 0 ? NOT_FOUND : array[i + 1];
+        }
+
+        @Override
+        Node put(final Key<?> key, final int hash, final int shift, @Nullable final Object value) {
+            if (hash != this.hash) {
+                // Push this node down one level, where it diverges from the new key.
+                return new BitmapNode(size, 1 << ((this.hash >>> shift) & MASK), new Object[] {null, this})
+                        .put(key, hash, shift, value);
+            }
+            final int i = indexOf(key);
+            if (i >= 0) {
+                if (array[i + 1] == value) {
+                    return this;
+                }
+                final Object[] newArray = array.clone();
+                newArray[i + 1] = value;
+                return new CollisionNode(hash, newArray);
+            }
+            final Object[] newArray = new Object[array.length + 2];
+            arraycopy(array, 0, newArray, 0, array.length);
+            newArray[array.length] = key;
+            newArray[array.length + 1] = value;
+            return new CollisionNode(hash, newArray);
+        }
+
+        @Override
+        Node remove(final Key<?> key, final int hash, final int shift) {
+            final int i = indexOf(key);
+            if (i < 0) {
+                return this;
+            }
+            final Object[] newArray = new Object[array.length - 2];
+            arraycopy(array, 0, newArray, 0, i);
+            arraycopy(array, i + 2, newArray, i, array.length - i - 2);
+            return new CollisionNode(hash, newArray);
+        }
+
+        @Nullable
+        @Override
+        Key<?> forEach(final BiPredicate<Key<?>, Object> consumer) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (!consumer.test((Key<?>) array[i], array[i + 1])) {
+                    return (Key<?>) array[i];
+                }
+            }
+            return null;
+        }
+
+        @Override
+        Key<?> singleKey() {
+            assert size == 1;
+            return (Key<?>) array[0];
+        }
+
+        @Nullable
+        @Override
+        Object singleValue() {
+            assert size == 1;
+            return array[1];
+        }
+
+        private int indexOf(final Key<?> key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (array[i] == key) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.concurrent.api;
+
+import io.servicetalk.context.api.ContextMap;
+import io.servicetalk.context.api.ContextMapHolder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ThreadFactory;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.utils.internal.ThrowableUtils.throwException;
+import static java.lang.Boolean.getBoolean;
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * {@link AsyncContextStorage} which keeps the {@link ContextMap} in a holder bound to a {@code ScopedValue}, which is
+ * available only starting from Java 21, without requiring Java 21 to build.
+ * <p>
+ * Virtual threads started by ServiceTalk for virtual thread executors (see {@link #wrap(ThreadFactory)}) bind a holder
+ * for their whole lifetime, which makes them behave like {@link ContextMapHolder} threads and avoids populating a
+ * {@link ThreadLocal} map for every short lived virtual thread. All other threads, including threads which inherited a
+ * binding from their parent (e.g. forks of a structured task scope), fall back to
+ * {@link ThreadLocalAsyncContextStorage}. Platform threads never look up the {@code ScopedValue}.
+ */
+final class ScopedValueAsyncContextStorage implements AsyncContextStorage {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScopedValueAsyncContextStorage.class);
+
+    /**
+     * Opt-in because {@code ScopedValue} is a preview API in some of the Java versions which provide it.
+     */
+    static final String ENABLE_PROPERTY_NAME = "io.servicetalk.concurrent.api.asyncContext.useScopedValue";
+
+    private static final boolean ENABLED;
+
+    static final ScopedValueAsyncContextStorage INSTANCE = new ScopedValueAsyncContextStorage();
+
+    private static final Holder UNBOUND = new Holder(null);
+
+    @Nullable
+    private static final Object SCOPED_VALUE;
+    @Nullable
+    private static final MethodHandle WHERE;
+    @Nullable
+    private static final MethodHandle RUN;
+    @Nullable
+    private static final MethodHandle OR_ELSE;
+    @Nullable
+    private static final MethodHandle IS_VIRTUAL;
+
+    static {
+        Object scopedValue;
+        MethodHandle where;
+        MethodHandle run;
+        MethodHandle orElse;
+        MethodHandle isVirtual;
+        try {
+            final Class<?> scopedValueClass = Class.forName("java.lang.ScopedValue");
+            final Class<?> carrierClass = Class.forName("java.lang.ScopedValue$Carrier");
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            scopedValue = lookup.findStatic(scopedValueClass, "newInstance", methodType(scopedValueClass)).invoke();
+            where = lookup.findStatic(scopedValueClass, "where",
+                            methodType(carrierClass, scopedValueClass, Object.class))
+                    .asType(methodType(Object.class, Object.class, Object.class));
+            run = lookup.findVirtual(carrierClass, "run", methodType(void.class, Runnable.class))
+                    .asType(methodType(void.class, Object.class, Runnable.class));
+            orElse = lookup.findVirtual(scopedValueClass, "orElse", methodType(Object.class, Object.class))
+                    .asType(methodType(Object.class, Object.class, Object.class));
+            isVirtual = lookup.findVirtual(Thread.class, "isVirtual", methodType(boolean.class));
+            // Verify ScopedValue is usable, it may be a disabled preview feature:
+            final Holder holder = new Holder(Thread.currentThread());
+            final Object verifyScopedValue = scopedValue;
+            final MethodHandle verifyOrElse = orElse;
+            run.invokeExact(where.invokeExact(scopedValue, (Object) holder), (Runnable) () -> {
+                try {
+                    if (verifyOrElse.invokeExact(verifyScopedValue, (Object) UNBOUND) != holder) {
+                        throw new IllegalStateException("ScopedValue binding is not visible");
+                    }
+                } catch (Throwable t) {
+                    throwException(t);
+                }
+            });
+        } catch (Throwable cause) {
+            LOGGER.debug("ScopedValue is available only starting from Java 21. Detected Java version: {}",
+                    System.getProperty("java.version"), cause);
+            scopedValue = null;
+            where = null;
+            run = null;
+            orElse = null;
+            isVirtual = null;
+        }
+        SCOPED_VALUE = scopedValue;
+        WHERE = where;
+        RUN = run;
+        OR_ELSE = orElse;
+        IS_VIRTUAL = isVirtual;
+
+        final boolean enable = getBoolean(ENABLE_PROPERTY_NAME);
+        if (enable && scopedValue == null) {
+            LOGGER.warn("-D{}=true is ignored, ScopedValue is available only starting from Java 21. " +
+                    "Detected Java version: {}", ENABLE_PROPERTY_NAME, System.getProperty("java.version"));
+        }
+        ENABLED = enable && scopedValue != null;
+        if (ENABLED) {
+            LOGGER.debug("Using ScopedValue to store AsyncContext for virtual threads.");
+        }
+    }
+
+    private ScopedValueAsyncContextStorage() {
+    }
+
+    /**
+     * Determines if {@code ScopedValue} is available at runtime.
+     *
+     * @return {@code true} if {@code ScopedValue} is available at runtime.
+     */
+    static boolean isSupported() {
+        return SCOPED_VALUE != null;
+    }
+
+    /**
+     * Determines if this storage was enabled and {@code ScopedValue} is available at runtime.
+     *
+     * @return {@code true} if this storage was enabled and {@code ScopedValue} is available at runtime.
+     */
+    static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Wraps a {@link ThreadFactory} such that each created virtual thread binds its own holder of the
+     * {@link ContextMap} for its whole lifetime. Platform threads are left unchanged.
+     *
+     * @param threadFactory the {@link ThreadFactory} to wrap.
+     * @return the wrapped {@link ThreadFactory}.
+     * @throws UnsupportedOperationException if {@code ScopedValue} is not available at runtime.
+     */
+    static ThreadFactory wrap(final ThreadFactory threadFactory) {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("ScopedValue is available only starting from Java 21, " +
+                    "detected Java version: " + System.getProperty("java.version"));
+        }
+        return task -> threadFactory.newThread(() -> {
+            assert WHERE != null && RUN != null;
+            if (!isVirtual(Thread.currentThread())) {
+                task.run();
+                return;
+            }
+            try {
+                RUN.invokeExact(WHERE.invokeExact(SCOPED_VALUE, (Object) new Holder(Thread.currentThread())), task);
+            } catch (Throwable t) {
+                throwException(t);
+            }
+        });
+    }
+
+    @Override
+    public ContextMap get() {
+        final Holder holder = boundHolder();
+        if (holder == null) {
+            return ThreadLocalAsyncContextStorage.INSTANCE.get();
+        }
+        ContextMap map = holder.contextMap;
+        if (map == null) {
+            map = DefaultAsyncContextProvider.newContextMap();
+            holder.contextMap = map;
+        }
+        return map;
+    }
+
+    @Override
+    public void set(final ContextMap contextMap) {
+        final Holder holder = boundHolder();
+        if (holder == null) {
+            ThreadLocalAsyncContextStorage.INSTANCE.set(contextMap);
+        } else {
+            holder.contextMap = contextMap;
+        }
+    }
+
+    @Override
+    public ContextMap exchange(final ContextMap contextMap) {
+        final Holder holder = boundHolder();
+        if (holder == null) {
+            return ThreadLocalAsyncContextStorage.INSTANCE.exchange(contextMap);
+        }
+        ContextMap result = holder.contextMap;
+        if (result == null) {
+            result = DefaultAsyncContextProvider.newContextMap();
+        }
+        holder.contextMap = contextMap;
+        return result;
+    }
+
+    @Nullable
+    private static Holder boundHolder() {
+        final Thread currentThread = Thread.currentThread();
+        // Only virtual threads bind a holder, skip the lookup of the ScopedValue for platform threads.
+        if (OR_ELSE == null || !isVirtual(currentThread)) {
+            return null;
+        }
+        final Holder holder;
+        try {
+            holder = (Holder) (Object) OR_ELSE.invokeExact(SCOPED_VALUE, (Object) UNBOUND);
+        } catch (Throwable t) {
+            return throwException(t);
+        }
+        // Bindings are inherited by child threads of a structured task scope, the holder is mutable and therefore
+        // must not be shared across threads.
+        return holder.owner == currentThread ? holder : null;
+    }
+
+    private static boolean isVirtual(final Thread thread) {
+        assert IS_VIRTUAL != null;
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(thread);
+        } catch (Throwable t) {
+            return throwException(t);
+        }
+    }
+
+    private static final class Holder {
+        @Nullable
+        private final Thread owner;
+        @Nullable
+        private ContextMap contextMap;
+
+        Holder(@Nullable final Thread owner) {
+            this.owner = owner;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.concurrent.api;
+
+import io.servicetalk.context.api.ContextMap;
+import io.servicetalk.context.api.ContextMapHolder;
+
+import static java.lang.ThreadLocal.withInitial;
+
+/**
+ * {@link AsyncContextStorage} which uses {@link ContextMapHolder} threads, and falls back to a {@link ThreadLocal}
+ * for other threads.
+ */
+final class ThreadLocalAsyncContextStorage implements AsyncContextStorage {
+
+    static final ThreadLocalAsyncContextStorage INSTANCE = new ThreadLocalAsyncContextStorage();
+
+    private static final ThreadLocal<ContextMap> CONTEXT_THREAD_LOCAL =
+            withInitial(DefaultAsyncContextProvider::newContextMap);
+
+    private ThreadLocalAsyncContextStorage() {
+    }
+
+    @Override
+    public ContextMap get() {
+        final Thread t = Thread.currentThread();
+        if (t instanceof ContextMapHolder) {
+            final ContextMapHolder contextMapHolder = (ContextMapHolder) t;
+            ContextMap map = contextMapHolder.context();
+            if (map == null) {
+                map = DefaultAsyncContextProvider.newContextMap();
+                contextMapHolder.context(map);
+            }
+            return map;
+        } else {
+            return CONTEXT_THREAD_LOCAL.get();
+        }
+    }
+
+    @Override
+    public void set(final ContextMap contextMap) {
+        final Thread currentThread = Thread.currentThread();
+        if (currentThread instanceof ContextMapHolder) {
+            final ContextMapHolder asyncContextMapHolder = (ContextMapHolder) currentThread;
+            asyncContextMapHolder.context(contextMap);
+        } else {
+            // Unconditional, a lookup to skip an unchanged value would cost a second ThreadLocalMap access in the
+            // common case and allocate the initial value on threads which don't have one yet.
+            CONTEXT_THREAD_LOCAL.set(contextMap);
+        }
+    }
+
+    @Override
+    public ContextMap exchange(final ContextMap contextMap) {
+        final Thread currentThread = Thread.currentThread();
+        ContextMap result;
+        if (currentThread instanceof ContextMapHolder) {
+            final ContextMapHolder asyncContextMapHolder = (ContextMapHolder) currentThread;
+            result = asyncContextMapHolder.context();
+            if (result == null) {
+                result = DefaultAsyncContextProvider.newContextMap();
+            }
+            asyncContextMapHolder.context(contextMap);
+        } else {
+            result = CONTEXT_THREAD_LOCAL.get();
+            // The lookup is needed for the result anyway, re-attaching the current context skips the update.
+            if (result != contextMap) {
+                CONTEXT_THREAD_LOCAL.set(contextMap);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.concurrent.api;
+
+import io.servicetalk.concurrent.Cancellable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.utils.internal.PlatformDependent.newUnboundedMpscQueue;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.atomic.AtomicIntegerFieldUpdater.newUpdater;
+
+/**
+ * A hashed hierarchical timing wheel which runs scheduled tasks on a single thread.
+ * <p>
+ * Scheduling and cancelling a task is {@code O(1)} and does not take a lock: new and cancelled tasks are handed over to
+ * the wheel thread via MPSC queues. A cancelled task is released immediately and its entry is unlinked from the wheel
+ * the next time the wheel thread wakes up, long before its deadline. This makes it suitable for timeouts, which are
+ * armed for most operations but almost always cancelled.
+ * <p>
+ * The wheel thread does not wake up on every tick. It parks until the next tick which has tasks to run or cascade,
+ * but at most for {@link #MAX_PARK_NANOS} so that the handover queues are drained regularly, and not at all while the
+ * wheel is empty. Scheduling a task which is due before the wheel thread wakes up unparks it.
+ * <p>
+ * Time is divided into ticks of a fixed duration. Each level of the wheel has {@value #SLOTS} slots, a slot on level
+ * {@code L} covers {@code SLOTS^L} ticks. A task is placed on the lowest level where its deadline and the current tick
+ * differ only in the bits of that level, and is moved to lower levels (cascaded) when the wheel reaches its slot. Tasks
+ * never run before their delay elapsed, but may run up to one tick later.
+ * <p>
+ * Tasks run on the wheel thread and must not block. Callers are expected to offload user code.
+ */
+final class TimingWheelScheduler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimingWheelScheduler.class);
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    /**
+     * With 1ms ticks, 7 levels of 64 slots cover more than 100 years. Longer delays are capped.
+     */
+    private static final int LEVELS = 7;
+    private static final long MAX_DELAY_TICKS = (1L << (SLOT_BITS * LEVELS)) - 1;
+    private static final long MAX_PARK_NANOS = MILLISECONDS.toNanos(100);
+    /**
+     * Value of {@link #wakeupTick} while the wheel thread is running.
+     */
+    private static final long RUNNING = Long.MIN_VALUE;
+    /**
+     * Value of {@link #wakeupTick} while the wheel thread is parked until a task is scheduled.
+     */
+    private static final long IDLE = Long.MAX_VALUE;
+    private static final AtomicLongFieldUpdater<TimingWheelScheduler> wakeupsUpdater =
+            AtomicLongFieldUpdater.newUpdater(TimingWheelScheduler.class, "wakeups");
+
+    private static final int STATE_INIT = 0;
+    private static final int STATE_CANCELLED = 1;
+    private static final int STATE_EXPIRED = 2;
+
+    private final long tickNanos;
+    private final long maxParkTicks;
+    private final long startNanos;
+    private final Queue<Timeout> newTimeouts = newUnboundedMpscQueue();
+    private final Queue<Timeout> cancelledTimeouts = newUnboundedMpscQueue();
+    private final Thread workerThread;
+    /**
+     * Slots of all levels, the slot {@code s} of level {@code L} is at index {@code L * SLOTS + s}.
+     */
+    private final Timeout[] slots = new Timeout[LEVELS * SLOTS];
+    // The following state is only accessed from the worker thread.
+    private long currentTick;
+    private long scheduledTimeouts;
+    /**
+     * The tick until which the wheel thread is parked, tasks which are due earlier have to unpark it.
+     */
+    private volatile long wakeupTick = RUNNING;
+    private volatile long wakeups;
+    private volatile boolean closed;
+
+    /**
+     * Creates a new instance and starts its thread.
+     *
+     * @param threadFactory {@link ThreadFactory} which creates the wheel thread.
+     * @param tickDuration the duration of a tick, which bounds how late a task can run.
+     * @param unit the {@link TimeUnit} of {@code tickDuration}.
+     */
+    TimingWheelScheduler(final ThreadFactory threadFactory, final long tickDuration, final TimeUnit unit) {
+        tickNanos = unit.toNanos(tickDuration);
+        if (tickNanos <= 0) {
+            throw new IllegalArgumentException("tickDuration: " + tickDuration + ' ' + unit + " (expected > 0ns)");
+        }
+        maxParkTicks = max(1, MAX_PARK_NANOS / tickNanos);
+        startNanos = nanoTime();
+        workerThread = threadFactory.newThread(this::run);
+        workerThread.start();
+    }
+
+    /**
+     * Schedules the {@code task} to run on the wheel thread after the {@code delay}.
+     *
+     * @param task the task to run, must not block.
+     * @param delay the delay after which the task runs.
+     * @param unit the {@link TimeUnit} of {@code delay}.
+     * @return {@link Cancellable} which cancels the task.
+     */
+    Cancellable schedule(final Runnable task, final long delay, final TimeUnit unit) {
+        if (closed) {
+            throw new IllegalStateException("Scheduler " + this + " is closed");
+        }
+        final long delayNanos = max(0, unit.toNanos(delay));
+        final long elapsedNanos = nanoTime() - startNanos;
+        final long deadlineTick = delayNanos / tickNanos >= MAX_DELAY_TICKS ?
+                elapsedNanos / tickNanos + MAX_DELAY_TICKS :
+                // Round up, so that tasks never run before their delay elapsed:
+                (elapsedNanos + delayNanos + tickNanos - 1) / tickNanos;
+        final Timeout timeout = new Timeout(this, task, deadlineTick);
+        newTimeouts.add(timeout);
+        if (deadlineTick < wakeupTick) {
+            LockSupport.unpark(workerThread);
+        }
+        return timeout;
+    }
+
+    /**
+     * Stops the wheel thread. Tasks which did not run yet will never run.
+     */
+    void close() {
+        closed = true;
+        LockSupport.unpark(workerThread);
+    }
+
+    /**
+     * Returns how many times the wheel thread woke up to process ticks, for testing.
+     *
+     * @return how many times the wheel thread woke up to process ticks.
+     */
+    long wakeups() {
+        return wakeups;
+    }
+
+    @Override
+    public String toString() {
+        return TimingWheelScheduler.class.getSimpleName() + "{thread=" + workerThread.getName() +
+                ", tickNanos=" + tickNanos + '}';
+    }
+
+    private void run() {
+        while (!closed) {
+            // Only this thread writes wakeups, an ordered store avoids an atomic read-modify-write per wakeup.
+            wakeupsUpdater.lazySet(this, wakeups + 1);
+            final long targetTick = (nanoTime() - startNanos) / tickNanos;
+            if (scheduledTimeouts == 0) {
+                // Nothing is in the wheel, skip the empty ticks:
+                currentTick = max(currentTick, targetTick);
+            }
+            drainQueues();
+            while (currentTick < targetTick) {
+                expire(++currentTick);
+            }
+            drainQueues();
+            if (scheduledTimeouts == 0) {
+                wakeupTick = IDLE;
+                // Publishing wakeupTick before checking the queue pairs with schedule(), which adds to the queue
+                // before reading wakeupTick, so a new timeout is either seen here or unparks this thread.
+                if (newTimeouts.isEmpty() && !closed) {
+                    LockSupport.park(this);
+                }
+            } else {
+                final long tick = min(nextOccupiedTick(), currentTick + maxParkTicks);
+                wakeupTick = tick;
+                if (newTimeouts.isEmpty() && !closed) {
+                    LockSupport.parkNanos(this, tick * tickNanos - (nanoTime() - startNanos));
+                }
+            }
+            wakeupTick = RUNNING;
+        }
+    }
+
+    /**
+     * Finds the next tick after {@link #currentTick} for which {@link #expire(long)} has timeouts to run or cascade.
+     * <p>
+     * Level {@code L} is only visited on ticks which are multiples of {@code SLOTS^L}, and its slots before and at the
+     * current tick are empty. Therefore, each level only needs to be scanned until the end of its current rotation,
+     * the end itself is the first tick the next level visits.
+     *
+     * @return the next tick with work, or {@link Long#MAX_VALUE} if the wheel is empty.
+     */
+    private long nextOccupiedTick() {
+        for (int level = 0; level < LEVELS; ++level) {
+            final int shift = SLOT_BITS * level;
+            final long rotationEnd = ((currentTick >>> (shift + SLOT_BITS)) + 1) << (shift + SLOT_BITS);
+            for (long tick = ((currentTick >>> shift) + 1) << shift; tick < rotationEnd; tick += 1L << shift) {
+                if (slots[level * SLOTS + (int) ((tick >>> shift) & SLOT_MASK)] != null) {
+                    return tick;
+                }
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private void drainQueues() {
+        Timeout timeout;
+        while ((timeout = newTimeouts.poll()) != null) {
+            if (timeout.state == STATE_INIT) {
+                ++scheduledTimeouts;
+                // A timeout which is already due runs on the next tick:
+                place(timeout, max(timeout.deadlineTick, currentTick + 1));
+            }
+        }
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.linked) {
+                unlink(timeout);
+            }
+        }
+    }
+
+    private void expire(final long tick) {
+        // Cascade timeouts of higher levels whose slot is reached, they will be placed on lower levels:
+        for (int level = LEVELS - 1; level > 0; --level) {
+            final int shift = SLOT_BITS * level;
+            if ((tick & ((1L << shift) - 1)) == 0) {
+                Timeout timeout = takeSlot(level * SLOTS + (int) ((tick >>> shift) & SLOT_MASK));
+                while (timeout != null) {
+                    final Timeout next = timeout.next;
+                    timeout.next = null;
+                    if (timeout.state == STATE_INIT) {
+                        place(timeout, timeout.deadlineTick);
+                    } else {
+                        --scheduledTimeouts;
+                    }
+                    timeout = next;
+                }
+            }
+        }
+        Timeout timeout = takeSlot((int) (tick & SLOT_MASK));
+        while (timeout != null) {
+            final Timeout next = timeout.next;
+            timeout.next = null;
+            --scheduledTimeouts;
+            timeout.expire();
+            timeout = next;
+        }
+    }
+
+    private void place(final Timeout timeout, final long deadline) {
+        assert deadline >= currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && (deadline >>> (SLOT_BITS * (level + 1))) !=
+                (currentTick >>> (SLOT_BITS * (level + 1)))) {
+            ++level;
+        }
+        final int index = level * SLOTS + (int) ((deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+        final Timeout head = slots[index];
+        timeout.slot = index;
+        timeout.prev = null;
+        timeout.next = head;
+        timeout.linked = true;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        slots[index] = timeout;
+    }
+
+    @Nullable
+    private Timeout takeSlot(final int index) {
+        Timeout timeout = slots[index];
+        slots[index] = null;
+        for (Timeout t = timeout; t != null; t = t.next) {
+            t.prev = null;
+            t.linked = false;
+        }
+        return timeout;
+    }
+
+    private void unlink(final Timeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            slots[timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.linked = false;
+        --scheduledTimeouts;
+    }
+
+    private static final class Timeout implements Cancellable {
+        private static final AtomicIntegerFieldUpdater<Timeout> stateUpdater = newUpdater(Timeout.class, "state");
+
+        private final TimingWheelScheduler scheduler;
+        private final long deadlineTick;
+        @Nullable
+        private Runnable task;
+        private volatile int state;
+        // The following state is only accessed from the worker thread.
+        @Nullable
+        private Timeout prev;
+        @Nullable
+        private Timeout next;
+        private int slot;
+        private boolean linked;
+
+        Timeout(final TimingWheelScheduler scheduler, final Runnable task, final long deadlineTick) {
+            this.scheduler = scheduler;
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        @Override
+        public void cancel() {
+            if (stateUpdater.compareAndSet(this, STATE_INIT, STATE_CANCELLED)) {
+                task = null;
+                scheduler.cancelledTimeouts.add(this);
+            }
+        }
+
+        void expire() {
+            if (stateUpdater.compareAndSet(this, STATE_INIT, STATE_EXPIRED)) {
+                final Runnable task = this.task;
+                this.task = null;
+                assert task != null;
+                try {
+                    task.run();
+                } catch (Throwable t) {
+                    LOGGER.error("Scheduled task {} threw an exception on the scheduler thread.", task, t);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.concurrent.api;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.utils.internal.ThrowableUtils.throwException;
+import static java.lang.Boolean.getBoolean;
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Access to virtual threads, which are available only starting from Java 21, without requiring Java 21 to build.
+ */
+final class VirtualThreads {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreads.class);
+
+    @Nullable
+    private static final MethodHandle OF_VIRTUAL;
+    @Nullable
+    private static final MethodHandle NAME;
+    @Nullable
+    private static final MethodHandle FACTORY;
+    @Nullable
+    private static final MethodHandle NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        MethodHandle ofVirtual;
+        MethodHandle name;
+        MethodHandle factory;
+        MethodHandle newThreadPerTaskExecutor;
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            final Class<?> ofVirtualClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", methodType(ofVirtualClass));
+            name = lookup.findVirtual(ofVirtualClass, "name", methodType(ofVirtualClass, String.class, long.class));
+            factory = lookup.findVirtual(builderClass, "factory", methodType(ThreadFactory.class));
+            newThreadPerTaskExecutor = lookup.findStatic(java.util.concurrent.Executors.class,
+                    "newThreadPerTaskExecutor", methodType(ExecutorService.class, ThreadFactory.class));
+            // Verify virtual threads are usable, they may be a disabled preview feature:
+            newThreadFactory(ofVirtual, name, factory, "verify-");
+        } catch (Throwable cause) {
+            LOGGER.debug("Virtual threads are available only starting from Java 21. Detected Java version: {}",
+                    System.getProperty("java.version"), cause);
+            ofVirtual = null;
+            name = null;
+            factory = null;
+            newThreadPerTaskExecutor = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreads() {
+        // No instances
+    }
+
+    /**
+     * Determines if virtual threads are available at runtime.
+     *
+     * @return {@code true} if virtual threads are available at runtime.
+     */
+    static boolean isSupported() {
+        return NEW_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Creates a new {@link ExecutorService} which starts a new virtual thread for each task.
+     *
+     * @param threadNamePrefix the prefix of the names of the created virtual threads.
+     * @return a new {@link ExecutorService} which starts a new virtual thread for each task.
+     * @throws UnsupportedOperationException if virtual threads are not available at runtime.
+     */
+    static ExecutorService newThreadPerTaskExecutor(final String threadNamePrefix) {
+        if (NEW_THREAD_PER_TASK_EXECUTOR == null) {
+            throw new UnsupportedOperationException("Virtual threads are available only starting from Java 21, " +
+                    "detected Java version: " + System.getProperty("java.version"));
+        }
+        assert OF_VIRTUAL != null && NAME != null && FACTORY != null;
+        try {
+            ThreadFactory threadFactory = newThreadFactory(OF_VIRTUAL, NAME, FACTORY, threadNamePrefix);
+            if (getBoolean(ScopedValueAsyncContextStorage.ENABLE_PROPERTY_NAME) &&
+                    ScopedValueAsyncContextStorage.isEnabled()) {
+                threadFactory = ScopedValueAsyncContextStorage.wrap(threadFactory);
+            }
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(threadFactory);
+        } catch (Throwable t) {
+            return throwException(t);
+        }
+    }
+
+    private static ThreadFactory newThreadFactory(final MethodHandle ofVirtual, final MethodHandle name,
+                                                  final MethodHandle factory,
+                                                  final String threadNamePrefix) throws Throwable {
+        return (ThreadFactory) factory.invoke(name.invoke(ofVirtual.invoke(), threadNamePrefix, 0L));
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.concurrent.api;
+
+import io.servicetalk.context.api.ContextMap;
+import io.servicetalk.context.api.ContextMap.Key;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.servicetalk.context.api.ContextMap.Key.newKey;
+import static io.servicetalk.context.api.ContextMap.Key.registerKey;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CopyOnWriteContextMapTest {
+
+    private static final Key<String> SLOT_KEY1 = registerKey("slot1", String.class);
+    private static final Key<String> SLOT_KEY2 = registerKey("slot2", String.class);
+    private static final Key<String> KEY = newKey("key", String.class);
+
+    @Test
+    void slotKeys() {
+        final ContextMap map = new CopyOnWriteContextMap();
+        assertThat(map.get(SLOT_KEY1), is(nullValue()));
+        assertThat(map.put(SLOT_KEY1, "v1"), is(nullValue()));
+        assertThat(map.put(KEY, "v"), is(nullValue()));
+        assertThat(map.putIfAbsent(SLOT_KEY1, "v2"), is("v1"));
+        assertThat(map.computeIfAbsent(SLOT_KEY2, k -> "v2"), is("v2"));
+        assertThat(map.size(), is(3));
+        assertThat(map.get(SLOT_KEY1), is("v1"));
+        assertThat(map.get(SLOT_KEY2), is("v2"));
+        assertThat(map.get(KEY), is("v"));
+
+        assertThat(map.remove(SLOT_KEY1), is("v1"));
+        assertThat(map.containsKey(SLOT_KEY1), is(false));
+        assertThat(map.get(SLOT_KEY2), is("v2"));
+        assertThat(map.getOrDefault(SLOT_KEY1, "default"), is("default"));
+        assertThat(map.size(), is(2));
+
+        assertThat(map.removeAll(asList(SLOT_KEY2, KEY)), is(true));
+        assertThat(map.isEmpty(), is(true));
+    }
+
+    @Test
+    void slotKeysNullValue() {
+        final ContextMap map = new CopyOnWriteContextMap();
+        assertThat(map.put(SLOT_KEY1, null), is(nullValue()));
+        assertThat(map.containsKey(SLOT_KEY1), is(true));
+        assertThat(map.contains(SLOT_KEY1, null), is(true));
+        assertThat(map.getOrDefault(SLOT_KEY1, "default"), is(nullValue()));
+        assertThat(map.size(), is(1));
+        assertThat(map.putIfAbsent(SLOT_KEY1, "v1"), is(nullValue()));
+        assertThat(map.get(SLOT_KEY1), is("v1"));
+    }
+
+    @Test
+    void sizeTracksSlotKeys() {
+        final ContextMap map = new CopyOnWriteContextMap();
+        map.put(SLOT_KEY1, "v1");
+        map.put(SLOT_KEY1, "v1-new");
+        assertThat(map.size(), is(1));
+        final Map<Key<?>, Object> entries = new HashMap<>();
+        entries.put(SLOT_KEY1, "v1");
+        entries.put(SLOT_KEY2, "v2");
+        entries.put(KEY, "v");
+        map.putAll(entries);
+        assertThat(map.size(), is(3));
+        assertThat(map.remove(SLOT_KEY2), is("v2"));
+        assertThat(map.remove(SLOT_KEY2), is(nullValue()));
+        assertThat(map.size(), is(2));
+        map.clear();
+        assertThat(map.size(), is(0));
+        assertThat(map.isEmpty(), is(true));
+    }
+
+    @Test
+    void forEachVisitsSlotKeysFirst() {
+        final ContextMap map = new CopyOnWriteContextMap();
+        map.put(KEY, "v");
+        map.put(SLOT_KEY2, "v2");
+        map.put(SLOT_KEY1, "v1");
+        final List<Key<?>> keys = new ArrayList<>();
+        map.forEach((key, value) -> keys.add(key));
+        assertThat(keys, equalTo(asList(SLOT_KEY1, SLOT_KEY2, KEY)));
+    }
+
+    @Test
+    void copyAndEquality() {
+        final ContextMap map = new CopyOnWriteContextMap();
+        map.put(SLOT_KEY1, "v1");
+        map.put(KEY, "v");
+        final ContextMap copy = map.copy();
+        assertThat(copy, equalTo(map));
+        assertThat(copy.hashCode(), is(map.hashCode()));
+
+        copy.put(SLOT_KEY1, "v1-copy");
+        assertThat(map.get(SLOT_KEY1), is("v1"));
+        assertThat(copy, is(not(map)));
+
+        final ContextMap other = new PersistentContextMap();
+        other.put(KEY, "v");
+        other.put(SLOT_KEY1, "v1");
+        assertThat(map, equalTo(other));
+        assertThat(other, equalTo(map));
+    }
+
+    @Test
+    void putAllIsAtomicForInvalidTypes() {
+        final ContextMap map = new CopyOnWriteContextMap();
+        final Map<Key<?>, Object> entries = new HashMap<>();
+        entries.put(SLOT_KEY1, "v1");
+        entries.put(KEY, 1);
+        assertThrows(IllegalArgumentException.class, () -> map.putAll(entries));
+        assertThat(map.isEmpty(), is(true));
+
+        entries.put(KEY, "v");
+        map.putAll(entries);
+        assertThat(map.get(SLOT_KEY1), is("v1"));
+        assertThat(map.get(KEY), is("v"));
+
+        final ContextMap target = new CopyOnWriteContextMap();
+        target.put(SLOT_KEY2, "v2");
+        target.putAll(map);
+        assertThat(target.size(), is(3));
+        assertThat(target.get(SLOT_KEY1), is("v1"));
+        assertThat(target.get(SLOT_KEY2), is("v2"));
+        assertThat(target.get(KEY), is("v"));
+    }
+}
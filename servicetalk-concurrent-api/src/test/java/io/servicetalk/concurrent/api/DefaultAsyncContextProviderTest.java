@@ -62,6 +62,8 @@ import static java.util.Collections.emptyList;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -110,6 +112,20 @@ class DefaultAsyncContextProviderTest {
         });
     }
 
+    @Test
+    void attachCurrentContextRestoresItOnClose() {
+        AsyncContext.put(K1, "v1");
+        final ContextMap current = INSTANCE.context();
+        try (Scope scope = INSTANCE.attachContextMap(current)) {
+            assertThat(INSTANCE.context(), is(sameInstance(current)));
+            // A nested attach which is never closed:
+            INSTANCE.attachContextMap(current.copy());
+            assertThat(INSTANCE.context(), is(not(sameInstance(current))));
+        }
+        // Closing the outer scope restores the context despite the leaked nested attach.
+        assertThat(INSTANCE.context(), is(sameInstance(current)));
+    }
+
     @Test
     void testContextInCompletableListener() throws Exception {
         Completable completable = new Completable() {
@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.concurrent.api;
+
+import io.servicetalk.context.api.ContextMap;
+import io.servicetalk.context.api.ContextMap.Key;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static io.servicetalk.context.api.ContextMap.Key.newKey;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class PersistentContextMapTest {
+
+    private static final Key<String> K1 = newKey("k1", String.class);
+    private static final Key<String> K2 = newKey("k2", String.class);
+    private static final Key<String> K3 = newKey("k3", String.class);
+
+    @Test
+    void nullValues() {
+        final ContextMap map = new PersistentContextMap();
+        assertThat(map.put(K1, null), is(nullValue()));
+        assertThat(map.containsKey(K1), is(true));
+        assertThat(map.contains(K1, null), is(true));
+        assertThat(map.getOrDefault(K1, "default"), is(nullValue()));
+        assertThat(map.putIfAbsent(K1, "v1"), is(nullValue()));
+        assertThat(map.get(K1), is("v1"));
+        assertThat(map.putIfAbsent(K1, "v2"), is("v1"));
+        assertThat(map.computeIfAbsent(K2, k -> null), is(nullValue()));
+        assertThat(map.containsKey(K2), is(false));
+        assertThat(map.computeIfAbsent(K2, k -> "v2"), is("v2"));
+        assertThat(map.size(), is(2));
+    }
+
+    @Test
+    void copyIsIndependent() {
+        final ContextMap map = new PersistentContextMap();
+        map.put(K1, "v1");
+        map.put(K2, "v2");
+        final ContextMap copy = map.copy();
+        assertThat(copy, equalTo(map));
+        copy.put(K1, "v1-copy");
+        copy.remove(K2);
+        map.put(K3, "v3");
+        assertThat(map.get(K1), is("v1"));
+        assertThat(map.get(K2), is("v2"));
+        assertThat(copy.get(K1), is("v1-copy"));
+        assertThat(copy.containsKey(K2), is(false));
+        assertThat(copy.containsKey(K3), is(false));
+    }
+
+    @Test
+    void equalToOtherImplementations() {
+        final ContextMap map = new PersistentContextMap();
+        final ContextMap other = new CopyOnWriteContextMap();
+        for (ContextMap m : asList(map, other)) {
+            m.put(K1, "v1");
+            m.put(K2, null);
+        }
+        assertThat(map, equalTo(other));
+        assertThat(other, equalTo(map));
+        assertThat(map.hashCode(), is(other.hashCode()));
+    }
+
+    @Test
+    void hashCodeMatchesOtherImplementations() {
+        final List<Key<Integer>> keys = new ArrayList<>();
+        for (int i = 0; i < 10; ++i) {
+            keys.add(newKey("key" + i, Integer.class));
+        }
+        // Covers every size specialization of CopyOnWriteContextMap, populated in the opposite order.
+        for (int size = 0; size <= keys.size(); ++size) {
+            final ContextMap map = new PersistentContextMap();
+            final ContextMap other = new CopyOnWriteContextMap();
+            final Map<Key<?>, Object> expected = new HashMap<>();
+            for (int i = 0; i < size; ++i) {
+                map.put(keys.get(i), i % 3 == 0 ? null : i);
+                final int j = size - 1 - i;
+                other.put(keys.get(j), j % 3 == 0 ? null : j);
+                expected.put(keys.get(i), i % 3 == 0 ? null : i);
+            }
+            assertThat(map, equalTo(other));
+            assertThat(map.hashCode(), is(expected.hashCode()));
+            assertThat(other.hashCode(), is(expected.hashCode()));
+        }
+    }
+
+    @Test
+    void forEachReturnsKeyWhereStopped() {
+        final ContextMap map = new PersistentContextMap();
+        map.put(K1, "v1");
+        map.put(K2, "v2");
+        map.put(K3, "v3");
+        final Key<?> stoppedAt = map.forEach((key, value) -> !"v2".equals(value));
+        assertThat(stoppedAt, is(sameInstance(K2)));
+        assertThat(map.forEach((key, value) -> true), is(nullValue()));
+    }
+
+    @Test
+    void removeAll() {
+        final ContextMap map = new PersistentContextMap();
+        map.put(K1, "v1");
+        map.put(K2, "v2");
+        assertThat(map.removeAll(asList(K3)), is(false));
+        assertThat(map.removeAll(asList(K1, K3)), is(true));
+        assertThat(map.size(), is(1));
+        assertThat(map.containsKey(K2), is(true));
+    }
+
+    @Test
+    void randomOperationsMatchHashMap() {
+        final Random random = new Random(42);
+        final List<Key<Integer>> keys = new ArrayList<>();
+        for (int i = 0; i < 2048; ++i) {
+            keys.add(newKey("key" + i, Integer.class));
+        }
+        for (int bound : new int[] {8, 64, 2048}) {
+            final ContextMap map = new PersistentContextMap();
+            final Map<Key<?>, Object> expected = new HashMap<>();
+            for (int i = 0; i < 20_000; ++i) {
+                final Key<Integer> key = keys.get(random.nextInt(bound));
+                final Integer value = random.nextInt(8) == 0 ? null : random.nextInt(4);
+                if (random.nextInt(3) == 0) {
+                    assertThat(map.remove(key), equalTo(expected.remove(key)));
+                } else {
+                    assertThat(map.put(key, value), equalTo(expected.put(key, value)));
+                }
+                assertThat(map.size(), is(expected.size()));
+                assertThat(map.containsKey(key), is(expected.containsKey(key)));
+                assertThat(map.get(key), equalTo(expected.get(key)));
+            }
+            final Map<Key<?>, Object> actual = new HashMap<>();
+            map.forEach((key, value) -> {
+                actual.put(key, value);
+                return true;
+            });
+            assertThat(actual, equalTo(expected));
+            assertThat(map.hashCode(), is(expected.hashCode()));
+        }
+    }
+}
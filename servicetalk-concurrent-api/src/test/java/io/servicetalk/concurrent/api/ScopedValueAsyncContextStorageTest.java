@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.concurrent.api;
+
+import io.servicetalk.context.api.ContextMap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+
+import static io.servicetalk.concurrent.api.ScopedValueAsyncContextStorage.INSTANCE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ScopedValueAsyncContextStorageTest {
+
+    @Test
+    void unboundThreadFallsBackToThreadLocal() {
+        assertThat(INSTANCE.get(), is(sameInstance(ThreadLocalAsyncContextStorage.INSTANCE.get())));
+        final ContextMap other = new CopyOnWriteContextMap();
+        final ContextMap initial = INSTANCE.exchange(other);
+        try {
+            assertThat(ThreadLocalAsyncContextStorage.INSTANCE.get(), is(sameInstance(other)));
+        } finally {
+            INSTANCE.set(initial);
+        }
+        assertThat(ThreadLocalAsyncContextStorage.INSTANCE.get(), is(sameInstance(initial)));
+    }
+
+    @Test
+    void wrapRequiresScopedValue() {
+        assumeFalse(ScopedValueAsyncContextStorage.isSupported(), "ScopedValue is supported");
+        assertThrows(UnsupportedOperationException.class, () -> ScopedValueAsyncContextStorage.wrap(Thread::new));
+    }
+
+    @Test
+    void boundVirtualThreadUsesHolder() throws Exception {
+        // Tests run with --enable-preview on Java 21+, where ScopedValue is a preview API before Java 25.
+        assumeTrue(ScopedValueAsyncContextStorage.isSupported(), "ScopedValue is not supported");
+        final ThreadFactory threadFactory = ScopedValueAsyncContextStorage.wrap(newVirtualThreadFactory());
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        final Thread thread = threadFactory.newThread(() -> {
+            try {
+                final ContextMap initial = INSTANCE.get();
+                assertThat(INSTANCE.get(), is(sameInstance(initial)));
+                assertThat(ThreadLocalAsyncContextStorage.INSTANCE.get(), is(not(sameInstance(initial))));
+
+                final ContextMap other = new CopyOnWriteContextMap();
+                assertThat(INSTANCE.exchange(other), is(sameInstance(initial)));
+                assertThat(INSTANCE.get(), is(sameInstance(other)));
+                assertThat(INSTANCE.exchange(other), is(sameInstance(other)));
+                INSTANCE.set(initial);
+                assertThat(INSTANCE.get(), is(sameInstance(initial)));
+                result.complete(null);
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        thread.start();
+        result.get();
+    }
+
+    @Test
+    void wrappedPlatformThreadUsesThreadLocal() throws Exception {
+        assumeTrue(ScopedValueAsyncContextStorage.isSupported(), "ScopedValue is not supported");
+        final ThreadFactory threadFactory = ScopedValueAsyncContextStorage.wrap(Thread::new);
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        final Thread thread = threadFactory.newThread(() -> {
+            try {
+                assertThat(INSTANCE.get(), is(sameInstance(ThreadLocalAsyncContextStorage.INSTANCE.get())));
+                result.complete(null);
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        thread.start();
+        result.get();
+    }
+
+    private static ThreadFactory newVirtualThreadFactory() throws Exception {
+        // Thread.ofVirtual() is available only starting from Java 21.
+        final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+    }
+}
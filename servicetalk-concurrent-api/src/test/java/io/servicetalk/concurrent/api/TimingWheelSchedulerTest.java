@@ -0,0 +1,147 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.concurrent.api;
+
+import io.servicetalk.concurrent.Cancellable;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.Thread.NORM_PRIORITY;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+class TimingWheelSchedulerTest {
+
+    // 64 ticks cover 640us and 4096 ticks cover ~41ms, so tests exercise cascading from higher levels quickly.
+    private final TimingWheelScheduler scheduler = new TimingWheelScheduler(
+            new DefaultThreadFactory("timing-wheel-test", true, NORM_PRIORITY), 10, MICROSECONDS);
+
+    @AfterEach
+    void tearDown() {
+        scheduler.close();
+    }
+
+    @Test
+    void tasksRunAfterTheirDelay() throws Exception {
+        final long[] delaysMillis = {0, 1, 5, 50, 100};
+        final CountDownLatch latch = new CountDownLatch(delaysMillis.length);
+        final List<Long> earlyByNanos = new ArrayList<>();
+        for (long delayMillis : delaysMillis) {
+            final long startNanos = System.nanoTime();
+            scheduler.schedule(() -> {
+                final long elapsedNanos = System.nanoTime() - startNanos;
+                if (elapsedNanos < MILLISECONDS.toNanos(delayMillis)) {
+                    synchronized (earlyByNanos) {
+                        earlyByNanos.add(MILLISECONDS.toNanos(delayMillis) - elapsedNanos);
+                    }
+                }
+                latch.countDown();
+            }, delayMillis, MILLISECONDS);
+        }
+        latch.await();
+        assertThat("Tasks ran before their delay elapsed", earlyByNanos.size(), is(0));
+    }
+
+    @Test
+    void cancelledTasksDoNotRun() throws Exception {
+        final AtomicInteger ran = new AtomicInteger();
+        final List<Cancellable> cancellables = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            cancellables.add(scheduler.schedule(ran::incrementAndGet, 20 + i % 50, MILLISECONDS));
+        }
+        cancellables.forEach(Cancellable::cancel);
+        final CountDownLatch latch = new CountDownLatch(1);
+        scheduler.schedule(latch::countDown, 100, MILLISECONDS);
+        latch.await();
+        assertThat(ran.get(), is(0));
+    }
+
+    @Test
+    void runsAfterIdle() throws Exception {
+        final CountDownLatch first = new CountDownLatch(1);
+        scheduler.schedule(first::countDown, 1, MILLISECONDS);
+        first.await();
+        Thread.sleep(20);
+        final CountDownLatch second = new CountDownLatch(1);
+        final long startNanos = System.nanoTime();
+        scheduler.schedule(second::countDown, 10, MILLISECONDS);
+        second.await();
+        assertThat(System.nanoTime() - startNanos, greaterThanOrEqualTo(MILLISECONDS.toNanos(10)));
+    }
+
+    @Test
+    void manyConcurrentTimers() throws Exception {
+        final int threads = 4;
+        final int timersPerThread = 10_000;
+        final CountDownLatch latch = new CountDownLatch(threads * timersPerThread / 2);
+        final List<Thread> schedulingThreads = new ArrayList<>();
+        for (int t = 0; t < threads; ++t) {
+            final Thread thread = new Thread(() -> {
+                for (int i = 0; i < timersPerThread; ++i) {
+                    final Cancellable cancellable = scheduler.schedule(latch::countDown,
+                            MICROSECONDS.toNanos(i % 100_000), NANOSECONDS);
+                    if ((i & 1) == 1) {
+                        cancellable.cancel();
+                    }
+                }
+            });
+            schedulingThreads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : schedulingThreads) {
+            thread.join();
+        }
+        latch.await();
+    }
+
+    @Test
+    void doesNotWakeUpOnEveryTick() throws Exception {
+        final TimingWheelScheduler scheduler = new TimingWheelScheduler(
+                new DefaultThreadFactory("timing-wheel-wakeups-test", true, NORM_PRIORITY), 1, MILLISECONDS);
+        try {
+            // The scheduler thread starts idle and wakes up once for the pending timeout.
+            final Cancellable pending = scheduler.schedule(() -> { }, 30, SECONDS);
+            final long startWakeups = scheduler.wakeups();
+            Thread.sleep(500);
+            // One wakeup per tick would be ~500, parks are capped at 100ms. Leave room for spurious wakeups and slow
+            // machines, the bound only has to tell both apart.
+            assertThat(scheduler.wakeups() - startWakeups, lessThan(100L));
+
+            final CountDownLatch latch = new CountDownLatch(1);
+            final long beforeTimeout = scheduler.wakeups();
+            scheduler.schedule(latch::countDown, 300, MILLISECONDS);
+            latch.await();
+            // Unparked by scheduling, the capped parks, possibly a cascade, and the expiration itself. One wakeup per
+            // tick would be ~300.
+            assertThat(scheduler.wakeups() - beforeTimeout, lessThan(60L));
+            pending.cancel();
+        } finally {
+            scheduler.close();
+        }
+    }
+}
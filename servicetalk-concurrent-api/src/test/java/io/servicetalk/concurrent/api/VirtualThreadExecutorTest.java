@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.concurrent.api;
+
+import io.servicetalk.concurrent.Cancellable;
+import io.servicetalk.context.api.ContextMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static io.servicetalk.concurrent.api.Executors.newVirtualThreadExecutor;
+import static io.servicetalk.context.api.ContextMap.Key.newKey;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadExecutorTest {
+
+    private static final ContextMap.Key<String> KEY = newKey("key", String.class);
+
+    private Executor executor;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(VirtualThreads.isSupported(), "Virtual threads are not supported");
+        executor = newVirtualThreadExecutor("virtual-test-");
+        AsyncContext.clear();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (executor != null) {
+            executor.closeAsync().toFuture().get();
+        }
+    }
+
+    @Test
+    void runsOnVirtualThread() throws Exception {
+        assertThat(executor.submit(() -> Thread.currentThread().getName()).toFuture().get(),
+                startsWith("virtual-test-"));
+    }
+
+    @Test
+    void propagatesAsyncContext() throws Exception {
+        AsyncContext.put(KEY, "value");
+        assertThat(executor.submit(() -> AsyncContext.get(KEY)).toFuture().get(), is("value"));
+    }
+
+    @Test
+    void cancelInterruptsTask() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Cancellable cancellable = executor.execute(() -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        started.await();
+        cancellable.cancel();
+        interrupted.await();
+    }
+}
@@ -17,6 +17,7 @@ package io.servicetalk.context.api;
 
 import java.util.ConcurrentModificationException;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import javax.annotation.Nullable;
@@ -37,13 +38,21 @@ public interface ContextMap {
      * @param <T> The type of value associated with a {@link Key}.
      */
     final class Key<T> {
+        /**
+         * Slots are intended for a small number of well-known keys, {@link ContextMap} implementations may allocate
+         * storage for all of them.
+         */
+        private static final int MAX_SLOTS = 64;
+        private static final AtomicInteger NEXT_SLOT = new AtomicInteger();
 
         private final String name;
         private final Class<T> type;
+        private final int slot;
 
-        private Key(final String name, final Class<T> type) {
+        private Key(final String name, final Class<T> type, final int slot) {
             this.name = requireNonNull(name);
             this.type = requireNonNull(type);
+            this.slot = slot;
         }
 
         /**
@@ -64,6 +73,18 @@ public interface ContextMap {
             return type;
         }
 
+        /**
+         * Returns the slot assigned to the key by {@link #registerKey(String, Class)}.
+         * <p>
+         * Slots are small non-negative integers unique per {@link Key}, which {@link ContextMap} implementations may
+         * use to index values directly instead of hashing the {@link Key}.
+         *
+         * @return the slot assigned to the key, or {@code -1} if the key has no slot.
+         */
+        public int slot() {
+            return slot;
+        }
+
         /**
          * Creates a new {@link Key} with the specified name and type.
          *
@@ -76,7 +97,38 @@ public interface ContextMap {
          * debugging visibility.
          */
         public static <T> Key<T> newKey(final String name, final Class<T> type) {
-            return new Key<>(name, type);
+            return new Key<>(name, type, -1);
+        }
+
+        /**
+         * Creates a new {@link Key} with the specified name and type, and assigns it a {@link #slot()}.
+         * <p>
+         * This is intended for well-known keys which are created once (e.g. stored in a {@code static final} field)
+         * and accessed frequently, like tracing, MDC, or deadline keys. {@link ContextMap} implementations may store
+         * values for such keys in a flat array indexed by their slot. The number of slots is limited, once all are
+         * assigned this method behaves like {@link #newKey(String, Class)}. Use {@link #newKey(String, Class)} for
+         * keys which are created dynamically.
+         *
+         * @param name The name of the key. This <strong>WILL NOT</strong> be used in comparisons between {@link Key}
+         * objects.
+         * @param type The type of the key. This <strong>WILL NOT</strong> be used in comparisons between {@link Key}
+         * objects.
+         * @param <T> The value type associated with the {@link Key}.
+         * @return A new {@link Key} which uses a passed name only in the {@link #toString()} method for
+         * debugging visibility.
+         */
+        public static <T> Key<T> registerKey(final String name, final Class<T> type) {
+            requireNonNull(name);
+            requireNonNull(type);
+            for (;;) {
+                final int slot = NEXT_SLOT.get();
+                if (slot >= MAX_SLOTS) {
+                    return new Key<>(name, type, -1);
+                }
+                if (NEXT_SLOT.compareAndSet(slot, slot + 1)) {
+                    return new Key<>(name, type, slot);
+                }
+            }
         }
 
         @Override
@@ -333,6 +385,10 @@ public interface ContextMap {
 
     /**
      * Iterate over the entries contained in this {@link ContextMap}.
+     * <p>
+     * The iteration order is not specified and doesn't have to match the insertion order. For example, an
+     * implementation may visit entries of {@link Key}s with a {@link Key#slot()} first, which lets it index them by
+     * their slot without tracking when they were inserted.
      *
      * @param consumer Each entry will be passed as key and value arguments to this {@link BiPredicate}. A consumer
      * predicate should return {@code true} if it wants to keep iterating or {@code false} to stop iteration at the
@@ -24,10 +24,13 @@ import java.util.HashSet;
 import java.util.List;
 
 import static io.servicetalk.context.api.ContextMap.Key.newKey;
+import static io.servicetalk.context.api.ContextMap.Key.registerKey;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 
 class ContextMapTest {
 
@@ -56,4 +59,15 @@ class ContextMapTest {
         List<String> castList = key.type().cast(Arrays.asList("test"));
         assertThat(castList, contains("test"));
     }
+
+    @Test
+    void testSlot() {
+        assertThat(newKey("key", String.class).slot(), is(-1));
+        ContextMap.Key<String> key1 = registerKey("key1", String.class);
+        ContextMap.Key<String> key2 = registerKey("key2", String.class);
+        assertThat(key1.slot(), is(greaterThanOrEqualTo(0)));
+        assertThat(key2.slot(), is(greaterThanOrEqualTo(0)));
+        assertThat(key1.slot(), is(not(key2.slot())));
+        assertThat(key1, is(not(equalTo(key2))));
+    }
 }
@@ -72,6 +72,12 @@ public class DelegatingGrpcServerBuilder implements GrpcServerBuilder {
         return this;
     }
 
+    @Override
+    public GrpcServerBuilder reusePortListeners(final boolean reusePortListeners) {
+        delegate = delegate.reusePortListeners(reusePortListeners);
+        return this;
+    }
+
     @Override
     public Single<GrpcServerContext> listen(final GrpcBindableService<?>... services) {
         return delegate.listen(services);
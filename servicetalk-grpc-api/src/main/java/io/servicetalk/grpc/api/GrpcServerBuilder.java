@@ -104,6 +104,20 @@ public interface GrpcServerBuilder {
      */
     GrpcServerBuilder lifecycleObserver(GrpcLifecycleObserver lifecycleObserver);
 
+    /**
+     * Binds one server socket per IO thread using {@code SO_REUSEPORT} instead of a single server socket.
+     * <p>
+     * Note, if {@link #initializeHttp(HttpInitializer)} is used to configure
+     * {@link HttpServerBuilder#reusePortListeners(boolean)} – that will override the value specified using this method.
+     * Please choose only one approach.
+     * @param reusePortListeners {@code true} to bind one {@code SO_REUSEPORT} server socket per IO thread.
+     * @return {@code this}.
+     * @see HttpServerBuilder#reusePortListeners(boolean)
+     */
+    default GrpcServerBuilder reusePortListeners(boolean reusePortListeners) {
+        throw new UnsupportedOperationException("method not supported by " + getClass());
+    }
+
     /**
      * Starts this server and returns the {@link GrpcServerContext} after the server has been successfully started.
      * <p>
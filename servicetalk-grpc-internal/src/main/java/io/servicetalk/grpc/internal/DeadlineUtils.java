@@ -46,7 +46,8 @@ public final class DeadlineUtils {
      * gRPC timeout is stored in a context as a deadline so that when propagated to a new request the remaining time to
      * be included in the request can be calculated.
      */
-    public static final ContextMap.Key<Long> GRPC_DEADLINE_KEY = ContextMap.Key.newKey("grpc-deadline", Long.class);
+    public static final ContextMap.Key<Long> GRPC_DEADLINE_KEY = ContextMap.Key.registerKey("grpc-deadline",
+            Long.class);
 
     /**
      * <a href="https://github.com/grpc/grpc/blob/master/doc/PROTOCOL-HTTP2.md#requests">gRPC spec</a> requires timeout
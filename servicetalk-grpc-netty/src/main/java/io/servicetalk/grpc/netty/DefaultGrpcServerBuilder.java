@@ -102,6 +102,13 @@ final class DefaultGrpcServerBuilder implements GrpcServerBuilder, ServerBinder
         return this;
     }
 
+    @Override
+    public GrpcServerBuilder reusePortListeners(final boolean reusePortListeners) {
+        directCallInitializer = directCallInitializer.append(builder ->
+                builder.reusePortListeners(reusePortListeners));
+        return this;
+    }
+
     @Override
     public Single<GrpcServerContext> listen(GrpcBindableService<?>... services) {
         GrpcServiceFactory<?>[] factories = Arrays.stream(services)
@@ -0,0 +1,240 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.api;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.concurrent.api.Publisher;
+import io.servicetalk.concurrent.api.internal.SubscribablePublisher;
+import io.servicetalk.concurrent.internal.FlowControlUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.buffer.api.ReadOnlyBufferAllocators.DEFAULT_RO_ALLOCATOR;
+import static io.servicetalk.concurrent.internal.ConcurrentUtils.releaseLock;
+import static io.servicetalk.concurrent.internal.ConcurrentUtils.tryAcquireLock;
+import static io.servicetalk.concurrent.internal.SubscriberUtils.handleExceptionFromOnSubscribe;
+import static io.servicetalk.concurrent.internal.SubscriberUtils.isRequestNValid;
+import static io.servicetalk.concurrent.internal.SubscriberUtils.newExceptionForInvalidRequestN;
+import static java.lang.Math.min;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Publisher} which reads a region of an {@link AsynchronousFileChannel} sequentially and reads ahead a
+ * bounded number of chunks.
+ */
+final class AsynchronousFilePublisher extends SubscribablePublisher<Buffer> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsynchronousFilePublisher.class);
+
+    private final AsynchronousFileChannel fileChannel;
+    private final long position;
+    private final long count;
+    private final int chunkSize;
+    private final int readAhead;
+
+    AsynchronousFilePublisher(final AsynchronousFileChannel fileChannel, final long position, final long count,
+                              final int chunkSize, final int readAhead) {
+        this.fileChannel = requireNonNull(fileChannel);
+        this.position = position;
+        this.count = count;
+        this.chunkSize = chunkSize;
+        this.readAhead = readAhead;
+    }
+
+    @Override
+    protected void handleSubscribe(final Subscriber<? super Buffer> subscriber) {
+        final ReadSubscription subscription = new ReadSubscription(subscriber, fileChannel, position, count,
+                chunkSize, readAhead);
+        try {
+            subscriber.onSubscribe(subscription);
+        } catch (Throwable t) {
+            handleExceptionFromOnSubscribe(subscriber, t);
+            return;
+        }
+        // Start reading ahead before the first request.
+        subscription.drain();
+    }
+
+    private static final class ReadSubscription implements Subscription, CompletionHandler<Integer, ByteBuffer> {
+        private static final AtomicLongFieldUpdater<ReadSubscription> requestedUpdater =
+                AtomicLongFieldUpdater.newUpdater(ReadSubscription.class, "requested");
+        private static final AtomicIntegerFieldUpdater<ReadSubscription> bufferedUpdater =
+                AtomicIntegerFieldUpdater.newUpdater(ReadSubscription.class, "buffered");
+        private static final AtomicIntegerFieldUpdater<ReadSubscription> drainLockUpdater =
+                AtomicIntegerFieldUpdater.newUpdater(ReadSubscription.class, "drainLock");
+
+        private final Subscriber<? super Buffer> subscriber;
+        private final AsynchronousFileChannel fileChannel;
+        private final int chunkSize;
+        private final int readAhead;
+        private final Queue<Buffer> readBuffers = new ConcurrentLinkedQueue<>();
+        /**
+         * Position and remaining bytes of the next read, only accessed by the thread which issues or completes a read.
+         * Visibility is provided by {@link #reading}.
+         */
+        private long nextPosition;
+        private long remaining;
+        /**
+         * Only accessed while holding {@link #drainLock}.
+         */
+        private boolean terminated;
+        private volatile long requested;
+        /**
+         * Number of chunks which are read but not emitted yet.
+         */
+        private volatile int buffered;
+        private volatile int drainLock;
+        private volatile boolean reading;
+        private volatile boolean endOfFile;
+        private volatile boolean cancelled;
+        @Nullable
+        private volatile Throwable cause;
+
+        ReadSubscription(final Subscriber<? super Buffer> subscriber, final AsynchronousFileChannel fileChannel,
+                         final long position, final long count, final int chunkSize, final int readAhead) {
+            this.subscriber = subscriber;
+            this.fileChannel = fileChannel;
+            this.chunkSize = chunkSize;
+            this.readAhead = readAhead;
+            nextPosition = position;
+            remaining = count;
+            endOfFile = count == 0;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (isRequestNValid(n)) {
+                requestedUpdater.accumulateAndGet(this, n, FlowControlUtils::addWithOverflowProtection);
+            } else if (cause == null) {
+                cause = newExceptionForInvalidRequestN(n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        @Override
+        public void completed(final Integer result, final ByteBuffer readBuffer) {
+            if (result < 0) {
+                endOfFile = true;
+            } else {
+                nextPosition += result;
+                remaining -= result;
+                if (!cancelled) {
+                    readBuffer.flip();
+                    bufferedUpdater.incrementAndGet(this);
+                    readBuffers.offer(DEFAULT_RO_ALLOCATOR.wrap(readBuffer));
+                }
+                if (remaining == 0) {
+                    // Must be set after the last chunk is queued, see drain0().
+                    endOfFile = true;
+                }
+            }
+            reading = false;
+            drain();
+        }
+
+        @Override
+        public void failed(final Throwable exc, final ByteBuffer readBuffer) {
+            cause = exc;
+            reading = false;
+            drain();
+        }
+
+        void drain() {
+            do {
+                if (!tryAcquireLock(drainLockUpdater, this)) {
+                    return;
+                }
+                try {
+                    drain0();
+                } catch (Throwable t) {
+                    terminate();
+                    LOGGER.info("Unexpected exception from subscriber {} while terminating.", subscriber, t);
+                }
+            } while (!releaseLock(drainLockUpdater, this));
+        }
+
+        private void drain0() {
+            for (;;) {
+                if (terminated) {
+                    readBuffers.clear();
+                    return;
+                }
+                if (cancelled) {
+                    terminate();
+                    return;
+                }
+                final Throwable cause = this.cause;
+                if (cause != null) {
+                    terminate();
+                    subscriber.onError(cause);
+                    return;
+                }
+                Buffer buffer;
+                while (requested > 0 && !cancelled && (buffer = readBuffers.poll()) != null) {
+                    requestedUpdater.decrementAndGet(this);
+                    bufferedUpdater.decrementAndGet(this);
+                    try {
+                        subscriber.onNext(buffer);
+                    } catch (Throwable t) {
+                        // Stop reading ahead, a read in progress is dropped when it completes.
+                        cancelled = true;
+                        terminate();
+                        subscriber.onError(t);
+                        return;
+                    }
+                }
+                // Check endOfFile before the queue, the last chunk is queued before endOfFile is set.
+                if (endOfFile && readBuffers.isEmpty() && !reading) {
+                    terminate();
+                    subscriber.onComplete();
+                    return;
+                }
+                if (reading || endOfFile || buffered >= readAhead || cancelled) {
+                    return;
+                }
+                reading = true;
+                final ByteBuffer readBuffer = ByteBuffer.allocate((int) min(chunkSize, remaining));
+                try {
+                    fileChannel.read(readBuffer, nextPosition, readBuffer, this);
+                    return;
+                } catch (Throwable t) {
+                    this.cause = t;
+                    reading = false;
+                }
+            }
+        }
+
+        private void terminate() {
+            terminated = true;
+            readBuffers.clear();
+        }
+    }
+}
@@ -175,7 +175,7 @@ final class DefaultBlockingStreamingHttpRequest extends AbstractDelegatingHttpRe
 
     @Override
     public <T> BlockingIterable<T> payloadBody(final HttpStreamingDeserializer<T> deserializer) {
-        return deserializer.deserialize(headers(), payloadBody(), original.payloadHolder().allocator());
+        return deserializer.deserialize(headers(), payloadBody(), original.payloadHolder().serializationAllocator());
     }
 
     @Override
@@ -218,7 +218,7 @@ final class DefaultBlockingStreamingHttpRequest extends AbstractDelegatingHttpRe
                                                         final HttpStreamingSerializer<T> serializer) {
         original.payloadHolder().messageBody(defer(() -> {
             HttpMessageBodyIterator<T> body = messageBody.iterator();
-            return from(serializer.serialize(headers(), () -> body, original.payloadHolder().allocator()))
+            return from(serializer.serialize(headers(), () -> body, original.payloadHolder().serializationAllocator()))
                     .cast(Object.class)
                     .concat(defer(() -> fromFilterNull(body.trailers()).shareContextOnSubscribe()))
                     .shareContextOnSubscribe();
@@ -59,7 +59,7 @@ final class DefaultBlockingStreamingHttpResponse extends AbstractDelegatingHttpR
 
     @Override
     public <T> BlockingIterable<T> payloadBody(final HttpStreamingDeserializer<T> deserializer) {
-        return deserializer.deserialize(headers(), payloadBody(), original.payloadHolder().allocator());
+        return deserializer.deserialize(headers(), payloadBody(), original.payloadHolder().serializationAllocator());
     }
 
     @Override
@@ -102,7 +102,7 @@ final class DefaultBlockingStreamingHttpResponse extends AbstractDelegatingHttpR
                                                          final HttpStreamingSerializer<T> serializer) {
         original.payloadHolder().messageBody(defer(() -> {
             HttpMessageBodyIterator<T> body = messageBody.iterator();
-            return from(serializer.serialize(headers(), () -> body, original.payloadHolder().allocator()))
+            return from(serializer.serialize(headers(), () -> body, original.payloadHolder().serializationAllocator()))
                     .cast(Object.class)
                     .concat(defer(() -> fromFilterNull(body.trailers())).shareContextOnSubscribe())
                     .shareContextOnSubscribe();
@@ -217,7 +217,7 @@ final class DefaultHttpRequest extends AbstractDelegatingHttpRequest
 
     @Override
     public <T> T payloadBody(final HttpDeserializer2<T> deserializer) {
-        return deserializer.deserialize(headers(), original.payloadHolder().allocator(), payloadBody);
+        return deserializer.deserialize(headers(), original.payloadHolder().serializationAllocator(), payloadBody);
     }
 
     @Override
@@ -229,14 +229,14 @@ final class DefaultHttpRequest extends AbstractDelegatingHttpRequest
 
     @Override
     public <T> HttpRequest payloadBody(final T pojo, final HttpSerializer<T> serializer) {
-        this.payloadBody = serializer.serialize(headers(), pojo, original.payloadHolder().allocator());
+        this.payloadBody = serializer.serialize(headers(), pojo, original.payloadHolder().serializationAllocator());
         original.payloadBody(from(payloadBody));
         return this;
     }
 
     @Override
     public <T> HttpRequest payloadBody(final T pojo, final HttpSerializer2<T> serializer) {
-        this.payloadBody = serializer.serialize(headers(), pojo, original.payloadHolder().allocator());
+        this.payloadBody = serializer.serialize(headers(), pojo, original.payloadHolder().serializationAllocator());
         original.payloadBody(from(payloadBody));
         return this;
     }
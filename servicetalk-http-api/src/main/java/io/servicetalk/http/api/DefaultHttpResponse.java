@@ -77,7 +77,7 @@ final class DefaultHttpResponse extends AbstractDelegatingHttpResponse
 
     @Override
     public <T> T payloadBody(final HttpDeserializer2<T> deserializer) {
-        return deserializer.deserialize(headers(), original.payloadHolder().allocator(), payloadBody);
+        return deserializer.deserialize(headers(), original.payloadHolder().serializationAllocator(), payloadBody);
     }
 
     @Override
@@ -89,14 +89,14 @@ final class DefaultHttpResponse extends AbstractDelegatingHttpResponse
 
     @Override
     public <T> HttpResponse payloadBody(final T pojo, final HttpSerializer<T> serializer) {
-        this.payloadBody = serializer.serialize(headers(), pojo, original.payloadHolder().allocator());
+        this.payloadBody = serializer.serialize(headers(), pojo, original.payloadHolder().serializationAllocator());
         original.payloadBody(from(payloadBody));
         return this;
     }
 
     @Override
     public <T> HttpResponse payloadBody(final T pojo, final HttpSerializer2<T> serializer) {
-        this.payloadBody = serializer.serialize(headers(), pojo, original.payloadHolder().allocator());
+        this.payloadBody = serializer.serialize(headers(), pojo, original.payloadHolder().serializationAllocator());
         original.payloadBody(from(payloadBody));
         return this;
     }
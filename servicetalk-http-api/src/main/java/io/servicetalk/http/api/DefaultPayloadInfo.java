@@ -24,6 +24,8 @@ final class DefaultPayloadInfo implements PayloadInfo {
     private static final byte MAY_HAVE_TRAILERS = 2;
     private static final byte GENERIC_TYPE_BUFFER = 4;
     private static final byte EMPTY = 8;
+    private static final byte PAYLOAD_BODY_LEASED = 16;
+    private static final byte PAYLOAD_BODY_LEASE_CLAIMED = 32;
 
     private byte flags;
 
@@ -66,6 +68,14 @@ final class DefaultPayloadInfo implements PayloadInfo {
         return isSet(GENERIC_TYPE_BUFFER);
     }
 
+    boolean isPayloadBodyLeased() {
+        return isSet(PAYLOAD_BODY_LEASED);
+    }
+
+    boolean isPayloadBodyLeaseClaimed() {
+        return isSet(PAYLOAD_BODY_LEASE_CLAIMED);
+    }
+
     DefaultPayloadInfo setEmpty(boolean empty) {
         return set(EMPTY, empty);
     }
@@ -82,6 +92,14 @@ final class DefaultPayloadInfo implements PayloadInfo {
         return set(GENERIC_TYPE_BUFFER, genericTypeBuffer);
     }
 
+    DefaultPayloadInfo setPayloadBodyLeased(boolean leased) {
+        return set(PAYLOAD_BODY_LEASED, leased);
+    }
+
+    DefaultPayloadInfo setPayloadBodyLeaseClaimed(boolean claimed) {
+        return set(PAYLOAD_BODY_LEASE_CLAIMED, claimed);
+    }
+
     DefaultPayloadInfo setMayHaveTrailersAndGenericTypeBuffer(boolean mayHaveTrailers) {
         if (mayHaveTrailers) {
             flags = (byte) ((flags | MAY_HAVE_TRAILERS) & ~GENERIC_TYPE_BUFFER);
@@ -153,6 +171,8 @@ final class DefaultPayloadInfo implements PayloadInfo {
                 ", isSafeToAggregate=" + isSafeToAggregate() +
                 ", mayHaveTrailers=" + mayHaveTrailers() +
                 ", isGenericTypeBuffer=" + isGenericTypeBuffer() +
+                ", isPayloadBodyLeased=" + isPayloadBodyLeased() +
+                ", isPayloadBodyLeaseClaimed=" + isPayloadBodyLeaseClaimed() +
                 '}';
     }
 }
@@ -169,7 +169,7 @@ final class DefaultStreamingHttpRequest extends DefaultHttpRequestMetaData
 
     @Override
     public <T> Publisher<T> payloadBody(final HttpStreamingDeserializer<T> deserializer) {
-        return deserializer.deserialize(headers(), payloadBody(), payloadHolder.allocator());
+        return deserializer.deserialize(headers(), payloadBody(), payloadHolder.serializationAllocator());
     }
 
     @Override
@@ -187,7 +187,7 @@ final class DefaultStreamingHttpRequest extends DefaultHttpRequestMetaData
     @Override
     public <T> StreamingHttpRequest payloadBody(final Publisher<T> payloadBody, final HttpSerializer<T> serializer) {
         payloadHolder.transformPayloadBody(bufPub ->
-                serializer.serialize(headers(), payloadBody, payloadHolder.allocator()));
+                serializer.serialize(headers(), payloadBody, payloadHolder.serializationAllocator()));
         return this;
     }
 
@@ -203,7 +203,7 @@ final class DefaultStreamingHttpRequest extends DefaultHttpRequestMetaData
     public <T> StreamingHttpRequest transformPayloadBody(Function<Publisher<Buffer>, Publisher<T>> transformer,
                                                          HttpSerializer<T> serializer) {
         payloadHolder.transformPayloadBody(bufPub ->
-                serializer.serialize(headers(), transformer.apply(bufPub), payloadHolder.allocator()));
+                serializer.serialize(headers(), transformer.apply(bufPub), payloadHolder.serializationAllocator()));
         return this;
     }
 
@@ -219,7 +219,8 @@ final class DefaultStreamingHttpRequest extends DefaultHttpRequestMetaData
                                                             final HttpStreamingDeserializer<T> deserializer,
                                                             final HttpStreamingSerializer<R> serializer) {
         return transformPayloadBody(bufPub ->
-                        transformer.apply(deserializer.deserialize(headers(), bufPub, payloadHolder.allocator())),
+                        transformer.apply(deserializer.deserialize(headers(), bufPub,
+                                payloadHolder.serializationAllocator())),
                 serializer);
     }
 
@@ -250,7 +251,8 @@ final class DefaultStreamingHttpRequest extends DefaultHttpRequestMetaData
 
     @Override
     public Single<HttpRequest> toRequest() {
-        return payloadHolder.aggregate().map(pair -> new DefaultHttpRequest(this, pair.payload, pair.trailers));
+        return payloadHolder.aggregate()
+                .map(pair -> new DefaultHttpRequest(this, pair.payload, pair.trailers));
     }
 
     @Override
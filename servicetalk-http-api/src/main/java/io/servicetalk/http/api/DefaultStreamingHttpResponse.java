@@ -72,7 +72,7 @@ final class DefaultStreamingHttpResponse extends DefaultHttpResponseMetaData
 
     @Override
     public <T> Publisher<T> payloadBody(final HttpStreamingDeserializer<T> deserializer) {
-        return deserializer.deserialize(headers(), payloadBody(), payloadHolder.allocator());
+        return deserializer.deserialize(headers(), payloadBody(), payloadHolder.serializationAllocator());
     }
 
     @Override
@@ -91,7 +91,7 @@ final class DefaultStreamingHttpResponse extends DefaultHttpResponseMetaData
     public <T> StreamingHttpResponse payloadBody(final Publisher<T> payloadBody,
                                                  final HttpSerializer<T> serializer) {
         payloadHolder.transformPayloadBody(bufPub ->
-                serializer.serialize(headers(), payloadBody, payloadHolder.allocator()));
+                serializer.serialize(headers(), payloadBody, payloadHolder.serializationAllocator()));
         return this;
     }
 
@@ -107,7 +107,7 @@ final class DefaultStreamingHttpResponse extends DefaultHttpResponseMetaData
     public <T> StreamingHttpResponse transformPayloadBody(Function<Publisher<Buffer>, Publisher<T>> transformer,
                                                           HttpSerializer<T> serializer) {
         payloadHolder.transformPayloadBody(bufPub ->
-                serializer.serialize(headers(), transformer.apply(bufPub), payloadHolder.allocator()));
+                serializer.serialize(headers(), transformer.apply(bufPub), payloadHolder.serializationAllocator()));
         return this;
     }
 
@@ -123,7 +123,8 @@ final class DefaultStreamingHttpResponse extends DefaultHttpResponseMetaData
                                                              final HttpStreamingDeserializer<T> deserializer,
                                                              final HttpStreamingSerializer<R> serializer) {
         return transformPayloadBody(bufPub ->
-                        transformer.apply(deserializer.deserialize(headers(), bufPub, payloadHolder.allocator())),
+                        transformer.apply(deserializer.deserialize(headers(), bufPub,
+                                payloadHolder.serializationAllocator())),
                 serializer);
     }
 
@@ -154,7 +155,8 @@ final class DefaultStreamingHttpResponse extends DefaultHttpResponseMetaData
 
     @Override
     public Single<HttpResponse> toResponse() {
-        return payloadHolder.aggregate().map(pair -> new DefaultHttpResponse(this, pair.payload, pair.trailers));
+        return payloadHolder.aggregate()
+                .map(pair -> new DefaultHttpResponse(this, pair.payload, pair.trailers));
     }
 
     @Override
@@ -96,6 +96,12 @@ public class DelegatingHttpServerBuilder implements HttpServerBuilder {
         return this;
     }
 
+    @Override
+    public HttpServerBuilder sniContextCacheSize(final int maxContexts) {
+        delegate = delegate.sniContextCacheSize(maxContexts);
+        return this;
+    }
+
     @Override
     public HttpServerBuilder transportConfig(final TransportConfig transportConfig) {
         delegate = delegate.transportConfig(transportConfig);
@@ -114,6 +120,12 @@ public class DelegatingHttpServerBuilder implements HttpServerBuilder {
         return this;
     }
 
+    @Override
+    public HttpServerBuilder reusePortListeners(final boolean reusePortListeners) {
+        delegate = delegate.reusePortListeners(reusePortListeners);
+        return this;
+    }
+
     @Override
     public HttpServerBuilder enableWireLogging(final String loggerName, final LogLevel logLevel,
                                                final BooleanSupplier logUserData) {
@@ -0,0 +1,205 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.api;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.concurrent.api.Publisher;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.FileChannel;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.buffer.api.ReadOnlyBufferAllocators.DEFAULT_RO_ALLOCATOR;
+import static io.servicetalk.concurrent.api.Publisher.defer;
+import static io.servicetalk.concurrent.api.Publisher.range;
+import static io.servicetalk.utils.internal.NumberUtils.ensurePositive;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Factories of {@link Publisher}s which emit the content of a file as {@link Buffer}s without blocking a thread on
+ * {@link java.io.InputStream#read()}.
+ */
+public final class FilePublishers {
+    /**
+     * Default size of each emitted {@link Buffer}. Matches the chunk size of
+     * {@link Publisher#fromInputStream(java.io.InputStream)}: 16Kb (max TLS record and initial HTTP/2 frame size)
+     * minus 32B reserved for HTTP/1.1 chunked or HTTP/2 DATA frame encoding.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 16 * 1024 - 32;
+    /**
+     * Default number of chunks {@link #fromAsynchronousFile(AsynchronousFileChannel, long, long)} reads ahead of the
+     * demand of the {@link Publisher}.
+     */
+    public static final int DEFAULT_READ_AHEAD = 4;
+    /**
+     * Maximum size of a single memory mapping, chunks are sliced from a mapping until it is exhausted.
+     */
+    private static final int MAX_MAPPED_REGION_SIZE = 8 * 1024 * 1024;
+
+    private FilePublishers() {
+        // no instances
+    }
+
+    /**
+     * Create a new {@link Publisher} which emits {@code count} bytes of {@code fileChannel} starting at
+     * {@code position} as read-only {@link Buffer}s of {@link #DEFAULT_CHUNK_SIZE} bytes backed by memory mapped
+     * regions of the file.
+     *
+     * @param fileChannel the {@link FileChannel} to read. It is owned by the caller and must remain open until the
+     * emitted {@link Buffer}s are consumed.
+     * @param position the position in {@code fileChannel} of the first byte to emit.
+     * @param count the number of bytes to emit.
+     * @return a new {@link Publisher} which emits {@code count} bytes of {@code fileChannel} starting at
+     * {@code position}.
+     * @see #fromMappedFile(FileChannel, long, long, int)
+     */
+    public static Publisher<Buffer> fromMappedFile(final FileChannel fileChannel, final long position,
+                                                   final long count) {
+        return fromMappedFile(fileChannel, position, count, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Create a new {@link Publisher} which emits {@code count} bytes of {@code fileChannel} starting at
+     * {@code position} as read-only {@link Buffer}s backed by memory mapped regions of the file.
+     * <p>
+     * Regions of up to 8MiB are mapped lazily, when the first chunk of the region is requested, and emitted
+     * {@link Buffer}s are slices of the mapping. Accessing the content of the emitted {@link Buffer}s may page fault
+     * and block the accessing thread while the OS reads the file. A mapping is released only when all its
+     * {@link Buffer}s are garbage collected.
+     *
+     * @param fileChannel the {@link FileChannel} to read. It is owned by the caller and must remain open until the
+     * emitted {@link Buffer}s are consumed.
+     * @param position the position in {@code fileChannel} of the first byte to emit.
+     * @param count the number of bytes to emit.
+     * @param chunkSize the maximum size of each emitted {@link Buffer}.
+     * @return a new {@link Publisher} which emits {@code count} bytes of {@code fileChannel} starting at
+     * {@code position}.
+     */
+    public static Publisher<Buffer> fromMappedFile(final FileChannel fileChannel, final long position,
+                                                   final long count, final int chunkSize) {
+        requireNonNull(fileChannel);
+        validatePositionAndCount(position, count);
+        ensurePositive(chunkSize, "chunkSize");
+        final long chunks = (count + chunkSize - 1) / chunkSize;
+        if (chunks > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("count: " + count + " (expected <=" +
+                    ((long) Integer.MAX_VALUE * chunkSize) + ')');
+        }
+        return defer(() -> {
+            final MappedRegion region = new MappedRegion(fileChannel, position, count, chunkSize);
+            return range(0, (int) chunks).map(region::chunk);
+        });
+    }
+
+    /**
+     * Create a new {@link Publisher} which emits {@code count} bytes of {@code fileChannel} starting at
+     * {@code position} as read-only {@link Buffer}s of {@link #DEFAULT_CHUNK_SIZE} bytes, reading up to
+     * {@link #DEFAULT_READ_AHEAD} chunks ahead of the demand.
+     *
+     * @param fileChannel the {@link AsynchronousFileChannel} to read. It is owned by the caller and must remain open
+     * until the returned {@link Publisher} terminates.
+     * @param position the position in {@code fileChannel} of the first byte to emit.
+     * @param count the number of bytes to emit.
+     * @return a new {@link Publisher} which emits {@code count} bytes of {@code fileChannel} starting at
+     * {@code position}.
+     * @see #fromAsynchronousFile(AsynchronousFileChannel, long, long, int, int)
+     */
+    public static Publisher<Buffer> fromAsynchronousFile(final AsynchronousFileChannel fileChannel,
+                                                         final long position, final long count) {
+        return fromAsynchronousFile(fileChannel, position, count, DEFAULT_CHUNK_SIZE, DEFAULT_READ_AHEAD);
+    }
+
+    /**
+     * Create a new {@link Publisher} which emits {@code count} bytes of {@code fileChannel} starting at
+     * {@code position} as read-only {@link Buffer}s.
+     * <p>
+     * Reads are sequential and issued only while less than {@code readAhead} chunks are read but not yet requested,
+     * so a slow subscriber bounds the memory held by each subscription. {@link Buffer}s may be emitted from
+     * the thread which completes the read, typically a thread of the {@link AsynchronousFileChannel}'s group.
+     * Each subscribe reads the file independently.
+     *
+     * @param fileChannel the {@link AsynchronousFileChannel} to read. It is owned by the caller and must remain open
+     * until the returned {@link Publisher} terminates.
+     * @param position the position in {@code fileChannel} of the first byte to emit.
+     * @param count the number of bytes to emit. The returned {@link Publisher} completes early if the end of the file
+     * is reached before.
+     * @param chunkSize the maximum size of each emitted {@link Buffer}.
+     * @param readAhead the maximum number of chunks which are read ahead of the demand.
+     * @return a new {@link Publisher} which emits {@code count} bytes of {@code fileChannel} starting at
+     * {@code position}.
+     */
+    public static Publisher<Buffer> fromAsynchronousFile(final AsynchronousFileChannel fileChannel,
+                                                         final long position, final long count,
+                                                         final int chunkSize, final int readAhead) {
+        validatePositionAndCount(position, count);
+        return new AsynchronousFilePublisher(fileChannel, position, count, ensurePositive(chunkSize, "chunkSize"),
+                ensurePositive(readAhead, "readAhead"));
+    }
+
+    private static void validatePositionAndCount(final long position, final long count) {
+        if (position < 0) {
+            throw new IllegalArgumentException("position: " + position + " (expected >=0)");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("count: " + count + " (expected >=0)");
+        }
+    }
+
+    private static final class MappedRegion {
+        private final FileChannel fileChannel;
+        private final long position;
+        private final long count;
+        private final int chunkSize;
+        private final int regionSize;
+        @Nullable
+        private ByteBuffer mapped;
+        private long mappedOffset;
+
+        MappedRegion(final FileChannel fileChannel, final long position, final long count, final int chunkSize) {
+            this.fileChannel = fileChannel;
+            this.position = position;
+            this.count = count;
+            this.chunkSize = chunkSize;
+            // Keep chunks within a single mapping.
+            regionSize = max(chunkSize, MAX_MAPPED_REGION_SIZE / chunkSize * chunkSize);
+        }
+
+        Buffer chunk(final int index) {
+            final long offset = (long) index * chunkSize;
+            final int length = (int) min(chunkSize, count - offset);
+            ByteBuffer mapped = this.mapped;
+            if (mapped == null || offset + length > mappedOffset + mapped.capacity()) {
+                try {
+                    mapped = fileChannel.map(READ_ONLY, position + offset, min(regionSize, count - offset));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                this.mapped = mapped;
+                mappedOffset = offset;
+            }
+            final ByteBuffer slice = mapped.duplicate();
+            final int sliceStart = (int) (offset - mappedOffset);
+            slice.limit(sliceStart + length).position(sliceStart);
+            return DEFAULT_RO_ALLOCATOR.wrap(slice.slice());
+        }
+    }
+}
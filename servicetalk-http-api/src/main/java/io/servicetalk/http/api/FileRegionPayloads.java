@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.api;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.buffer.api.FileRegionBuffer;
+import io.servicetalk.concurrent.api.Publisher;
+
+import java.nio.channels.FileChannel;
+
+import static io.servicetalk.buffer.api.FileRegionBuffers.newFileRegionBuffer;
+import static io.servicetalk.concurrent.api.Publisher.range;
+import static java.lang.Math.min;
+
+/**
+ * Utilities to create payload bodies which consist of {@link FileRegionBuffer}s.
+ */
+final class FileRegionPayloads {
+    /**
+     * Maximum size of each {@link FileRegionBuffer}. Bounds the size of the memory mapping if the transport can't
+     * transfer the region directly to the socket.
+     */
+    private static final int MAX_REGION_SIZE = 8 * 1024 * 1024;
+
+    private FileRegionPayloads() {
+        // no instances
+    }
+
+    static Publisher<Buffer> fileRegions(final FileChannel fileChannel, final long position, final long count) {
+        if (position < 0) {
+            throw new IllegalArgumentException("position: " + position + " (expected >=0)");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("count: " + count + " (expected >=0)");
+        }
+        final long regions = (count + MAX_REGION_SIZE - 1) / MAX_REGION_SIZE;
+        if (regions > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("count: " + count + " (expected <=" +
+                    ((long) Integer.MAX_VALUE * MAX_REGION_SIZE) + ')');
+        }
+        return range(0, (int) regions).map(i -> {
+            final long offset = (long) i * MAX_REGION_SIZE;
+            return newFileRegionBuffer(fileChannel, position + offset, (int) min(MAX_REGION_SIZE, count - offset));
+        });
+    }
+}
@@ -19,6 +19,8 @@ import io.servicetalk.http.api.StreamingHttpClientToBlockingHttpClient.ReservedS
 import io.servicetalk.http.api.StreamingHttpClientToBlockingStreamingHttpClient.ReservedStreamingHttpConnectionToBlockingStreaming;
 import io.servicetalk.http.api.StreamingHttpClientToHttpClient.ReservedStreamingHttpConnectionToReservedHttpConnection;
 
+import javax.annotation.Nullable;
+
 import static io.servicetalk.http.api.HttpContextKeys.HTTP_EXECUTION_STRATEGY_KEY;
 
 /**
@@ -434,6 +436,74 @@ public final class HttpApiConversions {
         return metadata instanceof PayloadInfo && ((PayloadInfo) metadata).mayHaveTrailers();
     }
 
+    /**
+     * Marks a request/response read from the transport as having a leased payload body: each
+     * {@link io.servicetalk.buffer.api.Buffer} is only valid until the next signal of the payload body is delivered.
+     * Aggregating such a request/response (e.g. {@link StreamingHttpRequest#toRequest()}) copies the payload body.
+     * <p>
+     * This state is kept with the payload body, not in the user-visible {@link HttpMetaData#context()}.
+     *
+     * @param metadata The request/response to mark.
+     * @return {@code true} if {@code metadata} was marked, {@code false} if it is not a transport request/response.
+     */
+    public static boolean markPayloadBodyLeased(HttpMetaData metadata) {
+        final DefaultPayloadInfo payloadInfo = payloadInfo(metadata);
+        if (payloadInfo == null) {
+            return false;
+        }
+        payloadInfo.setPayloadBodyLeased(true);
+        return true;
+    }
+
+    /**
+     * Checks whether a request/response has a leased payload body.
+     *
+     * @param metadata The request/response to check.
+     * @return {@code true} if the request/response payload body is leased, {@code false} otherwise.
+     * @see #markPayloadBodyLeased(HttpMetaData)
+     */
+    public static boolean isPayloadBodyLeased(HttpMetaData metadata) {
+        final DefaultPayloadInfo payloadInfo = payloadInfo(metadata);
+        return payloadInfo != null && payloadInfo.isPayloadBodyLeased();
+    }
+
+    /**
+     * Records that the leased payload body of a request/response has been handed to its final consumer, which
+     * becomes responsible for releasing it.
+     *
+     * @param metadata The request/response whose payload body lease is claimed.
+     * @see #markPayloadBodyLeased(HttpMetaData)
+     */
+    public static void claimPayloadBodyLease(HttpMetaData metadata) {
+        final DefaultPayloadInfo payloadInfo = payloadInfo(metadata);
+        if (payloadInfo != null) {
+            payloadInfo.setPayloadBodyLeaseClaimed(true);
+        }
+    }
+
+    /**
+     * Checks whether the leased payload body of a request/response has been claimed.
+     *
+     * @param metadata The request/response to check.
+     * @return {@code true} if {@link #claimPayloadBodyLease(HttpMetaData)} was called for the request/response,
+     * {@code false} otherwise.
+     */
+    public static boolean isPayloadBodyLeaseClaimed(HttpMetaData metadata) {
+        final DefaultPayloadInfo payloadInfo = payloadInfo(metadata);
+        return payloadInfo != null && payloadInfo.isPayloadBodyLeaseClaimed();
+    }
+
+    @Nullable
+    private static DefaultPayloadInfo payloadInfo(HttpMetaData metadata) {
+        if (metadata instanceof DefaultStreamingHttpRequest) {
+            return ((DefaultStreamingHttpRequest) metadata).payloadHolder().payloadInfo();
+        }
+        if (metadata instanceof DefaultStreamingHttpResponse) {
+            return ((DefaultStreamingHttpResponse) metadata).payloadHolder().payloadInfo();
+        }
+        return null;
+    }
+
     /**
      * A holder for {@link StreamingHttpService} that adapts another {@code service} to the streaming programming model.
      *
@@ -310,6 +310,23 @@ final class HttpDataSourceTransformations {
     static Single<PayloadAndTrailers> aggregatePayloadAndTrailers(final DefaultPayloadInfo payloadInfo,
                                                                   final Publisher<?> payloadAndTrailers,
                                                                   final BufferAllocator allocator) {
+        return aggregatePayloadAndTrailers(payloadInfo, payloadAndTrailers, allocator, false);
+    }
+
+    /**
+     * Aggregates the payload body and trailers.
+     *
+     * @param payloadInfo the {@link DefaultPayloadInfo} of the message.
+     * @param payloadAndTrailers the message body.
+     * @param allocator the {@link BufferAllocator} to use.
+     * @param copy {@code true} if payload body {@link Buffer}s are only valid until the next signal (leased) and have
+     * to be copied instead of referenced.
+     * @return the aggregated payload body and trailers.
+     */
+    static Single<PayloadAndTrailers> aggregatePayloadAndTrailers(final DefaultPayloadInfo payloadInfo,
+                                                                  final Publisher<?> payloadAndTrailers,
+                                                                  final BufferAllocator allocator,
+                                                                  final boolean copy) {
         if (payloadAndTrailers == empty()) {
             payloadInfo.setEmpty(true).setMayHaveTrailersAndGenericTypeBuffer(false);
             return succeeded(EMPTY_PAYLOAD_AND_TRAILERS);
@@ -318,7 +335,12 @@ final class HttpDataSourceTransformations {
             if (nextItem instanceof Buffer) {
                 try {
                     Buffer buffer = (Buffer) nextItem;
-                    if (isAlwaysEmpty(pair.payload)) {
+                    if (copy) {
+                        if (isAlwaysEmpty(pair.payload)) {
+                            pair.payload = allocator.newBuffer(buffer.readableBytes());
+                        }
+                        pair.payload.writeBytes(buffer);
+                    } else if (isAlwaysEmpty(pair.payload)) {
                         pair.payload = buffer;
                     } else if (pair.payload instanceof CompositeBuffer) {
                         ((CompositeBuffer) pair.payload).addBuffer(buffer);
@@ -114,6 +114,27 @@ public interface HttpServerBuilder {
                 "sslConfig(ServerSslConfig, Map, int, Duration) is not supported by " + getClass());
     }
 
+    /**
+     * Sets the maximum number of <a href="https://tools.ietf.org/html/rfc6066#section-3">SNI</a> SSL contexts to
+     * keep in memory for the {@code sniMap} of {@link #sslConfig(ServerSslConfig, Map)}.
+     * <p>
+     * By default, the SSL contexts of all {@link ServerSslConfig}s are created when the server starts. A positive value
+     * creates the SSL context of a {@link ServerSslConfig} when one of its hostnames is requested for the first time,
+     * and evicts the least recently used SSL context once the limit is reached. This keeps startup time and memory
+     * usage bounded for servers with many certificates. Hostnames which map to the same {@link ServerSslConfig}
+     * instance share one SSL context. SSL contexts are created on the {@link Executor} of the server's
+     * {@link HttpExecutionContext}, not on IO threads.
+     * <p>
+     * Note that with a positive value a misconfigured {@link ServerSslConfig} of the {@code sniMap} does not fail the
+     * server start. It fails the handshakes of connections which request one of its hostnames instead.
+     *
+     * @param maxContexts the maximum number of SNI SSL contexts, or {@code 0} to create all of them eagerly.
+     * @return {@code this}.
+     */
+    default HttpServerBuilder sniContextCacheSize(int maxContexts) {
+        throw new UnsupportedOperationException("sniContextCacheSize is not supported by " + getClass());
+    }
+
     /**
      * Set the transport configuration.
      *
@@ -150,6 +171,24 @@ public interface HttpServerBuilder {
      */
     <T> HttpServerBuilder listenSocketOption(SocketOption<T> option, T value);
 
+    /**
+     * Binds one server socket per IO thread using {@code SO_REUSEPORT} instead of a single server socket.
+     * <p>
+     * The kernel load-balances new connections between the server sockets, and each accepted connection is served by
+     * the IO thread that owns the server socket it arrived on. This removes the hand-off from a single accepting
+     * thread and keeps a connection on one core. It can improve the accept rate under heavy connection churn. This
+     * mode is only supported by native Linux transports (epoll and io_uring) for IP addresses. Other transports bind
+     * a single server socket.
+     * <p>
+     * Any {@link #listenSocketOption(SocketOption, Object) listen socket option} is applied to every server socket.
+     *
+     * @param reusePortListeners {@code true} to bind one {@code SO_REUSEPORT} server socket per IO thread.
+     * @return {@code this}.
+     */
+    default HttpServerBuilder reusePortListeners(boolean reusePortListeners) {
+        throw new UnsupportedOperationException("reusePortListeners is not supported by " + getClass());
+    }
+
     /**
      * Enables wire-logging for this server.
      *
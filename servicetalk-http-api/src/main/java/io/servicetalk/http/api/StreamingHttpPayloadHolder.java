@@ -34,6 +34,8 @@ import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import javax.annotation.Nullable;
 
+import static io.servicetalk.buffer.api.BufferAllocatorObserver.AllocationCategory.SERIALIZER;
+import static io.servicetalk.buffer.api.ObservableBufferAllocators.withCategory;
 import static io.servicetalk.concurrent.api.Processors.newSingleProcessor;
 import static io.servicetalk.concurrent.api.Publisher.defer;
 import static io.servicetalk.concurrent.api.Publisher.empty;
@@ -110,14 +112,15 @@ final class StreamingHttpPayloadHolder implements PayloadInfo {
     }
 
     <T> void payloadBody(final Publisher<T> payloadBody, final HttpStreamingSerializer<T> serializer) {
-        payloadBody(serializer.serialize(headers, payloadBody, allocator));
+        payloadBody(serializer.serialize(headers, payloadBody, serializationAllocator()));
         // Because #serialize(...) method may apply operators, check the original payloadBody again:
         payloadInfo.setEmpty(payloadBody == empty());
     }
 
     <T> void transformPayloadBody(Function<Publisher<Buffer>, Publisher<T>> transformer,
                                   HttpStreamingSerializer<T> serializer) {
-        transformPayloadBody(bufPub -> serializer.serialize(headers, transformer.apply(bufPub), allocator));
+        transformPayloadBody(bufPub -> serializer.serialize(headers, transformer.apply(bufPub),
+                serializationAllocator()));
     }
 
     void transformPayloadBody(UnaryOperator<Publisher<Buffer>> transformer) {
@@ -151,7 +154,7 @@ final class StreamingHttpPayloadHolder implements PayloadInfo {
             final Processor<HttpHeaders, HttpHeaders> trailersProcessor = newSingleProcessor();
             final Publisher<Buffer> transformedPayloadBody = body.liftSync(
                     new PreserveTrailersBufferOperator(trailersProcessor));
-            return merge(serializer.deserialize(headers, transformedPayloadBody, allocator),
+            return merge(serializer.deserialize(headers, transformedPayloadBody, serializationAllocator()),
                     fromSource(trailersProcessor)).scanWithMapper(() ->
                             new TrailersMapper<>(trailersTransformer, headersFactory))
                     .shareContextOnSubscribe();
@@ -178,7 +181,7 @@ final class StreamingHttpPayloadHolder implements PayloadInfo {
 
     Single<PayloadAndTrailers> aggregate() {
         payloadInfo.setSafeToAggregate(true);
-        return aggregatePayloadAndTrailers(payloadInfo, messageBody(), allocator);
+        return aggregatePayloadAndTrailers(payloadInfo, messageBody(), allocator, payloadInfo.isPayloadBodyLeased());
     }
 
     @Override
@@ -209,6 +212,10 @@ final class StreamingHttpPayloadHolder implements PayloadInfo {
         return allocator;
     }
 
+    BufferAllocator serializationAllocator() {
+        return withCategory(allocator, SERIALIZER);
+    }
+
     HttpHeadersFactory headersFactory() {
         return headersFactory;
     }
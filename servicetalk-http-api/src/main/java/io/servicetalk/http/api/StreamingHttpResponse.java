@@ -16,14 +16,21 @@
 package io.servicetalk.http.api;
 
 import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.buffer.api.FileRegionBuffer;
+import io.servicetalk.buffer.api.FileRegionBuffers;
 import io.servicetalk.concurrent.api.Publisher;
 import io.servicetalk.concurrent.api.Single;
 import io.servicetalk.context.api.ContextMap;
 import io.servicetalk.encoding.api.ContentCodec;
 
+import java.nio.channels.FileChannel;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
+import static io.servicetalk.http.api.FileRegionPayloads.fileRegions;
+import static io.servicetalk.http.api.HttpHeaderNames.CONTENT_LENGTH;
+import static io.servicetalk.http.api.HttpHeaderNames.TRANSFER_ENCODING;
+
 /**
  * The equivalent of {@link HttpResponse} but provides the payload as a {@link Publisher}.
  */
@@ -80,6 +87,30 @@ public interface StreamingHttpResponse extends HttpResponseMetaData {
      */
     StreamingHttpResponse payloadBody(Publisher<Buffer> payloadBody);
 
+    /**
+     * Returns a {@link StreamingHttpResponse} with its underlying payload set to {@code count} bytes of
+     * {@code fileChannel} starting at {@code position}.
+     * <p>
+     * The payload is emitted as {@link FileRegionBuffer}s. Transports which write the payload unmodified (e.g.
+     * plaintext HTTP/1.x) transfer them directly from the file to the socket (e.g. {@code sendfile}), otherwise they
+     * are memory mapped and written like any other {@link Buffer}. If neither {@link HttpHeaderNames#CONTENT_LENGTH}
+     * nor {@link HttpHeaderNames#TRANSFER_ENCODING} are present, {@link HttpHeaderNames#CONTENT_LENGTH} is set to
+     * {@code count}.
+     * @param fileChannel the {@link FileChannel} to read the payload body from. It is owned by the caller and must
+     * remain open until the payload body has been written.
+     * @param position the position in {@code fileChannel} of the first byte of the payload body.
+     * @param count the number of bytes of the payload body.
+     * @return {@code this}
+     * @see FileRegionBuffers
+     */
+    default StreamingHttpResponse payloadBody(FileChannel fileChannel, long position, long count) {
+        final Publisher<Buffer> payloadBody = fileRegions(fileChannel, position, count);
+        if (!headers().contains(CONTENT_LENGTH) && !headers().contains(TRANSFER_ENCODING)) {
+            headers().set(CONTENT_LENGTH, Long.toString(count));
+        }
+        return payloadBody(payloadBody);
+    }
+
     /**
      * Returns a {@link StreamingHttpResponse} with its underlying payload set to the result of serialization.
      * <p>
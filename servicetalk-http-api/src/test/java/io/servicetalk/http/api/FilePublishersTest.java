@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.api;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.concurrent.PublisherSource.Subscription;
+import io.servicetalk.concurrent.test.internal.TestPublisherSubscriber;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+
+import static io.servicetalk.concurrent.api.SourceAdapters.toSource;
+import static io.servicetalk.concurrent.internal.DeliberateException.DELIBERATE_EXCEPTION;
+import static io.servicetalk.http.api.FilePublishers.fromAsynchronousFile;
+import static io.servicetalk.http.api.FilePublishers.fromMappedFile;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Arrays.copyOfRange;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FilePublishersTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void mappedFileRegion() throws Exception {
+        final byte[] content = newFileContent(100_000);
+        try (FileChannel fileChannel = FileChannel.open(newFile(content), READ)) {
+            Collection<Buffer> buffers = fromMappedFile(fileChannel, 5, content.length - 10, 1000).toFuture().get();
+            assertThat(buffers, hasSize(100));
+            assertArrayEquals(copyOfRange(content, 5, content.length - 5), toByteArray(buffers));
+            assertThat(buffers.iterator().next().isReadOnly(), is(true));
+        }
+    }
+
+    @Test
+    void mappedFileEmptyRegion() throws Exception {
+        try (FileChannel fileChannel = FileChannel.open(newFile(newFileContent(10)), READ)) {
+            assertThat(fromMappedFile(fileChannel, 5, 0).toFuture().get(), hasSize(0));
+        }
+    }
+
+    @Test
+    void mappedFileInvalidArguments() throws Exception {
+        try (FileChannel fileChannel = FileChannel.open(newFile(newFileContent(10)), READ)) {
+            assertThrows(IllegalArgumentException.class, () -> fromMappedFile(fileChannel, -1, 5));
+            assertThrows(IllegalArgumentException.class, () -> fromMappedFile(fileChannel, 0, -1));
+            assertThrows(IllegalArgumentException.class, () -> fromMappedFile(fileChannel, 0, 5, 0));
+        }
+    }
+
+    @Test
+    void asynchronousFileRegion() throws Exception {
+        final byte[] content = newFileContent(100_000);
+        try (AsynchronousFileChannel fileChannel = AsynchronousFileChannel.open(newFile(content), READ)) {
+            Collection<Buffer> buffers = fromAsynchronousFile(fileChannel, 5, content.length - 10, 1000, 3)
+                    .toFuture().get();
+            assertArrayEquals(copyOfRange(content, 5, content.length - 5), toByteArray(buffers));
+        }
+    }
+
+    @Test
+    void asynchronousFileCompletesAtEndOfFile() throws Exception {
+        final byte[] content = newFileContent(10_000);
+        try (AsynchronousFileChannel fileChannel = AsynchronousFileChannel.open(newFile(content), READ)) {
+            Collection<Buffer> buffers = fromAsynchronousFile(fileChannel, 0, content.length * 2L, 4096, 2)
+                    .toFuture().get();
+            assertArrayEquals(content, toByteArray(buffers));
+        }
+    }
+
+    @Test
+    void asynchronousFileHonorsDemand() throws Exception {
+        final byte[] content = newFileContent(10_000);
+        try (AsynchronousFileChannel fileChannel = AsynchronousFileChannel.open(newFile(content), READ)) {
+            TestPublisherSubscriber<Buffer> subscriber = new TestPublisherSubscriber<>();
+            toSource(fromAsynchronousFile(fileChannel, 0, content.length, 1000, 2)).subscribe(subscriber);
+            Subscription subscription = subscriber.awaitSubscription();
+            assertThat(subscriber.pollOnNext(50, MILLISECONDS), is(nullValue()));
+
+            subscription.request(3);
+            List<Buffer> buffers = subscriber.takeOnNext(3);
+            assertArrayEquals(copyOfRange(content, 0, 3000), toByteArray(buffers));
+            assertThat(subscriber.pollOnNext(50, MILLISECONDS), is(nullValue()));
+
+            subscription.request(Long.MAX_VALUE);
+            buffers.addAll(subscriber.takeOnNext(7));
+            subscriber.awaitOnComplete();
+            assertArrayEquals(content, toByteArray(buffers));
+        }
+    }
+
+    @Test
+    void asynchronousFileInvalidRequestN() throws Exception {
+        try (AsynchronousFileChannel fileChannel = AsynchronousFileChannel.open(newFile(newFileContent(10)), READ)) {
+            TestPublisherSubscriber<Buffer> subscriber = new TestPublisherSubscriber<>();
+            toSource(fromAsynchronousFile(fileChannel, 0, 10)).subscribe(subscriber);
+            subscriber.awaitSubscription().request(-1);
+            assertThat(subscriber.awaitOnError(), is(instanceOf(IllegalArgumentException.class)));
+        }
+    }
+
+    @Test
+    void asynchronousFileOnNextThrows() throws Exception {
+        try (AsynchronousFileChannel fileChannel = AsynchronousFileChannel.open(newFile(newFileContent(10)), READ)) {
+            TestPublisherSubscriber<Buffer> subscriber = new TestPublisherSubscriber<>();
+            toSource(fromAsynchronousFile(fileChannel, 0, 10).beforeOnNext(__ -> {
+                throw DELIBERATE_EXCEPTION;
+            })).subscribe(subscriber);
+            subscriber.awaitSubscription().request(1);
+            assertThat(subscriber.awaitOnError(), is(DELIBERATE_EXCEPTION));
+        }
+    }
+
+    private Path newFile(final byte[] content) throws Exception {
+        final Path file = Files.createTempFile(tempDir, "file", ".bin");
+        Files.write(file, content);
+        return file;
+    }
+
+    private static byte[] newFileContent(final int length) {
+        final byte[] content = new byte[length];
+        new Random().nextBytes(content);
+        return content;
+    }
+
+    private static byte[] toByteArray(final Collection<Buffer> buffers) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (Buffer buffer : buffers) {
+            final byte[] bytes = new byte[buffer.readableBytes()];
+            buffer.getBytes(buffer.readerIndex(), bytes);
+            out.write(bytes, 0, bytes.length);
+        }
+        return out.toByteArray();
+    }
+}
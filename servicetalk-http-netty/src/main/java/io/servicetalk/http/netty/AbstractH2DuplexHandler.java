@@ -22,6 +22,7 @@ import io.servicetalk.http.api.HttpHeaders;
 import io.servicetalk.http.api.HttpHeadersFactory;
 import io.servicetalk.http.api.HttpMetaData;
 import io.servicetalk.transport.api.ConnectionObserver.StreamObserver;
+import io.servicetalk.transport.netty.internal.BackpressureStallTracker;
 import io.servicetalk.transport.netty.internal.CloseHandler;
 
 import io.netty.buffer.ByteBuf;
@@ -52,6 +53,7 @@ abstract class AbstractH2DuplexHandler extends ChannelDuplexHandler {
     final HttpHeadersFactory headersFactory;
     final CloseHandler closeHandler;
     final StreamObserver observer;
+    private final BackpressureStallTracker stallTracker;
 
     AbstractH2DuplexHandler(BufferAllocator allocator, HttpHeadersFactory headersFactory, CloseHandler closeHandler,
                             StreamObserver observer) {
@@ -59,6 +61,26 @@ abstract class AbstractH2DuplexHandler extends ChannelDuplexHandler {
         this.headersFactory = headersFactory;
         this.closeHandler = closeHandler;
         this.observer = observer;
+        this.stallTracker = BackpressureStallTracker.forStream(observer);
+    }
+
+    @Override
+    public final void channelReadComplete(final ChannelHandlerContext ctx) {
+        stallTracker.beforeReadComplete();
+        ctx.fireChannelReadComplete();
+        stallTracker.afterReadComplete(ctx.channel().config().isAutoRead());
+    }
+
+    @Override
+    public final void read(final ChannelHandlerContext ctx) {
+        stallTracker.read();
+        ctx.read();
+    }
+
+    @Override
+    public final void channelWritabilityChanged(final ChannelHandlerContext ctx) {
+        stallTracker.writabilityChanged(ctx.channel().isWritable());
+        ctx.fireChannelWritabilityChanged();
     }
 
     @Override
@@ -147,6 +169,7 @@ abstract class AbstractH2DuplexHandler extends ChannelDuplexHandler {
 
     @Override
     public final void channelInactive(final ChannelHandlerContext ctx) {
+        stallTracker.channelClosed();
         final Throwable t = channelError(ctx.channel());
         if (t == null) {
             observer.streamClosed();
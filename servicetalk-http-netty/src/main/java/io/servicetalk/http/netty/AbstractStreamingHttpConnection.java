@@ -63,6 +63,7 @@ import static io.servicetalk.http.netty.HeaderUtils.flatEmptyMessage;
 import static io.servicetalk.http.netty.HeaderUtils.setRequestContentLength;
 import static io.servicetalk.http.netty.HeaderUtils.shouldAppendTrailers;
 import static io.servicetalk.transport.netty.internal.FlushStrategies.flushOnEnd;
+import static io.servicetalk.transport.netty.internal.FlushStrategies.isAdaptiveFlush;
 import static java.util.Objects.requireNonNull;
 
 abstract class AbstractStreamingHttpConnection<CC extends NettyConnectionContext>
@@ -229,10 +230,12 @@ abstract class AbstractStreamingHttpConnection<CC extends NettyConnectionContext
     }
 
     @Nullable
-    private static FlushStrategy determineFlushStrategyForApi(final HttpRequestMetaData request) {
+    private FlushStrategy determineFlushStrategyForApi(final HttpRequestMetaData request) {
         // For non-aggregated requests or when "Expect: 100-continue" is detected, don't change the flush strategy,
-        // keep the default.
-        return isSafeToAggregateOrEmpty(request) && !REQ_EXPECT_CONTINUE.test(request) ? flushOnEnd() : null;
+        // keep the default. The adaptive strategy already flushes all items written within the same event loop task
+        // at once, so keep it for aggregated requests too.
+        return isSafeToAggregateOrEmpty(request) && !REQ_EXPECT_CONTINUE.test(request) &&
+                !isAdaptiveFlush(connection.defaultFlushStrategy()) ? flushOnEnd() : null;
     }
 
     static boolean isSafeToAggregateOrEmpty(final HttpMetaData request) {
@@ -233,6 +233,12 @@ class DefaultHttpServerBuilder implements HttpServerBuilder {
         return this;
     }
 
+    @Override
+    public HttpServerBuilder sniContextCacheSize(final int maxContexts) {
+        config.tcpConfig().sniContextCacheSize(maxContexts);
+        return this;
+    }
+
     @Override
     public HttpServerBuilder transportConfig(final TransportConfig transportConfig) {
         config.tcpConfig().transportConfig(transportConfig);
@@ -251,6 +257,12 @@ class DefaultHttpServerBuilder implements HttpServerBuilder {
         return this;
     }
 
+    @Override
+    public HttpServerBuilder reusePortListeners(final boolean reusePortListeners) {
+        config.tcpConfig().reusePortListeners(reusePortListeners);
+        return this;
+    }
+
     @Override
     public HttpServerBuilder enableWireLogging(final String loggerName, final LogLevel logLevel,
                                                final BooleanSupplier logUserData) {
@@ -355,9 +367,13 @@ class DefaultHttpServerBuilder implements HttpServerBuilder {
     }
 
     private List<StreamingHttpServiceFilterFactory> initNonOffloadsServiceFilters(
-            @Nullable final HttpLifecycleObserver lifecycleObserver) {
+            @Nullable final HttpLifecycleObserver lifecycleObserver, final boolean pooledPayloadBody) {
         final List<StreamingHttpServiceFilterFactory> filters = new ArrayList<>();
         // Append internal filters:
+        if (pooledPayloadBody) {
+            // Must see the request payload body before any other filter may drain it.
+            appendNonOffloadingServiceFilter(filters, LeasedPayloadBodyServiceFilter.RELEASE_UNCLAIMED);
+        }
         if (drainRequestPayloadBody) {
             appendNonOffloadingServiceFilter(filters, HttpRequestAutoDrainingServiceFilter.INSTANCE);
         }
@@ -409,8 +425,10 @@ class DefaultHttpServerBuilder implements HttpServerBuilder {
         final LateConnectionAcceptor lateConnectionAcceptor = buildLateConnectionAcceptor(lateConnectionAcceptors);
 
         final ReadOnlyHttpServerConfig roConfig = config.asReadOnly();
+        final H1ProtocolConfig h1Config = roConfig.h1Config();
+        final boolean pooledPayloadBody = h1Config != null && h1Config.pooledPayloadBody();
         final List<StreamingHttpServiceFilterFactory> noOffloadServiceFilters =
-                initNonOffloadsServiceFilters(config.lifecycleObserver());
+                initNonOffloadsServiceFilters(config.lifecycleObserver(), pooledPayloadBody);
 
         final HttpExecutionContext executionContext;
         Stream<StreamingHttpServiceFilterFactory> filters = noOffloadServiceFilters.stream();
@@ -424,6 +442,10 @@ class DefaultHttpServerBuilder implements HttpServerBuilder {
         }
         // All the filters can be appended.
         filters = Stream.concat(filters, serviceFilters.stream());
+        if (pooledPayloadBody) {
+            // Leased buffers are released on the next signal, so the lease must start after any offloading.
+            filters = Stream.concat(filters, Stream.of(LeasedPayloadBodyServiceFilter.LEASE));
+        }
         final StreamingHttpService filteredService = buildService(alterFilters(filters), service);
 
         final HttpExecutionStrategy builderStrategy = this.strategy;
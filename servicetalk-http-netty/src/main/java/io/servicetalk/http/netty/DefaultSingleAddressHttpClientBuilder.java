@@ -271,6 +271,14 @@ final class DefaultSingleAddressHttpClientBuilder<U, R> implements SingleAddress
             connectionFilterFactory = appendConnectionFilter(connectionFilterFactory,
                     HttpMessageDiscardWatchdogClientFilter.INSTANCE);
 
+            final H1ProtocolConfig pooledH1Config = roConfig.h1Config();
+            final boolean pooledPayloadBody = pooledH1Config != null && pooledH1Config.pooledPayloadBody();
+            if (pooledPayloadBody) {
+                // Must see the response payload body before any filter may drain it.
+                connectionFilterFactory = appendConnectionFilter(connectionFilterFactory,
+                        LeasedPayloadBodyClientFilter.RELEASE_UNCLAIMED);
+            }
+
             if (roConfig.isH2PriorKnowledge() &&
                     // Direct connection or HTTP proxy
                     (!roConfig.hasProxy() || sslContext == null)) {
@@ -331,6 +339,10 @@ final class DefaultSingleAddressHttpClientBuilder<U, R> implements SingleAddress
             currClientFilterFactory = appendFilter(currClientFilterFactory, InternalRetryingHttpClientFilter.INSTANCE);
             FilterableStreamingHttpClient wrappedClient =
                     currClientFilterFactory.create(lbClient, lb.eventStream(), ctx.sdStatus);
+            if (pooledPayloadBody) {
+                // Leased buffers are released on the next signal, so the lease must start after all filters.
+                wrappedClient = LeasedPayloadBodyClientFilter.LEASE.create(wrappedClient);
+            }
 
             if (builderStrategy != defaultStrategy() &&
                     builderStrategy.missing(computedStrategy) != offloadNone()) {
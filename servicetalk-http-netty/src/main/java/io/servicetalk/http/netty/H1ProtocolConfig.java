@@ -94,4 +94,27 @@ public interface H1ProtocolConfig extends HttpProtocolConfig {
      * @return exceptions for <a href="https://tools.ietf.org/html/rfc7230">HTTP/1.1</a> specification
      */
     H1SpecExceptions specExceptions();
+
+    /**
+     * Determines if inbound payload body {@link io.servicetalk.buffer.api.Buffer}s reference pooled memory read from
+     * the socket instead of being copied into unpooled memory.
+     * <p>
+     * When enabled, each payload body {@link io.servicetalk.buffer.api.Buffer} is leased: it is only valid until the
+     * next signal (next item, terminal, or cancellation) is delivered by the payload body
+     * {@link io.servicetalk.concurrent.api.Publisher}, after which the underlying memory is returned to the pool.
+     * Consumers that need the data for longer must copy it. Buffers that are written back to a connection (e.g. by a
+     * proxy) remain valid until the write is done.
+     * <p>
+     * Messages with a leased payload body are reported by
+     * {@link io.servicetalk.http.api.HttpApiConversions#isPayloadBodyLeased(io.servicetalk.http.api.HttpMetaData)}.
+     * Aggregating APIs (e.g. {@link io.servicetalk.http.api.HttpService} or
+     * {@link io.servicetalk.http.api.StreamingHttpRequest#toRequest()}) copy such payload bodies into memory from the
+     * configured {@link io.servicetalk.buffer.api.BufferAllocator}, so the benefit of this option is limited to
+     * streaming APIs. Only HTTP/1.x payload bodies are affected.
+     *
+     * @return {@code true} if inbound payload body buffers reference pooled memory
+     */
+    default boolean pooledPayloadBody() {
+        return false;
+    }
 }
@@ -39,6 +39,7 @@ public final class H1ProtocolConfigBuilder {
     private int headersEncodedSizeEstimate = 256;
     private int trailersEncodedSizeEstimate = 256;
     private H1SpecExceptions specExceptions = DEFAULT_H1_SPEC_EXCEPTIONS;
+    private boolean pooledPayloadBody;
 
     H1ProtocolConfigBuilder() {
     }
@@ -146,6 +147,18 @@ public final class H1ProtocolConfigBuilder {
         return this;
     }
 
+    /**
+     * Sets whether inbound payload body buffers reference pooled memory read from the socket instead of being copied.
+     *
+     * @param pooledPayloadBody {@code true} to expose inbound payload body as leased buffers backed by pooled memory
+     * @return {@code this}
+     * @see H1ProtocolConfig#pooledPayloadBody()
+     */
+    public H1ProtocolConfigBuilder pooledPayloadBody(final boolean pooledPayloadBody) {
+        this.pooledPayloadBody = pooledPayloadBody;
+        return this;
+    }
+
     /**
      * Builds {@link H1ProtocolConfig}.
      *
@@ -153,7 +166,8 @@ public final class H1ProtocolConfigBuilder {
      */
     public H1ProtocolConfig build() {
         return new DefaultH1ProtocolConfig(headersFactory, maxPipelinedRequests, maxStartLineLength,
-                maxHeaderFieldLength, headersEncodedSizeEstimate, trailersEncodedSizeEstimate, specExceptions);
+                maxHeaderFieldLength, headersEncodedSizeEstimate, trailersEncodedSizeEstimate, specExceptions,
+                pooledPayloadBody);
     }
 
     private static final class DefaultH1ProtocolConfig implements H1ProtocolConfig {
@@ -165,11 +179,12 @@ public final class H1ProtocolConfigBuilder {
         private final int headersEncodedSizeEstimate;
         private final int trailersEncodedSizeEstimate;
         private final H1SpecExceptions specExceptions;
+        private final boolean pooledPayloadBody;
 
         DefaultH1ProtocolConfig(final HttpHeadersFactory headersFactory, final int maxPipelinedRequests,
                                 final int maxStartLineLength, final int maxHeaderFieldLength,
                                 final int headersEncodedSizeEstimate, final int trailersEncodedSizeEstimate,
-                                final H1SpecExceptions specExceptions) {
+                                final H1SpecExceptions specExceptions, final boolean pooledPayloadBody) {
             this.headersFactory = headersFactory;
             this.maxPipelinedRequests = maxPipelinedRequests;
             this.maxStartLineLength = maxStartLineLength;
@@ -177,6 +192,7 @@ public final class H1ProtocolConfigBuilder {
             this.headersEncodedSizeEstimate = headersEncodedSizeEstimate;
             this.trailersEncodedSizeEstimate = trailersEncodedSizeEstimate;
             this.specExceptions = specExceptions;
+            this.pooledPayloadBody = pooledPayloadBody;
         }
 
         @Override
@@ -214,6 +230,11 @@ public final class H1ProtocolConfigBuilder {
             return specExceptions;
         }
 
+        @Override
+        public boolean pooledPayloadBody() {
+            return pooledPayloadBody;
+        }
+
         @Override
         public String toString() {
             return getClass().getSimpleName() +
@@ -225,6 +246,7 @@ public final class H1ProtocolConfigBuilder {
                     ", headersEncodedSizeEstimate=" + headersEncodedSizeEstimate +
                     ", trailersEncodedSizeEstimate=" + trailersEncodedSizeEstimate +
                     ", specExceptions=" + specExceptions +
+                    ", pooledPayloadBody=" + pooledPayloadBody +
                     '}';
         }
     }
@@ -134,7 +134,7 @@ class H2ParentConnectionContext extends NettyChannelListenableAsyncCloseable imp
     @Nullable
     @Override
     public <T> T socketOption(final SocketOption<T> option) {
-        return getOption(option, channel().config(), idleTimeoutMs);
+        return getOption(option, channel(), channel().config(), idleTimeoutMs);
     }
 
     @Override
@@ -48,9 +48,7 @@ final class HttpClientChannelInitializer implements ChannelInitializer {
      */
     HttpClientChannelInitializer(final ByteBufAllocator alloc, final H1ProtocolConfig config,
                                  final CloseHandler closeHandler) {
-        // H1 slices passed memory chunks into headers and payload body without copying and will emit them to the
-        // user-code. Therefore, ByteBufs must be copied to unpooled memory before HttpObjectDecoder.
-        this.delegate = new CopyByteBufHandlerChannelInitializer(alloc).andThen(channel -> {
+        final ChannelInitializer codec = channel -> {
             final int minPipelinedRequests = min(8, config.maxPipelinedRequests());
             final Queue<HttpRequestMethod> methodQueue = new ArrayDeque<>(minPipelinedRequests);
             final ArrayDeque<Signal> signalsQueue = new ArrayDeque<>(minPipelinedRequests);
@@ -58,10 +56,15 @@ final class HttpClientChannelInitializer implements ChannelInitializer {
             pipeline.addLast(new HttpResponseDecoder(methodQueue, signalsQueue, alloc, config.headersFactory(),
                     config.maxStartLineLength(), config.maxHeaderFieldLength(),
                     config.specExceptions().allowPrematureClosureBeforePayloadBody(),
-                    config.specExceptions().allowLFWithoutCR(), closeHandler));
+                    config.specExceptions().allowLFWithoutCR(), closeHandler, config.pooledPayloadBody()));
             pipeline.addLast(new HttpRequestEncoder(methodQueue, signalsQueue,
                     config.headersEncodedSizeEstimate(), config.trailersEncodedSizeEstimate(), closeHandler));
-        });
+        };
+        // H1 slices passed memory chunks into headers and payload body without copying and will emit them to the
+        // user-code. Therefore, ByteBufs must be copied to unpooled memory before HttpObjectDecoder, unless payload
+        // body is explicitly exposed as leased pooled buffers.
+        this.delegate = config.pooledPayloadBody() ? codec :
+                new CopyByteBufHandlerChannelInitializer(alloc).andThen(codec);
     }
 
     @Override
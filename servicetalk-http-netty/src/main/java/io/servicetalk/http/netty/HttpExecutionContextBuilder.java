@@ -16,6 +16,7 @@
 package io.servicetalk.http.netty;
 
 import io.servicetalk.buffer.api.BufferAllocator;
+import io.servicetalk.buffer.api.BufferAllocatorObserver;
 import io.servicetalk.concurrent.api.Executor;
 import io.servicetalk.http.api.DefaultHttpExecutionContext;
 import io.servicetalk.http.api.HttpExecutionContext;
@@ -52,6 +53,12 @@ final class HttpExecutionContextBuilder extends ExecutionContextBuilder<HttpExec
         return this;
     }
 
+    @Override
+    public HttpExecutionContextBuilder bufferAllocatorObserver(final BufferAllocatorObserver observer) {
+        super.bufferAllocatorObserver(observer);
+        return this;
+    }
+
     @Override
     public HttpExecutionContextBuilder executionStrategy(final HttpExecutionStrategy strategy) {
         super.executionStrategy(strategy);
@@ -66,7 +73,7 @@ final class HttpExecutionContextBuilder extends ExecutionContextBuilder<HttpExec
     @Override
     public HttpExecutionContext build() {
         return new DefaultHttpExecutionContext(
-                allocator == null ? defaultContextSupplier.get().bufferAllocator() : allocator,
+                buildBufferAllocator(),
                 ioExecutor == null ? defaultContextSupplier.get().ioExecutor() : ioExecutor,
                 executor == null ? defaultContextSupplier.get().executor() : executor,
                 strategy == null ? defaultStrategy() : strategy);
@@ -61,10 +61,10 @@ import static io.netty.handler.codec.http.HttpConstants.CR;
 import static io.netty.handler.codec.http.HttpConstants.HT;
 import static io.netty.handler.codec.http.HttpConstants.LF;
 import static io.netty.handler.codec.http.HttpConstants.SP;
-import static io.netty.util.ByteProcessor.FIND_LF;
 import static io.servicetalk.buffer.api.CharSequences.emptyAsciiString;
 import static io.servicetalk.buffer.api.CharSequences.newAsciiString;
 import static io.servicetalk.buffer.netty.BufferUtils.newBufferFrom;
+import static io.servicetalk.buffer.netty.BufferUtils.newLeasedBufferFrom;
 import static io.servicetalk.concurrent.internal.FlowControlUtils.addWithOverflowProtection;
 import static io.servicetalk.http.api.HeaderUtils.isTransferEncodingChunked;
 import static io.servicetalk.http.api.HttpHeaderNames.CONTENT_LENGTH;
@@ -142,6 +142,12 @@ abstract class HttpObjectDecoder<T extends HttpMetaData> extends ByteToMessageDe
      * </pre>
      */
     private final boolean allowLFWithoutCR;
+    /**
+     * Unpooled allocator used to copy header fields when {@link #pooledPayloadBody} is enabled, so that headers do not
+     * retain pooled memory.
+     */
+    private final ByteBufAllocator alloc;
+    private final boolean pooledPayloadBody;
     @Nullable
     private T message;
     @Nullable
@@ -179,8 +185,10 @@ abstract class HttpObjectDecoder<T extends HttpMetaData> extends ByteToMessageDe
     HttpObjectDecoder(final ByteBufAllocator alloc, final HttpHeadersFactory headersFactory,
                       final int maxStartLineLength, final int maxHeaderFieldLength,
                       final boolean allowPrematureClosureBeforePayloadBody, final boolean allowLFWithoutCR,
-                      final CloseHandler closeHandler) {
+                      final CloseHandler closeHandler, final boolean pooledPayloadBody) {
         super(alloc);
+        this.alloc = alloc;
+        this.pooledPayloadBody = pooledPayloadBody;
         this.closeHandler = requireNonNull(closeHandler);
         this.headersFactory = requireNonNull(headersFactory);
         this.maxStartLineLength = ensurePositive(maxStartLineLength, "maxStartLineLength");
@@ -193,6 +201,22 @@ abstract class HttpObjectDecoder<T extends HttpMetaData> extends ByteToMessageDe
         return headersFactory;
     }
 
+    private Buffer newContentBuffer(final ByteBuf content) {
+        // Content which references pooled memory (e.g. the cumulation was not copied) is exposed as a leased Buffer
+        // which is released by the payload body Publisher after the next signal.
+        return pooledPayloadBody && content.alloc().isDirectBufferPooled() ?
+                newLeasedBufferFrom(content) : newBufferFrom(content);
+    }
+
+    private ByteBuf headerSlice(final ByteBuf buffer, final int index, final int length) {
+        if (pooledPayloadBody) {
+            // Headers may outlive the payload body, copy to avoid retaining pooled memory.
+            return alloc.buffer(length).writeBytes(buffer, index, length);
+        }
+        // We assume the allocator will not leak memory, and so we retain + slice to avoid copying data.
+        return buffer.retainedSlice(index, length);
+    }
+
     /**
      * Determine if this {@link HttpObjectDecoder} is responsible for decoding requests or not. Behavior may differ
      * if a request/response is being parsed around request/response termination. See
@@ -367,7 +391,7 @@ abstract class HttpObjectDecoder<T extends HttpMetaData> extends ByteToMessageDe
                     onDataSeen();
                     ByteBuf content = buffer.readRetainedSlice(toRead);
                     cumulationIndex = buffer.readerIndex();
-                    ctx.fireChannelRead(newBufferFrom(content));
+                    ctx.fireChannelRead(newContentBuffer(content));
                 }
                 return;
             }
@@ -396,11 +420,11 @@ abstract class HttpObjectDecoder<T extends HttpMetaData> extends ByteToMessageDe
                     // Read all content.
                     // https://tools.ietf.org/html/rfc7230.html#section-4.1
                     // This is not chunked encoding so there will not be any trailers.
-                    ctx.fireChannelRead(newBufferFrom(content));
+                    ctx.fireChannelRead(newContentBuffer(content));
                     closeHandler.protocolPayloadEndInbound(ctx);
                     resetNow();
                 } else {
-                    ctx.fireChannelRead(newBufferFrom(content));
+                    ctx.fireChannelRead(newContentBuffer(content));
                 }
                 return;
             }
@@ -429,7 +453,7 @@ abstract class HttpObjectDecoder<T extends HttpMetaData> extends ByteToMessageDe
                     return;
                 }
                 onDataSeen();
-                Buffer chunk = newBufferFrom(buffer.readRetainedSlice(toRead));
+                Buffer chunk = newContentBuffer(buffer.readRetainedSlice(toRead));
                 chunkSize -= toRead;
                 cumulationIndex = buffer.readerIndex();
 
@@ -666,8 +690,7 @@ abstract class HttpObjectDecoder<T extends HttpMetaData> extends ByteToMessageDe
         if (nameEnd == nameStart) {
             throw newDecoderExceptionAtLine("Empty header name in line ", parsingLine);
         }
-        // We assume the allocator will not leak memory, and so we retain + slice to avoid copying data.
-        final CharSequence name = newAsciiString(newBufferFrom(buffer.retainedSlice(nameStart, nameEnd - nameStart)));
+        final CharSequence name = newAsciiString(newBufferFrom(headerSlice(buffer, nameStart, nameEnd - nameStart)));
         final CharSequence value;
         try {
             final int valueStart;
@@ -677,8 +700,8 @@ abstract class HttpObjectDecoder<T extends HttpMetaData> extends ByteToMessageDe
             } else {
                 final int valueEnd =
                         buffer.forEachByteDesc(valueStart, nonControlIndex - valueStart + 1, FIND_FIELD_VALUE);
-                // We assume the allocator will not leak memory, and so we retain + slice to avoid copying data.
-                value = newAsciiString(newBufferFrom(buffer.retainedSlice(valueStart, valueEnd - valueStart + 1)));
+                value = newAsciiString(newBufferFrom(
+                        headerSlice(buffer, valueStart, valueEnd - valueStart + 1)));
             }
         } catch (IllegalCharacterException cause) {
             throw invalidHeaderValue(name, parsingLine, cause);
@@ -910,7 +933,8 @@ abstract class HttpObjectDecoder<T extends HttpMetaData> extends ByteToMessageDe
         if (fromIndex >= toIndex) {
             return -1;
         }
-        return buffer.forEachByte(fromIndex, toIndex - fromIndex, FIND_LF);
+        // ByteBuf#indexOf searches 8 bytes at a time while ByteBuf#forEachByte visits every byte.
+        return buffer.indexOf(fromIndex, toIndex, LF);
     }
 
     private DecoderException newStartLineError(final String place) {
@@ -43,6 +43,7 @@ import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
+import io.netty.channel.FileRegion;
 import io.netty.util.concurrent.PromiseCombiner;
 
 import java.io.IOException;
@@ -68,6 +69,7 @@ import static io.servicetalk.http.api.HttpHeaderNames.TRANSFER_ENCODING;
 import static io.servicetalk.http.api.HttpHeaderValues.CHUNKED;
 import static io.servicetalk.http.api.HttpProtocolVersion.HTTP_1_1;
 import static io.servicetalk.http.netty.HttpKeepAlive.shouldClose;
+import static io.servicetalk.transport.netty.internal.FileRegions.toFileRegionNoThrow;
 import static java.lang.Long.toHexString;
 import static java.lang.Math.max;
 import static java.nio.charset.StandardCharsets.US_ASCII;
@@ -213,7 +215,7 @@ abstract class HttpObjectEncoder<T extends HttpMetaData> extends ChannelDuplexHa
                 if (state == 0) {
                     contentLenConsumed(ctx, promise);
                 }
-                ctx.write(encodeAndRetain(stBuffer), promise);
+                ctx.write(encodeContentAndRetain(ctx, stBuffer), promise);
             }
         } else if (msg instanceof HttpHeaders) {
             final boolean isChunked = state == CONTENT_LEN_CHUNKED;
@@ -399,7 +401,7 @@ abstract class HttpObjectEncoder<T extends HttpMetaData> extends ChannelDuplexHa
                 throw e;
             }
             promiseCombiner.add(ctx.write(buf));
-            promiseCombiner.add(ctx.write(encodeAndRetain(msg)));
+            promiseCombiner.add(ctx.write(encodeContentAndRetain(ctx, msg)));
             promiseCombiner.add(ctx.write(CRLF_BUF.duplicate()));
         } else {
             assert contentLength == 0;
@@ -479,6 +481,13 @@ abstract class HttpObjectEncoder<T extends HttpMetaData> extends ChannelDuplexHa
         }
     }
 
+    private static Object encodeContentAndRetain(ChannelHandlerContext ctx, Buffer msg) {
+        // HTTP/1.x content is written as-is (or between chunk delimiters), so a file region can be transferred directly
+        // from the file to the socket if no handler in front of the encoder needs the bytes in memory.
+        final FileRegion fileRegion = toFileRegionNoThrow(ctx, msg);
+        return fileRegion != null ? fileRegion : encodeAndRetain(msg);
+    }
+
     static ByteBuf encodeAndRetain(Buffer msg) {
         // We still want to retain the objects we encode because otherwise folks may hold on to references of objects
         // with a 0 reference count and get an IllegalReferenceCountException.
@@ -57,8 +57,17 @@ final class HttpRequestDecoder extends HttpObjectDecoder<HttpRequestMetaData> im
                        final HttpHeadersFactory headersFactory, final int maxStartLineLength,
                        final int maxHeaderFieldLength, final boolean allowPrematureClosureBeforePayloadBody,
                        final boolean allowLFWithoutCR, final CloseHandler closeHandler) {
+        this(methodQueue, alloc, headersFactory, maxStartLineLength, maxHeaderFieldLength,
+                allowPrematureClosureBeforePayloadBody, allowLFWithoutCR, closeHandler, false);
+    }
+
+    HttpRequestDecoder(final Queue<HttpRequestMethod> methodQueue, final ByteBufAllocator alloc,
+                       final HttpHeadersFactory headersFactory, final int maxStartLineLength,
+                       final int maxHeaderFieldLength, final boolean allowPrematureClosureBeforePayloadBody,
+                       final boolean allowLFWithoutCR, final CloseHandler closeHandler,
+                       final boolean pooledPayloadBody) {
         super(alloc, headersFactory, maxStartLineLength, maxHeaderFieldLength, allowPrematureClosureBeforePayloadBody,
-                allowLFWithoutCR, closeHandler);
+                allowLFWithoutCR, closeHandler, pooledPayloadBody);
         this.methodQueue = requireNonNull(methodQueue);
         this.closeHandler = closeHandler;
     }
@@ -78,8 +78,17 @@ final class HttpResponseDecoder extends HttpObjectDecoder<HttpResponseMetaData>
                         final HttpHeadersFactory headersFactory, final int maxStartLineLength, int maxHeaderFieldLength,
                         final boolean allowPrematureClosureBeforePayloadBody, final boolean allowLFWithoutCR,
                         final CloseHandler closeHandler) {
+        this(methodQueue, signalsQueue, alloc, headersFactory, maxStartLineLength, maxHeaderFieldLength,
+                allowPrematureClosureBeforePayloadBody, allowLFWithoutCR, closeHandler, false);
+    }
+
+    HttpResponseDecoder(final Queue<HttpRequestMethod> methodQueue, final Deque<Signal> signalsQueue,
+                        final ByteBufAllocator alloc,
+                        final HttpHeadersFactory headersFactory, final int maxStartLineLength, int maxHeaderFieldLength,
+                        final boolean allowPrematureClosureBeforePayloadBody, final boolean allowLFWithoutCR,
+                        final CloseHandler closeHandler, final boolean pooledPayloadBody) {
         super(alloc, headersFactory, maxStartLineLength, maxHeaderFieldLength, allowPrematureClosureBeforePayloadBody,
-                allowLFWithoutCR, closeHandler);
+                allowLFWithoutCR, closeHandler, pooledPayloadBody);
         this.methodQueue = requireNonNull(methodQueue);
         this.signalsQueue = requireNonNull(signalsQueue);
     }
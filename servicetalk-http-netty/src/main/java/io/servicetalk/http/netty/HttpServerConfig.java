@@ -21,6 +21,7 @@ import io.servicetalk.tcp.netty.internal.TcpServerConfig;
 import io.servicetalk.transport.api.DelegatingServerSslConfig;
 import io.servicetalk.transport.api.ServerSslConfig;
 
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -94,10 +95,13 @@ final class HttpServerConfig {
                 // Make a copy in case the original map is unmodifiable. Use LinkedHashMap to preserve iteration order
                 // in case there is order precedence in the matching algorithm.
                 Map<String, ServerSslConfig> sniMapOverrides = new LinkedHashMap<>(sniMap.size());
+                // Hostnames which share a ServerSslConfig instance keep sharing it, so they can share an SslContext.
+                Map<ServerSslConfig, ServerSslConfig> overrides = new IdentityHashMap<>();
                 for (Entry<String, ServerSslConfig> sniConfigEntry : sniMap.entrySet()) {
-                    ServerSslConfig sniConfig = sniConfigEntry.getValue();
-                    sniMapOverrides.put(sniConfigEntry.getKey(), new DelegatingHttpServerSslConfig(sniConfig,
-                                    httpAlpnProtocols(sniConfig.alpnProtocols(), httpConfig.supportedAlpnProtocols())));
+                    ServerSslConfig sniConfig = overrides.computeIfAbsent(sniConfigEntry.getValue(),
+                            c -> new DelegatingHttpServerSslConfig(c,
+                                    httpAlpnProtocols(c.alpnProtocols(), httpConfig.supportedAlpnProtocols())));
+                    sniMapOverrides.put(sniConfigEntry.getKey(), sniConfig);
                 }
                 tcpConfig.sslConfig(sslConfig, sniMapOverrides, tcpConfig.sniMaxClientHelloLength(),
                         tcpConfig.sniClientHelloTimeout(), tcpConfig.acceptInsecureConnections());
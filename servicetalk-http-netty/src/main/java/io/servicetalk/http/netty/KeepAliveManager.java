@@ -18,6 +18,7 @@ package io.servicetalk.http.netty;
 import io.servicetalk.concurrent.internal.ThrowableUtils;
 import io.servicetalk.http.netty.H2ProtocolConfig.KeepAlivePolicy;
 import io.servicetalk.transport.netty.internal.ChannelCloseUtils;
+import io.servicetalk.transport.netty.internal.TimingWheelIdleStateHandler;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.UnpooledByteBufAllocator;
@@ -31,8 +32,6 @@ import io.netty.handler.codec.http2.Http2Error;
 import io.netty.handler.codec.http2.Http2PingFrame;
 import io.netty.handler.codec.http2.Http2StreamChannel;
 import io.netty.handler.ssl.SslHandler;
-import io.netty.handler.timeout.IdleStateEvent;
-import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 import org.slf4j.Logger;
@@ -124,9 +123,9 @@ final class KeepAliveManager {
         this(channel, keepAlivePolicy, (task, delay, unit) ->
                         channel.eventLoop().schedule(task, delay, unit),
                 (ch, idlenessThresholdNanos, onIdle) -> ch.pipeline().addLast(
-                        new IdleStateHandler(0, 0, idlenessThresholdNanos, NANOSECONDS) {
+                        new TimingWheelIdleStateHandler(idlenessThresholdNanos, NANOSECONDS) {
                             @Override
-                            protected void channelIdle(final ChannelHandlerContext ctx, final IdleStateEvent evt) {
+                            protected void channelIdle(final ChannelHandlerContext ctx) {
                                 onIdle.run();
                             }
                         }));
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.netty;
+
+import io.servicetalk.concurrent.api.Single;
+import io.servicetalk.http.api.FilterableStreamingHttpClient;
+import io.servicetalk.http.api.FilterableStreamingHttpConnection;
+import io.servicetalk.http.api.HttpExecutionStrategies;
+import io.servicetalk.http.api.HttpExecutionStrategy;
+import io.servicetalk.http.api.StreamingHttpClientFilter;
+import io.servicetalk.http.api.StreamingHttpClientFilterFactory;
+import io.servicetalk.http.api.StreamingHttpConnectionFilter;
+import io.servicetalk.http.api.StreamingHttpConnectionFilterFactory;
+import io.servicetalk.http.api.StreamingHttpRequest;
+import io.servicetalk.http.api.StreamingHttpRequester;
+import io.servicetalk.http.api.StreamingHttpResponse;
+
+import static io.servicetalk.http.netty.LeasedPayloadBodyOperator.lease;
+import static io.servicetalk.http.netty.LeasedPayloadBodyOperator.releaseUnclaimed;
+
+/**
+ * Filter which releases leased response payload body buffers that are consumed by filters without reaching the user.
+ *
+ * @see H1ProtocolConfig#pooledPayloadBody()
+ */
+final class LeasedPayloadBodyClientFilter implements StreamingHttpConnectionFilterFactory {
+
+    /**
+     * Instance which must be the last connection filter.
+     */
+    static final StreamingHttpConnectionFilterFactory RELEASE_UNCLAIMED = new LeasedPayloadBodyClientFilter();
+
+    /**
+     * Instance of {@link StreamingHttpClientFilterFactory} which must wrap the client after all other filters, it
+     * leases buffers to the user.
+     */
+    static final StreamingHttpClientFilterFactory LEASE = new LeaseStreamingHttpClientFilterFactory();
+
+    private LeasedPayloadBodyClientFilter() {
+        // Singleton
+    }
+
+    @Override
+    public StreamingHttpConnectionFilter create(final FilterableStreamingHttpConnection connection) {
+        return new StreamingHttpConnectionFilter(connection) {
+            @Override
+            public Single<StreamingHttpResponse> request(final StreamingHttpRequest request) {
+                return delegate().request(request).map(response ->
+                        response.transformMessageBody(body -> releaseUnclaimed(response, body)));
+            }
+        };
+    }
+
+    @Override
+    public HttpExecutionStrategy requiredOffloads() {
+        return HttpExecutionStrategies.offloadNone();
+    }
+
+    private static final class LeaseStreamingHttpClientFilterFactory implements StreamingHttpClientFilterFactory {
+        @Override
+        public StreamingHttpClientFilter create(final FilterableStreamingHttpClient client) {
+            return new StreamingHttpClientFilter(client) {
+                @Override
+                protected Single<StreamingHttpResponse> request(final StreamingHttpRequester delegate,
+                                                                final StreamingHttpRequest request) {
+                    return delegate.request(request).map(response ->
+                            response.transformMessageBody(body -> lease(response, body)));
+                }
+            };
+        }
+
+        @Override
+        public HttpExecutionStrategy requiredOffloads() {
+            return HttpExecutionStrategies.offloadNone();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.netty;
+
+import io.servicetalk.buffer.netty.BufferUtils;
+import io.servicetalk.concurrent.PublisherSource.Subscriber;
+import io.servicetalk.concurrent.PublisherSource.Subscription;
+import io.servicetalk.concurrent.api.Publisher;
+import io.servicetalk.concurrent.api.PublisherOperator;
+import io.servicetalk.http.api.HttpApiConversions;
+import io.servicetalk.http.api.HttpMetaData;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.buffer.netty.BufferUtils.releaseLeased;
+import static io.servicetalk.concurrent.api.Publisher.defer;
+import static io.servicetalk.http.api.HttpApiConversions.claimPayloadBodyLease;
+import static io.servicetalk.http.api.HttpApiConversions.isPayloadBodyLeaseClaimed;
+import static io.servicetalk.http.api.HttpApiConversions.markPayloadBodyLeased;
+
+/**
+ * Releases leased payload body {@link io.servicetalk.buffer.api.Buffer}s once the next signal (item, terminal, or
+ * cancellation) has been delivered, so each buffer is valid until its consumer requests or receives more data.
+ *
+ * @see H1ProtocolConfig#pooledPayloadBody()
+ */
+final class LeasedPayloadBodyOperator implements PublisherOperator<Object, Object> {
+
+    private static final PublisherOperator<Object, Object> INSTANCE = new LeasedPayloadBodyOperator();
+
+    private LeasedPayloadBodyOperator() {
+        // Singleton
+    }
+
+    /**
+     * Lease the passed message body to the user. Must be applied after any asynchronous boundary (offloading).
+     *
+     * @param message the message which owns the {@code messageBody}
+     * @param messageBody the message body to lease
+     * @return the message body which releases leased buffers after the next signal is delivered
+     */
+    static Publisher<?> lease(final HttpMetaData message, final Publisher<?> messageBody) {
+        claimPayloadBodyLease(message);
+        return messageBody.liftSync(INSTANCE);
+    }
+
+    /**
+     * Release leased buffers consumed without going through {@link #lease(HttpMetaData, Publisher)}, e.g. when the
+     * message body is drained by a filter. Must be applied before {@link #lease(HttpMetaData, Publisher)}.
+     * <p>
+     * Marks the message payload body as leased (see {@link HttpApiConversions#markPayloadBodyLeased(HttpMetaData)}),
+     * so that aggregation by any filter, aggregated service, or aggregated client copies the leased buffers instead of
+     * referencing them.
+     *
+     * @param message the message which owns the {@code messageBody}
+     * @param messageBody the message body to protect
+     * @return the message body which releases unclaimed leased buffers after each item is delivered
+     */
+    static Publisher<?> releaseUnclaimed(final HttpMetaData message, final Publisher<?> messageBody) {
+        markPayloadBodyLeased(message);
+        return defer(() -> (isPayloadBodyLeaseClaimed(message) ? messageBody :
+                messageBody.afterOnNext(BufferUtils::releaseLeased)).shareContextOnSubscribe());
+    }
+
+    @Override
+    public Subscriber<? super Object> apply(final Subscriber<? super Object> subscriber) {
+        return new LeasedPayloadBodySubscriber(subscriber);
+    }
+
+    private static final class LeasedPayloadBodySubscriber implements Subscriber<Object> {
+        private static final Object RELEASED = new Object();
+        private static final AtomicReferenceFieldUpdater<LeasedPayloadBodySubscriber, Object> leasedUpdater =
+                AtomicReferenceFieldUpdater.newUpdater(LeasedPayloadBodySubscriber.class, Object.class, "leased");
+
+        private final Subscriber<? super Object> target;
+        @Nullable
+        private volatile Object leased;
+
+        LeasedPayloadBodySubscriber(final Subscriber<? super Object> target) {
+            this.target = target;
+        }
+
+        @Override
+        public void onSubscribe(final Subscription subscription) {
+            target.onSubscribe(new Subscription() {
+                @Override
+                public void request(final long n) {
+                    subscription.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    try {
+                        subscription.cancel();
+                    } finally {
+                        releaseLast();
+                    }
+                }
+            });
+        }
+
+        @Override
+        public void onNext(@Nullable final Object next) {
+            for (;;) {
+                final Object prev = leased;
+                if (prev == RELEASED) {
+                    // Cancelled or terminated, nobody is going to signal release for this item.
+                    try {
+                        target.onNext(next);
+                    } finally {
+                        releaseLeased(next);
+                    }
+                    return;
+                }
+                if (leasedUpdater.compareAndSet(this, prev, next)) {
+                    releaseLeased(prev);
+                    break;
+                }
+            }
+            target.onNext(next);
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            try {
+                target.onError(t);
+            } finally {
+                releaseLast();
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            try {
+                target.onComplete();
+            } finally {
+                releaseLast();
+            }
+        }
+
+        private void releaseLast() {
+            releaseLeased(leasedUpdater.getAndSet(this, RELEASED));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.netty;
+
+import io.servicetalk.concurrent.api.Single;
+import io.servicetalk.http.api.HttpExecutionStrategies;
+import io.servicetalk.http.api.HttpExecutionStrategy;
+import io.servicetalk.http.api.HttpServiceContext;
+import io.servicetalk.http.api.StreamingHttpRequest;
+import io.servicetalk.http.api.StreamingHttpResponse;
+import io.servicetalk.http.api.StreamingHttpResponseFactory;
+import io.servicetalk.http.api.StreamingHttpService;
+import io.servicetalk.http.api.StreamingHttpServiceFilter;
+import io.servicetalk.http.api.StreamingHttpServiceFilterFactory;
+
+import static io.servicetalk.http.netty.LeasedPayloadBodyOperator.lease;
+import static io.servicetalk.http.netty.LeasedPayloadBodyOperator.releaseUnclaimed;
+
+/**
+ * Filter which manages the lifecycle of leased request payload body buffers.
+ *
+ * @see H1ProtocolConfig#pooledPayloadBody()
+ */
+final class LeasedPayloadBodyServiceFilter implements StreamingHttpServiceFilterFactory {
+
+    /**
+     * Instance which must be the first filter, it releases buffers of requests that never reach the service (e.g.
+     * drained by {@link io.servicetalk.http.utils.HttpRequestAutoDrainingServiceFilter}).
+     */
+    static final StreamingHttpServiceFilterFactory RELEASE_UNCLAIMED = new LeasedPayloadBodyServiceFilter(false);
+
+    /**
+     * Instance which must be the last filter before the service (after offloading), it leases buffers to the service.
+     */
+    static final StreamingHttpServiceFilterFactory LEASE = new LeasedPayloadBodyServiceFilter(true);
+
+    private final boolean claim;
+
+    private LeasedPayloadBodyServiceFilter(final boolean claim) {
+        this.claim = claim;
+    }
+
+    @Override
+    public StreamingHttpServiceFilter create(final StreamingHttpService service) {
+        return new StreamingHttpServiceFilter(service) {
+            @Override
+            public Single<StreamingHttpResponse> handle(final HttpServiceContext ctx,
+                                                        final StreamingHttpRequest request,
+                                                        final StreamingHttpResponseFactory responseFactory) {
+                request.transformMessageBody(claim ? body -> lease(request, body) :
+                        body -> releaseUnclaimed(request, body));
+                return delegate().handle(ctx, request, responseFactory);
+            }
+        };
+    }
+
+    @Override
+    public HttpExecutionStrategy requiredOffloads() {
+        return HttpExecutionStrategies.offloadNone();
+    }
+}
@@ -120,6 +120,7 @@ import static io.servicetalk.http.netty.HttpExecutionContextUtils.channelExecuti
 import static io.servicetalk.transport.netty.internal.CloseHandler.CloseEvent.CHANNEL_CLOSED_INBOUND;
 import static io.servicetalk.transport.netty.internal.CloseHandler.forPipelinedRequestResponse;
 import static io.servicetalk.transport.netty.internal.FlushStrategies.flushOnEnd;
+import static io.servicetalk.transport.netty.internal.FlushStrategies.isAdaptiveFlush;
 import static java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater;
 
 final class NettyHttpServer {
@@ -195,19 +196,21 @@ final class NettyHttpServer {
 
     private static ChannelInitializer getChannelInitializer(final ByteBufAllocator alloc, final H1ProtocolConfig config,
                                                             final CloseHandler closeHandler) {
-        // H1 slices passed memory chunks into headers and payload body without copying and will emit them to the
-        // user-code. Therefore, ByteBufs must be copied to unpooled memory before HttpObjectDecoder.
-        return new CopyByteBufHandlerChannelInitializer(alloc).andThen(channel -> {
+        final ChannelInitializer codec = channel -> {
             Queue<HttpRequestMethod> methodQueue = new ArrayDeque<>(2);
             final ChannelPipeline pipeline = channel.pipeline();
             final HttpRequestDecoder decoder = new HttpRequestDecoder(methodQueue, alloc, config.headersFactory(),
                     config.maxStartLineLength(), config.maxHeaderFieldLength(),
                     config.specExceptions().allowPrematureClosureBeforePayloadBody(),
-                    config.specExceptions().allowLFWithoutCR(), closeHandler);
+                    config.specExceptions().allowLFWithoutCR(), closeHandler, config.pooledPayloadBody());
             pipeline.addLast(decoder);
             pipeline.addLast(new HttpResponseEncoder(methodQueue, config.headersEncodedSizeEstimate(),
                     config.trailersEncodedSizeEstimate(), closeHandler, decoder));
-        });
+        };
+        // H1 slices passed memory chunks into headers and payload body without copying and will emit them to the
+        // user-code. Therefore, ByteBufs must be copied to unpooled memory before HttpObjectDecoder, unless payload
+        // body is explicitly exposed as leased pooled buffers.
+        return config.pooledPayloadBody() ? codec : new CopyByteBufHandlerChannelInitializer(alloc).andThen(codec);
     }
 
     static final class NettyHttpServerContext implements HttpServerContext {
@@ -443,9 +446,12 @@ final class NettyHttpServer {
         }
 
         @Nullable
-        private static FlushStrategy determineFlushStrategyForApi(final HttpResponseMetaData response) {
-            // For non-aggregated, don't change the flush strategy, keep the default.
-            return isSafeToAggregateOrEmpty(response) ? flushOnEnd() : null;
+        private FlushStrategy determineFlushStrategyForApi(final HttpResponseMetaData response) {
+            // For non-aggregated, don't change the flush strategy, keep the default. The adaptive strategy already
+            // flushes all items written within the same event loop task at once, and also coalesces flushes of
+            // pipelined responses, so keep it for aggregated responses too.
+            return isSafeToAggregateOrEmpty(response) && !isAdaptiveFlush(connection.defaultFlushStrategy()) ?
+                    flushOnEnd() : null;
         }
 
         @Override
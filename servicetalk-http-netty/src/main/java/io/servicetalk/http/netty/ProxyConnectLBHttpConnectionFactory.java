@@ -166,7 +166,10 @@ final class ProxyConnectLBHttpConnectionFactory<ResolvedAddress>
     private static void removeH1Handlers(final Channel channel) {
         final ChannelPipeline pipeline = channel.pipeline();
         for (Class<? extends ChannelHandler> handlerClass : HttpClientChannelInitializer.handlers()) {
-            pipeline.remove(handlerClass);
+            // Not all handlers are always present, e.g. the copy handler is omitted for pooled payload body.
+            if (pipeline.get(handlerClass) != null) {
+                pipeline.remove(handlerClass);
+            }
         }
     }
 
@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.netty;
+
+import io.servicetalk.http.api.BlockingHttpClient;
+import io.servicetalk.http.api.HttpResponse;
+import io.servicetalk.http.api.HttpServerBuilder;
+import io.servicetalk.http.api.SingleAddressHttpClientBuilder;
+import io.servicetalk.test.resources.DefaultTestCerts;
+import io.servicetalk.transport.api.ClientSslConfigBuilder;
+import io.servicetalk.transport.api.ConnectionInfo;
+import io.servicetalk.transport.api.ConnectionObserver;
+import io.servicetalk.transport.api.HostAndPort;
+import io.servicetalk.transport.api.ServerContext;
+import io.servicetalk.transport.api.ServerSslConfigBuilder;
+import io.servicetalk.transport.api.SslConfig;
+import io.servicetalk.transport.api.TransportObserver;
+import io.servicetalk.transport.netty.internal.NettyConnectionContext;
+import io.servicetalk.transport.netty.internal.NoopTransportObserver.NoopDataObserver;
+import io.servicetalk.transport.netty.internal.NoopTransportObserver.NoopMultiplexedObserver;
+import io.servicetalk.transport.netty.internal.NoopTransportObserver.NoopSecurityHandshakeObserver;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.FileRegion;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.net.InetSocketAddress;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.servicetalk.concurrent.api.Single.succeeded;
+import static io.servicetalk.http.api.HttpResponseStatus.OK;
+import static io.servicetalk.test.resources.DefaultTestCerts.serverPemHostname;
+import static io.servicetalk.transport.netty.internal.AddressUtils.localAddress;
+import static io.servicetalk.transport.netty.internal.AddressUtils.serverHostAndPort;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Arrays.copyOfRange;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FileRegionPayloadTest {
+    private static final int FILE_SIZE = 256 * 1024 + 7;
+    private static final int POSITION = 3;
+    private static final int COUNT = FILE_SIZE - 10;
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Plaintext HTTP/1.x connections write the payload as {@link FileRegion}s (sendfile), TLS connections fall back to
+     * the memory mapped content. Both have to deliver the same bytes and report them to the {@link ConnectionObserver}.
+     */
+    @ParameterizedTest(name = "{displayName} [{index}] ssl={0}")
+    @ValueSource(booleans = {false, true})
+    void fileRegionPayloadBody(boolean ssl) throws Exception {
+        final byte[] content = new byte[FILE_SIZE];
+        ThreadLocalRandom.current().nextBytes(content);
+        final Path file = Files.write(tempDir.resolve("payload"), content);
+
+        final AtomicLong bytesWritten = new AtomicLong();
+        final AtomicLong fileRegionBytesWritten = new AtomicLong();
+        HttpServerBuilder serverBuilder = HttpServers.forAddress(localAddress(0))
+                .transportObserver(countingTransportObserver(bytesWritten));
+        if (ssl) {
+            serverBuilder.sslConfig(new ServerSslConfigBuilder(DefaultTestCerts::loadServerPem,
+                    DefaultTestCerts::loadServerKey).build());
+        }
+        try (FileChannel fileChannel = FileChannel.open(file, READ);
+             ServerContext serverContext = serverBuilder.listenStreamingAndAwait((ctx, request, responseFactory) -> {
+                 // Added closest to the head of the pipeline to observe what is written to the socket.
+                 ((NettyConnectionContext) ctx).nettyChannel().pipeline().addFirst(new ChannelOutboundHandlerAdapter() {
+                     @Override
+                     public void write(ChannelHandlerContext handlerCtx, Object msg, ChannelPromise promise) {
+                         if (msg instanceof FileRegion) {
+                             fileRegionBytesWritten.addAndGet(((FileRegion) msg).count());
+                         }
+                         handlerCtx.write(msg, promise);
+                     }
+                 });
+                 return succeeded(responseFactory.ok().payloadBody(fileChannel, POSITION, COUNT));
+             })) {
+
+            SingleAddressHttpClientBuilder<HostAndPort, InetSocketAddress> clientBuilder =
+                    HttpClients.forSingleAddress(serverHostAndPort(serverContext));
+            if (ssl) {
+                clientBuilder.sslConfig(new ClientSslConfigBuilder(DefaultTestCerts::loadServerCAPem)
+                        .peerHost(serverPemHostname()).build());
+            }
+            try (BlockingHttpClient client = clientBuilder.buildBlocking()) {
+                HttpResponse response = client.request(client.get("/"));
+                assertThat(response.status(), is(OK));
+                byte[] received = new byte[response.payloadBody().readableBytes()];
+                response.payloadBody().readBytes(received);
+                assertThat(received, equalTo(copyOfRange(content, POSITION, POSITION + COUNT)));
+            }
+        }
+        assertThat(fileRegionBytesWritten.get(), is(ssl ? 0L : (long) COUNT));
+        assertThat(bytesWritten.get(), is(greaterThan((long) COUNT)));
+    }
+
+    private static TransportObserver countingTransportObserver(AtomicLong bytesWritten) {
+        TransportObserver transportObserver = mock(TransportObserver.class);
+        ConnectionObserver connectionObserver = mock(ConnectionObserver.class);
+        when(transportObserver.onNewConnection(any(), any())).thenReturn(connectionObserver);
+        lenient().when(connectionObserver.onSecurityHandshake(any(SslConfig.class)))
+                .thenReturn(NoopSecurityHandshakeObserver.INSTANCE);
+        lenient().when(connectionObserver.connectionEstablished(any(ConnectionInfo.class)))
+                .thenReturn(NoopDataObserver.INSTANCE);
+        lenient().when(connectionObserver.multiplexedConnectionEstablished(any(ConnectionInfo.class)))
+                .thenReturn(NoopMultiplexedObserver.INSTANCE);
+        doAnswer(invocation -> bytesWritten.addAndGet((int) invocation.getArgument(0)))
+                .when(connectionObserver).onDataWrite(anyInt());
+        return transportObserver;
+    }
+}
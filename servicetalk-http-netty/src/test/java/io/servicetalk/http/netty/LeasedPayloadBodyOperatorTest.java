@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.netty;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.concurrent.api.TestPublisher;
+import io.servicetalk.concurrent.test.internal.TestPublisherSubscriber;
+import io.servicetalk.http.api.DefaultHttpHeadersFactory;
+import io.servicetalk.http.api.DefaultStreamingHttpRequestResponseFactory;
+import io.servicetalk.http.api.StreamingHttpRequest;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.junit.jupiter.api.Test;
+
+import static io.servicetalk.buffer.netty.BufferAllocators.DEFAULT_ALLOCATOR;
+import static io.servicetalk.buffer.netty.BufferUtils.newLeasedBufferFrom;
+import static io.servicetalk.concurrent.api.SourceAdapters.toSource;
+import static io.servicetalk.concurrent.internal.DeliberateException.DELIBERATE_EXCEPTION;
+import static io.servicetalk.http.api.HttpApiConversions.isPayloadBodyLeaseClaimed;
+import static io.servicetalk.http.api.HttpApiConversions.isPayloadBodyLeased;
+import static io.servicetalk.http.api.HttpProtocolVersion.HTTP_1_1;
+import static io.servicetalk.http.netty.LeasedPayloadBodyOperator.lease;
+import static io.servicetalk.http.netty.LeasedPayloadBodyOperator.releaseUnclaimed;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+class LeasedPayloadBodyOperatorTest {
+
+    private final TestPublisher<Object> publisher = new TestPublisher<>();
+    private final TestPublisherSubscriber<Object> subscriber = new TestPublisherSubscriber<>();
+    private final StreamingHttpRequest message = new DefaultStreamingHttpRequestResponseFactory(DEFAULT_ALLOCATOR,
+            DefaultHttpHeadersFactory.INSTANCE, HTTP_1_1).get("/");
+
+    @Test
+    void releasedOnNextItem() {
+        toSource(lease(message, publisher)).subscribe(subscriber);
+        subscriber.awaitSubscription().request(2);
+        final ByteBuf first = newByteBuf();
+        final ByteBuf second = newByteBuf();
+        final Buffer firstBuffer = newLeasedBufferFrom(first);
+        publisher.onNext(firstBuffer);
+        assertThat(subscriber.takeOnNext(), is(sameInstance(firstBuffer)));
+        assertThat(first.refCnt(), is(1));
+        publisher.onNext(newLeasedBufferFrom(second));
+        subscriber.takeOnNext();
+        assertThat(first.refCnt(), is(0));
+        assertThat(second.refCnt(), is(1));
+        publisher.onComplete();
+        subscriber.awaitOnComplete();
+        assertThat(second.refCnt(), is(0));
+    }
+
+    @Test
+    void releasedOnError() {
+        toSource(lease(message, publisher)).subscribe(subscriber);
+        subscriber.awaitSubscription().request(1);
+        final ByteBuf byteBuf = newByteBuf();
+        publisher.onNext(newLeasedBufferFrom(byteBuf));
+        subscriber.takeOnNext();
+        publisher.onError(DELIBERATE_EXCEPTION);
+        assertThat(subscriber.awaitOnError(), is(DELIBERATE_EXCEPTION));
+        assertThat(byteBuf.refCnt(), is(0));
+    }
+
+    @Test
+    void releasedOnCancel() {
+        toSource(lease(message, publisher)).subscribe(subscriber);
+        subscriber.awaitSubscription().request(2);
+        final ByteBuf first = newByteBuf();
+        publisher.onNext(newLeasedBufferFrom(first));
+        subscriber.takeOnNext();
+        subscriber.awaitSubscription().cancel();
+        assertThat(first.refCnt(), is(0));
+
+        final ByteBuf second = newByteBuf();
+        publisher.onNext(newLeasedBufferFrom(second));
+        assertThat(second.refCnt(), is(0));
+    }
+
+    @Test
+    void unclaimedReleasedAfterDelivery() {
+        toSource(releaseUnclaimed(message, publisher)).subscribe(subscriber);
+        subscriber.awaitSubscription().request(1);
+        final ByteBuf byteBuf = newByteBuf();
+        publisher.onNext(newLeasedBufferFrom(byteBuf));
+        subscriber.takeOnNext();
+        assertThat(byteBuf.refCnt(), is(0));
+    }
+
+    @Test
+    void claimedNotReleasedByUpstream() {
+        toSource(lease(message, releaseUnclaimed(message, publisher))).subscribe(subscriber);
+        subscriber.awaitSubscription().request(1);
+        final ByteBuf byteBuf = newByteBuf();
+        publisher.onNext(newLeasedBufferFrom(byteBuf));
+        subscriber.takeOnNext();
+        assertThat(byteBuf.refCnt(), is(1));
+        publisher.onComplete();
+        subscriber.awaitOnComplete();
+        assertThat(byteBuf.refCnt(), is(0));
+    }
+
+    @Test
+    void leaseStateNotVisibleInContext() {
+        lease(message, releaseUnclaimed(message, publisher));
+        assertThat(isPayloadBodyLeased(message), is(true));
+        assertThat(isPayloadBodyLeaseClaimed(message), is(true));
+        assertThat(message.context().isEmpty(), is(true));
+    }
+
+    private static ByteBuf newByteBuf() {
+        return PooledByteBufAllocator.DEFAULT.buffer(8).writeLong(1);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.netty;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.concurrent.api.Single;
+import io.servicetalk.http.api.BlockingHttpClient;
+import io.servicetalk.http.api.HttpResponse;
+import io.servicetalk.http.api.HttpServerBuilder;
+import io.servicetalk.http.api.HttpServiceContext;
+import io.servicetalk.http.api.StreamingHttpRequest;
+import io.servicetalk.http.api.StreamingHttpResponse;
+import io.servicetalk.http.api.StreamingHttpResponseFactory;
+import io.servicetalk.http.api.StreamingHttpServiceFilter;
+import io.servicetalk.transport.api.ServerContext;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static io.servicetalk.buffer.netty.BufferUtils.isLeased;
+import static io.servicetalk.buffer.netty.BufferUtils.releaseLeased;
+import static io.servicetalk.concurrent.api.Single.succeeded;
+import static io.servicetalk.http.api.HttpApiConversions.isPayloadBodyLeased;
+import static io.servicetalk.http.api.HttpResponseStatus.OK;
+import static io.servicetalk.http.netty.HttpProtocolConfigs.h1;
+import static io.servicetalk.transport.netty.internal.AddressUtils.localAddress;
+import static io.servicetalk.transport.netty.internal.AddressUtils.serverHostAndPort;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+class PooledPayloadBodyTest {
+    private static final int PAYLOAD_SIZE = 256 * 1024 + 7;
+
+    private static final H1ProtocolConfig POOLED_CONFIG = h1().pooledPayloadBody(true).build();
+
+    /**
+     * Payload bodies pass through {@link HttpObjectDecoder} on both ends as leased buffers. Aggregation (on the server
+     * for the aggregated API and on the client for the blocking API) must copy them, otherwise the aggregated payload
+     * references memory which is already returned to the pool. All leases must be released once the request payload
+     * body terminates.
+     */
+    @ParameterizedTest(name = "{displayName} [{index}] aggregatedService={0}")
+    @ValueSource(booleans = {false, true})
+    void echo(boolean aggregatedService) throws Exception {
+        final byte[] content = new byte[PAYLOAD_SIZE];
+        ThreadLocalRandom.current().nextBytes(content);
+
+        final Queue<Object> leased = new ConcurrentLinkedQueue<>();
+        final CountDownLatch requestBodyTerminated = new CountDownLatch(1);
+        final AtomicBoolean leasedMessage = new AtomicBoolean();
+        final HttpServerBuilder serverBuilder = HttpServers.forAddress(localAddress(0))
+                .protocols(POOLED_CONFIG)
+                // Applied before the lease starts, observes the leased buffers and terminates after they are released.
+                .appendServiceFilter(service -> new StreamingHttpServiceFilter(service) {
+                    @Override
+                    public Single<StreamingHttpResponse> handle(final HttpServiceContext ctx,
+                                                                final StreamingHttpRequest request,
+                                                                final StreamingHttpResponseFactory responseFactory) {
+                        leasedMessage.set(isPayloadBodyLeased(request));
+                        request.transformMessageBody(body -> body.beforeOnNext(leased::add)
+                                .afterFinally(requestBodyTerminated::countDown));
+                        return delegate().handle(ctx, request, responseFactory);
+                    }
+                });
+        try (ServerContext serverContext = aggregatedService ?
+                serverBuilder.listenAndAwait((ctx, request, responseFactory) ->
+                        succeeded(responseFactory.ok().payloadBody(request.payloadBody()))) :
+                serverBuilder.listenStreamingAndAwait((ctx, request, responseFactory) ->
+                        succeeded(responseFactory.ok().payloadBody(request.payloadBody()
+                                // Leased buffers are only valid until the next signal, copy to echo them back.
+                                .map(buffer -> ctx.executionContext().bufferAllocator().newBuffer(
+                                        buffer.readableBytes()).writeBytes(buffer)))));
+             BlockingHttpClient client = HttpClients.forSingleAddress(serverHostAndPort(serverContext))
+                     .protocols(POOLED_CONFIG)
+                     .buildBlocking()) {
+            final HttpResponse response = client.request(client.post("/")
+                    .payloadBody(client.executionContext().bufferAllocator().wrap(content)));
+            assertThat(response.status(), is(OK));
+            final Buffer payload = response.payloadBody();
+            final byte[] received = new byte[payload.readableBytes()];
+            payload.readBytes(received);
+            assertThat(received, equalTo(content));
+        }
+
+        requestBodyTerminated.await();
+        assertThat(leasedMessage.get(), is(true));
+        assertThat(leased, is(not(empty())));
+        for (Object buffer : leased) {
+            assertThat("Not a leased buffer: " + buffer, isLeased(buffer), is(true));
+            // Returns true if this call released the underlying memory, i.e. the lease leaked.
+            assertThat("Leaked buffer: " + buffer, releaseLeased(buffer), is(false));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.netty;
+
+import io.servicetalk.http.api.BlockingHttpClient;
+import io.servicetalk.transport.api.IoExecutor;
+import io.servicetalk.transport.api.ServerContext;
+import io.servicetalk.transport.netty.internal.NettyConnectionContext;
+
+import io.netty.channel.Channel;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import static io.servicetalk.http.api.HttpExecutionStrategies.offloadNone;
+import static io.servicetalk.http.api.HttpResponseStatus.OK;
+import static io.servicetalk.transport.netty.NettyIoExecutors.createIoExecutor;
+import static io.servicetalk.transport.netty.internal.AddressUtils.localAddress;
+import static io.servicetalk.transport.netty.internal.AddressUtils.serverHostAndPort;
+import static io.servicetalk.transport.netty.internal.BuilderUtils.reusePortOption;
+import static io.servicetalk.transport.netty.internal.EventLoopAwareNettyIoExecutors.toEventLoopAwareNettyIoExecutor;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+
+class ReusePortListenersTest {
+    private static final int IO_THREADS = 4;
+
+    private static IoExecutor ioExecutor;
+
+    @BeforeAll
+    static void beforeClass() {
+        ioExecutor = createIoExecutor(IO_THREADS, "io-executor");
+    }
+
+    @AfterAll
+    static void afterClass() throws ExecutionException, InterruptedException {
+        ioExecutor.closeAsync().toFuture().get();
+    }
+
+    @Test
+    void newConnectionsAreAccepted() throws Exception {
+        final Set<Channel> listenChannels = ConcurrentHashMap.newKeySet();
+        final Set<String> serverThreads = ConcurrentHashMap.newKeySet();
+        try (ServerContext serverContext = HttpServers.forAddress(localAddress(0))
+                .ioExecutor(ioExecutor)
+                .executionStrategy(offloadNone())
+                .reusePortListeners(true)
+                .listenBlockingAndAwait((ctx, request, responseFactory) -> {
+                    listenChannels.add(((NettyConnectionContext) ctx).nettyChannel().parent());
+                    serverThreads.add(Thread.currentThread().getName());
+                    return responseFactory.ok();
+                })) {
+            assertThat(((InetSocketAddress) serverContext.listenAddress()).getPort(), is(not(0)));
+            for (int i = 0; i < 4 * IO_THREADS; ++i) {
+                try (BlockingHttpClient client = HttpClients.forSingleAddress(serverHostAndPort(serverContext))
+                        .ioExecutor(ioExecutor).buildBlocking()) {
+                    assertThat(client.request(client.get("/")).status(), is(OK));
+                }
+            }
+        }
+        if (reusePortOption(toEventLoopAwareNettyIoExecutor(ioExecutor).eventLoopGroup()) == null) {
+            // Transports without SO_REUSEPORT load balancing fall back to a single listener.
+            assertThat(listenChannels, hasSize(1));
+        } else {
+            // The kernel hashes connections to listeners, all connections using the same one is very unlikely.
+            assertThat(listenChannels.size(), is(both(greaterThan(1)).and(lessThanOrEqualTo(IO_THREADS))));
+            // Connections are served by the event loop of the listener which accepted them.
+            assertThat(serverThreads, hasSize(listenChannels.size()));
+        }
+    }
+}
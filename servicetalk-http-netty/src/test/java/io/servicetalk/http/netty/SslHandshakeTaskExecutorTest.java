@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.netty;
+
+import io.servicetalk.client.api.TransportObserverConnectionFactoryFilter;
+import io.servicetalk.http.api.BlockingHttpClient;
+import io.servicetalk.http.api.HttpServerContext;
+import io.servicetalk.test.resources.DefaultTestCerts;
+import io.servicetalk.transport.api.ClientSslConfigBuilder;
+import io.servicetalk.transport.api.ConnectionInfo;
+import io.servicetalk.transport.api.ConnectionObserver;
+import io.servicetalk.transport.api.ConnectionObserver.SecurityHandshakeObserver;
+import io.servicetalk.transport.api.ServerSslConfigBuilder;
+import io.servicetalk.transport.api.SslConfig;
+import io.servicetalk.transport.api.SslProvider;
+import io.servicetalk.transport.api.TransportObserver;
+import io.servicetalk.transport.netty.internal.NoopTransportObserver.NoopDataObserver;
+import io.servicetalk.transport.netty.internal.NoopTransportObserver.NoopMultiplexedObserver;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.servicetalk.http.api.HttpResponseStatus.OK;
+import static io.servicetalk.test.resources.DefaultTestCerts.serverPemHostname;
+import static io.servicetalk.transport.netty.internal.AddressUtils.localAddress;
+import static io.servicetalk.transport.netty.internal.AddressUtils.serverHostAndPort;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SslHandshakeTaskExecutorTest {
+
+    private final AtomicInteger executedTasks = new AtomicInteger();
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+    private final Executor taskExecutor = task -> executorService.execute(() -> {
+        executedTasks.incrementAndGet();
+        task.run();
+    });
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @ParameterizedTest(name = "{displayName} [{index}] provider={0}")
+    @EnumSource(SslProvider.class)
+    void handshakeTasksRunOnExecutor(SslProvider provider) throws Exception {
+        TransportObserver transportObserver = mock(TransportObserver.class);
+        ConnectionObserver connectionObserver = mock(ConnectionObserver.class);
+        SecurityHandshakeObserver handshakeObserver = mock(SecurityHandshakeObserver.class);
+        when(transportObserver.onNewConnection(any(), any())).thenReturn(connectionObserver);
+        when(connectionObserver.onSecurityHandshake(any(SslConfig.class))).thenReturn(handshakeObserver);
+        when(connectionObserver.connectionEstablished(any(ConnectionInfo.class)))
+                .thenReturn(NoopDataObserver.INSTANCE);
+        when(connectionObserver.multiplexedConnectionEstablished(any(ConnectionInfo.class)))
+                .thenReturn(NoopMultiplexedObserver.INSTANCE);
+
+        try (HttpServerContext serverContext = HttpServers.forAddress(localAddress(0))
+                .sslConfig(new ServerSslConfigBuilder(DefaultTestCerts::loadServerPem, DefaultTestCerts::loadServerKey)
+                        .provider(provider)
+                        .handshakeTaskExecutor(taskExecutor)
+                        .build())
+                .listenBlockingAndAwait((ctx, request, responseFactory) -> responseFactory.ok());
+             BlockingHttpClient client = HttpClients.forSingleAddress(serverHostAndPort(serverContext))
+                     .sslConfig(new ClientSslConfigBuilder(DefaultTestCerts::loadServerCAPem)
+                             .peerHost(serverPemHostname())
+                             .provider(provider)
+                             .handshakeTaskExecutor(taskExecutor)
+                             .build())
+                     .appendConnectionFactoryFilter(new TransportObserverConnectionFactoryFilter<>(transportObserver))
+                     .buildBlocking()) {
+
+            assertThat(client.request(client.get("/")).status(), is(OK));
+            assertThat(executedTasks.get(), is(greaterThan(0)));
+            verify(handshakeObserver, timeout(5000)).handshakeComplete(any());
+            // Tasks which report after the handshake completed are dropped.
+            verify(handshakeObserver, atMost(executedTasks.get())).handshakeTaskComplete(anyLong(), anyLong());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.http.netty;
+
+import io.servicetalk.http.api.BlockingHttpClient;
+import io.servicetalk.http.api.HttpServerContext;
+import io.servicetalk.test.resources.DefaultTestCerts;
+import io.servicetalk.transport.api.ClientSslConfig;
+import io.servicetalk.transport.api.ClientSslConfigBuilder;
+import io.servicetalk.transport.api.ServerSslConfigBuilder;
+import io.servicetalk.transport.api.SslProvider;
+import io.servicetalk.transport.api.SslSessionCache;
+
+import io.netty.handler.ssl.OpenSsl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import java.time.Duration;
+
+import static io.servicetalk.http.api.HttpResponseStatus.OK;
+import static io.servicetalk.test.resources.DefaultTestCerts.serverPemHostname;
+import static io.servicetalk.transport.api.SslSessionCaches.newSslSessionCache;
+import static io.servicetalk.transport.netty.internal.AddressUtils.localAddress;
+import static io.servicetalk.transport.netty.internal.AddressUtils.serverHostAndPort;
+import static java.time.Duration.ZERO;
+import static java.time.Duration.ofSeconds;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class SslSessionCacheTest {
+    private static final Duration TICKET_KEY_ROTATION_INTERVAL = ofSeconds(2);
+
+    private static boolean openSslAvailable() {
+        return OpenSsl.isAvailable();
+    }
+
+    @Test
+    void recreatedClientResumesSession() throws Exception {
+        final SslSessionCache clientCache = newSslSessionCache();
+        final SslSessionCache serverCache = newSslSessionCache();
+        // TLSv1.2 resumes with the session of the first handshake, TLSv1.3 tickets are delivered asynchronously.
+        final ClientSslConfig clientSslConfig = new ClientSslConfigBuilder(DefaultTestCerts::loadServerCAPem)
+                .peerHost(serverPemHostname())
+                .provider(SslProvider.JDK)
+                .sslProtocols("TLSv1.2")
+                .sessionCache(clientCache)
+                .build();
+        try (HttpServerContext serverContext = HttpServers.forAddress(localAddress(0))
+                .sslConfig(new ServerSslConfigBuilder(DefaultTestCerts::loadServerPem, DefaultTestCerts::loadServerKey)
+                        .provider(SslProvider.JDK)
+                        .sslProtocols("TLSv1.2")
+                        .sessionCache(serverCache)
+                        .build())
+                .listenBlockingAndAwait((ctx, request, responseFactory) -> responseFactory.ok())) {
+
+            for (int i = 0; i < 2; ++i) {
+                try (BlockingHttpClient client = HttpClients.forSingleAddress(serverHostAndPort(serverContext))
+                        .sslConfig(clientSslConfig)
+                        .buildBlocking()) {
+                    assertThat(client.request(client.get("/")).status(), is(OK));
+                }
+            }
+
+            assertThat(clientCache.fullHandshakes(), is(1L));
+            assertThat(clientCache.resumedHandshakes(), is(1L));
+            assertThat(serverCache.fullHandshakes(), is(1L));
+            assertThat(serverCache.resumedHandshakes(), is(1L));
+        }
+    }
+
+    /**
+     * Servers rotate ticket keys on accept once the interval elapsed. Tickets encrypted with the previous key are still
+     * accepted, older tickets are not and result in a full handshake.
+     */
+    @Test
+    @EnabledIf(value = "openSslAvailable", disabledReason = "OpenSSL is not available")
+    void ticketKeyRotation() throws Exception {
+        final SslSessionCache serverCache = newSslSessionCache(0, ZERO, TICKET_KEY_ROTATION_INTERVAL);
+        try (HttpServerContext serverContext = HttpServers.forAddress(localAddress(0))
+                .sslConfig(new ServerSslConfigBuilder(DefaultTestCerts::loadServerPem, DefaultTestCerts::loadServerKey)
+                        .provider(SslProvider.OPENSSL)
+                        .sslProtocols("TLSv1.2")
+                        .sessionCache(serverCache)
+                        .build())
+                .listenBlockingAndAwait((ctx, request, responseFactory) -> responseFactory.ok())) {
+            // Each config has its own cache, so it only resumes sessions with tickets it received itself.
+            final ClientSslConfig clientA = openSslClientConfig();
+            final ClientSslConfig clientB = openSslClientConfig();
+            final ClientSslConfig clientC = openSslClientConfig();
+
+            // Tickets of A and B are encrypted with the first key.
+            request(serverContext, clientA);
+            request(serverContext, clientB);
+            Thread.sleep(TICKET_KEY_ROTATION_INTERVAL.toMillis() + 100);
+            // Rotates to the second key, C receives a ticket encrypted with it.
+            request(serverContext, clientC);
+            // The first key is the previous key now and still accepted.
+            request(serverContext, clientA);
+            Thread.sleep(TICKET_KEY_ROTATION_INTERVAL.toMillis() + 100);
+            // Rotates to the third key, the second key is still accepted.
+            request(serverContext, clientC);
+            // The first key is not accepted anymore.
+            request(serverContext, clientB);
+
+            assertThat(serverCache.fullHandshakes(), is(4L));
+            assertThat(serverCache.resumedHandshakes(), is(2L));
+        }
+    }
+
+    private static ClientSslConfig openSslClientConfig() {
+        return new ClientSslConfigBuilder(DefaultTestCerts::loadServerCAPem)
+                .peerHost(serverPemHostname())
+                .provider(SslProvider.OPENSSL)
+                .sslProtocols("TLSv1.2")
+                .sessionCache(newSslSessionCache())
+                .build();
+    }
+
+    private static void request(final HttpServerContext serverContext, final ClientSslConfig sslConfig)
+            throws Exception {
+        try (BlockingHttpClient client = HttpClients.forSingleAddress(serverHostAndPort(serverContext))
+                .sslConfig(sslConfig)
+                .buildBlocking()) {
+            assertThat(client.request(client.get("/")).status(), is(OK));
+        }
+    }
+}
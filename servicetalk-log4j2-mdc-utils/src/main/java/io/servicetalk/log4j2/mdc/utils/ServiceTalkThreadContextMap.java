@@ -35,7 +35,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import javax.annotation.Nullable;
 
-import static io.servicetalk.context.api.ContextMap.Key.newKey;
+import static io.servicetalk.context.api.ContextMap.Key.registerKey;
 import static java.util.Collections.unmodifiableMap;
 
 /**
@@ -43,7 +43,7 @@ import static java.util.Collections.unmodifiableMap;
  */
 public class ServiceTalkThreadContextMap implements ReadOnlyThreadContextMap, CleanableThreadContextMap {
     @SuppressWarnings("unchecked")
-    private static final ContextMap.Key<Map<String, String>> key = newKey("log4j2Mdc",
+    private static final ContextMap.Key<Map<String, String>> key = registerKey("log4j2Mdc",
             (Class<Map<String, String>>) (Class<?>) Map.class);
     private static final String NULL_STRING = "";
     private static final String[] KNOWN_CONFLICTS = {
@@ -26,7 +26,7 @@ import io.opentracing.Span;
 
 import javax.annotation.Nullable;
 
-import static io.servicetalk.context.api.ContextMap.Key.newKey;
+import static io.servicetalk.context.api.ContextMap.Key.registerKey;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -34,7 +34,7 @@ import static java.util.Objects.requireNonNull;
  */
 public final class AsyncContextInMemoryScopeManager implements InMemoryScopeManager {
     private static final ContextMap.Key<AsyncContextInMemoryScope> SCOPE_KEY =
-            newKey("opentracing", AsyncContextInMemoryScope.class);
+            registerKey("opentracing", AsyncContextInMemoryScope.class);
     public static final InMemoryScopeManager SCOPE_MANAGER = new AsyncContextInMemoryScopeManager();
 
     private AsyncContextInMemoryScopeManager() {
@@ -24,10 +24,13 @@ import io.servicetalk.transport.netty.internal.FlushStrategy;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.ssl.SslContext;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import javax.annotation.Nullable;
 
+import static io.servicetalk.transport.netty.internal.FlushStrategies.adaptiveFlush;
+import static io.servicetalk.transport.netty.internal.FlushStrategies.defaultFlushStrategy;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.unmodifiableMap;
 
@@ -46,9 +49,9 @@ abstract class AbstractReadOnlyTcpConfig {
     protected AbstractReadOnlyTcpConfig(final AbstractTcpConfig from) {
         options = nonNullOptions(from.options());
         idleTimeoutMs = from.idleTimeoutMs();
-        flushStrategy = from.flushStrategy();
-        wireLoggerConfig = from.wireLoggerConfig();
         transportConfig = from.transportConfig();
+        flushStrategy = flushStrategy(from.flushStrategy(), transportConfig);
+        wireLoggerConfig = from.wireLoggerConfig();
     }
 
     AbstractReadOnlyTcpConfig(final AbstractReadOnlyTcpConfig from) {
@@ -59,6 +62,14 @@ abstract class AbstractReadOnlyTcpConfig {
         transportConfig = from.transportConfig();
     }
 
+    private static FlushStrategy flushStrategy(final FlushStrategy flushStrategy,
+                                               final TransportConfig transportConfig) {
+        // Explicitly configured FlushStrategy always takes precedence over TransportConfig.
+        final Duration maxFlushDelay = transportConfig.maxFlushDelay();
+        return flushStrategy == defaultFlushStrategy() && !maxFlushDelay.isZero() ?
+                adaptiveFlush(transportConfig.maxFlushPendingItems(), maxFlushDelay) : flushStrategy;
+    }
+
     @SuppressWarnings("rawtypes")
     static Map<ChannelOption, Object> nonNullOptions(@Nullable Map<ChannelOption, Object> options) {
         return options == null ? emptyMap() : unmodifiableMap(new HashMap<>(options));
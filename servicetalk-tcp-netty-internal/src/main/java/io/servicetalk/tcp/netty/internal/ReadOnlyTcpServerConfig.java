@@ -17,6 +17,7 @@ package io.servicetalk.tcp.netty.internal;
 
 import io.servicetalk.transport.api.ServerSslConfig;
 import io.servicetalk.transport.api.TransportObserver;
+import io.servicetalk.transport.netty.internal.LruSniMapping;
 import io.servicetalk.transport.netty.internal.NoopTransportObserver;
 
 import io.netty.channel.ChannelOption;
@@ -26,6 +27,8 @@ import io.netty.util.Mapping;
 
 import java.net.SocketOption;
 import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import javax.annotation.Nullable;
@@ -49,6 +52,7 @@ public final class ReadOnlyTcpServerConfig extends AbstractReadOnlyTcpConfig {
     private final int sniMaxClientHelloLength;
     private final Duration sniClientHelloTimeout;
     private final boolean acceptInsecureConnections;
+    private final boolean reusePortListeners;
     private final boolean alpnConfigured;
 
     ReadOnlyTcpServerConfig(final TcpServerConfig from) {
@@ -65,14 +69,25 @@ public final class ReadOnlyTcpServerConfig extends AbstractReadOnlyTcpConfig {
             }
             sslContext = forServer(sslConfig);
             boolean foundAlpn = !sslContext.applicationProtocolNegotiator().protocols().isEmpty();
-            final DomainWildcardMappingBuilder<SslContext> mappingBuilder =
-                    new DomainWildcardMappingBuilder<>(sniMap.size(), sslContext);
-            for (Entry<String, ServerSslConfig> sniConfigEntry : sniMap.entrySet()) {
-                SslContext sniContext = forServer(sniConfigEntry.getValue());
-                foundAlpn |= !sniContext.applicationProtocolNegotiator().protocols().isEmpty();
-                mappingBuilder.add(sniConfigEntry.getKey(), sniContext);
+            final int sniContextCacheSize = from.sniContextCacheSize();
+            if (sniContextCacheSize > 0) {
+                for (ServerSslConfig sniConfig : sniMap.values()) {
+                    final List<String> alpnProtocols = sniConfig.alpnProtocols();
+                    foundAlpn |= alpnProtocols != null && !alpnProtocols.isEmpty();
+                }
+                sniMapping = new LruSniMapping(sslContext, sniMap, sniContextCacheSize);
+            } else {
+                final DomainWildcardMappingBuilder<SslContext> mappingBuilder =
+                        new DomainWildcardMappingBuilder<>(sniMap.size(), sslContext);
+                final Map<ServerSslConfig, SslContext> sniContexts = new IdentityHashMap<>();
+                for (Entry<String, ServerSslConfig> sniConfigEntry : sniMap.entrySet()) {
+                    SslContext sniContext = sniContexts.computeIfAbsent(sniConfigEntry.getValue(),
+                            sniConfig -> forServer(sniConfig));
+                    foundAlpn |= !sniContext.applicationProtocolNegotiator().protocols().isEmpty();
+                    mappingBuilder.add(sniConfigEntry.getKey(), sniContext);
+                }
+                sniMapping = mappingBuilder.build();
             }
-            sniMapping = mappingBuilder.build();
             alpnConfigured = foundAlpn;
         } else if (sslConfig != null) {
             sslContext = forServer(sslConfig);
@@ -86,6 +101,7 @@ public final class ReadOnlyTcpServerConfig extends AbstractReadOnlyTcpConfig {
         sniMaxClientHelloLength = from.sniMaxClientHelloLength();
         sniClientHelloTimeout = from.sniClientHelloTimeout();
         acceptInsecureConnections = from.acceptInsecureConnections();
+        reusePortListeners = from.reusePortListeners();
     }
 
     /**
@@ -157,6 +173,15 @@ public final class ReadOnlyTcpServerConfig extends AbstractReadOnlyTcpConfig {
         return acceptInsecureConnections;
     }
 
+    /**
+     * Returns {@code true} if one {@code SO_REUSEPORT} server socket should be bound per IO thread.
+     *
+     * @return {@code true} if one {@code SO_REUSEPORT} server socket should be bound per IO thread.
+     */
+    public boolean reusePortListeners() {
+        return reusePortListeners;
+    }
+
     /**
      * Returns the {@link SocketOption}s that are applied to the server socket channel which listens/accepts socket
      * channels.
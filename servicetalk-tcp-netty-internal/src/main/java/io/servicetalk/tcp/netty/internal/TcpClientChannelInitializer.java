@@ -24,7 +24,9 @@ import io.servicetalk.transport.netty.internal.ConnectionObserverInitializer;
 import io.servicetalk.transport.netty.internal.DeferSslHandler;
 import io.servicetalk.transport.netty.internal.IdleTimeoutInitializer;
 import io.servicetalk.transport.netty.internal.NoopTransportObserver.NoopConnectionObserver;
+import io.servicetalk.transport.netty.internal.ReadPrefetchInitializer;
 import io.servicetalk.transport.netty.internal.SslClientChannelInitializer;
+import io.servicetalk.transport.netty.internal.WriteCoalescingInitializer;
 
 import io.netty.channel.Channel;
 import io.netty.handler.ssl.SslContext;
@@ -87,6 +89,14 @@ public class TcpClientChannelInitializer implements ChannelInitializer {    // F
         ChannelInitializer delegate = ChannelInitializer.defaultInitializer();
 
         delegate = delegate.andThen(new TransportConfigInitializer(config.transportConfig()));
+        if (config.transportConfig().maxCoalescedWriteBytes() > 0) {
+            // Added before any other handler so that it is the closest to the socket and sees the final bytes.
+            delegate = delegate.andThen(
+                    new WriteCoalescingInitializer(config.transportConfig().maxCoalescedWriteBytes()));
+        }
+        if (config.transportConfig().readPrefetchPolicy().isPrefetchEnabled()) {
+            delegate = delegate.andThen(new ReadPrefetchInitializer(config.transportConfig().readPrefetchPolicy()));
+        }
 
         final ClientSslConfig sslConfig = config.sslConfig();
         if (observer != NoopConnectionObserver.INSTANCE) {
@@ -94,7 +104,8 @@ public class TcpClientChannelInitializer implements ChannelInitializer {    // F
                     channel -> new TcpConnectionInfo(channel,
                             // ExecutionContext can be null if users used deprecated ctor
                             executionContext == null ? null : channelExecutionContext(channel, executionContext),
-                            sslConfig, config.idleTimeoutMs()), true, deferSslHandler ? null : sslConfig));
+                            sslConfig, config.idleTimeoutMs()), true, deferSslHandler ? null : sslConfig,
+                    config.transportConfig().tcpInfoSampleInterval()));
         }
 
         if (config.idleTimeoutMs() > 0L) {
@@ -107,7 +118,8 @@ public class TcpClientChannelInitializer implements ChannelInitializer {    // F
             delegate = delegate.andThen(new SslClientChannelInitializer(sslContext, sslConfig, deferSslHandler));
         }
 
-        this.delegate = initWireLogger(delegate, config.wireLoggerConfig());
+        this.delegate = initWireLogger(delegate, config.wireLoggerConfig(),
+                config.transportConfig().wireLoggingPolicy());
     }
 
     @Override
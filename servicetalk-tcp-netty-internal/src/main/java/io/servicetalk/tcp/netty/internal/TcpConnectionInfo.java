@@ -78,7 +78,7 @@ final class TcpConnectionInfo implements ConnectionInfo {
     @Nullable
     @Override
     public <T> T socketOption(final SocketOption<T> option) {
-        return getOption(option, channel.config(), idleTimeoutMs);
+        return getOption(option, channel, channel.config(), idleTimeoutMs);
     }
 
     @Override
@@ -15,6 +15,8 @@
  */
 package io.servicetalk.tcp.netty.internal;
 
+import io.servicetalk.concurrent.Cancellable;
+import io.servicetalk.concurrent.SingleSource.Subscriber;
 import io.servicetalk.concurrent.api.Completable;
 import io.servicetalk.concurrent.api.Executor;
 import io.servicetalk.concurrent.api.Single;
@@ -38,24 +40,34 @@ import io.netty.bootstrap.ServerBootstrap;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.util.ReferenceCounted;
+import io.netty.util.concurrent.EventExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import javax.annotation.Nullable;
 
 import static io.servicetalk.concurrent.api.Completable.defer;
 import static io.servicetalk.concurrent.api.Executors.immediate;
 import static io.servicetalk.concurrent.api.Single.succeeded;
 import static io.servicetalk.concurrent.internal.SubscriberUtils.handleExceptionFromOnSubscribe;
+import static io.servicetalk.transport.netty.internal.BuilderUtils.reusePortOption;
 import static io.servicetalk.transport.netty.internal.BuilderUtils.toNettyAddress;
 import static io.servicetalk.transport.netty.internal.ChannelCloseUtils.close;
 import static io.servicetalk.transport.netty.internal.CopyByteBufHandlerChannelInitializer.POOLED_ALLOCATOR;
@@ -130,37 +142,12 @@ public final class TcpServerBinder {
         requireNonNull(connectionConsumer);
         listenAddress = toNettyAddress(listenAddress);
         EventLoopAwareNettyIoExecutor nettyIoExecutor = toEventLoopAwareNettyIoExecutor(executionContext.ioExecutor());
+        final EventLoopGroup eventLoopGroup = nettyIoExecutor.eventLoopGroup();
         ServerBootstrap bs = new ServerBootstrap();
-        configure(config, bs, nettyIoExecutor.eventLoopGroup(), listenAddress.getClass());
+        configure(config, bs, eventLoopGroup, listenAddress.getClass());
 
         ChannelSet channelSet = new ChannelSet(
                 executionContext.executionStrategy().isCloseOffloaded() ? executionContext.executor() : immediate());
-        bs.handler(new ChannelInboundHandlerAdapter() {
-            @Override
-            public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
-                // Verify that we do not leak pooled memory in the "accept" pipeline
-                if (msg instanceof ReferenceCounted) {
-                    try {
-                        throw new IllegalArgumentException("Unexpected ReferenceCounted msg in 'accept' pipeline: " +
-                                msg);
-                    } finally {
-                        ((ReferenceCounted) msg).release();
-                    }
-                }
-                if (msg instanceof Channel) {
-                    final Channel channel = (Channel) msg;
-                    if (!channel.isActive()) {
-                        channel.close();
-                        LOGGER.debug("Channel ({}) is accepted, but was already inactive", msg);
-                        return;
-                    } else if (!channelSet.addIfAbsent(channel)) {
-                        LOGGER.warn("Channel ({}) not added to ChannelSet", msg);
-                        return;
-                    }
-                }
-                ctx.fireChannelRead(msg);
-            }
-        });
         bs.childHandler(new io.netty.channel.ChannelInitializer<Channel>() {
             @Override
             protected void initChannel(final Channel channel) {
@@ -177,6 +164,20 @@ public final class TcpServerBinder {
             }
         });
 
+        if (config.reusePortListeners()) {
+            final ChannelOption<Boolean> reusePortOption = listenAddress instanceof InetSocketAddress ?
+                    reusePortOption(eventLoopGroup) : null;
+            if (reusePortOption != null) {
+                return bindReusePort(bs, reusePortOption, eventLoopGroup, listenAddress, channelSet,
+                        listenChannels -> NettyServerContext.wrap(listenChannels, channelSet, connectionAcceptor,
+                                executionContext));
+            }
+            LOGGER.info("SO_REUSEPORT listeners are not supported by {} for {}, binding a single server socket.",
+                    eventLoopGroup.getClass().getSimpleName(), listenAddress);
+        }
+
+        bs.group(eventLoopGroup);
+        bs.handler(new ChannelSetAcceptHandler(channelSet));
         ChannelFuture future = bs.bind(listenAddress);
         return new SubscribableSingle<ServerContext>() {
             @Override
@@ -212,6 +213,32 @@ public final class TcpServerBinder {
         };
     }
 
+    private static Single<ServerContext> bindReusePort(final ServerBootstrap bs,
+                                                       final ChannelOption<Boolean> reusePortOption,
+                                                       final EventLoopGroup eventLoopGroup,
+                                                       final SocketAddress listenAddress,
+                                                       final ChannelSet channelSet,
+                                                       final Function<List<Channel>, ServerContext> contextFactory) {
+        final List<EventLoop> eventLoops = new ArrayList<>();
+        for (EventExecutor executor : eventLoopGroup) {
+            eventLoops.add((EventLoop) executor);
+        }
+        return new SubscribableSingle<ServerContext>() {
+            @Override
+            protected void handleSubscribe(final Subscriber<? super ServerContext> subscriber) {
+                final ReusePortBinder binder = new ReusePortBinder(bs, reusePortOption, eventLoops, channelSet,
+                        contextFactory, subscriber);
+                try {
+                    subscriber.onSubscribe(binder);
+                } catch (Throwable t) {
+                    handleExceptionFromOnSubscribe(subscriber, t);
+                    return;
+                }
+                binder.bind(listenAddress);
+            }
+        };
+    }
+
     /**
      * Wraps the connection function with early and late acceptors.
      *
@@ -289,7 +316,6 @@ public final class TcpServerBinder {
         if (eventLoopGroup == null) {
             throw new IllegalStateException("IoExecutor must be specified before building");
         }
-        bs.group(eventLoopGroup);
         bs.channel(BuilderUtils.serverChannel(eventLoopGroup, bindAddressClass));
 
         for (@SuppressWarnings("rawtypes") Map.Entry<ChannelOption, Object> opt : config.options().entrySet()) {
@@ -313,4 +339,136 @@ public final class TcpServerBinder {
         bs.option(ChannelOption.ALLOCATOR, byteBufAllocator);
         bs.childOption(ChannelOption.ALLOCATOR, byteBufAllocator);
     }
+
+    /**
+     * Adds accepted {@link Channel}s to the {@link ChannelSet} of the server. A new instance is required for every
+     * listen {@link Channel}.
+     */
+    private static final class ChannelSetAcceptHandler extends ChannelInboundHandlerAdapter {
+        private final ChannelSet channelSet;
+
+        ChannelSetAcceptHandler(final ChannelSet channelSet) {
+            this.channelSet = channelSet;
+        }
+
+        @Override
+        public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+            // Verify that we do not leak pooled memory in the "accept" pipeline
+            if (msg instanceof ReferenceCounted) {
+                try {
+                    throw new IllegalArgumentException("Unexpected ReferenceCounted msg in 'accept' pipeline: " +
+                            msg);
+                } finally {
+                    ((ReferenceCounted) msg).release();
+                }
+            }
+            if (msg instanceof Channel) {
+                final Channel channel = (Channel) msg;
+                if (!channel.isActive()) {
+                    channel.close();
+                    LOGGER.debug("Channel ({}) is accepted, but was already inactive", msg);
+                    return;
+                } else if (!channelSet.addIfAbsent(channel)) {
+                    LOGGER.warn("Channel ({}) not added to ChannelSet", msg);
+                    return;
+                }
+            }
+            ctx.fireChannelRead(msg);
+        }
+    }
+
+    /**
+     * Binds one {@code SO_REUSEPORT} listen {@link Channel} per {@link EventLoop}. Every listen {@link Channel} uses
+     * its own {@link EventLoop} for accepted {@link Channel}s, so a connection is served by the same thread end to
+     * end. The first {@link Channel} is bound before others to resolve an ephemeral port, if requested.
+     */
+    private static final class ReusePortBinder implements Cancellable {
+        private static final AtomicIntegerFieldUpdater<ReusePortBinder> pendingUpdater =
+                AtomicIntegerFieldUpdater.newUpdater(ReusePortBinder.class, "pending");
+        private static final AtomicIntegerFieldUpdater<ReusePortBinder> terminatedUpdater =
+                AtomicIntegerFieldUpdater.newUpdater(ReusePortBinder.class, "terminated");
+
+        private final ServerBootstrap bs;
+        private final ChannelOption<Boolean> reusePortOption;
+        private final List<EventLoop> eventLoops;
+        private final ChannelSet channelSet;
+        private final Function<List<Channel>, ServerContext> contextFactory;
+        private final Subscriber<? super ServerContext> subscriber;
+        private final AtomicReferenceArray<ChannelFuture> futures;
+        private volatile int pending;
+        private volatile int terminated;
+
+        ReusePortBinder(final ServerBootstrap bs, final ChannelOption<Boolean> reusePortOption,
+                        final List<EventLoop> eventLoops, final ChannelSet channelSet,
+                        final Function<List<Channel>, ServerContext> contextFactory,
+                        final Subscriber<? super ServerContext> subscriber) {
+            this.bs = bs;
+            this.reusePortOption = reusePortOption;
+            this.eventLoops = eventLoops;
+            this.channelSet = channelSet;
+            this.contextFactory = contextFactory;
+            this.subscriber = subscriber;
+            futures = new AtomicReferenceArray<>(eventLoops.size());
+            pending = eventLoops.size();
+        }
+
+        void bind(final SocketAddress listenAddress) {
+            bindListener(0, listenAddress).addListener((ChannelFuture f) -> {
+                onBound(f);
+                if (f.isSuccess() && terminated == 0) {
+                    final SocketAddress boundAddress = f.channel().localAddress();
+                    for (int i = 1; i < eventLoops.size(); ++i) {
+                        bindListener(i, boundAddress).addListener(this::onBound);
+                    }
+                }
+            });
+        }
+
+        @Override
+        public void cancel() {
+            if (terminatedUpdater.compareAndSet(this, 0, 1)) {
+                closeAll();
+            }
+        }
+
+        private ChannelFuture bindListener(final int index, final SocketAddress address) {
+            final EventLoop eventLoop = eventLoops.get(index);
+            final ChannelFuture future = bs.clone()
+                    .group(eventLoop, eventLoop)
+                    .option(reusePortOption, true)
+                    .handler(new ChannelSetAcceptHandler(channelSet))
+                    .bind(address);
+            futures.set(index, future);
+            return future;
+        }
+
+        private void onBound(final ChannelFuture f) {
+            final Throwable cause = f.cause();
+            if (cause != null) {
+                close(f.channel(), cause);
+                if (terminatedUpdater.compareAndSet(this, 0, 1)) {
+                    closeAll();
+                    subscriber.onError(cause);
+                }
+            } else if (terminated != 0) {
+                f.channel().close();
+            } else if (pendingUpdater.decrementAndGet(this) == 0 && terminatedUpdater.compareAndSet(this, 0, 1)) {
+                final List<Channel> listenChannels = new ArrayList<>(futures.length());
+                for (int i = 0; i < futures.length(); ++i) {
+                    listenChannels.add(futures.get(i).channel());
+                }
+                subscriber.onSuccess(contextFactory.apply(listenChannels));
+            }
+        }
+
+        private void closeAll() {
+            for (int i = 0; i < futures.length(); ++i) {
+                final ChannelFuture future = futures.get(i);
+                if (future != null) {
+                    future.cancel(true);
+                    future.addListener(ChannelFutureListener.CLOSE);
+                }
+            }
+        }
+    }
 }
@@ -20,13 +20,16 @@ import io.servicetalk.transport.api.ConnectionInfo;
 import io.servicetalk.transport.api.ConnectionObserver;
 import io.servicetalk.transport.api.ExecutionContext;
 import io.servicetalk.transport.api.ServerSslConfig;
+import io.servicetalk.transport.api.WireLoggingPolicy;
 import io.servicetalk.transport.netty.internal.ChannelInitializer;
 import io.servicetalk.transport.netty.internal.ConnectionObserverInitializer;
 import io.servicetalk.transport.netty.internal.IdleTimeoutInitializer;
 import io.servicetalk.transport.netty.internal.NoopTransportObserver.NoopConnectionObserver;
+import io.servicetalk.transport.netty.internal.ReadPrefetchInitializer;
 import io.servicetalk.transport.netty.internal.SniServerChannelInitializer;
 import io.servicetalk.transport.netty.internal.SslServerChannelInitializer;
 import io.servicetalk.transport.netty.internal.WireLoggingInitializer;
+import io.servicetalk.transport.netty.internal.WriteCoalescingInitializer;
 
 import io.netty.channel.Channel;
 
@@ -70,6 +73,14 @@ public class TcpServerChannelInitializer implements ChannelInitializer {    // F
         ChannelInitializer delegate = ChannelInitializer.defaultInitializer();
 
         delegate = delegate.andThen(new TransportConfigInitializer(config.transportConfig()));
+        if (config.transportConfig().maxCoalescedWriteBytes() > 0) {
+            // Added before any other handler so that it is the closest to the socket and sees the final bytes.
+            delegate = delegate.andThen(
+                    new WriteCoalescingInitializer(config.transportConfig().maxCoalescedWriteBytes()));
+        }
+        if (config.transportConfig().readPrefetchPolicy().isPrefetchEnabled()) {
+            delegate = delegate.andThen(new ReadPrefetchInitializer(config.transportConfig().readPrefetchPolicy()));
+        }
 
         if (observer != NoopConnectionObserver.INSTANCE) {
             final ServerSslConfig sslConfig = config.sslConfig();
@@ -77,7 +88,8 @@ public class TcpServerChannelInitializer implements ChannelInitializer {    // F
                     channel -> new TcpConnectionInfo(channel,
                             // ExecutionContext can be null if users used deprecated ctor
                             executionContext == null ? null : channelExecutionContext(channel, executionContext),
-                            sslConfig, config.idleTimeoutMs()), false, sslConfig));
+                            sslConfig, config.idleTimeoutMs()), false, sslConfig,
+                    config.transportConfig().tcpInfoSampleInterval()));
         }
 
         if (config.idleTimeoutMs() > 0L) {
@@ -88,13 +100,16 @@ public class TcpServerChannelInitializer implements ChannelInitializer {    // F
             assert config.sslConfig() != null;
             assert config.sslContext() != null;
             delegate = delegate.andThen(new SniServerChannelInitializer(config.sniMapping(),
-                    config.sniMaxClientHelloLength(), config.sniClientHelloTimeout().toMillis()));
+                    config.sniMaxClientHelloLength(), config.sniClientHelloTimeout().toMillis(),
+                    // ExecutionContext can be null if users used deprecated ctor
+                    executionContext == null ? null : executionContext.executor()));
         } else if (config.sslContext() != null) {
             assert config.sslConfig() != null;
             delegate = delegate.andThen(new SslServerChannelInitializer(config.sslContext()));
         }
 
-        this.delegate = initWireLogger(delegate, config.wireLoggerConfig());
+        this.delegate = initWireLogger(delegate, config.wireLoggerConfig(),
+                config.transportConfig().wireLoggingPolicy());
     }
 
     @Override
@@ -103,11 +118,12 @@ public class TcpServerChannelInitializer implements ChannelInitializer {    // F
     }
 
     static ChannelInitializer initWireLogger(ChannelInitializer delegate,
-                                             @Nullable UserDataLoggerConfig wireLoggerConfig) {
+                                             @Nullable UserDataLoggerConfig wireLoggerConfig,
+                                             WireLoggingPolicy wireLoggingPolicy) {
         if (wireLoggerConfig == null) {
             return delegate;
         }
         return delegate.andThen(new WireLoggingInitializer(wireLoggerConfig.loggerName(),
-                wireLoggerConfig.logLevel(), wireLoggerConfig.logUserData()));
+                wireLoggerConfig.logLevel(), wireLoggerConfig.logUserData(), wireLoggingPolicy));
     }
 }
@@ -21,6 +21,7 @@ import io.servicetalk.transport.api.TransportObserver;
 import io.servicetalk.transport.netty.internal.NoopTransportObserver;
 
 import io.netty.channel.ChannelOption;
+import io.netty.handler.ssl.SslContext;
 
 import java.net.SocketOption;
 import java.net.StandardSocketOptions;
@@ -31,6 +32,7 @@ import javax.annotation.Nullable;
 
 import static io.servicetalk.transport.netty.internal.SocketOptionUtils.addOption;
 import static io.servicetalk.utils.internal.DurationUtils.ensureNonNegative;
+import static io.servicetalk.utils.internal.NumberUtils.ensureNonNegative;
 import static java.time.Duration.ofSeconds;
 import static java.util.Objects.requireNonNull;
 
@@ -57,7 +59,9 @@ public final class TcpServerConfig extends AbstractTcpConfig {
     private ServerSslConfig sslConfig;
     private int sniMaxClientHelloLength = MAX_CLIENT_HELLO_LENGTH;
     private Duration sniClientHelloTimeout = DEFAULT_CLIENT_HELLO_TIMEOUT;
+    private int sniContextCacheSize;
     private boolean acceptInsecureConnections;
+    private boolean reusePortListeners;
 
     public TcpServerConfig() {
     }
@@ -70,7 +74,9 @@ public final class TcpServerConfig extends AbstractTcpConfig {
         sniConfig = from.sniConfig;
         sniMaxClientHelloLength = from.sniMaxClientHelloLength;
         sniClientHelloTimeout = from.sniClientHelloTimeout;
+        sniContextCacheSize = from.sniContextCacheSize;
         acceptInsecureConnections = from.acceptInsecureConnections;
+        reusePortListeners = from.reusePortListeners;
     }
 
     @Nullable
@@ -96,10 +102,18 @@ public final class TcpServerConfig extends AbstractTcpConfig {
         return sniClientHelloTimeout;
     }
 
+    int sniContextCacheSize() {
+        return sniContextCacheSize;
+    }
+
     public boolean acceptInsecureConnections() {
         return acceptInsecureConnections;
     }
 
+    boolean reusePortListeners() {
+        return reusePortListeners;
+    }
+
     /**
      * Get the {@link ServerSslConfig}.
      *
@@ -232,6 +246,31 @@ public final class TcpServerConfig extends AbstractTcpConfig {
         addOption(listenOptions, option, value);
     }
 
+    /**
+     * Sets the maximum number of SNI {@link SslContext}s to keep.
+     * <p>
+     * Zero ({@code 0}) creates the {@link SslContext}s of all SNI configurations when the server starts. A positive
+     * value creates them when a hostname is requested for the first time and evicts the least recently used ones.
+     *
+     * @param sniContextCacheSize the maximum number of SNI {@link SslContext}s, or {@code 0} to create all eagerly.
+     */
+    public void sniContextCacheSize(final int sniContextCacheSize) {
+        this.sniContextCacheSize = ensureNonNegative(sniContextCacheSize, "sniContextCacheSize");
+    }
+
+    /**
+     * Enables or disables binding one {@code SO_REUSEPORT} server socket per IO thread instead of a single server
+     * socket. If enabled, the kernel load-balances new connections between the server sockets and every accepted
+     * connection is served by the IO thread that owns the server socket it was accepted on.
+     * <p>
+     * This mode is only supported by native Linux transports, other transports bind a single server socket.
+     *
+     * @param reusePortListeners {@code true} to bind one {@code SO_REUSEPORT} server socket per IO thread.
+     */
+    public void reusePortListeners(final boolean reusePortListeners) {
+        this.reusePortListeners = reusePortListeners;
+    }
+
     /**
      * Create a read only view of this object.
      * @return a read only view of this object.
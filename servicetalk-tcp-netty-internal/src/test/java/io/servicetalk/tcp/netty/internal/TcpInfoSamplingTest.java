@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.tcp.netty.internal;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.transport.api.TcpInfo;
+import io.servicetalk.transport.api.TransportConfigBuilder;
+import io.servicetalk.transport.netty.internal.NettyConnection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.servicetalk.transport.api.ServiceTalkSocketOptions.TCP_INFO;
+import static java.time.Duration.ofMillis;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class TcpInfoSamplingTest extends AbstractTransportObserverTest {
+
+    @Override
+    @BeforeEach
+    void setUp() throws Exception {
+        super.setUp();
+    }
+
+    @Override
+    TcpClientConfig getTcpClientConfig() {
+        final TcpClientConfig config = super.getTcpClientConfig();
+        config.transportConfig(new TransportConfigBuilder().tcpInfoSampleInterval(ofMillis(10)).build());
+        return config;
+    }
+
+    @Test
+    void reportsTcpInfo() throws Exception {
+        NettyConnection<Buffer, Buffer> connection = client.connectBlocking(CLIENT_CTX, serverAddress);
+        TcpInfo tcpInfo = connection.socketOption(TCP_INFO);
+        assumeTrue(tcpInfo != null, () -> "TCP_INFO is not supported by " + connection.nettyChannel());
+        assertThat(tcpInfo.rttMicros(), greaterThanOrEqualTo(0L));
+        assertThat(tcpInfo.congestionWindow(), greaterThanOrEqualTo(0L));
+
+        verify(clientConnectionObserver, await().atLeastOnce()).onTcpInfo(any(TcpInfo.class));
+        connection.closeAsync().toFuture().get();
+        verify(clientConnectionObserver, await()).connectionClosed();
+        // Sampling is not enabled for the server.
+        verify(serverConnectionObserver, never()).onTcpInfo(any(TcpInfo.class));
+    }
+}
@@ -18,6 +18,7 @@ package io.servicetalk.transport.api;
 import java.io.InputStream;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import javax.net.ssl.KeyManagerFactory;
@@ -51,6 +52,10 @@ abstract class AbstractSslConfig implements SslConfig {
     @Nullable
     private final List<CertificateCompressionAlgorithm> certificateCompressionAlgorithms;
     private final Duration handshakeTimeout;
+    @Nullable
+    private final Executor handshakeTaskExecutor;
+    @Nullable
+    private final SslSessionCache sessionCache;
 
     AbstractSslConfig(@Nullable final TrustManagerFactory trustManagerFactory,
                       @Nullable final Supplier<InputStream> trustCertChainSupplier,
@@ -63,7 +68,8 @@ abstract class AbstractSslConfig implements SslConfig {
                       final long sessionCacheSize, final long sessionTimeout,
                       final int maxCertificateListBytes, @Nullable final SslProvider provider,
                       @Nullable final List<CertificateCompressionAlgorithm> certificateCompressionAlgorithms,
-                      final Duration handshakeTimeout) {
+                      final Duration handshakeTimeout, @Nullable final Executor handshakeTaskExecutor,
+                      @Nullable final SslSessionCache sessionCache) {
         this.trustManagerFactory = trustManagerFactory;
         this.trustCertChainSupplier = trustCertChainSupplier;
         this.keyManagerFactory = keyManagerFactory;
@@ -80,6 +86,8 @@ abstract class AbstractSslConfig implements SslConfig {
         this.provider = provider;
         this.certificateCompressionAlgorithms = certificateCompressionAlgorithms;
         this.handshakeTimeout = handshakeTimeout;
+        this.handshakeTaskExecutor = handshakeTaskExecutor;
+        this.sessionCache = sessionCache;
     }
 
     @Nullable
@@ -168,6 +176,18 @@ abstract class AbstractSslConfig implements SslConfig {
         return handshakeTimeout;
     }
 
+    @Nullable
+    @Override
+    public final Executor handshakeTaskExecutor() {
+        return handshakeTaskExecutor;
+    }
+
+    @Nullable
+    @Override
+    public final SslSessionCache sessionCache() {
+        return sessionCache;
+    }
+
     @Override
     public int maxCertificateListBytes() {
         return maxCertificateListBytes;
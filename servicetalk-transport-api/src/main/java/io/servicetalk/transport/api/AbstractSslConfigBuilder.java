@@ -21,6 +21,7 @@ import java.io.InputStream;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import javax.net.ssl.KeyManagerFactory;
@@ -71,6 +72,10 @@ abstract class AbstractSslConfigBuilder<T extends AbstractSslConfigBuilder<T>> {
     @Nullable
     private List<CertificateCompressionAlgorithm> certificateCompressionAlgorithms;
     private Duration handshakeTimeout = DEFAULT_HANDSHAKE_TIMEOUT;
+    @Nullable
+    private Executor handshakeTaskExecutor;
+    @Nullable
+    private SslSessionCache sessionCache;
 
     /**
      * Set the {@link TrustManagerFactory} used for verifying the remote endpoint's certificate.
@@ -423,6 +428,43 @@ abstract class AbstractSslConfigBuilder<T extends AbstractSslConfigBuilder<T>> {
         return handshakeTimeout;
     }
 
+    /**
+     * Sets the {@link Executor} that runs CPU intensive tasks of the handshake process, like signing and certificate
+     * validation, instead of the IO thread.
+     *
+     * @param handshakeTaskExecutor the {@link Executor} for handshake tasks, or {@code null} to run them on the IO
+     * thread.
+     * @return {@code this}.
+     * @see SslConfig#handshakeTaskExecutor()
+     */
+    public final T handshakeTaskExecutor(@Nullable final Executor handshakeTaskExecutor) {
+        this.handshakeTaskExecutor = handshakeTaskExecutor;
+        return thisT();
+    }
+
+    @Nullable
+    final Executor handshakeTaskExecutor() {
+        return handshakeTaskExecutor;
+    }
+
+    /**
+     * Sets the {@link SslSessionCache} which may be shared with other clients and servers.
+     *
+     * @param sessionCache the {@link SslSessionCache}, or {@code null} to use a session cache that is not shared.
+     * @return {@code this}.
+     * @see SslConfig#sessionCache()
+     * @see SslSessionCaches
+     */
+    public final T sessionCache(@Nullable final SslSessionCache sessionCache) {
+        this.sessionCache = sessionCache;
+        return thisT();
+    }
+
+    @Nullable
+    final SslSessionCache sessionCache() {
+        return sessionCache;
+    }
+
     /**
      * Set the preferred maximum allowed size of the certificate chain in bytes. This may not be respected
      * and depends on if the {@link SSLEngine} supports this feature.
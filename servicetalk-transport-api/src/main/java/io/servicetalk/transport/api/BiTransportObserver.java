@@ -112,6 +112,24 @@ final class BiTransportObserver implements TransportObserver {
             second.connectionWritabilityChanged(isWritable);
         }
 
+        @Override
+        public void onTcpInfo(final TcpInfo tcpInfo) {
+            first.onTcpInfo(tcpInfo);
+            second.onTcpInfo(tcpInfo);
+        }
+
+        @Override
+        public void writeStallComplete(final long stallNanos, final long cumulativeStallNanos) {
+            first.writeStallComplete(stallNanos, cumulativeStallNanos);
+            second.writeStallComplete(stallNanos, cumulativeStallNanos);
+        }
+
+        @Override
+        public void readSuspensionComplete(final long suspensionNanos, final long cumulativeSuspensionNanos) {
+            first.readSuspensionComplete(suspensionNanos, cumulativeSuspensionNanos);
+            second.readSuspensionComplete(suspensionNanos, cumulativeSuspensionNanos);
+        }
+
         @Override
         public void connectionClosed(final Throwable error) {
             first.connectionClosed(error);
@@ -170,6 +188,12 @@ final class BiTransportObserver implements TransportObserver {
             first.handshakeComplete(sslSession);
             second.handshakeComplete(sslSession);
         }
+
+        @Override
+        public void handshakeTaskComplete(final long queueNanos, final long executionNanos) {
+            first.handshakeTaskComplete(queueNanos, executionNanos);
+            second.handshakeTaskComplete(queueNanos, executionNanos);
+        }
     }
 
     private static final class BiDataObserver implements DataObserver {
@@ -241,6 +265,18 @@ final class BiTransportObserver implements TransportObserver {
             first.streamClosed();
             second.streamClosed();
         }
+
+        @Override
+        public void writeStallComplete(final long stallNanos, final long cumulativeStallNanos) {
+            first.writeStallComplete(stallNanos, cumulativeStallNanos);
+            second.writeStallComplete(stallNanos, cumulativeStallNanos);
+        }
+
+        @Override
+        public void readSuspensionComplete(final long suspensionNanos, final long cumulativeSuspensionNanos) {
+            first.readSuspensionComplete(suspensionNanos, cumulativeSuspensionNanos);
+            second.readSuspensionComplete(suspensionNanos, cumulativeSuspensionNanos);
+        }
     }
 
     private static final class BiReadObserver implements ReadObserver {
@@ -127,6 +127,23 @@ final class CatchAllTransportObserver implements TransportObserver {
                     "connection writability changed");
         }
 
+        @Override
+        public void onTcpInfo(final TcpInfo tcpInfo) {
+            safeReport(() -> observer.onTcpInfo(tcpInfo), observer, "tcp info");
+        }
+
+        @Override
+        public void writeStallComplete(final long stallNanos, final long cumulativeStallNanos) {
+            safeReport(() -> observer.writeStallComplete(stallNanos, cumulativeStallNanos), observer,
+                    "write stall complete");
+        }
+
+        @Override
+        public void readSuspensionComplete(final long suspensionNanos, final long cumulativeSuspensionNanos) {
+            safeReport(() -> observer.readSuspensionComplete(suspensionNanos, cumulativeSuspensionNanos), observer,
+                    "read suspension complete");
+        }
+
         @Override
         public void connectionClosed(final Throwable error) {
             safeReport(() -> observer.connectionClosed(error), observer, "connection closed", error);
@@ -174,6 +191,12 @@ final class CatchAllTransportObserver implements TransportObserver {
         public void handshakeComplete(final SSLSession sslSession) {
             safeReport(() -> observer.handshakeComplete(sslSession), observer, "handshake complete");
         }
+
+        @Override
+        public void handshakeTaskComplete(final long queueNanos, final long executionNanos) {
+            safeReport(() -> observer.handshakeTaskComplete(queueNanos, executionNanos), observer,
+                    "handshake task complete");
+        }
     }
 
     private static final class CatchAllDataObserver implements DataObserver {
@@ -240,6 +263,18 @@ final class CatchAllTransportObserver implements TransportObserver {
         public void streamClosed() {
             safeReport(observer::streamClosed, observer, "stream closed");
         }
+
+        @Override
+        public void writeStallComplete(final long stallNanos, final long cumulativeStallNanos) {
+            safeReport(() -> observer.writeStallComplete(stallNanos, cumulativeStallNanos), observer,
+                    "write stall complete");
+        }
+
+        @Override
+        public void readSuspensionComplete(final long suspensionNanos, final long cumulativeSuspensionNanos) {
+            safeReport(() -> observer.readSuspensionComplete(suspensionNanos, cumulativeSuspensionNanos), observer,
+                    "read suspension complete");
+        }
     }
 
     private static final class CatchAllReadObserver implements ReadObserver {
@@ -18,6 +18,7 @@ package io.servicetalk.transport.api;
 import java.io.InputStream;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import javax.net.ssl.KeyManagerFactory;
@@ -146,7 +147,7 @@ public final class ClientSslConfigBuilder extends AbstractSslConfigBuilder<Clien
                 trustManager(), trustCertChainSupplier(), keyManager(), keyCertChainSupplier(), keySupplier(),
                 keyPassword(), sslProtocols(), alpnProtocols(), ciphers(), cipherSuiteFilter(), sessionCacheSize(),
                 sessionTimeout(), maxCertificateListBytes(), provider(), certificateCompressionAlgorithms(),
-                handshakeTimeout());
+                handshakeTimeout(), handshakeTaskExecutor(), sessionCache());
     }
 
     @Override
@@ -177,11 +178,12 @@ public final class ClientSslConfigBuilder extends AbstractSslConfigBuilder<Clien
                                final long sessionCacheSize, final long sessionTimeout,
                                final int maxCertificateListBytes, @Nullable final SslProvider provider,
                                @Nullable final List<CertificateCompressionAlgorithm> certificateCompressionAlgorithms,
-                               final Duration handshakeTimeout) {
+                               final Duration handshakeTimeout, @Nullable final Executor handshakeTaskExecutor,
+                               @Nullable final SslSessionCache sessionCache) {
             super(trustManagerFactory, trustCertChainSupplier, keyManagerFactory, keyCertChainSupplier, keySupplier,
                     keyPassword, sslProtocols, alpnProtocols, ciphers, cipherSuiteFilter, sessionCacheSize,
                     sessionTimeout, maxCertificateListBytes, provider, certificateCompressionAlgorithms,
-                    handshakeTimeout);
+                    handshakeTimeout, handshakeTaskExecutor, sessionCache);
             this.hostnameVerificationAlgorithm = hostnameVerificationAlgorithm;
             this.peerHost = peerHost;
             this.peerPort = peerPort;
@@ -162,6 +162,44 @@ public interface ConnectionObserver {
     default void connectionWritabilityChanged(boolean isWritable) { // FIXME: 0.43 - consider removing default impl
     }
 
+    /**
+     * Callback when {@code TCP_INFO} of the connection has been sampled.
+     * <p>
+     * Samples are only reported if {@link TransportConfig#tcpInfoSampleInterval()} is enabled and the transport
+     * supports {@code TCP_INFO}.
+     *
+     * @param tcpInfo a snapshot of {@code TCP_INFO} of the connection
+     */
+    default void onTcpInfo(TcpInfo tcpInfo) {
+    }
+
+    /**
+     * Callback when the connection becomes writable again after it was not writable, or when it closes while not
+     * writable.
+     * <p>
+     * The duration of each stall can be recorded in a histogram while the cumulative value allows to track the
+     * total time writes were backpressured by the transport.
+     *
+     * @param stallNanos nanoseconds the connection was not writable, see
+     * {@link #connectionWritabilityChanged(boolean)}
+     * @param cumulativeStallNanos total nanoseconds the connection was not writable since it was established
+     */
+    default void writeStallComplete(long stallNanos, long cumulativeStallNanos) {
+    }
+
+    /**
+     * Callback when the transport resumes reading from the connection after reads were suspended due to missing
+     * demand for data, or when it closes while reads were suspended.
+     * <p>
+     * The duration of each suspension can be recorded in a histogram while the cumulative value allows to track the
+     * total time a slow consumer backpressured the peer.
+     *
+     * @param suspensionNanos nanoseconds reads were suspended
+     * @param cumulativeSuspensionNanos total nanoseconds reads were suspended since the connection was established
+     */
+    default void readSuspensionComplete(long suspensionNanos, long cumulativeSuspensionNanos) {
+    }
+
     /**
      * Callback when the connection is closed due to an {@link Throwable error}.
      *
@@ -220,6 +258,22 @@ public interface ConnectionObserver {
          * @param sslSession the {@link SSLSession} for this connection
          */
         void handshakeComplete(SSLSession sslSession);
+
+        /**
+         * Callback when a delegated task of the handshake (e.g. signing or certificate validation) completed on the
+         * {@link SslConfig#handshakeTaskExecutor() handshake task executor}.
+         * <p>
+         * Task callbacks may trail the handshake: a task can resume the handshake before its completion is reported,
+         * and tasks which are reported only after {@link #handshakeComplete(SSLSession)} or
+         * {@link #handshakeFailed(Throwable)} are dropped. Therefore, not every task of a handshake is necessarily
+         * reported. The total handshake duration is the time between the creation of this observer and
+         * {@link #handshakeComplete(SSLSession)} or {@link #handshakeFailed(Throwable)}.
+         *
+         * @param queueNanos nanoseconds the task waited in the executor queue before it started running
+         * @param executionNanos nanoseconds the task was running
+         */
+        default void handshakeTaskComplete(long queueNanos, long executionNanos) {
+        }
     }
 
     /**
@@ -281,6 +335,28 @@ public interface ConnectionObserver {
          */
         DataObserver streamEstablished();
 
+        /**
+         * Callback when the stream becomes writable again after it was not writable (e.g. because the flow-control
+         * window was exhausted), or when it closes while not writable.
+         *
+         * @param stallNanos nanoseconds the stream was not writable
+         * @param cumulativeStallNanos total nanoseconds the stream was not writable since it was established
+         * @see ConnectionObserver#writeStallComplete(long, long)
+         */
+        default void writeStallComplete(long stallNanos, long cumulativeStallNanos) {
+        }
+
+        /**
+         * Callback when the transport resumes reading from the stream after reads were suspended due to missing
+         * demand for data, or when it closes while reads were suspended.
+         *
+         * @param suspensionNanos nanoseconds reads were suspended
+         * @param cumulativeSuspensionNanos total nanoseconds reads were suspended since the stream was established
+         * @see ConnectionObserver#readSuspensionComplete(long, long)
+         */
+        default void readSuspensionComplete(long suspensionNanos, long cumulativeSuspensionNanos) {
+        }
+
         /**
          * Callback when the stream is closed due to an {@link Throwable error}.
          *
@@ -18,6 +18,7 @@ package io.servicetalk.transport.api;
 import java.io.InputStream;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import javax.net.ssl.KeyManagerFactory;
@@ -134,6 +135,18 @@ public abstract class DelegatingSslConfig<T extends SslConfig> implements SslCon
         return delegate.handshakeTimeout();
     }
 
+    @Nullable
+    @Override
+    public Executor handshakeTaskExecutor() {
+        return delegate.handshakeTaskExecutor();
+    }
+
+    @Nullable
+    @Override
+    public SslSessionCache sessionCache() {
+        return delegate.sessionCache();
+    }
+
     @Override
     public int maxCertificateListBytes() {
         return delegate.maxCertificateListBytes();
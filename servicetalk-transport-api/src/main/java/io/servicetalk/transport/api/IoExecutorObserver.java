@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.api;
+
+/**
+ * An observer interface that provides visibility into the health of the IO threads of an {@link IoExecutor}.
+ * <p>
+ * Callbacks are invoked for each IO thread independently and may be invoked concurrently for different IO threads.
+ * Implementations should be cheap and non-blocking because {@link #onIoThreadProbe(Thread, long, int)} is
+ * invoked on the IO thread itself.
+ */
+public interface IoExecutorObserver {
+
+    /**
+     * Callback when a periodic probe task has been executed on an IO thread.
+     *
+     * @param ioThread the IO thread that executed the probe.
+     * @param schedulingLagNanos the difference in nanoseconds between the time the probe was expected to run and the
+     * time it actually ran. A consistently high value indicates the IO thread is overloaded or blocked.
+     * @param pendingTasks the number of tasks waiting in the queue of the IO thread, or {@code -1} if unknown.
+     */
+    void onIoThreadProbe(Thread ioThread, long schedulingLagNanos, int pendingTasks);
+
+    /**
+     * Callback when an IO thread didn't make progress for longer than the configured blocked task threshold.
+     * <p>
+     * This callback is invoked from a watchdog thread, not the IO thread. It is invoked at most once for each stalled
+     * probe task.
+     *
+     * @param ioThread the IO thread that is blocked.
+     * @param blockedNanos the duration in nanoseconds the IO thread has been blocked so far.
+     * @param stackTrace a sample of the stack trace of {@code ioThread} taken at the time it was detected as blocked.
+     */
+    default void onIoThreadBlocked(Thread ioThread, long blockedNanos, StackTraceElement[] stackTrace) {
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.api;
+
+import static io.servicetalk.utils.internal.NumberUtils.ensureNonNegative;
+import static io.servicetalk.utils.internal.NumberUtils.ensurePositive;
+
+/**
+ * Policy which defines how much data the transport may read ahead of the demand signalled by the consumer of a
+ * connection or stream.
+ * <p>
+ * With {@link #onDemand()} the transport only reads when there is outstanding demand, which may toggle reads on and
+ * off for every item when a consumer requests one item at a time. With {@link #watermarks(int, int, long, long)} the
+ * transport keeps reading and buffering data while the buffered amount is below both high watermarks. Once either
+ * high watermark is reached, reads are paused until the consumer drains the buffer to both low watermarks.
+ */
+public final class ReadPrefetchPolicy {
+
+    private static final ReadPrefetchPolicy ON_DEMAND = new ReadPrefetchPolicy(0, 0, 0, 0);
+
+    private final int lowWatermarkItems;
+    private final int highWatermarkItems;
+    private final long lowWatermarkBytes;
+    private final long highWatermarkBytes;
+
+    private ReadPrefetchPolicy(final int lowWatermarkItems, final int highWatermarkItems,
+                               final long lowWatermarkBytes, final long highWatermarkBytes) {
+        this.lowWatermarkItems = lowWatermarkItems;
+        this.highWatermarkItems = highWatermarkItems;
+        this.lowWatermarkBytes = lowWatermarkBytes;
+        this.highWatermarkBytes = highWatermarkBytes;
+    }
+
+    /**
+     * Returns a {@link ReadPrefetchPolicy} which only reads when there is outstanding demand.
+     *
+     * @return a {@link ReadPrefetchPolicy} which only reads when there is outstanding demand
+     */
+    public static ReadPrefetchPolicy onDemand() {
+        return ON_DEMAND;
+    }
+
+    /**
+     * Returns a {@link ReadPrefetchPolicy} which reads ahead of demand until a high watermark is reached.
+     *
+     * @param lowWatermarkItems number of buffered items at or below which paused reads resume
+     * @param highWatermarkItems number of buffered items at which reads ahead of demand are paused
+     * @param lowWatermarkBytes number of buffered bytes at or below which paused reads resume
+     * @param highWatermarkBytes number of buffered bytes at which reads ahead of demand are paused
+     * @return a {@link ReadPrefetchPolicy} which reads ahead of demand until a high watermark is reached
+     */
+    public static ReadPrefetchPolicy watermarks(final int lowWatermarkItems, final int highWatermarkItems,
+                                                final long lowWatermarkBytes, final long highWatermarkBytes) {
+        ensurePositive(highWatermarkItems, "highWatermarkItems");
+        ensurePositive(highWatermarkBytes, "highWatermarkBytes");
+        if (ensureNonNegative(lowWatermarkItems, "lowWatermarkItems") >= highWatermarkItems) {
+            throw new IllegalArgumentException("lowWatermarkItems: " + lowWatermarkItems +
+                    " (expected < highWatermarkItems: " + highWatermarkItems + ')');
+        }
+        if (ensureNonNegative(lowWatermarkBytes, "lowWatermarkBytes") >= highWatermarkBytes) {
+            throw new IllegalArgumentException("lowWatermarkBytes: " + lowWatermarkBytes +
+                    " (expected < highWatermarkBytes: " + highWatermarkBytes + ')');
+        }
+        return new ReadPrefetchPolicy(lowWatermarkItems, highWatermarkItems, lowWatermarkBytes, highWatermarkBytes);
+    }
+
+    /**
+     * Determines if this policy allows reading ahead of demand.
+     *
+     * @return {@code true} if this policy allows reading ahead of demand
+     */
+    public boolean isPrefetchEnabled() {
+        return highWatermarkItems > 0;
+    }
+
+    /**
+     * Number of buffered items at or below which paused reads resume.
+     *
+     * @return number of buffered items at or below which paused reads resume
+     */
+    public int lowWatermarkItems() {
+        return lowWatermarkItems;
+    }
+
+    /**
+     * Number of buffered items at which reads ahead of demand are paused.
+     *
+     * @return number of buffered items at which reads ahead of demand are paused, {@code 0} if prefetch is disabled
+     */
+    public int highWatermarkItems() {
+        return highWatermarkItems;
+    }
+
+    /**
+     * Number of buffered bytes at or below which paused reads resume.
+     *
+     * @return number of buffered bytes at or below which paused reads resume
+     */
+    public long lowWatermarkBytes() {
+        return lowWatermarkBytes;
+    }
+
+    /**
+     * Number of buffered bytes at which reads ahead of demand are paused.
+     *
+     * @return number of buffered bytes at which reads ahead of demand are paused, {@code 0} if prefetch is disabled
+     */
+    public long highWatermarkBytes() {
+        return highWatermarkBytes;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ReadPrefetchPolicy that = (ReadPrefetchPolicy) o;
+        return lowWatermarkItems == that.lowWatermarkItems &&
+                highWatermarkItems == that.highWatermarkItems &&
+                lowWatermarkBytes == that.lowWatermarkBytes &&
+                highWatermarkBytes == that.highWatermarkBytes;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = lowWatermarkItems;
+        result = 31 * result + highWatermarkItems;
+        result = 31 * result + Long.hashCode(lowWatermarkBytes);
+        result = 31 * result + Long.hashCode(highWatermarkBytes);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return isPrefetchEnabled() ? getClass().getSimpleName() +
+                "{lowWatermarkItems=" + lowWatermarkItems +
+                ", highWatermarkItems=" + highWatermarkItems +
+                ", lowWatermarkBytes=" + lowWatermarkBytes +
+                ", highWatermarkBytes=" + highWatermarkBytes +
+                '}' : getClass().getSimpleName() + "{onDemand}";
+    }
+}
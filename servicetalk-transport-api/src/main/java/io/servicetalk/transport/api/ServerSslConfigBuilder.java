@@ -18,6 +18,7 @@ package io.servicetalk.transport.api;
 import java.io.InputStream;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import javax.net.ssl.KeyManagerFactory;
@@ -109,7 +110,7 @@ public final class ServerSslConfigBuilder extends AbstractSslConfigBuilder<Serve
         return new DefaultServerSslConfig(clientAuthMode, trustManager(), trustCertChainSupplier(), keyManager(),
                 keyCertChainSupplier(), keySupplier(), keyPassword(), sslProtocols(), alpnProtocols(), ciphers(),
                 cipherSuiteFilter(), sessionCacheSize(), sessionTimeout(), maxCertificateListBytes(), provider(),
-                certificateCompressionAlgorithms(), handshakeTimeout());
+                certificateCompressionAlgorithms(), handshakeTimeout(), handshakeTaskExecutor(), sessionCache());
     }
 
     @Override
@@ -131,11 +132,12 @@ public final class ServerSslConfigBuilder extends AbstractSslConfigBuilder<Serve
                                final long sessionCacheSize, final long sessionTimeout,
                                final int maxCertificateListBytes, @Nullable final SslProvider provider,
                                @Nullable final List<CertificateCompressionAlgorithm> certificateCompressionAlgorithms,
-                               final Duration handshakeTimeout) {
+                               final Duration handshakeTimeout, @Nullable final Executor handshakeTaskExecutor,
+                               @Nullable final SslSessionCache sessionCache) {
             super(trustManagerFactory, trustCertChainSupplier, keyManagerFactory, keyCertChainSupplier, keySupplier,
                     keyPassword, sslProtocols, alpnProtocols, ciphers, cipherSuiteFilter, sessionCacheSize,
                     sessionTimeout, maxCertificateListBytes, provider, certificateCompressionAlgorithms,
-                    handshakeTimeout);
+                    handshakeTimeout, handshakeTaskExecutor, sessionCache);
             this.clientAuthMode = clientAuthMode;
         }
 
@@ -63,6 +63,20 @@ public final class ServiceTalkSocketOptions {
     public static final SocketOption<Boolean> TCP_FASTOPEN_CONNECT =
             new ServiceTalkSocketOption<>("TCP_FASTOPEN_CONNECT", Boolean.class);
 
+    /**
+     * A fresh {@link TcpInfo} snapshot of the connection, for example to use the round-trip time as a signal for load
+     * balancing.
+     * <p>
+     * Note the following caveats of this option:
+     * <ul>
+     *     <li>it is read-only and can only be queried via {@link ConnectionInfo#socketOption(SocketOption)}</li>
+     *     <li>it may not be supported by the underlying transport (e.g. supported by Netty's
+     *     <a href="https://netty.io/wiki/native-transports.html#using-the-linux-native-transport">linux EPOLL
+     *     transport</a>), in which case {@code null} is returned</li>
+     * </ul>
+     */
+    public static final SocketOption<TcpInfo> TCP_INFO = new ServiceTalkSocketOption<>("TCP_INFO", TcpInfo.class);
+
     // -- Server/listen socket specific options --
 
     /**
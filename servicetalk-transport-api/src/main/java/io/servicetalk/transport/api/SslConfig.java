@@ -18,6 +18,7 @@ package io.servicetalk.transport.api;
 import java.io.InputStream;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import javax.net.ssl.KeyManagerFactory;
@@ -188,6 +189,33 @@ public interface SslConfig {
         return DEFAULT_HANDSHAKE_TIMEOUT;
     }
 
+    /**
+     * Get the {@link Executor} that runs CPU intensive tasks of the handshake process, like signing and certificate
+     * validation, instead of the IO thread.
+     * <p>
+     * Offloading these tasks prevents a burst of full handshakes (e.g. many clients reconnecting at once) from stalling
+     * other connections which share the same IO thread.
+     *
+     * @return the {@link Executor} for handshake tasks, or {@code null} to run them on the IO thread.
+     */
+    @Nullable
+    default Executor handshakeTaskExecutor() {
+        return null;
+    }
+
+    /**
+     * Get the {@link SslSessionCache} which may be shared with other clients and servers.
+     * <p>
+     * If set, {@link SslSessionCache#maxSessions()} and {@link SslSessionCache#sessionTimeout()} take precedence over
+     * {@link #sessionCacheSize()} and {@link #sessionTimeout()}.
+     *
+     * @return the {@link SslSessionCache}, or {@code null} to use a session cache that is not shared.
+     */
+    @Nullable
+    default SslSessionCache sessionCache() {
+        return null;
+    }
+
     /**
      * Get the preferred maximum allowed size of the certificate chain in bytes. This may not be respected
      * and depends on if the {@link SSLEngine} supports this feature.
@@ -0,0 +1,83 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.api;
+
+import java.time.Duration;
+import javax.net.ssl.SSLSessionContext;
+
+/**
+ * A TLS session resumption cache which can be shared by multiple clients and servers of the same process.
+ * <p>
+ * Clients which share an instance also share the cached sessions, as long as the rest of their {@link SslConfig} is
+ * the same. This allows resuming sessions after a client is closed and re-created, for example by a multi-address
+ * client. Servers which share an instance share session ticket keys, which are rotated periodically. Resumed
+ * handshakes are significantly cheaper than full handshakes for both peers.
+ *
+ * @see SslSessionCaches
+ */
+public interface SslSessionCache {
+    /**
+     * Get the maximum number of sessions to cache per distinct {@link SslConfig}.
+     *
+     * @return the maximum number of sessions to cache, {@code 0} to use the implementation default.
+     * @see SSLSessionContext#setSessionCacheSize(int)
+     */
+    long maxSessions();
+
+    /**
+     * Get the duration after which a cached session expires.
+     *
+     * @return the duration after which a cached session expires, {@link Duration#ZERO} to use the implementation
+     * default.
+     * @see SSLSessionContext#setSessionTimeout(int)
+     */
+    Duration sessionTimeout();
+
+    /**
+     * Get the interval at which server-side session ticket keys are rotated. Tickets encrypted with the previous key
+     * are still accepted for one more interval.
+     * <p>
+     * Not all providers allow configuring session ticket keys, in which case the provider manages the keys.
+     *
+     * @return the interval at which session ticket keys are rotated, {@link Duration#ZERO} to never rotate.
+     */
+    Duration ticketKeyRotationInterval();
+
+    /**
+     * Callback when a handshake of a connection using this cache completed successfully.
+     *
+     * @param resumed {@code true} if a previous session was resumed, {@code false} for a full handshake.
+     */
+    void handshakeComplete(boolean resumed);
+
+    /**
+     * Get the number of successful handshakes which resumed a previous session.
+     * <p>
+     * A handshake is considered resumed if its session was created before the handshake started. This relies on the
+     * provider preserving the creation time of resumed sessions, resumptions which create a new session (e.g. some
+     * TLSv1.3 implementations) are counted as {@link #fullHandshakes() full handshakes}.
+     *
+     * @return the number of successful handshakes which resumed a previous session.
+     */
+    long resumedHandshakes();
+
+    /**
+     * Get the number of successful handshakes which did not resume a previous session.
+     *
+     * @return the number of successful handshakes which did not resume a previous session.
+     */
+    long fullHandshakes();
+}
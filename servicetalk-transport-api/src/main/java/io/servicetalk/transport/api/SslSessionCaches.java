@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.api;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+import static io.servicetalk.utils.internal.DurationUtils.ensureNonNegative;
+import static io.servicetalk.utils.internal.NumberUtils.ensureNonNegative;
+import static java.time.Duration.ZERO;
+import static java.time.Duration.ofHours;
+
+/**
+ * A factory to create {@link SslSessionCache}s.
+ */
+public final class SslSessionCaches {
+
+    private static final Duration DEFAULT_TICKET_KEY_ROTATION_INTERVAL = ofHours(1);
+
+    private SslSessionCaches() {
+    }
+
+    /**
+     * Creates a new {@link SslSessionCache} which uses the implementation defaults for size and timeout, and rotates
+     * session ticket keys every hour.
+     *
+     * @return a new {@link SslSessionCache}.
+     */
+    public static SslSessionCache newSslSessionCache() {
+        return newSslSessionCache(0, ZERO, DEFAULT_TICKET_KEY_ROTATION_INTERVAL);
+    }
+
+    /**
+     * Creates a new {@link SslSessionCache}.
+     *
+     * @param maxSessions the maximum number of sessions to cache per distinct {@link SslConfig}, {@code 0} to use
+     * the implementation default.
+     * @param sessionTimeout the duration after which a cached session expires, {@link Duration#ZERO} to use the
+     * implementation default.
+     * @param ticketKeyRotationInterval the interval at which session ticket keys are rotated, {@link Duration#ZERO}
+     * to never rotate.
+     * @return a new {@link SslSessionCache}.
+     */
+    public static SslSessionCache newSslSessionCache(final long maxSessions, final Duration sessionTimeout,
+                                                     final Duration ticketKeyRotationInterval) {
+        return new DefaultSslSessionCache(ensureNonNegative(maxSessions, "maxSessions"),
+                ensureNonNegative(sessionTimeout, "sessionTimeout"),
+                ensureNonNegative(ticketKeyRotationInterval, "ticketKeyRotationInterval"));
+    }
+
+    private static final class DefaultSslSessionCache implements SslSessionCache {
+        private static final AtomicLongFieldUpdater<DefaultSslSessionCache> resumedUpdater =
+                AtomicLongFieldUpdater.newUpdater(DefaultSslSessionCache.class, "resumed");
+        private static final AtomicLongFieldUpdater<DefaultSslSessionCache> fullUpdater =
+                AtomicLongFieldUpdater.newUpdater(DefaultSslSessionCache.class, "full");
+
+        private final long maxSessions;
+        private final Duration sessionTimeout;
+        private final Duration ticketKeyRotationInterval;
+        private volatile long resumed;
+        private volatile long full;
+
+        DefaultSslSessionCache(final long maxSessions, final Duration sessionTimeout,
+                               final Duration ticketKeyRotationInterval) {
+            this.maxSessions = maxSessions;
+            this.sessionTimeout = sessionTimeout;
+            this.ticketKeyRotationInterval = ticketKeyRotationInterval;
+        }
+
+        @Override
+        public long maxSessions() {
+            return maxSessions;
+        }
+
+        @Override
+        public Duration sessionTimeout() {
+            return sessionTimeout;
+        }
+
+        @Override
+        public Duration ticketKeyRotationInterval() {
+            return ticketKeyRotationInterval;
+        }
+
+        @Override
+        public void handshakeComplete(final boolean resumed) {
+            (resumed ? resumedUpdater : fullUpdater).incrementAndGet(this);
+        }
+
+        @Override
+        public long resumedHandshakes() {
+            return resumed;
+        }
+
+        @Override
+        public long fullHandshakes() {
+            return full;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() +
+                    "{maxSessions=" + maxSessions +
+                    ", sessionTimeout=" + sessionTimeout +
+                    ", ticketKeyRotationInterval=" + ticketKeyRotationInterval +
+                    ", resumed=" + resumed +
+                    ", full=" + full +
+                    '}';
+        }
+    }
+}
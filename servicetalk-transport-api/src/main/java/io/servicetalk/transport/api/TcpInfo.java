@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.api;
+
+/**
+ * A snapshot of the {@code TCP_INFO} state the kernel maintains for a TCP connection.
+ *
+ * @see ConnectionObserver#onTcpInfo(TcpInfo)
+ * @see ServiceTalkSocketOptions#TCP_INFO
+ */
+public interface TcpInfo {
+
+    /**
+     * Smoothed round-trip time of the connection.
+     *
+     * @return smoothed round-trip time in microseconds
+     */
+    long rttMicros();
+
+    /**
+     * Variance of the round-trip time of the connection.
+     *
+     * @return round-trip time variance in microseconds
+     */
+    long rttVarianceMicros();
+
+    /**
+     * Total number of segments retransmitted over the lifetime of the connection.
+     *
+     * @return total number of retransmitted segments
+     */
+    long totalRetransmits();
+
+    /**
+     * Current congestion window of the sender.
+     *
+     * @return congestion window in segments
+     */
+    long congestionWindow();
+
+    /**
+     * Number of segments sent but not yet acknowledged by the peer.
+     *
+     * @return number of unacknowledged segments
+     */
+    long unackedSegments();
+}
@@ -15,6 +15,8 @@
  */
 package io.servicetalk.transport.api;
 
+import java.time.Duration;
+
 /**
  * Configuration for transport settings.
  *
@@ -46,4 +48,77 @@ public interface TransportConfig {
      * @return Maximum number of bytes per read operation
      */
     int maxBytesPerRead();
+
+    /**
+     * Maximum time the transport may defer flushing written data in order to coalesce multiple writes (e.g. pipelined
+     * responses or concurrent HTTP/2 streams) into fewer system calls.
+     * <p>
+     * When enabled, writes are flushed once the transport finished processing the current batch of reads, or earlier
+     * if this delay is exceeded or the write buffer is full. {@link Duration#ZERO} disables write coalescing and
+     * flushes data as soon as the protocol requests it.
+     *
+     * @return Maximum time the transport may defer flushing written data, {@link Duration#ZERO} if disabled
+     */
+    default Duration maxFlushDelay() {
+        return Duration.ZERO;
+    }
+
+    /**
+     * Maximum number of written items the transport may defer flushing when {@link #maxFlushDelay()} is enabled.
+     * <p>
+     * Once this number of items is pending, written data is flushed without waiting for the end of the current batch
+     * of reads or {@link #maxFlushDelay()}. This bounds the amount of unflushed data for streams of small items. The
+     * value must be positive and has no effect if {@link #maxFlushDelay()} is {@link Duration#ZERO}.
+     *
+     * @return Maximum number of written items the transport may defer flushing
+     */
+    default int maxFlushPendingItems() {
+        return 32;
+    }
+
+    /**
+     * Maximum number of bytes the transport may copy into a single buffer in order to coalesce multiple small writes
+     * between flushes (e.g. server-sent events, gRPC messages, or elements of a streaming JSON array).
+     * <p>
+     * Coalescing reduces the number of buffers the transport has to write per flush at the cost of copying small
+     * writes. {@code 0} disables write coalescing.
+     *
+     * @return Maximum number of bytes the transport may coalesce into a single buffer, {@code 0} if disabled
+     */
+    default int maxCoalescedWriteBytes() {
+        return 0;
+    }
+
+    /**
+     * Interval at which the transport samples {@code TCP_INFO} of each connection and reports it to
+     * {@link ConnectionObserver#onTcpInfo(TcpInfo)}.
+     * <p>
+     * Sampling is currently only supported by the Linux epoll transport, connections of other transports (including
+     * io_uring and NIO) are not sampled. In addition to the periodic samples, a final sample is reported before a
+     * locally initiated close. {@link Duration#ZERO} disables sampling.
+     *
+     * @return Interval at which the transport samples {@code TCP_INFO}, {@link Duration#ZERO} if disabled
+     */
+    default Duration tcpInfoSampleInterval() {
+        return Duration.ZERO;
+    }
+
+    /**
+     * Policy which defines how much data the transport may read ahead of the demand signalled by the consumer of a
+     * connection or stream.
+     *
+     * @return {@link ReadPrefetchPolicy} to use, {@link ReadPrefetchPolicy#onDemand()} reads only when there is demand
+     */
+    default ReadPrefetchPolicy readPrefetchPolicy() {
+        return ReadPrefetchPolicy.onDemand();
+    }
+
+    /**
+     * Policy which defines which connections are wire-logged, and how, if wire-logging is enabled.
+     *
+     * @return {@link WireLoggingPolicy} to use, {@link WireLoggingPolicy#all()} logs all events of all connections
+     */
+    default WireLoggingPolicy wireLoggingPolicy() {
+        return WireLoggingPolicy.all();
+    }
 }
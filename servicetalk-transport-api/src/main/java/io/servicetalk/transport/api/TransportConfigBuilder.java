@@ -15,7 +15,12 @@
  */
 package io.servicetalk.transport.api;
 
+import java.time.Duration;
+
+import static io.servicetalk.utils.internal.DurationUtils.ensureNonNegative;
+import static io.servicetalk.utils.internal.NumberUtils.ensureNonNegative;
 import static io.servicetalk.utils.internal.NumberUtils.ensurePositive;
+import static java.util.Objects.requireNonNull;
 
 /**
  * Builder for {@link TransportConfig}.
@@ -24,9 +29,16 @@ public final class TransportConfigBuilder {
 
     private static final int DEFAULT_MAX_READ_ATTEMPTS_PER_SELECT = 4;
     private static final int DEFAULT_MAX_BYTES_PER_READ = 65_536;
+    private static final int DEFAULT_MAX_FLUSH_PENDING_ITEMS = 32;
 
     private int maxReadAttemptsPerSelect = DEFAULT_MAX_READ_ATTEMPTS_PER_SELECT;
     private int maxBytesPerRead = DEFAULT_MAX_BYTES_PER_READ;
+    private Duration maxFlushDelay = Duration.ZERO;
+    private int maxFlushPendingItems = DEFAULT_MAX_FLUSH_PENDING_ITEMS;
+    private int maxCoalescedWriteBytes;
+    private Duration tcpInfoSampleInterval = Duration.ZERO;
+    private ReadPrefetchPolicy readPrefetchPolicy = ReadPrefetchPolicy.onDemand();
+    private WireLoggingPolicy wireLoggingPolicy = WireLoggingPolicy.all();
 
     /**
      * Sets maximum number of times the transport will attempt to read data when the selector notifies that there is
@@ -63,23 +75,143 @@ public final class TransportConfigBuilder {
         return this;
     }
 
+    /**
+     * Sets maximum time the transport may defer flushing written data in order to coalesce multiple writes (e.g.
+     * pipelined responses or concurrent HTTP/2 streams) into fewer system calls.
+     * <p>
+     * When enabled, writes are flushed once the transport finished processing the current batch of reads, or earlier
+     * if this delay is exceeded or the write buffer is full. {@link Duration#ZERO} (default) disables write
+     * coalescing.
+     *
+     * @param maxFlushDelay Maximum time the transport may defer flushing written data
+     * @return {@code this}
+     * @see TransportConfig#maxFlushDelay()
+     */
+    public TransportConfigBuilder maxFlushDelay(final Duration maxFlushDelay) {
+        this.maxFlushDelay = ensureNonNegative(maxFlushDelay, "maxFlushDelay");
+        return this;
+    }
+
+    /**
+     * Sets maximum number of written items the transport may defer flushing when
+     * {@link #maxFlushDelay(Duration) write coalescing} is enabled.
+     * <p>
+     * Once this number of items is pending, written data is flushed without waiting for the end of the current batch
+     * of reads or the {@link #maxFlushDelay(Duration) maximum flush delay}. The value must be positive, default is
+     * {@value #DEFAULT_MAX_FLUSH_PENDING_ITEMS}.
+     *
+     * @param maxFlushPendingItems Maximum number of written items the transport may defer flushing
+     * @return {@code this}
+     * @see TransportConfig#maxFlushPendingItems()
+     */
+    public TransportConfigBuilder maxFlushPendingItems(final int maxFlushPendingItems) {
+        this.maxFlushPendingItems = ensurePositive(maxFlushPendingItems, "maxFlushPendingItems");
+        return this;
+    }
+
+    /**
+     * Sets maximum number of bytes the transport may copy into a single buffer in order to coalesce multiple small
+     * writes between flushes (e.g. server-sent events, gRPC messages, or elements of a streaming JSON array).
+     * <p>
+     * Coalescing reduces the number of buffers the transport has to write per flush at the cost of copying small
+     * writes. {@code 0} (default) disables write coalescing.
+     *
+     * @param maxCoalescedWriteBytes Maximum number of bytes the transport may coalesce into a single buffer
+     * @return {@code this}
+     * @see TransportConfig#maxCoalescedWriteBytes()
+     */
+    public TransportConfigBuilder maxCoalescedWriteBytes(final int maxCoalescedWriteBytes) {
+        this.maxCoalescedWriteBytes = ensureNonNegative(maxCoalescedWriteBytes, "maxCoalescedWriteBytes");
+        return this;
+    }
+
+    /**
+     * Sets interval at which the transport samples {@code TCP_INFO} (round-trip time, retransmits, congestion window,
+     * etc.) of each connection and reports it to {@link ConnectionObserver#onTcpInfo(TcpInfo)}.
+     * <p>
+     * Sampling is currently only supported by the Linux epoll transport. Connections of other transports, including
+     * io_uring and NIO, are not sampled. The interval may be rounded up to a granularity of 100 milliseconds.
+     * {@link Duration#ZERO} (default) disables sampling.
+     *
+     * @param tcpInfoSampleInterval Interval at which the transport samples {@code TCP_INFO}
+     * @return {@code this}
+     * @see TransportConfig#tcpInfoSampleInterval()
+     */
+    public TransportConfigBuilder tcpInfoSampleInterval(final Duration tcpInfoSampleInterval) {
+        this.tcpInfoSampleInterval = ensureNonNegative(tcpInfoSampleInterval, "tcpInfoSampleInterval");
+        return this;
+    }
+
+    /**
+     * Sets the policy which defines how much data the transport may read ahead of the demand signalled by the consumer
+     * of a connection or stream.
+     * <p>
+     * Reading ahead of demand within watermarks avoids toggling reads on and off for consumers that request one item
+     * at a time (e.g. streaming request bodies) at the cost of buffering up to the high watermark per connection or
+     * stream. {@link ReadPrefetchPolicy#onDemand()} (default) only reads when there is demand.
+     *
+     * @param readPrefetchPolicy {@link ReadPrefetchPolicy} to use
+     * @return {@code this}
+     * @see TransportConfig#readPrefetchPolicy()
+     */
+    public TransportConfigBuilder readPrefetchPolicy(final ReadPrefetchPolicy readPrefetchPolicy) {
+        this.readPrefetchPolicy = requireNonNull(readPrefetchPolicy);
+        return this;
+    }
+
+    /**
+     * Sets the policy which defines which connections are wire-logged, and how, if wire-logging is enabled.
+     * <p>
+     * {@link WireLoggingPolicy#all()} (default) formats every event of every connection, which is too expensive for
+     * live traffic. Use {@link WireLoggingPolicy#sampled(double)} or {@link WireLoggingPolicy#rateLimited(int)} to log
+     * a subset of connections, or {@link WireLoggingPolicy#ringBuffer(int, int)} to format recent events only when a
+     * connection fails.
+     *
+     * @param wireLoggingPolicy {@link WireLoggingPolicy} to use
+     * @return {@code this}
+     * @see TransportConfig#wireLoggingPolicy()
+     */
+    public TransportConfigBuilder wireLoggingPolicy(final WireLoggingPolicy wireLoggingPolicy) {
+        this.wireLoggingPolicy = requireNonNull(wireLoggingPolicy);
+        return this;
+    }
+
     /**
      * Builds a new {@link TransportConfig}.
      *
      * @return a new {@link TransportConfig}
      */
     public TransportConfig build() {
-        return new DefaultTransportConfig(maxReadAttemptsPerSelect, maxBytesPerRead);
+        return new DefaultTransportConfig(maxReadAttemptsPerSelect, maxBytesPerRead, maxFlushDelay,
+                maxFlushPendingItems, maxCoalescedWriteBytes, tcpInfoSampleInterval, readPrefetchPolicy,
+                wireLoggingPolicy);
     }
 
     private static final class DefaultTransportConfig implements TransportConfig {
 
         private final int maxReadAttemptsPerSelect;
         private final int maxBytesPerRead;
+        private final Duration maxFlushDelay;
+        private final int maxFlushPendingItems;
+        private final int maxCoalescedWriteBytes;
+        private final Duration tcpInfoSampleInterval;
+        private final ReadPrefetchPolicy readPrefetchPolicy;
+        private final WireLoggingPolicy wireLoggingPolicy;
 
-        private DefaultTransportConfig(final int maxReadAttemptsPerSelect, final int maxBytesPerRead) {
+        private DefaultTransportConfig(final int maxReadAttemptsPerSelect, final int maxBytesPerRead,
+                                       final Duration maxFlushDelay, final int maxFlushPendingItems,
+                                       final int maxCoalescedWriteBytes,
+                                       final Duration tcpInfoSampleInterval,
+                                       final ReadPrefetchPolicy readPrefetchPolicy,
+                                       final WireLoggingPolicy wireLoggingPolicy) {
             this.maxReadAttemptsPerSelect = maxReadAttemptsPerSelect;
             this.maxBytesPerRead = maxBytesPerRead;
+            this.maxFlushDelay = maxFlushDelay;
+            this.maxFlushPendingItems = maxFlushPendingItems;
+            this.maxCoalescedWriteBytes = maxCoalescedWriteBytes;
+            this.tcpInfoSampleInterval = tcpInfoSampleInterval;
+            this.readPrefetchPolicy = readPrefetchPolicy;
+            this.wireLoggingPolicy = wireLoggingPolicy;
         }
 
         @Override
@@ -92,6 +224,36 @@ public final class TransportConfigBuilder {
             return maxBytesPerRead;
         }
 
+        @Override
+        public Duration maxFlushDelay() {
+            return maxFlushDelay;
+        }
+
+        @Override
+        public int maxFlushPendingItems() {
+            return maxFlushPendingItems;
+        }
+
+        @Override
+        public int maxCoalescedWriteBytes() {
+            return maxCoalescedWriteBytes;
+        }
+
+        @Override
+        public Duration tcpInfoSampleInterval() {
+            return tcpInfoSampleInterval;
+        }
+
+        @Override
+        public ReadPrefetchPolicy readPrefetchPolicy() {
+            return readPrefetchPolicy;
+        }
+
+        @Override
+        public WireLoggingPolicy wireLoggingPolicy() {
+            return wireLoggingPolicy;
+        }
+
         @Override
         public boolean equals(final Object o) {
             if (this == o) {
@@ -102,13 +264,26 @@ public final class TransportConfigBuilder {
             }
 
             final DefaultTransportConfig that = (DefaultTransportConfig) o;
-            return maxReadAttemptsPerSelect == that.maxReadAttemptsPerSelect && maxBytesPerRead == that.maxBytesPerRead;
+            return maxReadAttemptsPerSelect == that.maxReadAttemptsPerSelect &&
+                    maxBytesPerRead == that.maxBytesPerRead &&
+                    maxFlushDelay.equals(that.maxFlushDelay) &&
+                    maxFlushPendingItems == that.maxFlushPendingItems &&
+                    maxCoalescedWriteBytes == that.maxCoalescedWriteBytes &&
+                    tcpInfoSampleInterval.equals(that.tcpInfoSampleInterval) &&
+                    readPrefetchPolicy.equals(that.readPrefetchPolicy) &&
+                    wireLoggingPolicy.equals(that.wireLoggingPolicy);
         }
 
         @Override
         public int hashCode() {
             int result = maxReadAttemptsPerSelect;
             result = 31 * result + maxBytesPerRead;
+            result = 31 * result + maxFlushDelay.hashCode();
+            result = 31 * result + maxFlushPendingItems;
+            result = 31 * result + maxCoalescedWriteBytes;
+            result = 31 * result + tcpInfoSampleInterval.hashCode();
+            result = 31 * result + readPrefetchPolicy.hashCode();
+            result = 31 * result + wireLoggingPolicy.hashCode();
             return result;
         }
 
@@ -117,6 +292,12 @@ public final class TransportConfigBuilder {
             return getClass().getSimpleName() +
                     "{maxReadAttemptsPerSelect=" + maxReadAttemptsPerSelect +
                     ", maxBytesPerRead=" + maxBytesPerRead +
+                    ", maxFlushDelay=" + maxFlushDelay +
+                    ", maxFlushPendingItems=" + maxFlushPendingItems +
+                    ", maxCoalescedWriteBytes=" + maxCoalescedWriteBytes +
+                    ", tcpInfoSampleInterval=" + tcpInfoSampleInterval +
+                    ", readPrefetchPolicy=" + readPrefetchPolicy +
+                    ", wireLoggingPolicy=" + wireLoggingPolicy +
                     '}';
         }
     }
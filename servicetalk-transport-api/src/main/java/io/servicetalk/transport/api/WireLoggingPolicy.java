@@ -0,0 +1,208 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.api;
+
+import static io.servicetalk.utils.internal.NumberUtils.ensurePositive;
+
+/**
+ * Policy which defines which connections are wire-logged, and how, once wire-logging is enabled.
+ * <p>
+ * Formatting every byte of every connection is too expensive for live traffic. {@link #sampled(double)} and
+ * {@link #rateLimited(int)} limit wire-logging to a subset of connections, and {@link #ringBuffer(int, int)} captures
+ * the most recent events of each connection in memory and formats them only when they are dumped.
+ */
+public final class WireLoggingPolicy {
+
+    /**
+     * Mode of a {@link WireLoggingPolicy}.
+     */
+    public enum Mode {
+        /**
+         * All events of all connections are logged as they happen.
+         */
+        ALL,
+        /**
+         * All events of a random subset of connections are logged as they happen.
+         */
+        SAMPLED,
+        /**
+         * All events of at most a fixed number of new connections per second are logged as they happen.
+         */
+        RATE_LIMITED,
+        /**
+         * The most recent events of each connection are captured in memory and logged only when dumped: when an
+         * exception is observed, when the connection is closed because of an error, or on demand.
+         */
+        RING_BUFFER
+    }
+
+    private static final WireLoggingPolicy ALL = new WireLoggingPolicy(Mode.ALL, 1d, 0, 0, 0);
+
+    private final Mode mode;
+    private final double connectionProbability;
+    private final int maxConnectionsPerSecond;
+    private final int maxEvents;
+    private final int maxBytesPerEvent;
+
+    private WireLoggingPolicy(final Mode mode, final double connectionProbability, final int maxConnectionsPerSecond,
+                              final int maxEvents, final int maxBytesPerEvent) {
+        this.mode = mode;
+        this.connectionProbability = connectionProbability;
+        this.maxConnectionsPerSecond = maxConnectionsPerSecond;
+        this.maxEvents = maxEvents;
+        this.maxBytesPerEvent = maxBytesPerEvent;
+    }
+
+    /**
+     * Returns a {@link WireLoggingPolicy} which logs all events of all connections as they happen.
+     *
+     * @return a {@link WireLoggingPolicy} which logs all events of all connections as they happen
+     */
+    public static WireLoggingPolicy all() {
+        return ALL;
+    }
+
+    /**
+     * Returns a {@link WireLoggingPolicy} which logs all events of a random subset of connections.
+     *
+     * @param connectionProbability probability in the range {@code (0, 1]} that a new connection is logged
+     * @return a {@link WireLoggingPolicy} which logs all events of a random subset of connections
+     */
+    public static WireLoggingPolicy sampled(final double connectionProbability) {
+        if (!(connectionProbability > 0d && connectionProbability <= 1d)) {
+            throw new IllegalArgumentException("connectionProbability: " + connectionProbability +
+                    " (expected (0, 1])");
+        }
+        return new WireLoggingPolicy(Mode.SAMPLED, connectionProbability, 0, 0, 0);
+    }
+
+    /**
+     * Returns a {@link WireLoggingPolicy} which logs all events of at most {@code maxConnectionsPerSecond} new
+     * connections per second.
+     *
+     * @param maxConnectionsPerSecond maximum number of new connections per second to log
+     * @return a {@link WireLoggingPolicy} which logs all events of a limited number of connections
+     */
+    public static WireLoggingPolicy rateLimited(final int maxConnectionsPerSecond) {
+        return new WireLoggingPolicy(Mode.RATE_LIMITED, 1d,
+                ensurePositive(maxConnectionsPerSecond, "maxConnectionsPerSecond"), 0, 0);
+    }
+
+    /**
+     * Returns a {@link WireLoggingPolicy} which captures the most recent events of each connection in memory and logs
+     * them only when an exception is observed, when the connection is closed because of an error, or on demand.
+     * <p>
+     * Each connection may retain up to {@code maxEvents * maxBytesPerEvent} bytes of captured data.
+     *
+     * @param maxEvents maximum number of most recent events to retain per connection
+     * @param maxBytesPerEvent maximum number of bytes of user data to retain per event, if user data is logged
+     * @return a {@link WireLoggingPolicy} which captures the most recent events of each connection in memory
+     */
+    public static WireLoggingPolicy ringBuffer(final int maxEvents, final int maxBytesPerEvent) {
+        return new WireLoggingPolicy(Mode.RING_BUFFER, 1d, 0, ensurePositive(maxEvents, "maxEvents"),
+                ensurePositive(maxBytesPerEvent, "maxBytesPerEvent"));
+    }
+
+    /**
+     * Returns the {@link Mode} of this policy.
+     *
+     * @return the {@link Mode} of this policy
+     */
+    public Mode mode() {
+        return mode;
+    }
+
+    /**
+     * Probability that a new connection is logged when the {@link #mode()} is {@link Mode#SAMPLED}.
+     *
+     * @return probability that a new connection is logged
+     */
+    public double connectionProbability() {
+        return connectionProbability;
+    }
+
+    /**
+     * Maximum number of new connections per second to log when the {@link #mode()} is {@link Mode#RATE_LIMITED}.
+     *
+     * @return maximum number of new connections per second to log
+     */
+    public int maxConnectionsPerSecond() {
+        return maxConnectionsPerSecond;
+    }
+
+    /**
+     * Maximum number of most recent events to retain per connection when the {@link #mode()} is
+     * {@link Mode#RING_BUFFER}.
+     *
+     * @return maximum number of most recent events to retain per connection
+     */
+    public int maxEvents() {
+        return maxEvents;
+    }
+
+    /**
+     * Maximum number of bytes of user data to retain per event when the {@link #mode()} is {@link Mode#RING_BUFFER}.
+     *
+     * @return maximum number of bytes of user data to retain per event
+     */
+    public int maxBytesPerEvent() {
+        return maxBytesPerEvent;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final WireLoggingPolicy that = (WireLoggingPolicy) o;
+        return mode == that.mode &&
+                Double.compare(connectionProbability, that.connectionProbability) == 0 &&
+                maxConnectionsPerSecond == that.maxConnectionsPerSecond &&
+                maxEvents == that.maxEvents &&
+                maxBytesPerEvent == that.maxBytesPerEvent;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = mode.hashCode();
+        result = 31 * result + Double.hashCode(connectionProbability);
+        result = 31 * result + maxConnectionsPerSecond;
+        result = 31 * result + maxEvents;
+        result = 31 * result + maxBytesPerEvent;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        switch (mode) {
+            case SAMPLED:
+                return getClass().getSimpleName() + "{mode=" + mode +
+                        ", connectionProbability=" + connectionProbability + '}';
+            case RATE_LIMITED:
+                return getClass().getSimpleName() + "{mode=" + mode +
+                        ", maxConnectionsPerSecond=" + maxConnectionsPerSecond + '}';
+            case RING_BUFFER:
+                return getClass().getSimpleName() + "{mode=" + mode +
+                        ", maxEvents=" + maxEvents +
+                        ", maxBytesPerEvent=" + maxBytesPerEvent + '}';
+            default:
+                return getClass().getSimpleName() + "{mode=" + mode + '}';
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.netty.internal;
+
+import io.netty.channel.Channel;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.utils.internal.NumberUtils.ensurePositive;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * A {@link FlushStrategy} that defers flushes to the end of the current event loop task, coalescing writes of
+ * pipelined responses and HTTP/2 streams that share the same event loop into fewer system calls.
+ * <p>
+ * At low load every deferred flush covers a single item and adds no measurable latency. Under load, when many items
+ * are written during the same read batch, a flush is issued eagerly if:
+ * <ul>
+ *     <li>{@code maxPendingItems} items were written since the last flush;</li>
+ *     <li>the oldest unflushed item has been pending for more than {@code maxDelayNanos};</li>
+ *     <li>the {@link Channel} has no capacity left in its write buffer.</li>
+ * </ul>
+ * A timer enforces {@code maxDelayNanos} even if no further item is written, e.g. when the event loop is busy and the
+ * deferred flush can not run in time. At most one timer per connection is pending at a time.
+ * If the {@link FlushSender} is not bound to a {@link Channel} this strategy behaves as
+ * {@link FlushStrategies#flushOnEach()}.
+ */
+final class AdaptiveFlush implements FlushStrategy {
+
+    private final int maxPendingItems;
+    private final long maxDelayNanos;
+
+    AdaptiveFlush(final int maxPendingItems, final long maxDelayNanos) {
+        this.maxPendingItems = ensurePositive(maxPendingItems, "maxPendingItems");
+        this.maxDelayNanos = ensurePositive(maxDelayNanos, "maxDelayNanos");
+    }
+
+    @Override
+    public WriteEventsListener apply(final FlushSender sender) {
+        if (sender instanceof ChannelFlushSender) {
+            return new AdaptiveFlushListener((ChannelFlushSender) sender, maxPendingItems, maxDelayNanos);
+        }
+        return FlushOnEach.FLUSH_ON_EACH.apply(sender);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() +
+                "{maxPendingItems=" + maxPendingItems +
+                ", maxDelayNanos=" + maxDelayNanos +
+                '}';
+    }
+
+    static final class AdaptiveFlushListener extends NoopWriteEventsListener implements Runnable {
+        private static final AtomicIntegerFieldUpdater<AdaptiveFlushListener> scheduledUpdater =
+                AtomicIntegerFieldUpdater.newUpdater(AdaptiveFlushListener.class, "scheduled");
+        private static final AtomicIntegerFieldUpdater<AdaptiveFlushListener> flushGenerationUpdater =
+                AtomicIntegerFieldUpdater.newUpdater(AdaptiveFlushListener.class, "flushGeneration");
+        private static final AtomicIntegerFieldUpdater<AdaptiveFlushListener> timerArmedUpdater =
+                AtomicIntegerFieldUpdater.newUpdater(AdaptiveFlushListener.class, "timerArmed");
+
+        private final ChannelFlushSender sender;
+        private final int maxPendingItems;
+        private final long maxDelayNanos;
+        /**
+         * Incremented by the event loop every time a deferred flush runs. Allows the writer thread to observe that
+         * its pending items were flushed without sharing mutable counters across threads.
+         */
+        private volatile int flushGeneration;
+        private volatile int scheduled;
+        private volatile int timerArmed;
+        private int seenFlushGeneration;
+        private int pendingItems;
+        private long firstPendingNanos;
+
+        AdaptiveFlushListener(final ChannelFlushSender sender, final int maxPendingItems,
+                              final long maxDelayNanos) {
+            this.sender = sender;
+            this.maxPendingItems = maxPendingItems;
+            this.maxDelayNanos = maxDelayNanos;
+        }
+
+        @Override
+        public void itemWritten(@Nullable final Object written) {
+            final int generation = flushGeneration;
+            if (generation != seenFlushGeneration) {
+                seenFlushGeneration = generation;
+                pendingItems = 0;
+            }
+            final Channel channel = sender.channel();
+            if (++pendingItems == 1) {
+                firstPendingNanos = nanoTime();
+                if (timerArmedUpdater.compareAndSet(this, 0, 1)) {
+                    // Enforces the latency ceiling for the last written items, there may be no next item to check it.
+                    channel.eventLoop().schedule(() -> maxDelayExceeded(generation), maxDelayNanos, NANOSECONDS);
+                }
+            }
+            if (pendingItems >= maxPendingItems || channel.bytesBeforeUnwritable() == 0 ||
+                    (pendingItems > 1 && nanoTime() - firstPendingNanos >= maxDelayNanos)) {
+                pendingItems = 0;
+                sender.flush();
+            } else if (scheduledUpdater.compareAndSet(this, 0, 1)) {
+                // The task runs after the currently executing event loop task (e.g. after all messages of the current
+                // read batch were processed) and covers all items written until then.
+                channel.eventLoop().execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            scheduled = 0;
+            flushOnEventLoop();
+        }
+
+        private void maxDelayExceeded(final int armedGeneration) {
+            timerArmed = 0;
+            if (flushGeneration == armedGeneration) {
+                // The deferred flush did not run yet, pending items waited for maxDelayNanos.
+                flushOnEventLoop();
+            }
+        }
+
+        private void flushOnEventLoop() {
+            flushGenerationUpdater.incrementAndGet(this);
+            // This task was submitted after the pending items were written, no need to hop to the event loop again.
+            sender.flushOnEventLoop();
+        }
+    }
+}
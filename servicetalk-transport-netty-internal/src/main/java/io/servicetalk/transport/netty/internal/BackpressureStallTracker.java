@@ -0,0 +1,176 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.netty.internal;
+
+import io.servicetalk.transport.api.ConnectionObserver;
+import io.servicetalk.transport.api.ConnectionObserver.StreamObserver;
+import io.servicetalk.transport.netty.internal.NoopTransportObserver.NoopConnectionObserver;
+import io.servicetalk.transport.netty.internal.NoopTransportObserver.NoopStreamObserver;
+
+import io.netty.channel.Channel;
+
+import javax.annotation.Nullable;
+
+/**
+ * Tracks how long a {@link Channel} was backpressured, either because it was not writable or because reads were
+ * suspended due to missing demand, and reports completed stalls to a {@link ConnectionObserver} or
+ * {@link StreamObserver}.
+ * <p>
+ * Reads are considered suspended when a read batch completes with auto-read disabled and nobody requested the next
+ * read, until the next {@link Channel#read()}. All methods must be invoked from the event loop.
+ */
+public final class BackpressureStallTracker {
+
+    private static final BackpressureStallTracker NOOP = new BackpressureStallTracker(null);
+
+    @Nullable
+    private final StallListener listener;
+    private boolean writeStalled;
+    private long writeStallStartNanos;
+    private long cumulativeWriteStallNanos;
+    private boolean readRequested;
+    private boolean readSuspended;
+    private long readSuspensionStartNanos;
+    private long cumulativeReadSuspensionNanos;
+
+    private BackpressureStallTracker(@Nullable final StallListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Creates a new {@link BackpressureStallTracker} which reports to a {@link ConnectionObserver}.
+     *
+     * @param observer {@link ConnectionObserver} to report to
+     * @return a new {@link BackpressureStallTracker}
+     */
+    public static BackpressureStallTracker forConnection(final ConnectionObserver observer) {
+        return observer == NoopConnectionObserver.INSTANCE ? NOOP : new BackpressureStallTracker(new StallListener() {
+            @Override
+            public void writeStallComplete(final long stallNanos, final long cumulativeStallNanos) {
+                observer.writeStallComplete(stallNanos, cumulativeStallNanos);
+            }
+
+            @Override
+            public void readSuspensionComplete(final long suspensionNanos, final long cumulativeSuspensionNanos) {
+                observer.readSuspensionComplete(suspensionNanos, cumulativeSuspensionNanos);
+            }
+        });
+    }
+
+    /**
+     * Creates a new {@link BackpressureStallTracker} which reports to a {@link StreamObserver}.
+     *
+     * @param observer {@link StreamObserver} to report to
+     * @return a new {@link BackpressureStallTracker}
+     */
+    public static BackpressureStallTracker forStream(final StreamObserver observer) {
+        return observer == NoopStreamObserver.INSTANCE ? NOOP : new BackpressureStallTracker(new StallListener() {
+            @Override
+            public void writeStallComplete(final long stallNanos, final long cumulativeStallNanos) {
+                observer.writeStallComplete(stallNanos, cumulativeStallNanos);
+            }
+
+            @Override
+            public void readSuspensionComplete(final long suspensionNanos, final long cumulativeSuspensionNanos) {
+                observer.readSuspensionComplete(suspensionNanos, cumulativeSuspensionNanos);
+            }
+        });
+    }
+
+    /**
+     * Notifies that writability of the {@link Channel} changed.
+     *
+     * @param writable the current {@link Channel#isWritable() writability}
+     */
+    public void writabilityChanged(final boolean writable) {
+        if (listener == null) {
+            return;
+        }
+        if (!writable) {
+            if (!writeStalled) {
+                writeStalled = true;
+                writeStallStartNanos = System.nanoTime();
+            }
+        } else if (writeStalled) {
+            completeWriteStall(listener);
+        }
+    }
+
+    /**
+     * Notifies that the {@link Channel} is about to propagate a read complete event.
+     */
+    public void beforeReadComplete() {
+        readRequested = false;
+    }
+
+    /**
+     * Notifies that the {@link Channel} propagated a read complete event.
+     *
+     * @param autoRead {@code true} if auto-read is enabled for the {@link Channel}
+     */
+    public void afterReadComplete(final boolean autoRead) {
+        if (listener != null && !autoRead && !readRequested && !readSuspended) {
+            readSuspended = true;
+            readSuspensionStartNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Notifies that a {@link Channel#read()} has been requested.
+     */
+    public void read() {
+        readRequested = true;
+        if (readSuspended) {
+            assert listener != null;
+            completeReadSuspension(listener);
+        }
+    }
+
+    /**
+     * Notifies that the {@link Channel} has been closed, reporting the stalls which are still in progress.
+     */
+    public void channelClosed() {
+        if (listener == null) {
+            return;
+        }
+        if (writeStalled) {
+            completeWriteStall(listener);
+        }
+        if (readSuspended) {
+            completeReadSuspension(listener);
+        }
+    }
+
+    private void completeWriteStall(final StallListener listener) {
+        writeStalled = false;
+        final long stallNanos = System.nanoTime() - writeStallStartNanos;
+        cumulativeWriteStallNanos += stallNanos;
+        listener.writeStallComplete(stallNanos, cumulativeWriteStallNanos);
+    }
+
+    private void completeReadSuspension(final StallListener listener) {
+        readSuspended = false;
+        final long suspensionNanos = System.nanoTime() - readSuspensionStartNanos;
+        cumulativeReadSuspensionNanos += suspensionNanos;
+        listener.readSuspensionComplete(suspensionNanos, cumulativeReadSuspensionNanos);
+    }
+
+    private interface StallListener {
+        void writeStallComplete(long stallNanos, long cumulativeStallNanos);
+
+        void readSuspensionComplete(long suspensionNanos, long cumulativeSuspensionNanos);
+    }
+}
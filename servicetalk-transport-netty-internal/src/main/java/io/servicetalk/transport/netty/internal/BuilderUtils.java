@@ -19,6 +19,7 @@ import io.servicetalk.transport.api.FileDescriptorSocketAddress;
 import io.servicetalk.transport.api.HostAndPort;
 
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ServerChannel;
 import io.netty.channel.epoll.EpollDatagramChannel;
@@ -36,6 +37,7 @@ import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.channel.unix.UnixChannelOption;
 import io.netty.incubator.channel.uring.IOUringDatagramChannel;
 import io.netty.incubator.channel.uring.IOUringServerSocketChannel;
 import io.netty.incubator.channel.uring.IOUringSocketChannel;
@@ -86,6 +88,21 @@ public final class BuilderUtils {
         }
     }
 
+    /**
+     * Returns the {@link ChannelOption} to bind multiple server sockets of the given {@link EventLoopGroup} to the same
+     * address, letting the kernel load-balance accepted connections between them.
+     * <p>
+     * Only Linux transports are supported because {@code SO_REUSEPORT} on other platforms does not distribute
+     * connections between the sockets.
+     *
+     * @param group the {@link EventLoopGroup} which will be used to bind server sockets.
+     * @return the {@code SO_REUSEPORT} {@link ChannelOption}, or {@code null} if the transport does not support it.
+     */
+    @Nullable
+    public static ChannelOption<Boolean> reusePortOption(EventLoopGroup group) {
+        return useIoUring(group) || useEpoll(group) ? UnixChannelOption.SO_REUSEPORT : null;
+    }
+
     /**
      * Returns the correct {@link Class} to use with the given {@link EventLoopGroup}.
      *
@@ -79,4 +79,15 @@ public final class ChannelCloseUtils {
     public static Throwable channelError(final Channel channel) {
         return channel.attr(CONNECTION_ERROR).getAndSet(null);
     }
+
+    /**
+     * Returns an {@link Throwable error} associated with the passed {@link Channel} without removing it.
+     *
+     * @param channel to look for a {@link Throwable}
+     * @return an {@link Throwable error} associated with the passed {@link Channel}
+     */
+    @Nullable
+    static Throwable peekChannelError(final Channel channel) {
+        return channel.attr(CONNECTION_ERROR).get();
+    }
 }
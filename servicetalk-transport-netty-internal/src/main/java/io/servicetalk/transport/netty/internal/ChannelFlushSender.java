@@ -0,0 +1,42 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.netty.internal;
+
+import io.servicetalk.transport.netty.internal.FlushStrategy.FlushSender;
+
+import io.netty.channel.Channel;
+
+/**
+ * A {@link FlushSender} that is bound to a {@link Channel}. {@link FlushStrategy} implementations may use the
+ * {@link Channel} state (event loop, writability, pending bytes) to decide when to {@link #flush()}.
+ */
+interface ChannelFlushSender extends FlushSender {
+
+    /**
+     * Returns the {@link Channel} which is flushed by this {@link FlushSender}.
+     *
+     * @return the {@link Channel} which is flushed by this {@link FlushSender}.
+     */
+    Channel channel();
+
+    /**
+     * Flushes the {@link Channel} without hopping to its event loop.
+     * <p>
+     * Must only be called on the {@link Channel}'s event loop, after all items to flush were processed by the event
+     * loop, e.g. from a task submitted to the event loop after the items were written.
+     */
+    void flushOnEventLoop();
+}
@@ -20,6 +20,7 @@ import io.servicetalk.transport.api.ConnectionObserver;
 import io.servicetalk.transport.api.ConnectionObserver.SecurityHandshakeObserver;
 import io.servicetalk.transport.api.ExecutionContext;
 import io.servicetalk.transport.api.SslConfig;
+import io.servicetalk.transport.api.TcpInfo;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufHolder;
@@ -29,11 +30,13 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
+import io.netty.channel.FileRegion;
 import io.netty.channel.epoll.Epoll;
 import io.netty.channel.kqueue.KQueue;
 
 import java.net.SocketAddress;
 import java.net.SocketOption;
+import java.time.Duration;
 import java.util.function.Function;
 import javax.annotation.Nullable;
 import javax.net.ssl.SSLSession;
@@ -41,6 +44,9 @@ import javax.net.ssl.SSLSession;
 import static io.netty.channel.ChannelOption.TCP_FASTOPEN_CONNECT;
 import static io.servicetalk.transport.netty.internal.ChannelCloseUtils.channelError;
 import static io.servicetalk.transport.netty.internal.SocketOptionUtils.getOption;
+import static io.servicetalk.utils.internal.DurationUtils.ensureNonNegative;
+import static java.lang.Integer.MAX_VALUE;
+import static java.lang.Math.min;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -53,6 +59,7 @@ public final class ConnectionObserverInitializer implements ChannelInitializer {
     private final boolean client;
     @Nullable
     private final SslConfig sslConfig;
+    private final long tcpInfoSampleIntervalNanos;
 
     /**
      * Creates a new instance.
@@ -102,16 +109,39 @@ public final class ConnectionObserverInitializer implements ChannelInitializer {
                                          final Function<Channel, ConnectionInfo> connectionInfoFactory,
                                          final boolean client,
                                          @Nullable final SslConfig sslConfig) {
+        this(observer, connectionInfoFactory, client, sslConfig, Duration.ZERO);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param observer {@link ConnectionObserver} to report network events
+     * @param connectionInfoFactory {@link Function} that creates {@link ConnectionInfo} from the provided
+     * {@link Channel} to report {@link ConnectionObserver#onTransportHandshakeComplete(ConnectionInfo)}
+     * @param client {@code true} if this initializer is used on the client-side
+     * @param sslConfig the {@link SslConfig} to supply to the observer on handshake.
+     * @param tcpInfoSampleInterval interval at which {@code TCP_INFO} is sampled and reported to
+     * {@link ConnectionObserver#onTcpInfo(TcpInfo)}, {@link Duration#ZERO} disables sampling.
+     */
+    public ConnectionObserverInitializer(final ConnectionObserver observer,
+                                         final Function<Channel, ConnectionInfo> connectionInfoFactory,
+                                         final boolean client,
+                                         @Nullable final SslConfig sslConfig,
+                                         final Duration tcpInfoSampleInterval) {
         this.observer = requireNonNull(observer);
         this.connectionInfoFactory = requireNonNull(connectionInfoFactory);
         this.client = client;
         this.sslConfig = sslConfig;
+        this.tcpInfoSampleIntervalNanos = ensureNonNegative(tcpInfoSampleInterval, "tcpInfoSampleInterval").toNanos();
     }
 
     @Override
     public void init(final Channel channel) {
         channel.pipeline().addLast(new ConnectionObserverHandler(observer, connectionInfoFactory,
                 sslConfig != null, isFastOpen(channel), sslConfig));
+        if (tcpInfoSampleIntervalNanos > 0 && TcpInfoSampler.isSupported(channel)) {
+            channel.pipeline().addLast(new TcpInfoSampler(observer, tcpInfoSampleIntervalNanos));
+        }
     }
 
     private boolean isFastOpen(final Channel channel) {
@@ -122,6 +152,7 @@ public final class ConnectionObserverInitializer implements ChannelInitializer {
     static final class ConnectionObserverHandler extends ChannelDuplexHandler {
 
         private final ConnectionObserver observer;
+        private final BackpressureStallTracker stallTracker;
         private final Function<Channel, ConnectionInfo> connectionInfoFactory;
         private final boolean handshakeOnActive;
         private boolean tcpHandshakeComplete;
@@ -137,6 +168,7 @@ public final class ConnectionObserverInitializer implements ChannelInitializer {
                                   final boolean fastOpen,
                                   @Nullable final SslConfig sslConfig) {
             this.observer = observer;
+            this.stallTracker = BackpressureStallTracker.forConnection(observer);
             this.connectionInfoFactory = connectionInfoFactory;
             this.handshakeOnActive = handshakeOnActive;
             this.sslConfig = sslConfig;
@@ -202,6 +234,7 @@ public final class ConnectionObserverInitializer implements ChannelInitializer {
             }
             addedCloseListener = true;
             channel.closeFuture().addListener((ChannelFutureListener) future -> {
+                stallTracker.channelClosed();
                 Throwable t = channelError(channel);
                 if (t == null) {
                     observer.connectionClosed();
@@ -240,12 +273,34 @@ public final class ConnectionObserverInitializer implements ChannelInitializer {
             ctx.fireChannelRead(msg);
         }
 
+        @Override
+        public void channelReadComplete(final ChannelHandlerContext ctx) {
+            stallTracker.beforeReadComplete();
+            ctx.fireChannelReadComplete();
+            stallTracker.afterReadComplete(ctx.channel().config().isAutoRead());
+        }
+
+        @Override
+        public void read(final ChannelHandlerContext ctx) {
+            stallTracker.read();
+            ctx.read();
+        }
+
         @Override
         public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) {
             if (msg instanceof ByteBuf) {
                 observer.onDataWrite(((ByteBuf) msg).readableBytes());
             } else if (msg instanceof ByteBufHolder) {
                 observer.onDataWrite(((ByteBufHolder) msg).content().readableBytes());
+            } else if (msg instanceof FileRegion) {
+                // File regions are transferred by the transport (e.g. sendfile) without passing through a ByteBuf.
+                // Regions larger than 2 GiB are reported in multiple chunks to keep the total number of bytes exact.
+                long count = ((FileRegion) msg).count();
+                do {
+                    final int size = (int) min(count, MAX_VALUE);
+                    observer.onDataWrite(size);
+                    count -= size;
+                } while (count > 0);
             }
             ctx.write(msg, promise);
         }
@@ -258,7 +313,9 @@ public final class ConnectionObserverInitializer implements ChannelInitializer {
 
         @Override
         public void channelWritabilityChanged(final ChannelHandlerContext ctx) {
-            observer.connectionWritabilityChanged(ctx.channel().isWritable());
+            final boolean writable = ctx.channel().isWritable();
+            observer.connectionWritabilityChanged(writable);
+            stallTracker.writabilityChanged(writable);
             ctx.fireChannelWritabilityChanged();
         }
     }
@@ -88,6 +88,7 @@ import static io.servicetalk.transport.netty.internal.EventLoopAwareNettyIoExecu
 import static io.servicetalk.transport.netty.internal.Flush.composeFlushes;
 import static io.servicetalk.transport.netty.internal.NettyIoExecutors.fromNettyEventLoop;
 import static io.servicetalk.transport.netty.internal.NettyPipelineSslUtils.extractSslSession;
+import static io.servicetalk.transport.netty.internal.ReadPrefetchInitializer.readPrefetchPolicy;
 import static io.servicetalk.transport.netty.internal.SocketOptionUtils.getOption;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater;
@@ -177,7 +178,7 @@ public final class DefaultNettyConnection<Read, Write> extends NettyChannelListe
             Predicate<Object> shouldWait, UnaryOperator<Throwable> enrichProtocolError) {
         super(channel,
                 executionContext.executionStrategy().isCloseOffloaded() ? executionContext.executor() : immediate());
-        nettyChannelPublisher = new NettyChannelPublisher<>(channel, closeHandler);
+        nettyChannelPublisher = new NettyChannelPublisher<>(channel, closeHandler, readPrefetchPolicy(channel));
         this.parent = parent;
         this.readPublisher = registerReadObserver(nettyChannelPublisher.onErrorMap(this::enrichError));
         this.executionContext = executionContext;
@@ -704,7 +705,12 @@ public final class DefaultNettyConnection<Read, Write> extends NettyChannelListe
     @Nullable
     @Override
     public <T> T socketOption(final SocketOption<T> option) {
-        return getOption(option, parentChannelConfig != null ? parentChannelConfig : channel().config(), idleTimeoutMs);
+        final Channel channel = channel();
+        // Stream channels of a multiplexed connection don't own a socket, query the parent channel instead.
+        final Channel socketChannel = parentChannelConfig == null || channel.parent() == null ? channel :
+                channel.parent();
+        return getOption(option, socketChannel, parentChannelConfig != null ? parentChannelConfig : channel.config(),
+                idleTimeoutMs);
     }
 
     @Override
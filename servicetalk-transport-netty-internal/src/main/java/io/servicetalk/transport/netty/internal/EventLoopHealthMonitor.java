@@ -0,0 +1,166 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.netty.internal;
+
+import io.servicetalk.concurrent.api.DefaultThreadFactory;
+import io.servicetalk.transport.api.IoExecutorObserver;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.utils.internal.DurationUtils.ensureNonNegative;
+import static io.servicetalk.utils.internal.DurationUtils.ensurePositive;
+import static java.lang.Math.max;
+import static java.lang.Thread.NORM_PRIORITY;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Periodically probes every {@link EventExecutor} of an {@link EventLoopGroup} and reports its health to an
+ * {@link IoExecutorObserver}.
+ * <p>
+ * Each event loop runs a probe task scheduled {@code probeInterval} after the previous one completed, the difference
+ * between the expected and actual execution time is the scheduling lag. If a blocked task threshold is configured, a
+ * single watchdog thread checks whether any probe is overdue by more than the threshold and samples the stack trace of
+ * the stalled event loop thread.
+ */
+final class EventLoopHealthMonitor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventLoopHealthMonitor.class);
+    private static final long MIN_WATCHDOG_INTERVAL_NANOS = MILLISECONDS.toNanos(10);
+
+    private final IoExecutorObserver observer;
+    private final long probeIntervalNanos;
+    private final long blockedThresholdNanos;
+    private final List<Probe> probes = new ArrayList<>();
+
+    private EventLoopHealthMonitor(final IoExecutorObserver observer, final long probeIntervalNanos,
+                                   final long blockedThresholdNanos) {
+        this.observer = observer;
+        this.probeIntervalNanos = probeIntervalNanos;
+        this.blockedThresholdNanos = blockedThresholdNanos;
+    }
+
+    /**
+     * Starts monitoring all event loops of the passed {@link EventLoopGroup} until it terminates.
+     *
+     * @param group the {@link EventLoopGroup} to monitor.
+     * @param observer the {@link IoExecutorObserver} to report to.
+     * @param probeInterval the interval between probes on each event loop.
+     * @param blockedTaskThreshold the duration after which an overdue probe reports the event loop as blocked, or
+     * {@link Duration#ZERO} to disable blocked task detection.
+     */
+    static void start(final EventLoopGroup group, final IoExecutorObserver observer, final Duration probeInterval,
+                      final Duration blockedTaskThreshold) {
+        final EventLoopHealthMonitor monitor = new EventLoopHealthMonitor(requireNonNull(observer),
+                ensurePositive(probeInterval, "probeInterval").toNanos(),
+                ensureNonNegative(blockedTaskThreshold, "blockedTaskThreshold").toNanos());
+        for (EventExecutor executor : group) {
+            final Probe probe = monitor.new Probe(executor);
+            monitor.probes.add(probe);
+            executor.execute(probe::start);
+        }
+        if (monitor.blockedThresholdNanos > 0) {
+            final ScheduledThreadPoolExecutor watchdog = new ScheduledThreadPoolExecutor(1,
+                    new DefaultThreadFactory("servicetalk-io-watchdog", true, NORM_PRIORITY));
+            final long intervalNanos = max(MIN_WATCHDOG_INTERVAL_NANOS, monitor.blockedThresholdNanos / 2);
+            watchdog.scheduleWithFixedDelay(monitor::detectBlocked, intervalNanos, intervalNanos, NANOSECONDS);
+            group.terminationFuture().addListener(f -> watchdog.shutdownNow());
+        }
+    }
+
+    private void detectBlocked() {
+        final long now = System.nanoTime();
+        for (Probe probe : probes) {
+            if (!probe.scheduled) {
+                continue;
+            }
+            final long blockedNanos = now - probe.expectedNanos;
+            final Thread thread = probe.thread;
+            if (blockedNanos >= blockedThresholdNanos && thread != null && !probe.blockedReported) {
+                probe.blockedReported = true;
+                try {
+                    observer.onIoThreadBlocked(thread, blockedNanos, thread.getStackTrace());
+                } catch (Throwable cause) {
+                    LOGGER.warn("Unexpected exception from {}.onIoThreadBlocked", observer, cause);
+                }
+            }
+        }
+    }
+
+    private static int pendingTasks(final EventExecutor executor) {
+        return executor instanceof SingleThreadEventExecutor ?
+                ((SingleThreadEventExecutor) executor).pendingTasks() : -1;
+    }
+
+    private final class Probe implements Runnable {
+        private final EventExecutor executor;
+        @Nullable
+        private volatile Thread thread;
+        private volatile long expectedNanos;
+        private volatile boolean blockedReported;
+        // Written last when scheduling and read first by the watchdog, so it publishes the other fields.
+        private volatile boolean scheduled;
+
+        Probe(final EventExecutor executor) {
+            this.executor = executor;
+        }
+
+        void start() {
+            thread = Thread.currentThread();
+            schedule();
+        }
+
+        @Override
+        public void run() {
+            final long lagNanos = max(0, System.nanoTime() - expectedNanos);
+            scheduled = false;
+            final Thread ioThread = thread;
+            assert ioThread != null;
+            try {
+                observer.onIoThreadProbe(ioThread, lagNanos, pendingTasks(executor));
+            } catch (Throwable cause) {
+                LOGGER.warn("Unexpected exception from {}.onIoThreadProbe", observer, cause);
+            }
+            if (!executor.isShuttingDown()) {
+                schedule();
+            }
+        }
+
+        private void schedule() {
+            blockedReported = false;
+            expectedNanos = System.nanoTime() + probeIntervalNanos;
+            scheduled = true;
+            try {
+                executor.schedule(this, probeIntervalNanos, NANOSECONDS);
+            } catch (RejectedExecutionException ignored) {
+                // The event loop is shutting down.
+                scheduled = false;
+            }
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package io.servicetalk.transport.netty.internal;
 
 import io.servicetalk.buffer.api.BufferAllocator;
+import io.servicetalk.buffer.api.BufferAllocatorObserver;
 import io.servicetalk.concurrent.api.Executor;
 import io.servicetalk.transport.api.DefaultExecutionContext;
 import io.servicetalk.transport.api.ExecutionContext;
@@ -25,6 +26,7 @@ import io.servicetalk.transport.api.IoExecutor;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 
+import static io.servicetalk.buffer.api.ObservableBufferAllocators.observe;
 import static io.servicetalk.transport.netty.internal.GlobalExecutionContext.globalExecutionContext;
 import static java.util.Objects.requireNonNull;
 
@@ -46,6 +48,8 @@ public class ExecutionContextBuilder<ES extends ExecutionStrategy> {
     @Nullable
     protected BufferAllocator allocator;
     @Nullable
+    protected BufferAllocatorObserver allocatorObserver;
+    @Nullable
     protected ES strategy;
 
     /**
@@ -78,6 +82,7 @@ public class ExecutionContextBuilder<ES extends ExecutionStrategy> {
         ioExecutor = other.ioExecutor;
         executor = other.executor;
         allocator = other.allocator;
+        allocatorObserver = other.allocatorObserver;
         strategy = other.strategy;
     }
 
@@ -114,6 +119,18 @@ public class ExecutionContextBuilder<ES extends ExecutionStrategy> {
         return this;
     }
 
+    /**
+     * Sets the {@link BufferAllocatorObserver} to be notified about allocations of the {@link BufferAllocator}.
+     *
+     * @param observer {@link BufferAllocatorObserver} to use.
+     * @return {@code this}.
+     * @see io.servicetalk.buffer.api.ObservableBufferAllocators#observe(BufferAllocator, BufferAllocatorObserver)
+     */
+    public ExecutionContextBuilder<ES> bufferAllocatorObserver(BufferAllocatorObserver observer) {
+        this.allocatorObserver = requireNonNull(observer);
+        return this;
+    }
+
     /**
      * Sets the {@link ExecutionStrategy} to use.
      *
@@ -133,13 +150,25 @@ public class ExecutionContextBuilder<ES extends ExecutionStrategy> {
      */
     @SuppressWarnings({"unchecked", "rawtypes"})
     public ExecutionContext<ES> build() {
-        if (ioExecutor == null && executor == null && allocator == null && strategy == null) {
+        if (ioExecutor == null && executor == null && allocator == null && allocatorObserver == null &&
+                strategy == null) {
             return defaultContextSupplier.get();
         }
         return new DefaultExecutionContext(
-                allocator == null ? defaultContextSupplier.get().bufferAllocator() : allocator,
+                buildBufferAllocator(),
                 ioExecutor == null ? defaultContextSupplier.get().ioExecutor() : ioExecutor,
                 executor == null ? defaultContextSupplier.get().executor() : executor,
                 strategy == null ? defaultContextSupplier.get().executionStrategy() : strategy);
     }
+
+    /**
+     * Returns the {@link BufferAllocator} to use for the built context, observed by the
+     * {@link BufferAllocatorObserver} if one was set.
+     *
+     * @return the {@link BufferAllocator} to use for the built context.
+     */
+    protected final BufferAllocator buildBufferAllocator() {
+        final BufferAllocator alloc = allocator == null ? defaultContextSupplier.get().bufferAllocator() : allocator;
+        return allocatorObserver == null ? alloc : observe(alloc, allocatorObserver);
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.netty.internal;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.buffer.api.FileRegionBuffer;
+
+import io.servicetalk.transport.netty.internal.ConnectionObserverInitializer.ConnectionObserverHandler;
+import io.servicetalk.transport.netty.internal.WriteCoalescingInitializer.WriteCoalescingHandler;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandler;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.FileRegion;
+import io.netty.channel.epoll.AbstractEpollStreamChannel;
+import io.netty.channel.kqueue.AbstractKQueueStreamChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+
+import java.nio.channels.FileChannel;
+import java.util.Map.Entry;
+import javax.annotation.Nullable;
+
+/**
+ * Utilities to write {@link FileRegionBuffer}s as {@link FileRegion}s, which allows the bytes to be transferred from
+ * the file to the socket without copying them through user space.
+ */
+public final class FileRegions {
+    private FileRegions() {
+        // no instances
+    }
+
+    /**
+     * Converts the passed {@link Buffer} to a {@link FileRegion} if it is a {@link FileRegionBuffer} and all handlers
+     * between {@code ctx} and the socket write the bytes as-is.
+     * <p>
+     * Only ServiceTalk handlers which are known to pass a {@link FileRegion} through unmodified (e.g. connection
+     * observers, idle timeout and wire logging handlers) may be present in front of {@code ctx}. Any other outbound
+     * handler (e.g. TLS, compression, HTTP/2 framing, or a user encoder) may need the bytes in memory.
+     *
+     * @param ctx the {@link ChannelHandlerContext} which will write the returned {@link FileRegion}.
+     * @param buffer the {@link Buffer} to convert.
+     * @return a {@link FileRegion} which represents the readable bytes of {@code buffer}, or {@code null} if the
+     * {@code buffer} has to be written as a {@link io.netty.buffer.ByteBuf}.
+     */
+    @Nullable
+    public static FileRegion toFileRegionNoThrow(final ChannelHandlerContext ctx, final Buffer buffer) {
+        if (!(buffer instanceof FileRegionBuffer) || !supportsFileRegion(ctx)) {
+            return null;
+        }
+        final FileRegionBuffer fileRegionBuffer = (FileRegionBuffer) buffer;
+        return new UnownedFileRegion(fileRegionBuffer.fileChannel(), fileRegionBuffer.filePosition(),
+                fileRegionBuffer.readableBytes());
+    }
+
+    private static boolean supportsFileRegion(final ChannelHandlerContext ctx) {
+        final Channel channel = ctx.channel();
+        if (!(channel instanceof NioSocketChannel || channel instanceof AbstractEpollStreamChannel ||
+                channel instanceof AbstractKQueueStreamChannel)) {
+            return false;
+        }
+        // The pipeline is iterated from head to tail, outbound messages of ctx pass through all handlers before it.
+        final ChannelHandler writer = ctx.handler();
+        for (Entry<String, ChannelHandler> entry : channel.pipeline()) {
+            final ChannelHandler handler = entry.getValue();
+            if (handler == writer) {
+                return true;
+            }
+            if (handler instanceof ChannelOutboundHandler && !passesFileRegionThrough(handler)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static boolean passesFileRegionThrough(final ChannelHandler handler) {
+        return handler instanceof ConnectionObserverHandler || handler instanceof TcpInfoSampler ||
+                handler instanceof TimingWheelIdleStateHandler || handler instanceof WriteCoalescingHandler ||
+                handler instanceof ServiceTalkWireLogger || handler instanceof RingBufferWireLogger;
+    }
+
+    /**
+     * {@link DefaultFileRegion} which doesn't close the file when released because the file is owned by the creator of
+     * the {@link FileRegionBuffer}. It still has to be a {@link DefaultFileRegion} to allow native transports to use
+     * {@code sendfile}.
+     */
+    private static final class UnownedFileRegion extends DefaultFileRegion {
+        UnownedFileRegion(final FileChannel fileChannel, final long position, final long count) {
+            super(fileChannel, position, count);
+        }
+
+        @Override
+        protected void deallocate() {
+            // The FileChannel is owned by the creator of the FileRegionBuffer.
+        }
+    }
+}
@@ -67,11 +67,26 @@ final class Flush {
             this.eventLoop = requireNonNull(channel.eventLoop());
             this.subscriber = requireNonNull(subscriber);
             this.observer = observer;
-            this.writeEventsListener = flushStrategy.apply(() -> {
-                observer.onFlushRequest();
-                if (enqueueFlush) {
-                    eventLoop.execute(channel::flush);
-                } else {
+            this.writeEventsListener = flushStrategy.apply(new ChannelFlushSender() {
+                @Override
+                public Channel channel() {
+                    return channel;
+                }
+
+                @Override
+                public void flush() {
+                    observer.onFlushRequest();
+                    if (enqueueFlush) {
+                        eventLoop.execute(channel::flush);
+                    } else {
+                        channel.flush();
+                    }
+                }
+
+                @Override
+                public void flushOnEventLoop() {
+                    assert eventLoop.inEventLoop();
+                    observer.onFlushRequest();
                     channel.flush();
                 }
             });
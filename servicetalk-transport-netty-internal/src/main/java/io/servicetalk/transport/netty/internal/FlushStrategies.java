@@ -19,6 +19,8 @@ import io.servicetalk.concurrent.api.Publisher;
 import io.servicetalk.transport.netty.internal.FlushStrategy.FlushSender;
 import io.servicetalk.transport.netty.internal.FlushStrategy.WriteEventsListener;
 
+import java.time.Duration;
+
 import static io.servicetalk.transport.netty.internal.FlushOnEach.FLUSH_ON_EACH;
 import static io.servicetalk.transport.netty.internal.FlushOnEnd.FLUSH_ON_END;
 import static java.lang.Integer.MAX_VALUE;
@@ -82,6 +84,35 @@ public final class FlushStrategies {
         return batchFlush(MAX_VALUE, flushBoundaries);
     }
 
+    /**
+     * Creates a {@link FlushStrategy} that adapts to the load on the connection. Each write is
+     * {@link FlushSender#flush() flushed} at the end of the current event loop task, so that writes produced within
+     * the same read batch (pipelined responses, concurrent HTTP/2 streams) share a single flush. Under low load this
+     * behaves like {@link #flushOnEach()}, under high load writes are coalesced, but a flush is issued eagerly as soon
+     * as {@code maxPendingItems} items are pending, the oldest pending item waited for {@code maxDelay}, or the write
+     * buffer is full.
+     *
+     * @param maxPendingItems Maximum number of items to write without a {@link FlushSender#flush() flush}.
+     * @param maxDelay Latency ceiling for pending items. Pending items are {@link FlushSender#flush() flushed} once
+     * the oldest of them has waited for this long, even if no further item is written.
+     * @return A {@link FlushStrategy} that adapts to the load on the connection.
+     */
+    public static FlushStrategy adaptiveFlush(int maxPendingItems, Duration maxDelay) {
+        return new AdaptiveFlush(maxPendingItems, maxDelay.toNanos());
+    }
+
+    /**
+     * Returns {@code true} if the passed {@link FlushStrategy} was created by {@link #adaptiveFlush(int, Duration)}.
+     * Such a strategy already coalesces all items written within the same event loop task into a single flush, so
+     * there is no need to replace it with {@link #flushOnEnd()} for aggregated messages.
+     *
+     * @param flushStrategy the {@link FlushStrategy} to check.
+     * @return {@code true} if the passed {@link FlushStrategy} was created by {@link #adaptiveFlush(int, Duration)}.
+     */
+    public static boolean isAdaptiveFlush(FlushStrategy flushStrategy) {
+        return flushStrategy instanceof AdaptiveFlush;
+    }
+
     /**
      * Creates a {@link FlushStrategy} that will {@link FlushSender#flush() flush writes} when
      * {@link WriteEventsListener#writeTerminated()} is called on the {@link WriteEventsListener} returned from
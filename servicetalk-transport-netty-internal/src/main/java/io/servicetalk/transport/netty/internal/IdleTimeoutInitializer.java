@@ -17,9 +17,7 @@ package io.servicetalk.transport.netty.internal;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.handler.timeout.IdleState;
 import io.netty.handler.timeout.IdleStateEvent;
-import io.netty.handler.timeout.IdleStateHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -60,20 +58,18 @@ public class IdleTimeoutInitializer implements ChannelInitializer { // FIXME: 0.
     @Override
     public void init(Channel channel) {
         LOGGER.debug("{} Connection idle timeout is set to {}ms.", channel, timeoutMs);
-        channel.pipeline().addLast(new IdleStateHandler(0, 0, timeoutMs, TimeUnit.MILLISECONDS) {
+        channel.pipeline().addLast(new TimingWheelIdleStateHandler(timeoutMs, TimeUnit.MILLISECONDS) {
             @Override
-            protected void channelIdle(ChannelHandlerContext ctx, IdleStateEvent evt) {
-                if (evt.state() == IdleState.ALL_IDLE) {
-                    // Some protocols may have their own grace period to shutdown the channel
-                    // and we don't want the idle timeout to fire again during this process.
-                    ctx.pipeline().remove(this);
-                    if (LOGGER.isDebugEnabled()) {
-                        LOGGER.debug("{} Closing idle connection after {}ms of inactivity.", ctx.channel(), timeoutMs);
-                    }
-                    // Fire the event through the pipeline so protocols can prepare for the close event.
-                    ctx.fireUserEventTriggered(evt);
-                    ctx.close();
+            protected void channelIdle(ChannelHandlerContext ctx) {
+                // Some protocols may have their own grace period to shutdown the channel
+                // and we don't want the idle timeout to fire again during this process.
+                ctx.pipeline().remove(this);
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("{} Closing idle connection after {}ms of inactivity.", ctx.channel(), timeoutMs);
                 }
+                // Fire the event through the pipeline so protocols can prepare for the close event.
+                ctx.fireUserEventTriggered(IdleStateEvent.FIRST_ALL_IDLE_STATE_EVENT);
+                ctx.close();
             }
         });
     }
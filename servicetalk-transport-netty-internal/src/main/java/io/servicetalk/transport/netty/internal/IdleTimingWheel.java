@@ -0,0 +1,219 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.netty.internal;
+
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.FastThreadLocal;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.LongSupplier;
+import javax.annotation.Nullable;
+
+import static java.lang.Math.max;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * A hashed timing wheel which tracks idleness of all channels of an {@link EventLoop} with a single scheduled task.
+ * <p>
+ * Channel activity never touches the wheel, it only updates the last activity timestamp of an {@link Entry}. Buckets
+ * are swept every {@link #TICK_NANOS} and entries whose deadline passed are checked against their last activity: they
+ * are either notified as idle or re-inserted at their actual deadline. Therefore, an {@link Entry} is never notified
+ * before it was idle for its timeout, and may be notified up to one tick later. An {@link Entry} which never records
+ * activity is notified periodically, which {@link TcpInfoSampler} uses to sample without a timer per channel.
+ * <p>
+ * All methods must be called from the {@link EventLoop}.
+ */
+final class IdleTimingWheel implements Runnable {
+    static final long TICK_NANOS = MILLISECONDS.toNanos(100);
+    private static final Logger LOGGER = LoggerFactory.getLogger(IdleTimingWheel.class);
+    private static final int WHEEL_SIZE = 512;
+    private static final int MASK = WHEEL_SIZE - 1;
+    // An extra list which holds entries of the bucket that is currently swept.
+    private static final int SWEEPING = WHEEL_SIZE;
+    private static final int UNLINKED = -1;
+    private static final FastThreadLocal<IdleTimingWheel> WHEELS = new FastThreadLocal<>();
+
+    private final EventLoop eventLoop;
+    private final LongSupplier nanoTime;
+    private final long startNanos;
+    private final Entry[] heads = new Entry[WHEEL_SIZE + 1];
+    private long currentTick;
+    private int size;
+    @Nullable
+    private ScheduledFuture<?> tickFuture;
+
+    IdleTimingWheel(final EventLoop eventLoop, final LongSupplier nanoTime) {
+        this.eventLoop = eventLoop;
+        this.nanoTime = nanoTime;
+        startNanos = nanoTime.getAsLong();
+    }
+
+    /**
+     * Get the {@link IdleTimingWheel} shared by all channels of the passed {@link EventLoop}.
+     *
+     * @param eventLoop the {@link EventLoop} which calls this method.
+     * @return the {@link IdleTimingWheel} for the passed {@link EventLoop}.
+     */
+    static IdleTimingWheel forEventLoop(final EventLoop eventLoop) {
+        assert eventLoop.inEventLoop();
+        IdleTimingWheel wheel = WHEELS.get();
+        // A thread may run multiple EventLoops, for example EmbeddedEventLoop in tests.
+        if (wheel == null || wheel.eventLoop != eventLoop) {
+            wheel = new IdleTimingWheel(eventLoop, System::nanoTime);
+            WHEELS.set(wheel);
+        }
+        return wheel;
+    }
+
+    long nanoTime() {
+        return nanoTime.getAsLong();
+    }
+
+    int size() {
+        return size;
+    }
+
+    void add(final Entry entry) {
+        assert entry.bucket == UNLINKED;
+        final long nowNanos = nanoTime();
+        if (size++ == 0 && tickFuture == null) {
+            currentTick = tick(nowNanos);
+            tickFuture = eventLoop.scheduleAtFixedRate(this, TICK_NANOS, TICK_NANOS, NANOSECONDS);
+        }
+        entry.lastActivityNanos = nowNanos;
+        schedule(entry, entry.timeoutNanos);
+    }
+
+    void remove(final Entry entry) {
+        if (entry.bucket != UNLINKED) {
+            unlink(entry);
+            --size;
+        }
+    }
+
+    @Override
+    public void run() {
+        final long nowNanos = nanoTime();
+        final long targetTick = tick(nowNanos);
+        // If the EventLoop was blocked for more than a rotation, sweep every bucket only once. Entries check their
+        // actual idle time, so skipped ticks may only delay notifications.
+        currentTick = max(currentTick, targetTick - WHEEL_SIZE);
+        while (currentTick < targetTick) {
+            sweep((int) (++currentTick & MASK), nowNanos);
+        }
+        if (size == 0 && tickFuture != null) {
+            tickFuture.cancel(false);
+            tickFuture = null;
+        }
+    }
+
+    private void sweep(final int bucket, final long nowNanos) {
+        Entry entry = heads[bucket];
+        if (entry == null) {
+            return;
+        }
+        // Move the bucket to the sweeping list because callbacks may remove any entry while the bucket is processed.
+        heads[bucket] = null;
+        heads[SWEEPING] = entry;
+        for (Entry e = entry; e != null; e = e.next) {
+            e.bucket = SWEEPING;
+        }
+        while ((entry = heads[SWEEPING]) != null) {
+            unlink(entry);
+            if (entry.remainingRounds > 0) {
+                --entry.remainingRounds;
+                link(entry, bucket);
+                continue;
+            }
+            final long idleNanos = nowNanos - entry.lastActivityNanos;
+            if (idleNanos < entry.timeoutNanos) {
+                schedule(entry, entry.timeoutNanos - idleNanos);
+            } else {
+                // Re-arm before the callback, which may remove the entry.
+                entry.lastActivityNanos = nowNanos;
+                schedule(entry, entry.timeoutNanos);
+                try {
+                    entry.onIdle();
+                } catch (Throwable cause) {
+                    LOGGER.warn("Unexpected exception from {} while notifying about idleness", entry, cause);
+                }
+            }
+        }
+    }
+
+    private void schedule(final Entry entry, final long delayNanos) {
+        final long ticks = max(1, (delayNanos + TICK_NANOS - 1) / TICK_NANOS);
+        entry.remainingRounds = (ticks - 1) / WHEEL_SIZE;
+        link(entry, (int) ((currentTick + ticks) & MASK));
+    }
+
+    private void link(final Entry entry, final int bucket) {
+        final Entry head = heads[bucket];
+        entry.bucket = bucket;
+        entry.next = head;
+        if (head != null) {
+            head.prev = entry;
+        }
+        heads[bucket] = entry;
+    }
+
+    private void unlink(final Entry entry) {
+        final Entry prev = entry.prev;
+        final Entry next = entry.next;
+        if (prev == null) {
+            heads[entry.bucket] = next;
+        } else {
+            prev.next = next;
+        }
+        if (next != null) {
+            next.prev = prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+        entry.bucket = UNLINKED;
+    }
+
+    private long tick(final long nowNanos) {
+        return (nowNanos - startNanos) / TICK_NANOS;
+    }
+
+    /**
+     * An element of {@link IdleTimingWheel} which is notified after it was idle for its timeout.
+     */
+    abstract static class Entry {
+        final long timeoutNanos;
+        long lastActivityNanos;
+        private long remainingRounds;
+        private int bucket = UNLINKED;
+        @Nullable
+        private Entry prev;
+        @Nullable
+        private Entry next;
+
+        Entry(final long timeoutNanos) {
+            this.timeoutNanos = timeoutNanos;
+        }
+
+        /**
+         * Invoked when this {@link Entry} was idle for at least its timeout. Tracking continues after this method
+         * returns, the next notification happens after another timeout without activity.
+         */
+        abstract void onIdle();
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.netty.internal;
+
+import io.servicetalk.concurrent.Executor;
+import io.servicetalk.transport.api.ServerSslConfig;
+
+import io.netty.handler.ssl.SslContext;
+import io.netty.util.AsyncMapping;
+import io.netty.util.DomainWildcardMappingBuilder;
+import io.netty.util.Mapping;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+
+import java.net.IDN;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.transport.netty.internal.SslContextFactory.forServer;
+import static io.servicetalk.utils.internal.NumberUtils.ensurePositive;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+/**
+ * A {@link Mapping} for SNI which creates the {@link SslContext} of a {@link ServerSslConfig} when it is used for the
+ * first time, and keeps at most a configured number of {@link SslContext}s, evicting the least recently used one.
+ * <p>
+ * Startup time and heap usage of servers with many certificates therefore depend on the number of recently used
+ * hostnames rather than on the number of configured hostnames. Hostnames are matched the same way as by
+ * {@link DomainWildcardMappingBuilder}: an exact match takes precedence over a wildcard which replaces the left-most
+ * label, like {@code *.servicetalk.io}.
+ * <p>
+ * Creating an {@link SslContext} reads and parses certificates and keys, so {@link #map(String)} may block on a cache
+ * miss. {@link #asyncMapping(Executor)} creates missing {@link SslContext}s on an {@link Executor} instead, which is
+ * what {@link SniServerChannelInitializer} uses to keep this work off the IO threads. Concurrent lookups which miss
+ * the same {@link ServerSslConfig} share a single creation of its {@link SslContext}.
+ * <p>
+ * {@link ServerSslConfig}s of {@code sniConfig} are not validated up front: a misconfigured certificate or key only
+ * shows up when one of its hostnames is requested, failing the handshake of that connection. The failure is not
+ * cached, so the next lookup retries.
+ */
+public final class LruSniMapping implements Mapping<String, SslContext> {
+    private final SslContext defaultContext;
+    private final Map<String, ServerSslConfig> configs;
+    private final int maxContexts;
+    private final LinkedHashMap<ServerSslConfig, SslContext> contexts;
+    // Guarded by contexts.
+    private final Map<ServerSslConfig, CompletableFuture<SslContext>> loads = new HashMap<>();
+
+    /**
+     * Create a new instance.
+     *
+     * @param defaultContext the {@link SslContext} to use if the hostname is absent or doesn't match.
+     * @param sniConfig hostnames, which may start with a {@code *.} wildcard, mapped to their {@link ServerSslConfig}.
+     * Hostnames which map to the same {@link ServerSslConfig} instance share the {@link SslContext}.
+     * @param maxContexts the maximum number of {@link SslContext}s to keep for {@code sniConfig}.
+     */
+    public LruSniMapping(final SslContext defaultContext, final Map<String, ServerSslConfig> sniConfig,
+                         final int maxContexts) {
+        this.defaultContext = requireNonNull(defaultContext);
+        this.maxContexts = ensurePositive(maxContexts, "maxContexts");
+        configs = new HashMap<>((int) (sniConfig.size() / .75f) + 1);
+        for (Entry<String, ServerSslConfig> entry : sniConfig.entrySet()) {
+            configs.put(normalizeHostname(entry.getKey()), requireNonNull(entry.getValue()));
+        }
+        contexts = new LinkedHashMap<ServerSslConfig, SslContext>(16, .75f, true) {
+            private static final long serialVersionUID = 6204727291040738530L;
+
+            @Override
+            protected boolean removeEldestEntry(final Entry<ServerSslConfig, SslContext> eldest) {
+                return size() > LruSniMapping.this.maxContexts;
+            }
+        };
+    }
+
+    @Override
+    public SslContext map(@Nullable final String hostname) {
+        final ServerSslConfig config = config(hostname);
+        if (config == null) {
+            return defaultContext;
+        }
+        final SslContext context = cachedContext(config);
+        if (context != null) {
+            return context;
+        }
+        final CompletableFuture<SslContext> newLoad = new CompletableFuture<>();
+        final CompletableFuture<SslContext> load = load(config, newLoad);
+        if (load == newLoad) {
+            runLoad(config, newLoad);
+        }
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns an {@link AsyncMapping} which completes immediately if the {@link SslContext} for a hostname is already
+     * known, and otherwise creates it on the passed {@link Executor}.
+     *
+     * @param executor the {@link Executor} to create missing {@link SslContext}s on.
+     * @return an {@link AsyncMapping} backed by this {@link LruSniMapping}.
+     */
+    public AsyncMapping<String, SslContext> asyncMapping(final Executor executor) {
+        requireNonNull(executor);
+        return (hostname, promise) -> map(hostname, executor, promise);
+    }
+
+    private Future<SslContext> map(@Nullable final String hostname, final Executor executor,
+                                   final Promise<SslContext> promise) {
+        final ServerSslConfig config = config(hostname);
+        if (config == null) {
+            return promise.setSuccess(defaultContext);
+        }
+        final SslContext context = cachedContext(config);
+        if (context != null) {
+            return promise.setSuccess(context);
+        }
+        final CompletableFuture<SslContext> newLoad = new CompletableFuture<>();
+        final CompletableFuture<SslContext> load = load(config, newLoad);
+        if (load == newLoad) {
+            try {
+                executor.execute(() -> runLoad(config, newLoad));
+            } catch (Throwable cause) {
+                completeLoad(config, newLoad, null, cause);
+            }
+        }
+        load.whenComplete((newContext, cause) -> {
+            if (cause == null) {
+                promise.trySuccess(newContext);
+            } else {
+                promise.tryFailure(cause);
+            }
+        });
+        return promise;
+    }
+
+    @Nullable
+    private ServerSslConfig config(@Nullable final String hostname) {
+        if (hostname == null) {
+            return null;
+        }
+        final String host = hostname.toLowerCase(Locale.US);
+        final ServerSslConfig config = configs.get(host);
+        if (config != null) {
+            return config;
+        }
+        final int idx = host.indexOf('.');
+        return idx <= 0 ? null : configs.get('*' + host.substring(idx));
+    }
+
+    @Nullable
+    private SslContext cachedContext(final ServerSslConfig config) {
+        synchronized (contexts) {
+            return contexts.get(config);
+        }
+    }
+
+    /**
+     * Returns the {@link SslContext} of {@code config} if it got cached since the last lookup, the load started by a
+     * concurrent lookup, or {@code newLoad} registered as the load which the caller has to run.
+     */
+    private CompletableFuture<SslContext> load(final ServerSslConfig config,
+                                               final CompletableFuture<SslContext> newLoad) {
+        synchronized (contexts) {
+            final SslContext context = contexts.get(config);
+            if (context != null) {
+                return completedFuture(context);
+            }
+            final CompletableFuture<SslContext> load = loads.putIfAbsent(config, newLoad);
+            return load == null ? newLoad : load;
+        }
+    }
+
+    private void runLoad(final ServerSslConfig config, final CompletableFuture<SslContext> load) {
+        // Build outside the lock to avoid blocking lookups of other hostnames.
+        final SslContext context;
+        try {
+            context = forServer(config);
+        } catch (Throwable cause) {
+            completeLoad(config, load, null, cause);
+            return;
+        }
+        completeLoad(config, load, context, null);
+    }
+
+    private void completeLoad(final ServerSslConfig config, final CompletableFuture<SslContext> load,
+                              @Nullable final SslContext context, @Nullable final Throwable cause) {
+        synchronized (contexts) {
+            loads.remove(config);
+            if (context != null) {
+                contexts.put(config, context);
+            }
+        }
+        if (context != null) {
+            load.complete(context);
+        } else {
+            assert cause != null;
+            load.completeExceptionally(cause);
+        }
+    }
+
+    private static String normalizeHostname(final String hostname) {
+        final String host = IDN.toASCII(hostname, IDN.ALLOW_UNASSIGNED).toLowerCase(Locale.US);
+        final int wildcardIdx = host.lastIndexOf('*');
+        if (wildcardIdx > 0 || (wildcardIdx == 0 && (host.length() < 3 || host.charAt(1) != '.'))) {
+            throw new IllegalArgumentException("Wildcards are only supported as the left-most label: " + hostname);
+        }
+        return host;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(default: " + defaultContext + ", hostnames: " + configs.size() +
+                ", maxContexts: " + maxContexts + ')';
+    }
+}
@@ -109,7 +109,7 @@ final class NativeTransportUtils {
      * @return {@code true} if {@link IOUring} is available
      */
     static boolean isIoUringAvailable() {
-        return IS_LINUX && TRY_IO_URING.get() && IOUring.isAvailable();
+        return IS_LINUX && TRY_IO_URING.get() && IoUringAvailability.AVAILABLE;
     }
 
     /**
@@ -201,4 +201,36 @@ final class NativeTransportUtils {
     static void tryIoUring(final boolean tryIoUring) {
         TRY_IO_URING.set(tryIoUring);
     }
+
+    /**
+     * Lazily checks {@link IOUring} availability only when it was requested on Linux. The incubator classes are an
+     * optional dependency, therefore their absence on the classpath is treated the same way as a kernel that does not
+     * support io_uring: transport selection falls back to {@link Epoll}.
+     */
+    private static final class IoUringAvailability {
+        static final boolean AVAILABLE;
+
+        static {
+            boolean available;
+            Throwable cause;
+            try {
+                available = IOUring.isAvailable();
+                cause = available ? null : IOUring.unavailabilityCause();
+            } catch (LinkageError e) {
+                available = false;
+                cause = e;
+            }
+            AVAILABLE = available;
+            if (!available) {
+                LOGGER.info("io_uring transport was requested with \"-D{}=true\" but is not available, falling " +
+                        "back to {}. Make sure \"io.netty.incubator:netty-incubator-transport-native-io_uring\" " +
+                        "is on the classpath and the kernel supports io_uring.", TRY_IO_URING_NAME,
+                        isEpollAvailable() ? "epoll" : "nio", cause);
+            }
+        }
+
+        private IoUringAvailability() {
+            // No instances
+        }
+    }
 }
@@ -15,9 +15,11 @@
  */
 package io.servicetalk.transport.netty.internal;
 
+import io.servicetalk.buffer.api.Buffer;
 import io.servicetalk.concurrent.api.internal.SubscribablePublisher;
 import io.servicetalk.concurrent.internal.DuplicateSubscribeException;
 import io.servicetalk.concurrent.internal.TerminalNotification;
+import io.servicetalk.transport.api.ReadPrefetchPolicy;
 
 import io.netty.channel.Channel;
 import io.netty.channel.EventLoop;
@@ -30,6 +32,7 @@ import java.util.ArrayDeque;
 import java.util.Queue;
 import javax.annotation.Nullable;
 
+import static io.servicetalk.buffer.netty.BufferUtils.releaseLeased;
 import static io.servicetalk.concurrent.internal.FlowControlUtils.addWithOverflowProtection;
 import static io.servicetalk.concurrent.internal.SubscriberUtils.deliverErrorFromSource;
 import static io.servicetalk.concurrent.internal.SubscriberUtils.handleExceptionFromOnSubscribe;
@@ -48,22 +51,31 @@ final class NettyChannelPublisher<T> extends SubscribablePublisher<T> {
     @Nullable
     private SubscriptionImpl subscription;
     /**
-     * The size of the queue is bound by {@link SubscriptionImpl#request(long)} demand. Using reactive operators to
-     * transform data and letting ServiceTalk subscribe will take care of backpressure automatically.
+     * The size of the queue is bound by {@link SubscriptionImpl#request(long)} demand and the high watermarks of the
+     * {@link ReadPrefetchPolicy}. Using reactive operators to transform data and letting ServiceTalk subscribe will
+     * take care of backpressure automatically.
      */
     @Nullable
     private Queue<Object> pending;
+    private long pendingBytes;
+    private boolean prefetchPaused;
     @Nullable
     private Throwable fatalError;
 
     private final Channel channel;
     private final CloseHandler closeHandler;
     private final EventLoop eventLoop;
+    private final ReadPrefetchPolicy prefetchPolicy;
 
     NettyChannelPublisher(Channel channel, CloseHandler closeHandler) {
+        this(channel, closeHandler, ReadPrefetchPolicy.onDemand());
+    }
+
+    NettyChannelPublisher(Channel channel, CloseHandler closeHandler, ReadPrefetchPolicy prefetchPolicy) {
         this.eventLoop = channel.eventLoop();
         this.channel = channel;
         this.closeHandler = closeHandler;
+        this.prefetchPolicy = prefetchPolicy;
     }
 
     @Override
@@ -82,6 +94,7 @@ final class NettyChannelPublisher<T> extends SubscribablePublisher<T> {
             return;
         }
         if (fatalError != null) {
+            releaseLeased(data);
             return;
         }
 
@@ -156,9 +169,7 @@ final class NettyChannelPublisher<T> extends SubscribablePublisher<T> {
     void onReadComplete() {
         assertInEventloop();
         requested = false;
-        if (requestCount > 0) {
-            requestChannel();
-        }
+        maybeRequestChannel();
     }
 
     // All private methods MUST be invoked from the eventloop.
@@ -170,9 +181,9 @@ final class NettyChannelPublisher<T> extends SubscribablePublisher<T> {
         }
         if (isRequestNValid(n)) {
             requestCount = addWithOverflowProtection(requestCount, n);
-            if (!processPending(forSubscription) && !requested && requestCount > 0) {
+            if (!processPending(forSubscription)) {
                 // If subscriber wasn't terminated from the queue, then request more.
-                requestChannel();
+                maybeRequestChannel();
             }
         } else {
             resetSubscription();
@@ -192,7 +203,7 @@ final class NettyChannelPublisher<T> extends SubscribablePublisher<T> {
 
         for (;;) {
             while (requestCount > 0) {
-                Object p = pending.poll();
+                Object p = pollPending();
                 if (p == null) {
                     return false;
                 } else if ((p instanceof TerminalNotification && emit(target, (TerminalNotification) p)) ||
@@ -207,7 +218,7 @@ final class NettyChannelPublisher<T> extends SubscribablePublisher<T> {
                 }
             }
             if (pending.peek() instanceof TerminalNotification) {
-                emit(target, (TerminalNotification) pending.poll());
+                emit(target, (TerminalNotification) pollPending());
                 // stop draining the pending events if the current Subscription is still the same for which we started
                 // draining, continue emitting the remaining data if there is a new Subscriber
                 if (subscription == null || subscription == target) {
@@ -228,7 +239,7 @@ final class NettyChannelPublisher<T> extends SubscribablePublisher<T> {
             final TerminalNotification terminal = (TerminalNotification) top;
             if (terminal.cause() != null) {
                 assert fatalError != null;
-                pending.poll();
+                pollPending();
                 closeChannelInbound();
             }
         }
@@ -248,15 +259,15 @@ final class NettyChannelPublisher<T> extends SubscribablePublisher<T> {
         return false;
     }
 
-    @SuppressWarnings("StatementWithEmptyBody")
     private void emitCatchError(@Nullable SubscriptionImpl target, Throwable cause,
                                 boolean drainPendingToNextTerminal) {
         // If we have items queued, we avoid delivering partial content to the next subscriber by draining until we see
         // a Terminal signal. We also don't enqueue future signals after we see a fatal error.
         if (pending != null && drainPendingToNextTerminal) {
             Object top;
-            while ((top = pending.poll()) != null && !(top instanceof TerminalNotification)) {
-                // intentionally empty
+            while ((top = pollPending()) != null && !(top instanceof TerminalNotification)) {
+                // Dropped items will never be seen by a Subscriber, return leased memory.
+                releaseLeased(top);
             }
         }
         if (fatalError == null) {
@@ -337,9 +348,39 @@ final class NettyChannelPublisher<T> extends SubscribablePublisher<T> {
         requestCount = 0;
     }
 
-    private void requestChannel() {
-        requested = true;
-        channel.read();
+    private void maybeRequestChannel() {
+        if (!requested && (requestCount > 0 || shouldPrefetch())) {
+            requested = true;
+            channel.read();
+        }
+    }
+
+    /**
+     * Determines if the channel should be read ahead of demand, which avoids toggling reads for every item when the
+     * {@link Subscriber} requests one item at a time. Reads pause when the queue reaches either high watermark and
+     * resume only after the queue is drained to both low watermarks.
+     *
+     * @return {@code true} if the channel should be read ahead of demand.
+     */
+    private boolean shouldPrefetch() {
+        if (!prefetchPolicy.isPrefetchEnabled() || subscription == null || fatalError != null) {
+            return false;
+        }
+        final int pendingItems = pending == null ? 0 : pending.size();
+        if (prefetchPaused) {
+            if (pendingItems > prefetchPolicy.lowWatermarkItems() ||
+                    pendingBytes > prefetchPolicy.lowWatermarkBytes()) {
+                return false;
+            }
+            prefetchPaused = false;
+        } else if (pendingItems >= prefetchPolicy.highWatermarkItems() ||
+                pendingBytes >= prefetchPolicy.highWatermarkBytes()) {
+            prefetchPaused = true;
+            LOGGER.trace("{} Paused reads ahead of demand, pending items: {}, bytes: {}",
+                    channel, pendingItems, pendingBytes);
+            return false;
+        }
+        return true;
     }
 
     private void addPending(Object p) {
@@ -347,6 +388,19 @@ final class NettyChannelPublisher<T> extends SubscribablePublisher<T> {
             pending = new ArrayDeque<>(4);  // queue should be able to fit: headers + payloadBody + trailers
         }
         pending.add(p);
+        if (p instanceof Buffer) {
+            pendingBytes += ((Buffer) p).readableBytes();
+        }
+    }
+
+    @Nullable
+    private Object pollPending() {
+        assert pending != null;
+        final Object p = pending.poll();
+        if (p instanceof Buffer) {
+            pendingBytes -= ((Buffer) p).readableBytes();
+        }
+        return p;
     }
 
     private boolean shouldBuffer() {
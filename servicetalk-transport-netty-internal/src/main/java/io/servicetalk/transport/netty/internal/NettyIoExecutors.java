@@ -16,6 +16,7 @@
 package io.servicetalk.transport.netty.internal;
 
 import io.servicetalk.transport.api.IoExecutor;
+import io.servicetalk.transport.api.IoExecutorObserver;
 import io.servicetalk.transport.api.IoThreadFactory;
 import io.servicetalk.transport.api.IoThreadFactory.IoThread;
 
@@ -28,10 +29,14 @@ import io.netty.incubator.channel.uring.IOUringEventLoopGroup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import javax.annotation.Nullable;
+
 import static io.servicetalk.transport.netty.internal.NativeTransportUtils.isEpollAvailable;
 import static io.servicetalk.transport.netty.internal.NativeTransportUtils.isIoUringAvailable;
 import static io.servicetalk.transport.netty.internal.NativeTransportUtils.isKQueueAvailable;
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
  * A static factory to create or convert to {@link NettyIoExecutor}.
@@ -111,17 +116,61 @@ public final class NettyIoExecutors {
         return new EventLoopGroupIoExecutor(createEventLoopGroup(ioThreads, threadFactory), true, true);
     }
 
+    /**
+     * Create a new {@link NettyIoExecutor} which reports the health of its IO threads to an
+     * {@link IoExecutorObserver}.
+     *
+     * @param <T> Type of the IO thread instances created by factory.
+     * @param ioThreads number of threads or {@code 0} (zero) to use the default value.
+     * @param threadFactory the {@link IoThreadFactory} to use. If possible you should use an instance of
+     * {@link NettyIoThreadFactory} as it allows internal optimizations.
+     * @param observer the {@link IoExecutorObserver} to report the health of IO threads to.
+     * @param probeInterval the interval between probe tasks executed on each IO thread to measure scheduling lag.
+     * @param blockedTaskThreshold the duration an IO thread may be unable to execute an overdue probe task before it is
+     * reported as blocked via {@link IoExecutorObserver#onIoThreadBlocked(Thread, long, StackTraceElement[])}, or
+     * {@link Duration#ZERO} to disable blocked task detection.
+     * @return The created {@link IoExecutor}
+     */
+    public static <T extends Thread & IoThread> EventLoopAwareNettyIoExecutor createIoExecutor(
+            int ioThreads, IoThreadFactory<T> threadFactory, IoExecutorObserver observer, Duration probeInterval,
+            Duration blockedTaskThreshold) {
+        final EventLoopGroup group = createEventLoopGroup(ioThreads, threadFactory);
+        try {
+            EventLoopHealthMonitor.start(group, observer, probeInterval, blockedTaskThreshold);
+        } catch (Throwable cause) {
+            group.shutdownGracefully(0, 0, NANOSECONDS);
+            throw cause;
+        }
+        return new EventLoopGroupIoExecutor(group, true, true);
+    }
+
     private static <T extends Thread & IoThread> EventLoopGroup createEventLoopGroup(int ioThreads,
             IoThreadFactory<T> threadFactory) {
         validateIoThreads(ioThreads);
-        final EventLoopGroup group = isIoUringAvailable() ? new IOUringEventLoopGroup(ioThreads, threadFactory) :
-                isEpollAvailable() ? new EpollEventLoopGroup(ioThreads, threadFactory) :
-                        isKQueueAvailable() ? new KQueueEventLoopGroup(ioThreads, threadFactory) :
-                                new NioEventLoopGroup(ioThreads, threadFactory);
+        EventLoopGroup group = isIoUringAvailable() ? newIoUringEventLoopGroup(ioThreads, threadFactory) : null;
+        if (group == null) {
+            group = isEpollAvailable() ? new EpollEventLoopGroup(ioThreads, threadFactory) :
+                    isKQueueAvailable() ? new KQueueEventLoopGroup(ioThreads, threadFactory) :
+                            new NioEventLoopGroup(ioThreads, threadFactory);
+        }
         LOGGER.debug("Created {} for {} threads using {}.", group.getClass().getSimpleName(), ioThreads, threadFactory);
         return group;
     }
 
+    @Nullable
+    private static <T extends Thread & IoThread> EventLoopGroup newIoUringEventLoopGroup(int ioThreads,
+            IoThreadFactory<T> threadFactory) {
+        try {
+            return new IOUringEventLoopGroup(ioThreads, threadFactory);
+        } catch (Throwable cause) {
+            // The kernel may report io_uring as available, but ring setup can still fail at runtime (for example,
+            // due to RLIMIT_MEMLOCK or seccomp restrictions). Epoll is always a safe fallback on Linux.
+            LOGGER.warn("Failed to create {} for {} threads, falling back to the next available transport.",
+                    IOUringEventLoopGroup.class.getSimpleName(), ioThreads, cause);
+            return null;
+        }
+    }
+
     /**
      * Attempts to convert the passed {@link IoExecutor} to a {@link NettyIoExecutor}.
      *
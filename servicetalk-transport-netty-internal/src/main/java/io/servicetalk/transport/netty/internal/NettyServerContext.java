@@ -18,6 +18,7 @@ package io.servicetalk.transport.netty.internal;
 import io.servicetalk.concurrent.api.AsyncCloseable;
 import io.servicetalk.concurrent.api.Completable;
 import io.servicetalk.concurrent.api.CompositeCloseable;
+import io.servicetalk.concurrent.api.Executor;
 import io.servicetalk.concurrent.api.ListenableAsyncCloseable;
 import io.servicetalk.transport.api.ExecutionContext;
 import io.servicetalk.transport.api.ServerContext;
@@ -25,11 +26,13 @@ import io.servicetalk.transport.api.ServerContext;
 import io.netty.channel.Channel;
 
 import java.net.SocketAddress;
+import java.util.List;
 import javax.annotation.Nullable;
 
 import static io.servicetalk.concurrent.api.AsyncCloseables.newCompositeCloseable;
 import static io.servicetalk.concurrent.api.AsyncCloseables.toListenableAsyncCloseable;
 import static io.servicetalk.concurrent.api.Executors.immediate;
+import static java.util.Collections.singletonList;
 
 /**
  * {@link ServerContext} implementation using a netty {@link Channel}.
@@ -37,12 +40,14 @@ import static io.servicetalk.concurrent.api.Executors.immediate;
 public final class NettyServerContext implements ServerContext {
 
     private final Channel listenChannel;
+    private final List<Channel> listenChannels;
     private final ListenableAsyncCloseable closeable;
     private final ExecutionContext<?> executionContext;
 
-    private NettyServerContext(Channel listenChannel, final ListenableAsyncCloseable closeable,
+    private NettyServerContext(final List<Channel> listenChannels, final ListenableAsyncCloseable closeable,
                                final ExecutionContext<?> executionContext) {
-        this.listenChannel = listenChannel;
+        this.listenChannel = listenChannels.get(0);
+        this.listenChannels = listenChannels;
         this.closeable = closeable;
         this.executionContext = executionContext;
     }
@@ -55,7 +60,7 @@ public final class NettyServerContext implements ServerContext {
      * @return A new {@link NettyServerContext} instance.
      */
     public static ServerContext wrap(NettyServerContext toWrap, AsyncCloseable closeBefore) {
-        return new NettyServerContext(toWrap.listenChannel,
+        return new NettyServerContext(toWrap.listenChannels,
                 toListenableAsyncCloseable(newCompositeCloseable().appendAll(closeBefore, toWrap.closeable)),
                 toWrap.executionContext);
     }
@@ -71,14 +76,40 @@ public final class NettyServerContext implements ServerContext {
      */
     public static ServerContext wrap(Channel listenChannel, ListenableAsyncCloseable channelSetCloseable,
                                      @Nullable AsyncCloseable closeBefore, ExecutionContext<?> executionContext) {
-        final NettyChannelListenableAsyncCloseable channelCloseable =
-                new NettyChannelListenableAsyncCloseable(listenChannel,
-                        executionContext.executionStrategy().isCloseOffloaded() ?
-                                executionContext.executor() : immediate());
+        return wrap(singletonList(listenChannel), channelSetCloseable, closeBefore, executionContext);
+    }
+
+    /**
+     * Wrap the passed listen {@link Channel}s which are bound to the same address, for example using
+     * {@code SO_REUSEPORT}.
+     *
+     * @param listenChannels {@link Channel}s to wrap, the first one provides the {@link #listenAddress()}.
+     * @param channelSetCloseable {@link ChannelSet} to wrap.
+     * @param closeBefore {@link Completable} which needs to closed first before {@code listenChannels} will be closed.
+     * @param executionContext {@link ExecutionContext} used by this server.
+     * @return A new {@link NettyServerContext} instance.
+     */
+    public static ServerContext wrap(List<Channel> listenChannels, ListenableAsyncCloseable channelSetCloseable,
+                                     @Nullable AsyncCloseable closeBefore, ExecutionContext<?> executionContext) {
+        if (listenChannels.isEmpty()) {
+            throw new IllegalArgumentException("listenChannels must not be empty");
+        }
+        final Executor closeExecutor = executionContext.executionStrategy().isCloseOffloaded() ?
+                executionContext.executor() : immediate();
+        final AsyncCloseable channelCloseable;
+        if (listenChannels.size() == 1) {
+            channelCloseable = new NettyChannelListenableAsyncCloseable(listenChannels.get(0), closeExecutor);
+        } else {
+            final CompositeCloseable channelsCloseable = newCompositeCloseable();
+            for (Channel listenChannel : listenChannels) {
+                channelsCloseable.merge(new NettyChannelListenableAsyncCloseable(listenChannel, closeExecutor));
+            }
+            channelCloseable = channelsCloseable;
+        }
         final CompositeCloseable closeAsync = closeBefore == null ?
                 newCompositeCloseable().appendAll(channelCloseable, channelSetCloseable) :
                 newCompositeCloseable().appendAll(closeBefore, channelCloseable, channelSetCloseable);
-        return new NettyServerContext(listenChannel, toListenableAsyncCloseable(closeAsync), executionContext);
+        return new NettyServerContext(listenChannels, toListenableAsyncCloseable(closeAsync), executionContext);
     }
 
     @Override
@@ -88,7 +119,9 @@ public final class NettyServerContext implements ServerContext {
 
     @Override
     public void acceptConnections(final boolean accept) {
-        listenChannel.config().setAutoRead(accept);
+        for (Channel channel : listenChannels) {
+            channel.config().setAutoRead(accept);
+        }
     }
 
     @Override
@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.netty.internal;
+
+import io.servicetalk.transport.api.ReadPrefetchPolicy;
+
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+
+import static io.netty.util.AttributeKey.newInstance;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Associates a {@link ReadPrefetchPolicy} with the channel, which lets the transport read ahead of the demand signalled
+ * for the channel's inbound data. Child channels (e.g. HTTP/2 streams) inherit the policy of their parent channel.
+ */
+public final class ReadPrefetchInitializer implements ChannelInitializer {
+
+    private static final AttributeKey<ReadPrefetchPolicy> READ_PREFETCH_POLICY = newInstance("READ_PREFETCH_POLICY");
+
+    private final ReadPrefetchPolicy policy;
+
+    /**
+     * New instance.
+     *
+     * @param policy {@link ReadPrefetchPolicy} to associate with the channel.
+     */
+    public ReadPrefetchInitializer(final ReadPrefetchPolicy policy) {
+        this.policy = requireNonNull(policy);
+    }
+
+    @Override
+    public void init(final Channel channel) {
+        channel.attr(READ_PREFETCH_POLICY).set(policy);
+    }
+
+    /**
+     * Get the {@link ReadPrefetchPolicy} associated with the passed {@link Channel} or its parent.
+     *
+     * @param channel the {@link Channel} to inspect.
+     * @return the associated {@link ReadPrefetchPolicy} or {@link ReadPrefetchPolicy#onDemand()} if none.
+     */
+    static ReadPrefetchPolicy readPrefetchPolicy(final Channel channel) {
+        ReadPrefetchPolicy policy = channel.attr(READ_PREFETCH_POLICY).get();
+        if (policy == null && channel.parent() != null) {
+            policy = channel.parent().attr(READ_PREFETCH_POLICY).get();
+        }
+        return policy == null ? ReadPrefetchPolicy.onDemand() : policy;
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.netty.internal;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.buffer.api.BufferHolder;
+import io.servicetalk.logging.slf4j.internal.FixedLevelLogger;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufHolder;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+
+import java.net.SocketAddress;
+import java.util.function.BooleanSupplier;
+import javax.annotation.Nullable;
+
+import static io.netty.buffer.ByteBufUtil.appendPrettyHexDump;
+import static io.netty.buffer.Unpooled.wrappedBuffer;
+import static io.netty.util.internal.StringUtil.NEWLINE;
+import static io.servicetalk.buffer.netty.BufferUtils.toByteBuf;
+import static io.servicetalk.transport.netty.internal.ChannelCloseUtils.peekChannelError;
+import static java.lang.Math.min;
+import static java.lang.System.nanoTime;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Captures the most recent wire events of a single channel in memory and logs them only when they are dumped: when an
+ * exception is observed, when the channel is closed because of an error, or on demand via {@link #dump(String)}.
+ * <p>
+ * Capturing an event copies at most {@code maxBytesPerEvent} bytes of user data into a reused slot, the expensive
+ * formatting happens only when the events are dumped.
+ */
+final class RingBufferWireLogger extends ChannelDuplexHandler {
+    private final FixedLevelLogger logger;
+    private final BooleanSupplier logUserDataSupplier;
+    private final int maxBytesPerEvent;
+    private final WireEvent[] events;
+    @Nullable
+    private ChannelHandlerContext ctx;
+    /**
+     * Index of the slot for the next event.
+     */
+    private int next;
+    /**
+     * Number of events captured since the last dump, may exceed the capacity of {@link #events}.
+     */
+    private long captured;
+    private boolean failed;
+
+    RingBufferWireLogger(final FixedLevelLogger logger, final BooleanSupplier logUserDataSupplier,
+                         final int maxEvents, final int maxBytesPerEvent) {
+        this.logger = requireNonNull(logger);
+        this.logUserDataSupplier = requireNonNull(logUserDataSupplier);
+        this.maxBytesPerEvent = maxBytesPerEvent;
+        this.events = new WireEvent[maxEvents];
+    }
+
+    @Override
+    public void handlerAdded(final ChannelHandlerContext ctx) {
+        this.ctx = ctx;
+    }
+
+    @Override
+    public void channelRegistered(ChannelHandlerContext ctx) {
+        capture("REGISTERED", null);
+        ctx.fireChannelRegistered();
+    }
+
+    @Override
+    public void channelUnregistered(ChannelHandlerContext ctx) {
+        capture("UNREGISTERED", null);
+        ctx.fireChannelUnregistered();
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) {
+        capture("ACTIVE", null);
+        ctx.fireChannelActive();
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+        capture("INACTIVE", null);
+        if (failed || peekChannelError(ctx.channel()) != null) {
+            dump("INACTIVE");
+        }
+        ctx.fireChannelInactive();
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        capture("EXCEPTION", cause);
+        failed = true;
+        dump("EXCEPTION");
+        ctx.fireExceptionCaught(cause);
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) {
+        capture("USER_EVENT", logUserDataSupplier.getAsBoolean() ? String.valueOf(evt) : evt.getClass());
+        ctx.fireUserEventTriggered(evt);
+    }
+
+    @Override
+    public void bind(ChannelHandlerContext ctx, SocketAddress localAddress, ChannelPromise promise) {
+        capture("BIND", localAddress);
+        ctx.bind(localAddress, promise);
+    }
+
+    @Override
+    public void connect(ChannelHandlerContext ctx, SocketAddress remoteAddress, SocketAddress localAddress,
+                        ChannelPromise promise) {
+        capture("CONNECT", remoteAddress);
+        ctx.connect(remoteAddress, localAddress, promise);
+    }
+
+    @Override
+    public void disconnect(ChannelHandlerContext ctx, ChannelPromise promise) {
+        capture("DISCONNECT", null);
+        ctx.disconnect(promise);
+    }
+
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) {
+        capture("CLOSE", null);
+        if (!failed && peekChannelError(ctx.channel()) != null) {
+            failed = true;
+            dump("CLOSE_WITH_ERROR");
+        }
+        ctx.close(promise);
+    }
+
+    @Override
+    public void deregister(ChannelHandlerContext ctx, ChannelPromise promise) {
+        capture("DEREGISTER", null);
+        ctx.deregister(promise);
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+        capture("READ_COMPLETE", null);
+        ctx.fireChannelReadComplete();
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        captureMessage("READ", msg);
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void read(ChannelHandlerContext ctx) {
+        capture("READ_REQUEST", null);
+        ctx.read();
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        captureMessage("WRITE", msg);
+        ctx.write(msg, promise);
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+        capture("WRITABILITY_CHANGED", ctx.channel().isWritable());
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) {
+        capture("FLUSH", null);
+        ctx.flush();
+    }
+
+    /**
+     * Logs all captured events and discards them.
+     *
+     * @param reason the reason for the dump, included in the log message.
+     */
+    void dump(final String reason) {
+        final ChannelHandlerContext ctx = this.ctx;
+        if (captured == 0 || ctx == null || !logger.isEnabled()) {
+            return;
+        }
+        final int retained = (int) min(captured, events.length);
+        final StringBuilder sb = new StringBuilder(128 * retained)
+                .append(ctx.channel()).append(" WIRE_LOG_DUMP (").append(reason).append("): last ")
+                .append(retained).append(" of ").append(captured).append(" events");
+        int index = captured > events.length ? next : 0;
+        final long firstNanos = events[index].nanos;
+        for (int i = 0; i < retained; ++i) {
+            final WireEvent event = events[index];
+            event.appendTo(sb.append(NEWLINE), firstNanos);
+            event.clear();
+            if (++index == events.length) {
+                index = 0;
+            }
+        }
+        next = 0;
+        captured = 0;
+        logger.log(sb.toString());
+    }
+
+    private void capture(final String name, @Nullable final Object detail) {
+        if (logger.isEnabled()) {
+            nextEvent(name, detail);
+        }
+    }
+
+    private void captureMessage(final String name, final Object msg) {
+        if (!logger.isEnabled()) {
+            return;
+        }
+        final boolean logUserData = logUserDataSupplier.getAsBoolean();
+        final ByteBuf byteBuf;
+        final Object detail;
+        if (msg instanceof ByteBuf) {
+            byteBuf = (ByteBuf) msg;
+            detail = null;
+        } else if (msg instanceof ByteBufHolder) {
+            byteBuf = ((ByteBufHolder) msg).content();
+            detail = msg.getClass();
+        } else if (msg instanceof Buffer) {
+            byteBuf = toByteBuf((Buffer) msg);
+            detail = null;
+        } else if (msg instanceof BufferHolder) {
+            byteBuf = toByteBuf(((BufferHolder) msg).content());
+            detail = msg.getClass();
+        } else {
+            nextEvent(name, logUserData ? String.valueOf(msg) : msg.getClass());
+            return;
+        }
+        nextEvent(name, detail).copyData(byteBuf, logUserData ? maxBytesPerEvent : 0);
+    }
+
+    private WireEvent nextEvent(final String name, @Nullable final Object detail) {
+        WireEvent event = events[next];
+        if (event == null) {
+            event = new WireEvent();
+            events[next] = event;
+        }
+        if (++next == events.length) {
+            next = 0;
+        }
+        ++captured;
+        event.nanos = nanoTime();
+        event.name = name;
+        event.detail = detail;
+        event.length = -1;
+        event.dataLength = 0;
+        return event;
+    }
+
+    private static final class WireEvent {
+        long nanos;
+        @Nullable
+        String name;
+        @Nullable
+        Object detail;
+        /**
+         * Number of readable bytes of the message, or {@code -1} if the event has no data.
+         */
+        int length;
+        @Nullable
+        byte[] data;
+        /**
+         * Number of bytes copied into {@link #data}.
+         */
+        int dataLength;
+
+        void copyData(final ByteBuf byteBuf, final int maxBytes) {
+            length = byteBuf.readableBytes();
+            dataLength = min(length, maxBytes);
+            if (dataLength > 0) {
+                if (data == null || data.length < dataLength) {
+                    data = new byte[dataLength];
+                }
+                byteBuf.getBytes(byteBuf.readerIndex(), data, 0, dataLength);
+            }
+        }
+
+        void appendTo(final StringBuilder sb, final long firstNanos) {
+            sb.append('+').append(NANOSECONDS.toMicros(nanos - firstNanos)).append("us ").append(name);
+            if (detail != null || length >= 0) {
+                sb.append(':');
+            }
+            if (detail != null) {
+                sb.append(' ').append(detail);
+            }
+            if (length >= 0) {
+                sb.append(' ').append(length).append('B');
+                if (dataLength > 0) {
+                    if (dataLength < length) {
+                        sb.append(" (first ").append(dataLength).append("B)");
+                    }
+                    sb.append(NEWLINE);
+                    assert data != null;
+                    appendPrettyHexDump(sb, wrappedBuffer(data, 0, dataLength));
+                }
+            }
+        }
+
+        void clear() {
+            name = null;
+            detail = null;
+        }
+    }
+}
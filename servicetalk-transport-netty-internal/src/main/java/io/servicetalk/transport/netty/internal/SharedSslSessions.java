@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.netty.internal;
+
+import io.servicetalk.transport.api.ClientSslConfig;
+import io.servicetalk.transport.api.SslSessionCache;
+
+import io.netty.handler.ssl.OpenSslSessionContext;
+import io.netty.handler.ssl.OpenSslSessionTicketKey;
+import io.netty.handler.ssl.SslContext;
+import io.netty.util.AttributeKey;
+
+import java.security.SecureRandom;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+import static io.netty.util.AttributeKey.newInstance;
+import static java.lang.System.nanoTime;
+import static java.util.Arrays.asList;
+import static java.util.Collections.synchronizedMap;
+
+/**
+ * State shared by all {@link SslContext}s which are configured with the same {@link SslSessionCache}.
+ * <p>
+ * Clients share a single {@link SslContext}, and therefore its session cache, per distinct {@link ClientSslConfig}.
+ * Only the {@link #MAX_CLIENT_CONTEXTS} most recently used {@link SslContext}s are kept.
+ * Servers share session ticket keys, which are rotated lazily when new connections are accepted.
+ * <p>
+ * This class must not reference its {@link SslSessionCache} to let unused instances be garbage collected.
+ */
+final class SharedSslSessions {
+    static final AttributeKey<SslSessionCache> SESSION_CACHE = newInstance("SESSION_CACHE");
+    private static final AttributeKey<SharedSslSessions> SHARED_SESSIONS = newInstance("SHARED_SESSIONS");
+    private static final AttributeKey<Long> TICKET_KEYS_GENERATION = newInstance("TICKET_KEYS_GENERATION");
+    private static final Map<SslSessionCache, SharedSslSessions> INSTANCES = synchronizedMap(new WeakHashMap<>());
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int TICKET_KEY_PART_BYTES = 16;
+    /**
+     * Configs are compared by identity of their suppliers and factories, so clients which create new instances (e.g.
+     * a lambda per client) never share a context. Bound the number of contexts to not grow indefinitely in this case,
+     * an evicted context remains usable by its clients but new clients no longer share its sessions.
+     */
+    private static final int MAX_CLIENT_CONTEXTS = 64;
+
+    private final Map<List<Object>, SslContext> clientContexts = new LinkedHashMap<List<Object>, SslContext>(
+            16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<List<Object>, SslContext> eldest) {
+            return size() > MAX_CLIENT_CONTEXTS;
+        }
+    };
+    private final long rotationIntervalNanos;
+    private volatile TicketKeys ticketKeys;
+
+    private SharedSslSessions(final long rotationIntervalNanos) {
+        this.rotationIntervalNanos = rotationIntervalNanos;
+        ticketKeys = new TicketKeys(0, nanoTime(), newTicketKey(), null);
+    }
+
+    static SharedSslSessions forCache(final SslSessionCache cache) {
+        return INSTANCES.computeIfAbsent(cache,
+                c -> new SharedSslSessions(c.ticketKeyRotationInterval().toNanos()));
+    }
+
+    /**
+     * Get the {@link SslContext} shared by all clients which use an equivalent {@link ClientSslConfig}.
+     *
+     * @param config the {@link ClientSslConfig} of the client.
+     * @param factory creates a new {@link SslContext} if there is none for the passed {@code config} yet.
+     * @return the shared {@link SslContext}.
+     */
+    SslContext clientContext(final ClientSslConfig config, final Supplier<SslContext> factory) {
+        // Peer host, port and SNI are applied per SslHandler, other properties are baked into the SslContext.
+        final List<Object> key = asList(config.hostnameVerificationAlgorithm(), config.trustManagerFactory(),
+                config.trustCertChainSupplier(), config.keyManagerFactory(), config.keyCertChainSupplier(),
+                config.keySupplier(), config.keyPassword(), config.sslProtocols(), config.alpnProtocols(),
+                config.ciphers(), config.cipherSuiteFilter(), config.maxCertificateListBytes(), config.provider(),
+                config.certificateCompressionAlgorithms(), config.handshakeTimeout(), config.handshakeTaskExecutor());
+        synchronized (clientContexts) {
+            return clientContexts.computeIfAbsent(key, __ -> factory.get());
+        }
+    }
+
+    /**
+     * Configures a new server {@link SslContext} to use shared session ticket keys.
+     *
+     * @param context the new server {@link SslContext}.
+     * @param cache the {@link SslSessionCache} of the server.
+     */
+    void initServerContext(final SslContext context, final SslSessionCache cache) {
+        context.attributes().attr(SESSION_CACHE).set(cache);
+        if (context.sessionContext() instanceof OpenSslSessionContext) {
+            context.attributes().attr(SHARED_SESSIONS).set(this);
+            updateTicketKeys(context);
+        }
+    }
+
+    /**
+     * Updates the session ticket keys of a server {@link SslContext} before it creates a new engine, rotating the
+     * shared keys if required.
+     *
+     * @param context the server {@link SslContext}.
+     */
+    static void beforeServerHandshake(final SslContext context) {
+        final SharedSslSessions sessions = context.attributes().attr(SHARED_SESSIONS).get();
+        if (sessions != null) {
+            sessions.updateTicketKeys(context);
+        }
+    }
+
+    private void updateTicketKeys(final SslContext context) {
+        final TicketKeys keys = currentTicketKeys();
+        final Long generation = context.attributes().attr(TICKET_KEYS_GENERATION).get();
+        if (generation == null || generation != keys.generation) {
+            // The first key encrypts new tickets, the previous key is only used to decrypt tickets.
+            if (keys.previous == null) {
+                ((OpenSslSessionContext) context.sessionContext()).setTicketKeys(keys.current);
+            } else {
+                ((OpenSslSessionContext) context.sessionContext()).setTicketKeys(keys.current, keys.previous);
+            }
+            context.attributes().attr(TICKET_KEYS_GENERATION).set(keys.generation);
+        }
+    }
+
+    private TicketKeys currentTicketKeys() {
+        TicketKeys keys = ticketKeys;
+        if (rotationIntervalNanos > 0 && nanoTime() - keys.createdNanos >= rotationIntervalNanos) {
+            synchronized (this) {
+                keys = ticketKeys;
+                final long nowNanos = nanoTime();
+                if (nowNanos - keys.createdNanos >= rotationIntervalNanos) {
+                    keys = new TicketKeys(keys.generation + 1, nowNanos, newTicketKey(), keys.current);
+                    ticketKeys = keys;
+                }
+            }
+        }
+        return keys;
+    }
+
+    private static OpenSslSessionTicketKey newTicketKey() {
+        final byte[] name = new byte[TICKET_KEY_PART_BYTES];
+        final byte[] hmacKey = new byte[TICKET_KEY_PART_BYTES];
+        final byte[] aesKey = new byte[TICKET_KEY_PART_BYTES];
+        RANDOM.nextBytes(name);
+        RANDOM.nextBytes(hmacKey);
+        RANDOM.nextBytes(aesKey);
+        return new OpenSslSessionTicketKey(name, hmacKey, aesKey);
+    }
+
+    private static final class TicketKeys {
+        final long generation;
+        final long createdNanos;
+        final OpenSslSessionTicketKey current;
+        @Nullable
+        final OpenSslSessionTicketKey previous;
+
+        TicketKeys(final long generation, final long createdNanos, final OpenSslSessionTicketKey current,
+                   @Nullable final OpenSslSessionTicketKey previous) {
+            this.generation = generation;
+            this.createdNanos = createdNanos;
+            this.current = current;
+            this.previous = previous;
+        }
+    }
+}
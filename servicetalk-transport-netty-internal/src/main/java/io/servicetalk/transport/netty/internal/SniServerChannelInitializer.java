@@ -1,5 +1,5 @@
 /*
- * Copyright © 2021, 2023 Apple Inc. and the ServiceTalk project authors
+ * Copyright © 2021, 2023, 2026 Apple Inc. and the ServiceTalk project authors
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,18 +15,22 @@
  */
 package io.servicetalk.transport.netty.internal;
 
+import io.servicetalk.concurrent.Executor;
+
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.handler.ssl.SniHandler;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslHandler;
+import io.netty.util.AsyncMapping;
 import io.netty.util.Mapping;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import javax.annotation.Nullable;
 import javax.net.ssl.SSLEngine;
 
 import static io.servicetalk.transport.netty.internal.SslUtils.newServerSslHandler;
@@ -63,6 +67,8 @@ public final class SniServerChannelInitializer implements ChannelInitializer {
     }
 
     private final Mapping<String, SslContext> sniMapping;
+    @Nullable
+    private final AsyncMapping<String, SslContext> asyncSniMapping;
     private final int maxClientHelloLength;
     private final long clientHelloTimeoutMillis;
 
@@ -92,13 +98,42 @@ public final class SniServerChannelInitializer implements ChannelInitializer {
     public SniServerChannelInitializer(final Mapping<String, SslContext> sniMapping,
                                        final int maxClientHelloLength,
                                        final long clientHelloTimeoutMillis) {
+        this(sniMapping, maxClientHelloLength, clientHelloTimeoutMillis, null);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param sniMapping to use for SNI configuration.
+     * @param maxClientHelloLength The maximum length of a
+     * <a href="https://www.rfc-editor.org/rfc/rfc5246#section-7.4.1.2">ClientHello</a> message in bytes, up to
+     * {@code 2^24 - 1} bytes. Zero ({@code 0}) disables validation.
+     * @param clientHelloTimeoutMillis The timeout in milliseconds for waiting until
+     * <a href="https://www.rfc-editor.org/rfc/rfc5246#section-7.4.1.2">ClientHello</a> message is received.
+     * Zero ({@code 0}) disables timeout.
+     * @param offloadExecutor {@link Executor} to create {@link SslContext}s of a {@link LruSniMapping} on, or
+     * {@code null} to create them on the IO thread.
+     */
+    public SniServerChannelInitializer(final Mapping<String, SslContext> sniMapping,
+                                       final int maxClientHelloLength,
+                                       final long clientHelloTimeoutMillis,
+                                       @Nullable final Executor offloadExecutor) {
         this.sniMapping = requireNonNull(sniMapping);
+        this.asyncSniMapping = offloadExecutor != null && sniMapping instanceof LruSniMapping ?
+                ((LruSniMapping) sniMapping).asyncMapping(offloadExecutor) : null;
         this.maxClientHelloLength = maxClientHelloLength;
         this.clientHelloTimeoutMillis = clientHelloTimeoutMillis;
     }
 
     @Override
     public void init(final Channel channel) {
+        if (asyncSniMapping != null) {
+            channel.pipeline().addLast(CAN_SET_ALL_SETTINGS ?
+                    new SniHandlerWithAllSettings(asyncSniMapping, maxClientHelloLength, clientHelloTimeoutMillis,
+                            channel) :
+                    new SniHandlerWithPooledAllocator(asyncSniMapping, channel));
+            return;
+        }
         channel.pipeline().addLast(CAN_SET_ALL_SETTINGS ?
                 new SniHandlerWithAllSettings(sniMapping, maxClientHelloLength, clientHelloTimeoutMillis, channel) :
                 new SniHandlerWithPooledAllocator(sniMapping, channel));
@@ -117,6 +152,11 @@ public final class SniServerChannelInitializer implements ChannelInitializer {
             this.channel = channel;
         }
 
+        SniHandlerWithPooledAllocator(final AsyncMapping<String, SslContext> mapping, final Channel channel) {
+            super(mapping);
+            this.channel = channel;
+        }
+
         @Override
         protected SslHandler newSslHandler(final SslContext context, final ByteBufAllocator ignore) {
             return newServerSslHandler(context, channel);
@@ -135,6 +175,14 @@ public final class SniServerChannelInitializer implements ChannelInitializer {
             this.channel = channel;
         }
 
+        SniHandlerWithAllSettings(final AsyncMapping<String, SslContext> mapping,
+                                  final int maxClientHelloLength,
+                                  final long clientHelloTimeoutMillis,
+                                  final Channel channel) {
+            super(mapping, maxClientHelloLength, clientHelloTimeoutMillis);
+            this.channel = channel;
+        }
+
         @Override
         protected SslHandler newSslHandler(final SslContext context, final ByteBufAllocator ignore) {
             return newServerSslHandler(context, channel);
@@ -17,6 +17,7 @@ package io.servicetalk.transport.netty.internal;
 
 import io.servicetalk.transport.api.ServiceTalkSocketOptions;
 
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelConfig;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.WriteBufferWaterMark;
@@ -108,6 +109,29 @@ public final class SocketOptionUtils {
         throw unsupported(option);
     }
 
+    /**
+     * Get a {@link SocketOption} value from {@link ChannelConfig}, supporting socket options that have to be queried
+     * from the socket itself (e.g. {@link ServiceTalkSocketOptions#TCP_INFO TCP_INFO}).
+     *
+     * @param option the {@link SocketOption} to get
+     * @param socketChannel the {@link Channel} which owns the socket
+     * @param config the {@link ChannelConfig} to get the {@link SocketOption} from
+     * @param idleTimeoutMs value for {@link ServiceTalkSocketOptions#IDLE_TIMEOUT IDLE_TIMEOUT} socket option
+     * @param <T> the type of the {@link SocketOption} value
+     * @return a value of the {@link SocketOption} of type {@code T} or {@code null} if the {@link ChannelConfig} does
+     * not have a value for requested {@link SocketOption}
+     * @throws IllegalArgumentException if the specified {@link SocketOption} is not supported
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T> T getOption(final SocketOption<T> option, final Channel socketChannel,
+                                  final ChannelConfig config, final Long idleTimeoutMs) {
+        if (option == ServiceTalkSocketOptions.TCP_INFO) {
+            return (T) TcpInfoSampler.sample(socketChannel);
+        }
+        return getOption(option, config, idleTimeoutMs);
+    }
+
     private static <T> IllegalArgumentException unsupported(final SocketOption<T> option) {
         return new IllegalArgumentException("SocketOption(" + option.name() + ", " + option.type().getName() +
                 ") is not supported");
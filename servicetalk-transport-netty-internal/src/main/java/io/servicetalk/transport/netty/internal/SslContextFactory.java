@@ -21,6 +21,7 @@ import io.servicetalk.transport.api.ClientSslConfig;
 import io.servicetalk.transport.api.ServerSslConfig;
 import io.servicetalk.transport.api.SslConfig;
 import io.servicetalk.transport.api.SslConfig.CipherSuiteFilter;
+import io.servicetalk.transport.api.SslSessionCache;
 
 import io.netty.handler.ssl.ClientAuth;
 import io.netty.handler.ssl.IdentityCipherSuiteFilter;
@@ -39,12 +40,14 @@ import java.io.InputStream;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLException;
 
 import static io.netty.handler.ssl.OpenSslContextOption.MAX_CERTIFICATE_LIST_BYTES;
+import static io.netty.handler.ssl.OpenSslContextOption.USE_TASKS;
 import static io.netty.util.AttributeKey.newInstance;
 import static io.servicetalk.transport.netty.internal.BuilderUtils.closeAndRethrowUnchecked;
 import static io.servicetalk.transport.netty.internal.SslUtils.nettyApplicationProtocol;
@@ -58,6 +61,7 @@ import static java.lang.invoke.MethodType.methodType;
 public final class SslContextFactory {
 
     static final AttributeKey<Long> HANDSHAKE_TIMEOUT_MILLIS = newInstance("HANDSHAKE_TIMEOUT_MILLIS");
+    static final AttributeKey<Executor> HANDSHAKE_TASK_EXECUTOR = newInstance("HANDSHAKE_TASK_EXECUTOR");
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SslContextFactory.class);
 
@@ -130,11 +134,20 @@ public final class SslContextFactory {
 
     /**
      * A new context for a client using the passed {@code config}.
+     * <p>
+     * If the {@code config} has a {@link ClientSslConfig#sessionCache() session cache}, the returned context may be
+     * shared with other clients which use an equivalent {@code config}.
      *
      * @param config SSL config.
      * @return A new {@link SslContext} for a client.
      */
     public static SslContext forClient(ClientSslConfig config) {
+        final SslSessionCache sessionCache = config.sessionCache();
+        return sessionCache == null ? newClientContext(config) :
+                SharedSslSessions.forCache(sessionCache).clientContext(config, () -> newClientContext(config));
+    }
+
+    private static SslContext newClientContext(ClientSslConfig config) {
         final SslContextBuilder builder = SslContextBuilder.forClient();
         setEndpointIdentificationAlgorithm(ENDPOINT_IDENTIFICATION_ALGORITHM, builder,
                 config.hostnameVerificationAlgorithm());
@@ -201,7 +214,12 @@ public final class SslContextFactory {
                 throw new IllegalArgumentException("Unsupported SslClientAuthMode: " + config.clientAuthMode());
         }
 
-        return configureBuilder(config, builder, true);
+        final SslContext sslContext = configureBuilder(config, builder, true);
+        final SslSessionCache sessionCache = config.sessionCache();
+        if (sessionCache != null) {
+            SharedSslSessions.forCache(sessionCache).initServerContext(sslContext, sessionCache);
+        }
+        return sslContext;
     }
 
     private static void configureTrustManager(SslConfig config, SslContextBuilder builder) {
@@ -281,6 +299,10 @@ public final class SslContextFactory {
         if (maxCertificateListBytes > 0) {
             builder.option(MAX_CERTIFICATE_LIST_BYTES, maxCertificateListBytes);
         }
+        if (config.handshakeTaskExecutor() != null) {
+            // OpenSSL runs certificate validation and key operations inline unless delegated tasks are enabled.
+            builder.option(USE_TASKS, true);
+        }
     }
 
     private static SslContext configureBuilder(SslConfig config, SslContextBuilder builder, boolean forServer) {
@@ -288,8 +310,10 @@ public final class SslContextFactory {
         List<String> alpnProtocols = config.alpnProtocols();
         SslProvider nettySslProvider =
                 toNettySslProvider(config.provider(), alpnProtocols != null && !alpnProtocols.isEmpty());
-        builder.sessionCacheSize(config.sessionCacheSize())
-                .sessionTimeout(config.sessionTimeout())
+        final SslSessionCache sessionCache = config.sessionCache();
+        builder.sessionCacheSize(sessionCache == null ? config.sessionCacheSize() : sessionCache.maxSessions())
+                .sessionTimeout(sessionCache == null ? config.sessionTimeout() :
+                        sessionCache.sessionTimeout().getSeconds())
                 .applicationProtocolConfig(nettyApplicationProtocol(alpnProtocols))
                 .sslProvider(toNettySslProvider(config.provider(), alpnProtocols != null && !alpnProtocols.isEmpty()))
                 .protocols(config.sslProtocols())
@@ -305,6 +329,7 @@ public final class SslContextFactory {
             throw new IllegalArgumentException("Failed to build SslContext", e);
         }
         sslContext.attributes().attr(HANDSHAKE_TIMEOUT_MILLIS).set(config.handshakeTimeout().toMillis());
+        sslContext.attributes().attr(HANDSHAKE_TASK_EXECUTOR).set(config.handshakeTaskExecutor());
         return sslContext;
     }
 
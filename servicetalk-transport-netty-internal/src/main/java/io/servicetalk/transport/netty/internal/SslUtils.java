@@ -17,6 +17,7 @@ package io.servicetalk.transport.netty.internal;
 
 import io.servicetalk.transport.api.ClientSslConfig;
 import io.servicetalk.transport.api.ConnectionObserver.SecurityHandshakeObserver;
+import io.servicetalk.transport.api.SslSessionCache;
 import io.servicetalk.transport.netty.internal.ConnectionObserverInitializer.ConnectionObserverHandler;
 import io.servicetalk.transport.netty.internal.NoopTransportObserver.NoopSecurityHandshakeObserver;
 
@@ -30,6 +31,9 @@ import io.netty.util.ReferenceCountUtil;
 
 import java.net.InetSocketAddress;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import javax.annotation.Nullable;
 import javax.net.ssl.SNIHostName;
 import javax.net.ssl.SSLEngine;
@@ -41,7 +45,11 @@ import static io.netty.handler.ssl.ApplicationProtocolConfig.SelectorFailureBeha
 import static io.netty.handler.ssl.SslProvider.isAlpnSupported;
 import static io.servicetalk.transport.netty.internal.ChannelCloseUtils.assignConnectionError;
 import static io.servicetalk.transport.netty.internal.CopyByteBufHandlerChannelInitializer.POOLED_ALLOCATOR;
+import static io.servicetalk.transport.netty.internal.SharedSslSessions.SESSION_CACHE;
+import static io.servicetalk.transport.netty.internal.SslContextFactory.HANDSHAKE_TASK_EXECUTOR;
 import static io.servicetalk.transport.netty.internal.SslContextFactory.HANDSHAKE_TIMEOUT_MILLIS;
+import static java.lang.System.currentTimeMillis;
+import static java.lang.System.nanoTime;
 import static java.util.Collections.singletonList;
 
 /**
@@ -63,8 +71,11 @@ final class SslUtils {
      */
     static SslHandler newClientSslHandler(final SslContext context, final ClientSslConfig sslConfig,
                                           final Channel channel) {
-        SslHandler handler = context.newHandler(POOLED_ALLOCATOR, sslConfig.peerHost(), sslConfig.peerPort());
-        observeHandshakeCompletion(handler, channel);
+        final Executor taskExecutor = handshakeTaskExecutor(context, channel);
+        SslHandler handler = taskExecutor == null ?
+                context.newHandler(POOLED_ALLOCATOR, sslConfig.peerHost(), sslConfig.peerPort()) :
+                context.newHandler(POOLED_ALLOCATOR, sslConfig.peerHost(), sslConfig.peerPort(), taskExecutor);
+        observeHandshakeCompletion(handler, channel, sslConfig.sessionCache(), taskExecutor);
         setHandshakeTimeout(handler, context);
         SSLEngine engine = handler.engine();
         try {
@@ -96,19 +107,38 @@ final class SslUtils {
      * @return a {@link SslHandler}
      */
     static SslHandler newServerSslHandler(final SslContext context, final Channel channel) {
-        SslHandler handler = context.newHandler(POOLED_ALLOCATOR);
-        observeHandshakeCompletion(handler, channel);
+        SharedSslSessions.beforeServerHandshake(context);
+        final Executor taskExecutor = handshakeTaskExecutor(context, channel);
+        SslHandler handler = taskExecutor == null ? context.newHandler(POOLED_ALLOCATOR) :
+                context.newHandler(POOLED_ALLOCATOR, taskExecutor);
+        observeHandshakeCompletion(handler, channel, context.attributes().attr(SESSION_CACHE).get(), taskExecutor);
         setHandshakeTimeout(handler, context);
         return handler;
     }
 
-    private static void observeHandshakeCompletion(final SslHandler sslHandler, final Channel channel) {
+    private static void observeHandshakeCompletion(final SslHandler sslHandler, final Channel channel,
+                                                   @Nullable final SslSessionCache sessionCache,
+                                                   @Nullable final Executor taskExecutor) {
+        if (sessionCache != null) {
+            final long startMillis = currentTimeMillis();
+            sslHandler.handshakeFuture().addListener(f -> {
+                if (f.isSuccess()) {
+                    // A resumed session keeps the creation time of the full handshake which established it. This is a
+                    // heuristic: a session created within the same millisecond as this handshake started, or a
+                    // provider which creates a new session object when resuming, is counted as a full handshake.
+                    sessionCache.handshakeComplete(sslHandler.engine().getSession().getCreationTime() < startMillis);
+                }
+            });
+        }
         final ConnectionObserverHandler observerHandler = channel.pipeline().get(ConnectionObserverHandler.class);
         if (observerHandler == null) {
             return;
         }
         sslHandler.handshakeFuture().addListener(f -> {
             SecurityHandshakeObserver handshakeObserver = getHandshakeObserver(observerHandler);
+            if (taskExecutor instanceof ObservedHandshakeTaskExecutor) {
+                ((ObservedHandshakeTaskExecutor) taskExecutor).handshakeEnded();
+            }
             final Throwable cause = f.cause();
             if (cause == null) {
                 handshakeObserver.handshakeComplete(sslHandler.engine().getSession());
@@ -119,6 +149,19 @@ final class SslUtils {
         });
     }
 
+    @Nullable
+    private static Executor handshakeTaskExecutor(final SslContext context, final Channel channel) {
+        final Executor executor = context.attributes().attr(HANDSHAKE_TASK_EXECUTOR).get();
+        if (executor == null) {
+            return null;
+        }
+        final ConnectionObserverHandler observerHandler = channel.pipeline().get(ConnectionObserverHandler.class);
+        if (observerHandler == null) {
+            return executor;
+        }
+        return new ObservedHandshakeTaskExecutor(executor, channel, observerHandler);
+    }
+
     private static SecurityHandshakeObserver getHandshakeObserver(final ConnectionObserverHandler handler) {
         final SecurityHandshakeObserver handshakeObserver = handler.handshakeObserver();
         if (handshakeObserver == null) {
@@ -129,6 +172,69 @@ final class SslUtils {
         return handshakeObserver;
     }
 
+    /**
+     * Runs delegated handshake tasks on the configured {@link Executor} and reports them to the
+     * {@link SecurityHandshakeObserver} on the event loop.
+     * <p>
+     * {@link SslHandler} schedules the resumption of the handshake on the event loop from within the task, so the
+     * handshake may complete before the task thread can report. Timings are recorded on the task thread and reported
+     * as they arrive on the event loop, those which arrive after the handshake ended are dropped.
+     */
+    private static final class ObservedHandshakeTaskExecutor implements Executor {
+        private final Executor executor;
+        private final Channel channel;
+        private final ConnectionObserverHandler observerHandler;
+        private final Queue<long[]> completedTasks = new ConcurrentLinkedQueue<>();
+        /**
+         * Only accessed from the event loop.
+         */
+        private boolean handshakeEnded;
+
+        ObservedHandshakeTaskExecutor(final Executor executor, final Channel channel,
+                                      final ConnectionObserverHandler observerHandler) {
+            this.executor = executor;
+            this.channel = channel;
+            this.observerHandler = observerHandler;
+        }
+
+        @Override
+        public void execute(final Runnable task) {
+            final long submitNanos = nanoTime();
+            executor.execute(() -> {
+                final long startNanos = nanoTime();
+                try {
+                    task.run();
+                } finally {
+                    completedTasks.add(new long[] {startNanos - submitNanos, nanoTime() - startNanos});
+                    // Observers expect callbacks on the IO thread.
+                    channel.eventLoop().execute(this::reportCompletedTasks);
+                }
+            });
+        }
+
+        /**
+         * Report the tasks which are already recorded and drop those recorded later. Must be called before the
+         * {@link SecurityHandshakeObserver} is notified that the handshake ended.
+         */
+        void handshakeEnded() {
+            assert channel.eventLoop().inEventLoop();
+            reportCompletedTasks();
+            handshakeEnded = true;
+        }
+
+        private void reportCompletedTasks() {
+            assert channel.eventLoop().inEventLoop();
+            if (handshakeEnded) {
+                completedTasks.clear();
+                return;
+            }
+            long[] task;
+            while ((task = completedTasks.poll()) != null) {
+                getHandshakeObserver(observerHandler).handshakeTaskComplete(task[0], task[1]);
+            }
+        }
+    }
+
     private static void setHandshakeTimeout(SslHandler handler, SslContext context) {
         handler.setHandshakeTimeoutMillis(context.attributes().attr(HANDSHAKE_TIMEOUT_MILLIS).get());
     }
@@ -0,0 +1,219 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.netty.internal;
+
+import io.servicetalk.transport.api.ConnectionObserver;
+import io.servicetalk.transport.api.TcpInfo;
+import io.servicetalk.transport.netty.internal.IdleTimingWheel.Entry;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelException;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.epoll.EpollTcpInfo;
+
+import javax.annotation.Nullable;
+
+/**
+ * Periodically samples {@code TCP_INFO} of a connection and reports it to
+ * {@link ConnectionObserver#onTcpInfo(TcpInfo)}. A final sample is reported before a locally initiated close because
+ * the socket is no longer accessible once the channel is inactive.
+ * <p>
+ * Samples are driven by the {@link IdleTimingWheel} shared by all channels of the event loop rather than a timer per
+ * channel. The {@link Entry} never records activity, so it is notified once per interval, rounded up to
+ * {@link IdleTimingWheel#TICK_NANOS}.
+ * <p>
+ * Only {@link EpollSocketChannel} exposes {@code TCP_INFO}, connections of other transports are not sampled.
+ */
+final class TcpInfoSampler extends ChannelDuplexHandler {
+
+    private final ConnectionObserver observer;
+    private final long intervalNanos;
+    @Nullable
+    private IdleTimingWheel wheel;
+    @Nullable
+    private Entry entry;
+
+    TcpInfoSampler(final ConnectionObserver observer, final long intervalNanos) {
+        assert intervalNanos > 0;
+        this.observer = observer;
+        this.intervalNanos = intervalNanos;
+    }
+
+    /**
+     * Determines if {@code TCP_INFO} can be sampled for the passed {@link Channel}.
+     *
+     * @param channel the {@link Channel} to check
+     * @return {@code true} if {@code TCP_INFO} can be sampled for the passed {@link Channel}
+     */
+    static boolean isSupported(final Channel channel) {
+        return channel instanceof EpollSocketChannel;
+    }
+
+    /**
+     * Takes a {@code TCP_INFO} snapshot of the passed {@link Channel}.
+     *
+     * @param channel the {@link Channel} to sample
+     * @return a {@link TcpInfo} snapshot or {@code null} if {@code TCP_INFO} is not supported by the {@link Channel} or
+     * the socket is already closed
+     */
+    @Nullable
+    static TcpInfo sample(final Channel channel) {
+        if (!isSupported(channel) || !channel.isOpen()) {
+            return null;
+        }
+        try {
+            return new EpollTcpInfoSnapshot(((EpollSocketChannel) channel).tcpInfo());
+        } catch (ChannelException e) {
+            // The socket has been closed concurrently.
+            return null;
+        }
+    }
+
+    @Override
+    public void handlerAdded(final ChannelHandlerContext ctx) {
+        if (ctx.channel().isActive() && ctx.channel().isRegistered()) {
+            startSampling(ctx);
+        }
+    }
+
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext ctx) {
+        stopSampling();
+    }
+
+    @Override
+    public void channelRegistered(final ChannelHandlerContext ctx) {
+        if (ctx.channel().isActive()) {
+            startSampling(ctx);
+        }
+        ctx.fireChannelRegistered();
+    }
+
+    @Override
+    public void channelActive(final ChannelHandlerContext ctx) {
+        startSampling(ctx);
+        ctx.fireChannelActive();
+    }
+
+    @Override
+    public void channelInactive(final ChannelHandlerContext ctx) {
+        stopSampling();
+        ctx.fireChannelInactive();
+    }
+
+    @Override
+    public void close(final ChannelHandlerContext ctx, final ChannelPromise promise) {
+        if (entry != null) {
+            stopSampling();
+            report(ctx.channel());
+        }
+        ctx.close(promise);
+    }
+
+    private void startSampling(final ChannelHandlerContext ctx) {
+        if (entry != null || !ctx.channel().isOpen()) {
+            return;
+        }
+        final Channel channel = ctx.channel();
+        final IdleTimingWheel wheel = IdleTimingWheel.forEventLoop(channel.eventLoop());
+        final Entry entry = new Entry(intervalNanos) {
+            @Override
+            void onIdle() {
+                report(channel);
+            }
+
+            @Override
+            public String toString() {
+                return channel + " TCP_INFO sampling";
+            }
+        };
+        wheel.add(entry);
+        this.wheel = wheel;
+        this.entry = entry;
+    }
+
+    private void stopSampling() {
+        final Entry entry = this.entry;
+        if (entry != null) {
+            assert wheel != null;
+            wheel.remove(entry);
+            this.entry = null;
+            wheel = null;
+        }
+    }
+
+    private void report(final Channel channel) {
+        final TcpInfo tcpInfo = sample(channel);
+        if (tcpInfo != null) {
+            observer.onTcpInfo(tcpInfo);
+        }
+    }
+
+    private static final class EpollTcpInfoSnapshot implements TcpInfo {
+        private final long rttMicros;
+        private final long rttVarianceMicros;
+        private final long totalRetransmits;
+        private final long congestionWindow;
+        private final long unackedSegments;
+
+        EpollTcpInfoSnapshot(final EpollTcpInfo info) {
+            rttMicros = info.rtt();
+            rttVarianceMicros = info.rttvar();
+            totalRetransmits = info.totalRetrans();
+            congestionWindow = info.sndCwnd();
+            unackedSegments = info.unacked();
+        }
+
+        @Override
+        public long rttMicros() {
+            return rttMicros;
+        }
+
+        @Override
+        public long rttVarianceMicros() {
+            return rttVarianceMicros;
+        }
+
+        @Override
+        public long totalRetransmits() {
+            return totalRetransmits;
+        }
+
+        @Override
+        public long congestionWindow() {
+            return congestionWindow;
+        }
+
+        @Override
+        public long unackedSegments() {
+            return unackedSegments;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() +
+                    "{rttMicros=" + rttMicros +
+                    ", rttVarianceMicros=" + rttVarianceMicros +
+                    ", totalRetransmits=" + totalRetransmits +
+                    ", congestionWindow=" + congestionWindow +
+                    ", unackedSegments=" + unackedSegments +
+                    '}';
+        }
+    }
+}
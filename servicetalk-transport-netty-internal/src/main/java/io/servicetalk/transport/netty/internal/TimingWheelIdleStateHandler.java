@@ -0,0 +1,168 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.netty.internal;
+
+import io.servicetalk.transport.netty.internal.IdleTimingWheel.Entry;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.timeout.IdleStateHandler;
+
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.utils.internal.NumberUtils.ensurePositive;
+
+/**
+ * Detects when a channel neither read nor completed a write for a configured duration, similar to an
+ * {@link IdleStateHandler} which only observes all idleness.
+ * <p>
+ * Instead of scheduling a timer per channel, all channels of an event loop share a single timing wheel and activity
+ * only records a timestamp. This avoids timer churn for large numbers of mostly idle connections. Idleness is detected
+ * with a granularity of 100 milliseconds, it is never reported before the configured duration elapsed.
+ */
+public abstract class TimingWheelIdleStateHandler extends ChannelDuplexHandler {
+    private static final byte INIT = 0;
+    private static final byte ACTIVE = 1;
+    private static final byte DESTROYED = 2;
+
+    private final long idleTimeoutNanos;
+    private final ChannelFutureListener writeListener = future -> touch();
+    @Nullable
+    private IdleTimingWheel wheel;
+    @Nullable
+    private Entry entry;
+    private byte state;
+    private boolean reading;
+
+    /**
+     * New instance.
+     *
+     * @param idleTimeout duration of inactivity after which {@link #channelIdle(ChannelHandlerContext)} is invoked.
+     * @param unit {@link TimeUnit} of {@code idleTimeout}.
+     */
+    protected TimingWheelIdleStateHandler(final long idleTimeout, final TimeUnit unit) {
+        this.idleTimeoutNanos = ensurePositive(unit.toNanos(idleTimeout), "idleTimeout");
+    }
+
+    /**
+     * Invoked on the event loop when the channel neither read nor completed a write for the configured duration.
+     * Detection continues after this method returns, unless this handler is removed from the pipeline.
+     *
+     * @param ctx the {@link ChannelHandlerContext} of this handler.
+     */
+    protected abstract void channelIdle(ChannelHandlerContext ctx);
+
+    @Override
+    public void handlerAdded(final ChannelHandlerContext ctx) {
+        if (ctx.channel().isActive() && ctx.channel().isRegistered()) {
+            initialize(ctx);
+        }
+    }
+
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext ctx) {
+        destroy();
+    }
+
+    @Override
+    public void channelRegistered(final ChannelHandlerContext ctx) throws Exception {
+        if (ctx.channel().isActive()) {
+            initialize(ctx);
+        }
+        super.channelRegistered(ctx);
+    }
+
+    @Override
+    public void channelActive(final ChannelHandlerContext ctx) throws Exception {
+        initialize(ctx);
+        super.channelActive(ctx);
+    }
+
+    @Override
+    public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
+        destroy();
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+        reading = true;
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void channelReadComplete(final ChannelHandlerContext ctx) {
+        if (reading) {
+            reading = false;
+            touch();
+        }
+        ctx.fireChannelReadComplete();
+    }
+
+    @Override
+    public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) {
+        if (entry != null) {
+            // Like IdleStateHandler, only a completed write is activity. A flush of writes which never complete (e.g.
+            // the peer does not read) must not keep the channel from being detected as idle.
+            ctx.write(msg, promise.unvoid()).addListener(writeListener);
+        } else {
+            ctx.write(msg, promise);
+        }
+    }
+
+    private void touch() {
+        final Entry entry = this.entry;
+        if (entry != null) {
+            assert wheel != null;
+            entry.lastActivityNanos = wheel.nanoTime();
+        }
+    }
+
+    private void initialize(final ChannelHandlerContext ctx) {
+        if (state != INIT) {
+            return;
+        }
+        state = ACTIVE;
+        final IdleTimingWheel wheel = IdleTimingWheel.forEventLoop(ctx.channel().eventLoop());
+        final Entry entry = new Entry(idleTimeoutNanos) {
+            @Override
+            void onIdle() {
+                channelIdle(ctx);
+            }
+
+            @Override
+            public String toString() {
+                return ctx.channel() + " idle timeout";
+            }
+        };
+        wheel.add(entry);
+        this.wheel = wheel;
+        this.entry = entry;
+    }
+
+    private void destroy() {
+        state = DESTROYED;
+        if (entry != null) {
+            assert wheel != null;
+            wheel.remove(entry);
+            entry = null;
+            wheel = null;
+        }
+    }
+}
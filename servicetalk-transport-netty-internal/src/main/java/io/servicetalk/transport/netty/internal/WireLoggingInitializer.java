@@ -16,19 +16,35 @@
 package io.servicetalk.transport.netty.internal;
 
 import io.servicetalk.logging.api.LogLevel;
+import io.servicetalk.logging.slf4j.internal.FixedLevelLogger;
+import io.servicetalk.transport.api.WireLoggingPolicy;
 
 import io.netty.channel.Channel;
 
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BooleanSupplier;
 
 import static io.servicetalk.logging.slf4j.internal.Slf4jFixedLevelLoggers.newLogger;
+import static java.lang.System.nanoTime;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
  * A {@link ChannelInitializer} that enables wire-logging for all channels.
  * All wire events will be logged at trace level.
+ * <p>
+ * A {@link WireLoggingPolicy} can limit wire-logging to a subset of channels, or capture the most recent events of
+ * each channel in memory and log them only when the channel fails or {@link #dumpWireLog(Channel)} is invoked.
  */
 public class WireLoggingInitializer implements ChannelInitializer {
+    private static final long RATE_LIMIT_WINDOW_NANOS = SECONDS.toNanos(1);
+
+    private final FixedLevelLogger logger;
+    private final BooleanSupplier logUserData;
+    private final WireLoggingPolicy policy;
     private final ServiceTalkWireLogger loggingHandler;
+    private long rateLimitWindowStartNanos = nanoTime();
+    private int rateLimitWindowConnections;
 
     /**
      * Create an instance.
@@ -40,11 +56,79 @@ public class WireLoggingInitializer implements ChannelInitializer {
     public WireLoggingInitializer(final String loggerName,
                                   final LogLevel logLevel,
                                   final BooleanSupplier logUserData) {
-        loggingHandler = new ServiceTalkWireLogger(newLogger(loggerName, logLevel), logUserData);
+        this(loggerName, logLevel, logUserData, WireLoggingPolicy.all());
+    }
+
+    /**
+     * Create an instance.
+     *
+     * @param loggerName The logger name to use for log wire events.
+     * @param logLevel The level to log at.
+     * @param logUserData {@code true} to log user data. {@code false} to not log user data.
+     * @param policy {@link WireLoggingPolicy} which defines which channels are logged, and how.
+     */
+    public WireLoggingInitializer(final String loggerName,
+                                  final LogLevel logLevel,
+                                  final BooleanSupplier logUserData,
+                                  final WireLoggingPolicy policy) {
+        this.logger = newLogger(loggerName, logLevel);
+        this.logUserData = requireNonNull(logUserData);
+        this.policy = requireNonNull(policy);
+        loggingHandler = new ServiceTalkWireLogger(logger, logUserData);
     }
 
     @Override
     public void init(Channel channel) {
-        channel.pipeline().addLast(loggingHandler);
+        switch (policy.mode()) {
+            case SAMPLED:
+                if (ThreadLocalRandom.current().nextDouble() < policy.connectionProbability()) {
+                    channel.pipeline().addLast(loggingHandler);
+                }
+                break;
+            case RATE_LIMITED:
+                if (tryAcquireRateLimit()) {
+                    channel.pipeline().addLast(loggingHandler);
+                }
+                break;
+            case RING_BUFFER:
+                channel.pipeline().addLast(new RingBufferWireLogger(logger, logUserData, policy.maxEvents(),
+                        policy.maxBytesPerEvent()));
+                break;
+            default:
+                channel.pipeline().addLast(loggingHandler);
+                break;
+        }
+    }
+
+    /**
+     * Logs the wire events captured for the passed {@link Channel}, or its parent {@link Channel}, if it is logged
+     * with {@link WireLoggingPolicy#ringBuffer(int, int)}. Otherwise, this method has no effect.
+     *
+     * @param channel the {@link Channel} to dump the captured wire events for.
+     */
+    public static void dumpWireLog(final Channel channel) {
+        final RingBufferWireLogger logger = channel.pipeline().get(RingBufferWireLogger.class);
+        if (logger != null) {
+            if (channel.eventLoop().inEventLoop()) {
+                logger.dump("ON_DEMAND");
+            } else {
+                channel.eventLoop().execute(() -> logger.dump("ON_DEMAND"));
+            }
+        } else if (channel.parent() != null) {
+            dumpWireLog(channel.parent());
+        }
+    }
+
+    private synchronized boolean tryAcquireRateLimit() {
+        final long nowNanos = nanoTime();
+        if (nowNanos - rateLimitWindowStartNanos >= RATE_LIMIT_WINDOW_NANOS) {
+            rateLimitWindowStartNanos = nowNanos;
+            rateLimitWindowConnections = 0;
+        }
+        if (rateLimitWindowConnections < policy.maxConnectionsPerSecond()) {
+            ++rateLimitWindowConnections;
+            return true;
+        }
+        return false;
     }
 }
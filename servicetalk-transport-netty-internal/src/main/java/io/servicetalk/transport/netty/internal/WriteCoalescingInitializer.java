@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.netty.internal;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.concurrent.PromiseNotifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.utils.internal.NumberUtils.ensurePositive;
+import static java.lang.Math.min;
+
+/**
+ * Initializes the channel with a handler which coalesces small outbound {@link ByteBuf}s between flushes into a single
+ * {@link ByteBuf}. This reduces the number of buffers (and therefore {@code iovec}s of a gathering write) the transport
+ * has to write when a protocol emits many small messages, e.g. server-sent events or gRPC messages.
+ * <p>
+ * Writes are coalesced only until the next flush, so the boundaries of the configured {@link FlushStrategy} are
+ * preserved.
+ */
+public final class WriteCoalescingInitializer implements ChannelInitializer {
+
+    /**
+     * Writes larger than this are passed through as-is, because the cost of copying them outweighs the cost of an
+     * additional buffer in a gathering write.
+     */
+    static final int MAX_COALESCED_WRITE_SIZE = 1024;
+    /**
+     * Maximum number of writes which are coalesced into a single {@link ByteBuf}.
+     */
+    static final int MAX_COALESCED_WRITES = 64;
+
+    private final int maxCoalescedBytes;
+
+    /**
+     * New instance.
+     *
+     * @param maxCoalescedBytes maximum number of bytes which can be coalesced into a single {@link ByteBuf}.
+     */
+    public WriteCoalescingInitializer(final int maxCoalescedBytes) {
+        this.maxCoalescedBytes = ensurePositive(maxCoalescedBytes, "maxCoalescedBytes");
+    }
+
+    @Override
+    public void init(final Channel channel) {
+        channel.pipeline().addLast(new WriteCoalescingHandler(maxCoalescedBytes));
+    }
+
+    static final class WriteCoalescingHandler extends ChannelOutboundHandlerAdapter {
+        private final int maxCoalescedBytes;
+        private final int maxCoalescedWriteSize;
+        private final List<ChannelPromise> promises = new ArrayList<>(4);
+        @Nullable
+        private ByteBuf pending;
+        private int pendingWrites;
+
+        WriteCoalescingHandler(final int maxCoalescedBytes) {
+            this.maxCoalescedBytes = maxCoalescedBytes;
+            this.maxCoalescedWriteSize = min(maxCoalescedBytes, MAX_COALESCED_WRITE_SIZE);
+        }
+
+        @Override
+        public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) {
+            if (msg instanceof ByteBuf) {
+                final ByteBuf buf = (ByteBuf) msg;
+                if (buf.readableBytes() <= maxCoalescedWriteSize) {
+                    coalesce(ctx, buf, promise);
+                    return;
+                }
+            }
+            writePending(ctx);
+            ctx.write(msg, promise);
+        }
+
+        @Override
+        public void flush(final ChannelHandlerContext ctx) {
+            writePending(ctx);
+            ctx.flush();
+        }
+
+        @Override
+        public void close(final ChannelHandlerContext ctx, final ChannelPromise promise) {
+            writePending(ctx);
+            ctx.close(promise);
+        }
+
+        @Override
+        public void handlerRemoved(final ChannelHandlerContext ctx) {
+            writePending(ctx);
+        }
+
+        private void coalesce(final ChannelHandlerContext ctx, final ByteBuf buf, final ChannelPromise promise) {
+            final ByteBuf pending = this.pending;
+            if (pending != null) {
+                if (pendingWrites < MAX_COALESCED_WRITES &&
+                        pending.readableBytes() + buf.readableBytes() <= maxCoalescedBytes) {
+                    try {
+                        append(ctx, pending, buf);
+                    } catch (Throwable cause) {
+                        buf.release();
+                        promise.tryFailure(cause);
+                        return;
+                    }
+                    buf.release();
+                    addPromise(promise);
+                    return;
+                }
+                writePending(ctx);
+            }
+            // Defer the copy until there is a second write, a single write per flush is passed through as-is.
+            this.pending = buf;
+            addPromise(promise);
+        }
+
+        private void append(final ChannelHandlerContext ctx, final ByteBuf pending, final ByteBuf buf) {
+            if (pendingWrites == 1) {
+                final ByteBuf cumulation = ctx.alloc().ioBuffer(maxCoalescedBytes);
+                try {
+                    cumulation.writeBytes(pending, pending.readerIndex(), pending.readableBytes()).writeBytes(buf);
+                } catch (Throwable cause) {
+                    cumulation.release();
+                    throw cause;
+                }
+                pending.release();
+                this.pending = cumulation;
+            } else {
+                pending.writeBytes(buf);
+            }
+        }
+
+        private void addPromise(final ChannelPromise promise) {
+            ++pendingWrites;
+            if (!promise.isVoid()) {
+                promises.add(promise);
+            }
+        }
+
+        private void writePending(final ChannelHandlerContext ctx) {
+            final ByteBuf pending = this.pending;
+            if (pending == null) {
+                return;
+            }
+            this.pending = null;
+            pendingWrites = 0;
+            final ChannelPromise promise;
+            if (promises.isEmpty()) {
+                promise = ctx.voidPromise();
+            } else if (promises.size() == 1) {
+                promise = promises.get(0);
+            } else {
+                promise = ctx.newPromise();
+                promise.addListener(new PromiseNotifier<>(false, promises.toArray(new ChannelPromise[0])));
+            }
+            promises.clear();
+            ctx.write(pending, promise);
+        }
+    }
+}
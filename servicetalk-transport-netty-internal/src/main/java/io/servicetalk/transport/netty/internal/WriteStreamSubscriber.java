@@ -41,6 +41,9 @@ import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 import javax.annotation.Nullable;
 
+import static io.servicetalk.buffer.netty.BufferUtils.isLeased;
+import static io.servicetalk.buffer.netty.BufferUtils.releaseTransferredLease;
+import static io.servicetalk.buffer.netty.BufferUtils.transferLeased;
 import static io.servicetalk.concurrent.Cancellable.IGNORE_CANCEL;
 import static io.servicetalk.concurrent.internal.EmptySubscriptions.newEmptySubscription;
 import static io.servicetalk.transport.netty.internal.ByteMaskUtils.isAllSet;
@@ -148,6 +151,10 @@ final class WriteStreamSubscriber implements PublisherSource.Subscriber<Object>,
 
     @Override
     public void onNext(Object o) {
+        if (isLeased(o) && !transferLeased(o)) {
+            failLeaseAlreadyReleased(o);
+            return;
+        }
         if (!enqueueWrites && !eventLoop.inEventLoop()) {
             /*
              * If any onNext comes from out of the eventloop, we should enqueue all subsequent writes and terminal
@@ -162,9 +169,30 @@ final class WriteStreamSubscriber implements PublisherSource.Subscriber<Object>,
             enqueueWrites = true;
         }
         if (enqueueWrites) {
-            eventLoop.execute(() -> doWrite(o));
+            eventLoop.execute(() -> doWriteAndReleaseLeased(o));
         } else {
-            doWrite(o);
+            doWriteAndReleaseLeased(o);
+        }
+    }
+
+    private void failLeaseAlreadyReleased(Object o) {
+        // Leased buffers are owned by the write path once written and released after the write, writing one again
+        // (e.g. a retry re-subscribed to the same payload body) or after its owner released it would send memory which
+        // may already be used by another buffer.
+        final Subscription sub = this.subscription;
+        if (sub != null) {
+            sub.cancel();
+        }
+        onError(new IllegalStateException("Leased buffer was already written or released, it can only be written " +
+                "once: " + o.getClass().getName()));
+    }
+
+    private void doWriteAndReleaseLeased(Object msg) {
+        try {
+            doWrite(msg);
+        } finally {
+            // The pipeline retains what it needs, written leased buffers are returned to their pool right away.
+            releaseTransferredLease(msg);
         }
     }
 
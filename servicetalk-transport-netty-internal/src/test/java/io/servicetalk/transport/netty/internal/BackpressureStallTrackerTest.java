@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.netty.internal;
+
+import io.servicetalk.transport.api.ConnectionObserver;
+import io.servicetalk.transport.api.ConnectionObserver.StreamObserver;
+import io.servicetalk.transport.netty.internal.NoopTransportObserver.NoopConnectionObserver;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class BackpressureStallTrackerTest {
+
+    private final ConnectionObserver observer = mock(ConnectionObserver.class);
+    private final BackpressureStallTracker tracker = BackpressureStallTracker.forConnection(observer);
+
+    @Test
+    void writeStallReportedWhenWritable() throws Exception {
+        tracker.writabilityChanged(false);
+        tracker.writabilityChanged(false);
+        Thread.sleep(5);
+        verify(observer, never()).writeStallComplete(anyLong(), anyLong());
+        tracker.writabilityChanged(true);
+
+        ArgumentCaptor<Long> stall = ArgumentCaptor.forClass(Long.class);
+        ArgumentCaptor<Long> cumulative = ArgumentCaptor.forClass(Long.class);
+        verify(observer).writeStallComplete(stall.capture(), cumulative.capture());
+        assertThat(stall.getValue(), greaterThan(0L));
+        assertThat(cumulative.getValue(), equalTo(stall.getValue()));
+
+        tracker.writabilityChanged(true);
+        tracker.writabilityChanged(false);
+        tracker.writabilityChanged(true);
+        verify(observer, times(2)).writeStallComplete(stall.capture(), cumulative.capture());
+        assertThat(cumulative.getValue(), equalTo(stall.getAllValues().get(0) + stall.getValue()));
+    }
+
+    @Test
+    void readSuspendedWithoutDemand() throws Exception {
+        tracker.beforeReadComplete();
+        tracker.afterReadComplete(false);
+        Thread.sleep(5);
+        verify(observer, never()).readSuspensionComplete(anyLong(), anyLong());
+        tracker.read();
+
+        ArgumentCaptor<Long> suspension = ArgumentCaptor.forClass(Long.class);
+        ArgumentCaptor<Long> cumulative = ArgumentCaptor.forClass(Long.class);
+        verify(observer).readSuspensionComplete(suspension.capture(), cumulative.capture());
+        assertThat(suspension.getValue(), greaterThan(0L));
+        assertThat(cumulative.getValue(), equalTo(suspension.getValue()));
+    }
+
+    @Test
+    void readNotSuspendedIfReadRequestedDuringReadComplete() {
+        tracker.beforeReadComplete();
+        tracker.read();
+        tracker.afterReadComplete(false);
+        tracker.read();
+        verify(observer, never()).readSuspensionComplete(anyLong(), anyLong());
+    }
+
+    @Test
+    void readNotSuspendedWithAutoRead() {
+        tracker.beforeReadComplete();
+        tracker.afterReadComplete(true);
+        tracker.read();
+        tracker.channelClosed();
+        verify(observer, never()).readSuspensionComplete(anyLong(), anyLong());
+    }
+
+    @Test
+    void inProgressStallsReportedOnClose() {
+        tracker.writabilityChanged(false);
+        tracker.beforeReadComplete();
+        tracker.afterReadComplete(false);
+        tracker.channelClosed();
+        verify(observer).writeStallComplete(anyLong(), anyLong());
+        verify(observer).readSuspensionComplete(anyLong(), anyLong());
+    }
+
+    @Test
+    void reportsToStreamObserver() {
+        StreamObserver streamObserver = mock(StreamObserver.class);
+        BackpressureStallTracker streamTracker = BackpressureStallTracker.forStream(streamObserver);
+        streamTracker.writabilityChanged(false);
+        streamTracker.writabilityChanged(true);
+        verify(streamObserver).writeStallComplete(anyLong(), anyLong());
+    }
+
+    @Test
+    void noopObserverIsNotTracked() {
+        BackpressureStallTracker noop = BackpressureStallTracker.forConnection(NoopConnectionObserver.INSTANCE);
+        assertThat(BackpressureStallTracker.forConnection(NoopConnectionObserver.INSTANCE), sameInstance(noop));
+        noop.writabilityChanged(false);
+        noop.beforeReadComplete();
+        noop.afterReadComplete(false);
+        noop.read();
+        noop.channelClosed();
+        verifyNoInteractions(observer);
+    }
+}
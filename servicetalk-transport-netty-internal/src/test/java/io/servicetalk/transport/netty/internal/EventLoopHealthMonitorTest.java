@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.netty.internal;
+
+import io.servicetalk.transport.api.IoExecutorObserver;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nullable;
+
+import static io.servicetalk.transport.netty.internal.NettyIoExecutors.createIoExecutor;
+import static java.time.Duration.ZERO;
+import static java.time.Duration.ofMillis;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EventLoopHealthMonitorTest {
+
+    private final BlockingQueue<Long> lags = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Integer> pendingTasks = new LinkedBlockingQueue<>();
+    private final AtomicReference<Thread> probedThread = new AtomicReference<>();
+    private final BlockingQueue<StackTraceElement[]> blocked = new LinkedBlockingQueue<>();
+    private final IoExecutorObserver observer = new IoExecutorObserver() {
+        @Override
+        public void onIoThreadProbe(final Thread ioThread, final long schedulingLagNanos, final int pending) {
+            probedThread.set(ioThread);
+            pendingTasks.add(pending);
+            lags.add(schedulingLagNanos);
+        }
+
+        @Override
+        public void onIoThreadBlocked(final Thread ioThread, final long blockedNanos,
+                                      final StackTraceElement[] stackTrace) {
+            blocked.add(stackTrace);
+        }
+    };
+    @Nullable
+    private EventLoopAwareNettyIoExecutor ioExecutor;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (ioExecutor != null) {
+            ioExecutor.closeAsync().toFuture().get();
+        }
+    }
+
+    @Test
+    void reportsProbes() throws Exception {
+        ioExecutor = createIoExecutor(1, new NettyIoThreadFactory("health"), observer, ofMillis(5), ZERO);
+        assertThat(lags.take(), greaterThanOrEqualTo(0L));
+        assertThat(pendingTasks.take(), greaterThanOrEqualTo(0));
+        Thread ioThread = probedThread.get();
+        ioExecutor.submit(() -> assertThat(Thread.currentThread(), is(ioThread))).toFuture().get();
+        // Probes keep being rescheduled.
+        lags.take();
+    }
+
+    @Test
+    void reportsSchedulingLag() throws Exception {
+        ioExecutor = createIoExecutor(1, new NettyIoThreadFactory("health"), observer, ofMillis(5), ZERO);
+        lags.take();
+        ioExecutor.submit(() -> sleep(100)).toFuture().get();
+        // A probe is always pending, so the one that ran after the blocking task must have observed the lag.
+        long lagNanos;
+        do {
+            lagNanos = lags.take();
+        } while (lagNanos < ofMillis(50).toNanos());
+    }
+
+    @Test
+    void detectsBlockedIoThread() throws Exception {
+        ioExecutor = createIoExecutor(1, new NettyIoThreadFactory("health"), observer, ofMillis(5), ofMillis(50));
+        lags.take();
+        CountDownLatch release = new CountDownLatch(1);
+        ioExecutor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        try {
+            StackTraceElement[] stackTrace = blocked.take();
+            assertThat(stackTrace, not(arrayWithSize(0)));
+            assertThat(containsFrame(stackTrace, CountDownLatch.class.getName()), is(true));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void rejectsInvalidProbeInterval() {
+        assertThrows(IllegalArgumentException.class,
+                () -> createIoExecutor(1, new NettyIoThreadFactory("health"), observer, ZERO, ZERO));
+    }
+
+    private static boolean containsFrame(final StackTraceElement[] stackTrace, final String className) {
+        for (StackTraceElement element : stackTrace) {
+            if (className.equals(element.getClassName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
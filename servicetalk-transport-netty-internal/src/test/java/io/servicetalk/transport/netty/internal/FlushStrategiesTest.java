@@ -20,18 +20,27 @@ import io.servicetalk.concurrent.api.TestSubscription;
 import io.servicetalk.transport.netty.internal.FlushStrategy.FlushSender;
 import io.servicetalk.transport.netty.internal.FlushStrategy.WriteEventsListener;
 
+import io.netty.channel.embedded.EmbeddedChannel;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import static io.servicetalk.concurrent.internal.DeliberateException.DELIBERATE_EXCEPTION;
+import static io.servicetalk.transport.netty.internal.FlushStrategies.adaptiveFlush;
 import static io.servicetalk.transport.netty.internal.FlushStrategies.flushOnEach;
 import static io.servicetalk.transport.netty.internal.FlushStrategies.flushOnEnd;
 import static io.servicetalk.transport.netty.internal.FlushStrategies.flushWith;
+import static io.servicetalk.transport.netty.internal.FlushStrategies.isAdaptiveFlush;
+import static java.time.Duration.ofDays;
+import static java.time.Duration.ofMillis;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 class FlushStrategiesTest {
 
@@ -164,6 +173,73 @@ class FlushStrategiesTest {
         assertTrue(subscription.isCancelled());
     }
 
+    @Test
+    void testAdaptiveFlushDefersToEventLoop() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        ChannelFlushSender channelFlushSender = mock(ChannelFlushSender.class);
+        when(channelFlushSender.channel()).thenReturn(channel);
+        listener = adaptiveFlush(10, ofDays(1)).apply(channelFlushSender);
+        listener.writeStarted();
+        listener.itemWritten(1);
+        listener.itemWritten(2);
+        verify(channelFlushSender, never()).flushOnEventLoop();
+        channel.runPendingTasks();
+        verify(channelFlushSender).flushOnEventLoop();
+        listener.itemWritten(3);
+        listener.writeTerminated();
+        channel.runPendingTasks();
+        verify(channelFlushSender, times(2)).flushOnEventLoop();
+        verify(channelFlushSender, never()).flush();
+    }
+
+    @Test
+    void testAdaptiveFlushMaxPendingItems() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        ChannelFlushSender channelFlushSender = mock(ChannelFlushSender.class);
+        when(channelFlushSender.channel()).thenReturn(channel);
+        listener = adaptiveFlush(2, ofDays(1)).apply(channelFlushSender);
+        listener.writeStarted();
+        listener.itemWritten(1);
+        verify(channelFlushSender, never()).flush();
+        listener.itemWritten(2);
+        verify(channelFlushSender).flush();
+        listener.itemWritten(3);
+        channel.runPendingTasks();
+        verify(channelFlushSender).flush();
+        verify(channelFlushSender).flushOnEventLoop();
+    }
+
+    @Test
+    void testAdaptiveFlushMaxDelayWithoutNextItem() throws Exception {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        ChannelFlushSender channelFlushSender = mock(ChannelFlushSender.class);
+        when(channelFlushSender.channel()).thenReturn(channel);
+        listener = adaptiveFlush(10, ofMillis(1)).apply(channelFlushSender);
+        listener.writeStarted();
+        listener.itemWritten(1);
+        verify(channelFlushSender, never()).flushOnEventLoop();
+        Thread.sleep(10);
+        // Run only the timer, the deferred flush task is still pending:
+        channel.runScheduledPendingTasks();
+        verify(channelFlushSender).flushOnEventLoop();
+        verify(channelFlushSender, never()).flush();
+    }
+
+    @Test
+    void testIsAdaptiveFlush() {
+        assertTrue(isAdaptiveFlush(adaptiveFlush(10, ofDays(1))));
+        assertFalse(isAdaptiveFlush(flushOnEach()));
+        assertFalse(isAdaptiveFlush(flushOnEnd()));
+    }
+
+    @Test
+    void testAdaptiveFlushWithoutChannelFlushesOnEach() {
+        setupFor(adaptiveFlush(10, ofDays(1)));
+        listener.itemWritten(1);
+        listener.itemWritten(2);
+        verifyFlush(2);
+    }
+
     private void setupFor(FlushStrategy strategy) {
         listener = strategy.apply(flushSender);
         listener.writeStarted();
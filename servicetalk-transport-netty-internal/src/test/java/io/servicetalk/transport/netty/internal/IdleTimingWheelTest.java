@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.netty.internal;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.servicetalk.transport.netty.internal.IdleTimingWheel.TICK_NANOS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+class IdleTimingWheelTest {
+
+    private final EmbeddedChannel channel = new EmbeddedChannel();
+    private final List<TestEntry> idle = new ArrayList<>();
+    private long nowNanos;
+    private final IdleTimingWheel wheel = new IdleTimingWheel(channel.eventLoop(), () -> nowNanos);
+
+    @AfterEach
+    void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void notifiesAfterTimeout() {
+        TestEntry entry = new TestEntry(MILLISECONDS.toNanos(250));
+        wheel.add(entry);
+        advance(MILLISECONDS.toNanos(200));
+        assertThat(idle, is(empty()));
+        advance(MILLISECONDS.toNanos(100));
+        assertThat(idle, contains(entry));
+        assertThat(wheel.size(), is(1));
+    }
+
+    @Test
+    void activityPostponesNotification() {
+        TestEntry entry = new TestEntry(SECONDS.toNanos(1));
+        wheel.add(entry);
+        advance(MILLISECONDS.toNanos(800));
+        entry.lastActivityNanos = nowNanos;
+        advance(MILLISECONDS.toNanos(800));
+        assertThat(idle, is(empty()));
+        advance(MILLISECONDS.toNanos(300));
+        assertThat(idle, contains(entry));
+    }
+
+    @Test
+    void notifiesAgainAfterAnotherTimeout() {
+        TestEntry entry = new TestEntry(MILLISECONDS.toNanos(500));
+        wheel.add(entry);
+        advance(MILLISECONDS.toNanos(500));
+        assertThat(idle, contains(entry));
+        advance(MILLISECONDS.toNanos(400));
+        assertThat(idle, contains(entry));
+        advance(MILLISECONDS.toNanos(100));
+        assertThat(idle, contains(entry, entry));
+    }
+
+    @Test
+    void removedEntryIsNotNotified() {
+        TestEntry entry = new TestEntry(MILLISECONDS.toNanos(300));
+        wheel.add(entry);
+        wheel.remove(entry);
+        wheel.remove(entry);
+        assertThat(wheel.size(), is(0));
+        advance(SECONDS.toNanos(1));
+        assertThat(idle, is(empty()));
+    }
+
+    @Test
+    void timeoutLongerThanRotation() {
+        TestEntry entry = new TestEntry(SECONDS.toNanos(120));
+        wheel.add(entry);
+        advance(SECONDS.toNanos(119));
+        assertThat(idle, is(empty()));
+        advance(SECONDS.toNanos(1));
+        assertThat(idle, contains(entry));
+    }
+
+    @Test
+    void blockedEventLoopDoesNotLoseEntries() {
+        TestEntry entry = new TestEntry(SECONDS.toNanos(5));
+        wheel.add(entry);
+        // Jump further than a full rotation in one tick.
+        nowNanos += SECONDS.toNanos(600);
+        wheel.run();
+        assertThat(idle, contains(entry));
+    }
+
+    @Test
+    void callbackMayRemoveOtherEntries() {
+        TestEntry second = new TestEntry(MILLISECONDS.toNanos(100));
+        TestEntry first = new TestEntry(MILLISECONDS.toNanos(100)) {
+            @Override
+            void onIdle() {
+                super.onIdle();
+                wheel.remove(this);
+                wheel.remove(second);
+            }
+        };
+        wheel.add(second);
+        wheel.add(first);
+        advance(MILLISECONDS.toNanos(100));
+        assertThat(idle, contains(first));
+        assertThat(wheel.size(), is(0));
+        advance(SECONDS.toNanos(1));
+        assertThat(idle, contains(first));
+    }
+
+    private void advance(long nanos) {
+        final long target = nowNanos + nanos;
+        while (nowNanos < target) {
+            nowNanos = Math.min(target, nowNanos + TICK_NANOS);
+            wheel.run();
+        }
+    }
+
+    private class TestEntry extends IdleTimingWheel.Entry {
+        TestEntry(final long timeoutNanos) {
+            super(timeoutNanos);
+        }
+
+        @Override
+        void onIdle() {
+            idle.add(this);
+        }
+    }
+}
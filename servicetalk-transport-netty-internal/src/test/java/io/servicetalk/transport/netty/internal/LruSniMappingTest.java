@@ -0,0 +1,188 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.netty.internal;
+
+import io.servicetalk.concurrent.api.Executor;
+import io.servicetalk.concurrent.api.TestExecutor;
+import io.servicetalk.test.resources.DefaultTestCerts;
+import io.servicetalk.transport.api.ServerSslConfig;
+import io.servicetalk.transport.api.ServerSslConfigBuilder;
+
+import io.netty.handler.ssl.SslContext;
+import io.netty.util.AsyncMapping;
+import io.netty.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+import static io.netty.util.concurrent.ImmediateEventExecutor.INSTANCE;
+import static io.servicetalk.concurrent.api.Executors.newCachedThreadExecutor;
+import static io.servicetalk.transport.netty.internal.SslContextFactory.forServer;
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LruSniMappingTest {
+
+    private final SslContext defaultContext = forServer(newConfig());
+    private final ServerSslConfig fooConfig = newConfig();
+    private final ServerSslConfig wildcardConfig = newConfig();
+    private final TestExecutor executor = new TestExecutor();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        executor.closeAsync().toFuture().get();
+    }
+
+    private static ServerSslConfig newConfig() {
+        return new ServerSslConfigBuilder(DefaultTestCerts::loadServerPem, DefaultTestCerts::loadServerKey).build();
+    }
+
+    private LruSniMapping newMapping(int maxContexts) {
+        Map<String, ServerSslConfig> sniConfig = new HashMap<>();
+        sniConfig.put("foo.servicetalk.io", fooConfig);
+        sniConfig.put("bar.servicetalk.io", fooConfig);
+        sniConfig.put("*.servicetalk.io", wildcardConfig);
+        return new LruSniMapping(defaultContext, sniConfig, maxContexts);
+    }
+
+    @Test
+    void unknownOrAbsentHostnameUsesDefault() {
+        LruSniMapping mapping = newMapping(10);
+        assertThat(mapping.map(null), is(sameInstance(defaultContext)));
+        assertThat(mapping.map("servicetalk.io"), is(sameInstance(defaultContext)));
+        assertThat(mapping.map("foo.netty.io"), is(sameInstance(defaultContext)));
+        // Wildcards only match the left-most label.
+        assertThat(mapping.map("a.foo.servicetalk.io"), is(sameInstance(defaultContext)));
+    }
+
+    @Test
+    void exactMatchTakesPrecedenceOverWildcard() {
+        LruSniMapping mapping = newMapping(10);
+        SslContext foo = mapping.map("FOO.servicetalk.io");
+        SslContext wildcard = mapping.map("baz.servicetalk.io");
+        assertThat(foo, is(not(sameInstance(defaultContext))));
+        assertThat(wildcard, is(not(sameInstance(defaultContext))));
+        assertThat(foo, is(not(sameInstance(wildcard))));
+        assertThat(mapping.map("foo.servicetalk.io"), is(sameInstance(foo)));
+        assertThat(mapping.map("qux.servicetalk.io"), is(sameInstance(wildcard)));
+    }
+
+    @Test
+    void hostnamesOfSameConfigShareContext() {
+        LruSniMapping mapping = newMapping(10);
+        assertThat(mapping.map("bar.servicetalk.io"), is(sameInstance(mapping.map("foo.servicetalk.io"))));
+    }
+
+    @Test
+    void leastRecentlyUsedContextIsEvicted() {
+        LruSniMapping mapping = newMapping(1);
+        SslContext foo = mapping.map("foo.servicetalk.io");
+        assertThat(mapping.map("foo.servicetalk.io"), is(sameInstance(foo)));
+        SslContext wildcard = mapping.map("baz.servicetalk.io");
+        assertThat(mapping.map("baz.servicetalk.io"), is(sameInstance(wildcard)));
+        assertThat(mapping.map("foo.servicetalk.io"), is(not(sameInstance(foo))));
+    }
+
+    @Test
+    void invalidWildcard() {
+        assertThrows(IllegalArgumentException.class, () -> new LruSniMapping(defaultContext,
+                singletonMap("foo.*.servicetalk.io", fooConfig), 1));
+        assertThrows(IllegalArgumentException.class, () -> new LruSniMapping(defaultContext,
+                singletonMap("*servicetalk.io", fooConfig), 1));
+    }
+
+    @Test
+    void invalidMaxContexts() {
+        assertThrows(IllegalArgumentException.class, () -> new LruSniMapping(defaultContext,
+                singletonMap("foo.servicetalk.io", fooConfig), 0));
+    }
+
+    @Test
+    void asyncMappingCreatesContextOnExecutor() throws Exception {
+        LruSniMapping mapping = newMapping(10);
+        AsyncMapping<String, SslContext> asyncMapping = mapping.asyncMapping(executor);
+        assertThat(asyncMapping.map(null, INSTANCE.newPromise()).getNow(), is(sameInstance(defaultContext)));
+        assertThat(asyncMapping.map("foo.netty.io", INSTANCE.newPromise()).getNow(),
+                is(sameInstance(defaultContext)));
+        assertThat(executor.queuedTasksExecuted(), is(0));
+
+        Future<SslContext> future = asyncMapping.map("foo.servicetalk.io", INSTANCE.newPromise());
+        assertThat(executor.queuedTasksExecuted(), is(0));
+        executor.executeNextTask();
+        SslContext foo = future.get();
+        assertThat(foo, is(not(sameInstance(defaultContext))));
+        assertThat(executor.queuedTasksExecuted(), is(1));
+
+        // Cached contexts complete without offloading.
+        assertThat(asyncMapping.map("bar.servicetalk.io", INSTANCE.newPromise()).getNow(), is(sameInstance(foo)));
+        assertThat(mapping.map("foo.servicetalk.io"), is(sameInstance(foo)));
+        assertThat(executor.queuedTasksExecuted(), is(1));
+    }
+
+    @Test
+    void concurrentMissesShareSingleLoad() throws Exception {
+        LruSniMapping mapping = newMapping(10);
+        AsyncMapping<String, SslContext> asyncMapping = mapping.asyncMapping(executor);
+        Future<SslContext> foo = asyncMapping.map("foo.servicetalk.io", INSTANCE.newPromise());
+        Future<SslContext> bar = asyncMapping.map("bar.servicetalk.io", INSTANCE.newPromise());
+        assertThat(executor.queuedTasksPending(), is(1));
+        executor.executeNextTask();
+        assertThat(foo.get(), is(not(sameInstance(defaultContext))));
+        assertThat(bar.get(), is(sameInstance(foo.get())));
+        assertThat(mapping.map("foo.servicetalk.io"), is(sameInstance(foo.get())));
+        assertThat(executor.queuedTasksExecuted(), is(1));
+    }
+
+    @Test
+    void asyncMappingFailsForInvalidConfig() throws Exception {
+        ServerSslConfig invalidConfig = new ServerSslConfigBuilder(DefaultTestCerts::loadServerPem,
+                () -> new ByteArrayInputStream(new byte[0])).build();
+        LruSniMapping mapping = new LruSniMapping(defaultContext,
+                singletonMap("foo.servicetalk.io", invalidConfig), 1);
+        AsyncMapping<String, SslContext> asyncMapping = mapping.asyncMapping(executor);
+
+        Future<SslContext> future = asyncMapping.map("foo.servicetalk.io", INSTANCE.newPromise());
+        executor.executeNextTask();
+        assertThat(future.await().cause(), is(notNullValue()));
+
+        // Failures are not cached.
+        future = asyncMapping.map("foo.servicetalk.io", INSTANCE.newPromise());
+        assertThat(future.isDone(), is(false));
+        executor.executeNextTask();
+        assertThat(future.await().cause(), is(notNullValue()));
+        assertThat(executor.queuedTasksExecuted(), is(2));
+    }
+
+    @Test
+    void asyncMappingFailsIfExecutorRejects() throws Exception {
+        LruSniMapping mapping = newMapping(10);
+        Executor rejecting = newCachedThreadExecutor();
+        rejecting.closeAsync().toFuture().get();
+        Future<SslContext> future = mapping.asyncMapping(rejecting)
+                .map("foo.servicetalk.io", INSTANCE.newPromise());
+        assertThat(future.await().cause(), is(instanceOf(RejectedExecutionException.class)));
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.netty.internal;
+
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.concurrent.PublisherSource.Subscription;
+import io.servicetalk.concurrent.test.internal.TestPublisherSubscriber;
+import io.servicetalk.transport.api.ConnectionInfo.Protocol;
+import io.servicetalk.transport.api.DefaultExecutionContext;
+import io.servicetalk.transport.api.ExecutionContext;
+import io.servicetalk.transport.api.ReadPrefetchPolicy;
+import io.servicetalk.transport.netty.internal.NoopTransportObserver.NoopConnectionObserver;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.servicetalk.buffer.netty.BufferAllocators.DEFAULT_ALLOCATOR;
+import static io.servicetalk.concurrent.api.Executors.immediate;
+import static io.servicetalk.concurrent.api.SourceAdapters.toSource;
+import static io.servicetalk.concurrent.internal.TestTimeoutConstants.DEFAULT_TIMEOUT_SECONDS;
+import static io.servicetalk.transport.api.ExecutionStrategy.offloadAll;
+import static io.servicetalk.transport.api.ReadPrefetchPolicy.watermarks;
+import static io.servicetalk.transport.netty.internal.CloseHandler.UNSUPPORTED_PROTOCOL_CLOSE_HANDLER;
+import static io.servicetalk.transport.netty.internal.FlushStrategies.defaultFlushStrategy;
+import static io.servicetalk.transport.netty.internal.NettyIoExecutors.fromNettyEventLoop;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class NettyChannelPublisherPrefetchTest {
+
+    private final TestPublisherSubscriber<Buffer> subscriber = new TestPublisherSubscriber<>();
+    private EmbeddedDuplexChannel channel;
+    private int reads;
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        if (!channel.close().await(DEFAULT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Channel close not finished in 1 second.");
+        }
+    }
+
+    private Subscription subscribe(ReadPrefetchPolicy policy) throws Exception {
+        channel = new EmbeddedDuplexChannel(false);
+        ExecutionContext<?> executionContext = new DefaultExecutionContext<>(DEFAULT_ALLOCATOR,
+                fromNettyEventLoop(channel.eventLoop(), false), immediate(), offloadAll());
+        ChannelInitializer initializer = new ReadPrefetchInitializer(policy).andThen(channel ->
+                channel.pipeline().addLast(new ChannelOutboundHandlerAdapter() {
+                    @Override
+                    public void read(ChannelHandlerContext ctx) throws Exception {
+                        ++reads;
+                        super.read(ctx);
+                    }
+                }));
+        NettyConnection<Buffer, Object> connection = DefaultNettyConnection.<Buffer, Object>initChannel(channel,
+                executionContext, UNSUPPORTED_PROTOCOL_CLOSE_HANDLER, defaultFlushStrategy(), 0L, null,
+                initializer, mock(Protocol.class), NoopConnectionObserver.INSTANCE, true, __ -> false)
+                .toFuture().get();
+        toSource(connection.read()).subscribe(subscriber);
+        return subscriber.awaitSubscription();
+    }
+
+    @Test
+    void onDemandReadsOnlyWithDemand() throws Exception {
+        Subscription subscription = subscribe(ReadPrefetchPolicy.onDemand());
+        subscription.request(1);
+        assertThat(reads, is(1));
+        channel.writeInbound(buffer("a"));
+        assertThat(subscriber.takeOnNext(), is(buffer("a")));
+        assertThat("Unexpected read without demand", reads, is(1));
+    }
+
+    @Test
+    void prefetchPausesAtHighItemsWatermark() throws Exception {
+        Subscription subscription = subscribe(watermarks(1, 3, 16, 1024));
+        subscription.request(1);
+        channel.writeInbound(buffer("a"));
+        assertThat(subscriber.takeOnNext(), is(buffer("a")));
+        assertThat("Expected read ahead of demand", reads, is(2));
+
+        channel.writeInbound(buffer("b"));
+        channel.writeInbound(buffer("c"));
+        assertThat(reads, is(4));
+        channel.writeInbound(buffer("d"));
+        assertThat("Reads not paused at high watermark", reads, is(4));
+
+        subscription.request(1);
+        assertThat(reads, is(4));
+        subscription.request(1);
+        assertThat("Reads not resumed at low watermark", reads, is(5));
+        assertThat(subscriber.takeOnNext(2), contains(buffer("b"), buffer("c")));
+
+        subscription.request(2);
+        assertThat(subscriber.takeOnNext(), is(buffer("d")));
+        channel.writeInbound(buffer("e"));
+        assertThat(subscriber.takeOnNext(), is(buffer("e")));
+    }
+
+    @Test
+    void prefetchPausesAtHighBytesWatermark() throws Exception {
+        Subscription subscription = subscribe(watermarks(1, 16, 2, 8));
+        subscription.request(1);
+        channel.writeInbound(buffer("a"));
+        assertThat(subscriber.takeOnNext(), is(buffer("a")));
+        assertThat(reads, is(2));
+
+        channel.writeInbound(buffer("01234567"));
+        assertThat("Reads not paused at high watermark", reads, is(2));
+        subscription.request(1);
+        assertThat(subscriber.takeOnNext(), is(buffer("01234567")));
+        assertThat("Reads not resumed at low watermark", reads, is(3));
+    }
+
+    @Test
+    void invalidWatermarks() {
+        assertThrows(IllegalArgumentException.class, () -> watermarks(0, 0, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> watermarks(2, 2, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> watermarks(0, 1, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> watermarks(-1, 1, 0, 1));
+    }
+
+    private static Buffer buffer(String value) {
+        return DEFAULT_ALLOCATOR.fromAscii(value);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.netty.internal;
+
+import io.servicetalk.logging.slf4j.internal.FixedLevelLogger;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static io.servicetalk.concurrent.internal.DeliberateException.DELIBERATE_EXCEPTION;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RingBufferWireLoggerTest {
+
+    private final FixedLevelLogger logger = mock(FixedLevelLogger.class);
+    private final ArgumentCaptor<String> logged = ArgumentCaptor.forClass(String.class);
+    private EmbeddedChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        when(logger.isEnabled()).thenReturn(true);
+        channel = new EmbeddedChannel(new RingBufferWireLogger(logger, () -> true, 2, 4));
+    }
+
+    @Test
+    void capturesWithoutLogging() {
+        channel.writeInbound(Unpooled.copiedBuffer("hello", US_ASCII));
+        channel.writeOutbound(Unpooled.copiedBuffer("world", US_ASCII));
+        channel.releaseInbound();
+        channel.releaseOutbound();
+        verify(logger, never()).log(anyString());
+    }
+
+    @Test
+    void dumpOnDemandRetainsMostRecentEvents() {
+        channel.writeInbound(Unpooled.copiedBuffer("hello", US_ASCII));
+        channel.writeOutbound(Unpooled.copiedBuffer("world", US_ASCII));
+        channel.releaseInbound();
+        channel.releaseOutbound();
+        WireLoggingInitializer.dumpWireLog(channel);
+
+        verify(logger).log(logged.capture());
+        final String dump = logged.getValue();
+        assertThat(dump, containsString("ON_DEMAND"));
+        assertThat(dump, containsString("WRITE: 5B (first 4B)"));
+        assertThat(dump, containsString("FLUSH"));
+        assertThat(dump, containsString("77 6f 72 6c"));
+        assertThat("Evicted event was dumped", dump, not(containsString("READ:")));
+    }
+
+    @Test
+    void dumpOnException() {
+        channel.writeInbound(Unpooled.copiedBuffer("hello", US_ASCII));
+        channel.releaseInbound();
+        channel.pipeline().fireExceptionCaught(DELIBERATE_EXCEPTION);
+        assertThrows(DELIBERATE_EXCEPTION.getClass(), channel::checkException);
+
+        verify(logger).log(logged.capture());
+        assertThat(logged.getValue(), containsString("EXCEPTION"));
+        assertThat(logged.getValue(), containsString("READ_COMPLETE"));
+    }
+
+    @Test
+    void noDataWithoutUserData() {
+        channel = new EmbeddedChannel(new RingBufferWireLogger(logger, () -> false, 4, 4));
+        channel.writeInbound(Unpooled.copiedBuffer("hello", US_ASCII));
+        channel.releaseInbound();
+        WireLoggingInitializer.dumpWireLog(channel);
+
+        verify(logger).log(logged.capture());
+        assertThat(logged.getValue(), containsString("READ: 5B"));
+        assertThat(logged.getValue(), not(containsString("68 65 6c 6c")));
+    }
+}
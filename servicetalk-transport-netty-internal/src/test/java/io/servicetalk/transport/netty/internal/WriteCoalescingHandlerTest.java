@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2026 Apple Inc. and the ServiceTalk project authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.servicetalk.transport.netty.internal;
+
+import io.servicetalk.transport.netty.internal.WriteCoalescingInitializer.WriteCoalescingHandler;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static io.netty.buffer.Unpooled.copiedBuffer;
+import static io.servicetalk.transport.netty.internal.WriteCoalescingInitializer.MAX_COALESCED_WRITES;
+import static io.servicetalk.transport.netty.internal.WriteCoalescingInitializer.MAX_COALESCED_WRITE_SIZE;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class WriteCoalescingHandlerTest {
+
+    private final EmbeddedChannel channel = new EmbeddedChannel(new WriteCoalescingHandler(16));
+
+    @AfterEach
+    void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void coalescesWritesUntilFlush() {
+        ChannelFuture f1 = channel.write(ascii("foo"));
+        ChannelFuture f2 = channel.write(ascii("bar"));
+        ChannelFuture f3 = channel.write(ascii("baz"));
+        assertThat(channel.readOutbound(), is(nullValue()));
+        assertThat(f1.isDone(), is(false));
+
+        channel.flush();
+        assertOutbound("foobarbaz");
+        assertThat(channel.readOutbound(), is(nullValue()));
+        assertThat(f1.isSuccess(), is(true));
+        assertThat(f2.isSuccess(), is(true));
+        assertThat(f3.isSuccess(), is(true));
+    }
+
+    @Test
+    void singleWriteIsNotCopied() {
+        ByteBuf buf = ascii("foo");
+        channel.writeAndFlush(buf);
+        ByteBuf written = channel.readOutbound();
+        assertThat(written, is(sameInstance(buf)));
+        written.release();
+    }
+
+    @Test
+    void writesWhenMaxBytesReached() {
+        channel.write(ascii("0123456789"));
+        channel.write(ascii("abcdef"));
+        channel.write(ascii("x"));
+        channel.flush();
+        assertOutbound("0123456789abcdef");
+        assertOutbound("x");
+        assertThat(channel.readOutbound(), is(nullValue()));
+    }
+
+    @Test
+    void writesWhenMaxWritesReached() {
+        EmbeddedChannel channel = new EmbeddedChannel(new WriteCoalescingHandler(MAX_COALESCED_WRITE_SIZE));
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < MAX_COALESCED_WRITES; ++i) {
+            channel.write(ascii("a"));
+            expected.append('a');
+        }
+        channel.write(ascii("b"));
+        channel.flush();
+        assertOutbound(channel, expected.toString());
+        assertOutbound(channel, "b");
+        assertThat(channel.finishAndReleaseAll(), is(false));
+    }
+
+    @Test
+    void largeWritePreservesOrder() {
+        ByteBuf large = ascii("this-is-larger-than-16");
+        channel.write(ascii("foo"));
+        channel.write(ascii("bar"));
+        channel.write(large);
+        channel.write(ascii("baz"));
+        channel.flush();
+        assertOutbound("foobar");
+        ByteBuf written = channel.readOutbound();
+        assertThat(written, is(sameInstance(large)));
+        written.release();
+        assertOutbound("baz");
+        assertThat(channel.readOutbound(), is(nullValue()));
+    }
+
+    @Test
+    void failurePropagatesToAllWrites() {
+        ChannelFuture f1 = channel.write(ascii("foo"));
+        ChannelFuture f2 = channel.write(ascii("bar"));
+        channel.close();
+        assertThat(f1.isDone(), is(true));
+        assertThat(f1.isSuccess(), is(false));
+        assertThat(f2.isDone(), is(true));
+        assertThat(f2.isSuccess(), is(false));
+    }
+
+    private void assertOutbound(String expected) {
+        assertOutbound(channel, expected);
+    }
+
+    private static void assertOutbound(EmbeddedChannel channel, String expected) {
+        ByteBuf written = channel.readOutbound();
+        try {
+            assertThat(written.toString(US_ASCII), is(expected));
+        } finally {
+            written.release();
+        }
+    }
+
+    private static ByteBuf ascii(String value) {
+        return copiedBuffer(value, US_ASCII);
+    }
+}
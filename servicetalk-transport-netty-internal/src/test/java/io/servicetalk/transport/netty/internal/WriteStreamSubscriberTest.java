@@ -15,6 +15,9 @@
  */
 package io.servicetalk.transport.netty.internal;
 
+import io.servicetalk.buffer.api.Buffer;
+import io.servicetalk.buffer.netty.PooledBufferAllocator;
+import io.servicetalk.concurrent.CompletableSource;
 import io.servicetalk.concurrent.PublisherSource.Subscription;
 import io.servicetalk.concurrent.api.TestSubscription;
 import io.servicetalk.transport.netty.internal.NoopTransportObserver.NoopWriteObserver;
@@ -32,6 +35,8 @@ import org.mockito.ArgumentCaptor;
 
 import java.nio.channels.ClosedChannelException;
 
+import static io.servicetalk.buffer.netty.BufferUtils.isLeased;
+import static io.servicetalk.buffer.netty.BufferUtils.isReleasedLease;
 import static io.servicetalk.concurrent.internal.DeliberateException.DELIBERATE_EXCEPTION;
 import static java.lang.Long.MAX_VALUE;
 import static java.nio.charset.StandardCharsets.US_ASCII;
@@ -42,6 +47,7 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -262,6 +268,32 @@ class WriteStreamSubscriberTest extends AbstractWriteTest {
         verifyListenerFailed(DELIBERATE_EXCEPTION);
     }
 
+    @Test
+    void writeReleasedLeasedBufferFails() {
+        setUp(false, false);
+        final PooledBufferAllocator allocator = new PooledBufferAllocator(false);
+        final Buffer buffer;
+        try (PooledBufferAllocator.Scope ignored = allocator.newScope()) {
+            buffer = allocator.fromAscii("Hello");
+            subscriber.onNext(buffer);
+            assertThat(isLeased(buffer), is(true));
+            assertThat(isReleasedLease(buffer), is(true));
+        }
+        channel.flushOutbound();
+        assertThat(channel.readOutbound(), is(sameInstance(buffer)));
+
+        // A retry re-subscribes to the same payload body and writes the same buffer again.
+        final CompletableSource.Subscriber retrySubscriber = mock(CompletableSource.Subscriber.class);
+        final WriteStreamSubscriber retry = new WriteStreamSubscriber(channel, demandEstimator, retrySubscriber,
+                closeHandler, NoopWriteObserver.INSTANCE, identity(), false, __ -> false);
+        final TestSubscription retrySubscription = new TestSubscription();
+        retry.onSubscribe(retrySubscription);
+        retry.onNext(buffer);
+        assertThat(retrySubscription.isCancelled(), is(true));
+        verify(retrySubscriber).onError(any(IllegalStateException.class));
+        assertThat("Unexpected message(s) written.", channel.outboundMessages(), is(empty()));
+    }
+
     @Test
     void closeChannelDuringFirstWrite() {
         setUp(false, false);
@@ -16,9 +16,12 @@
 package io.servicetalk.transport.netty;
 
 import io.servicetalk.transport.api.IoExecutor;
+import io.servicetalk.transport.api.IoExecutorObserver;
 import io.servicetalk.transport.api.IoThreadFactory;
 import io.servicetalk.transport.api.IoThreadFactory.IoThread;
 
+import java.time.Duration;
+
 /**
  * Factory methods to create {@link IoExecutor}s using Netty as the transport.
  */
@@ -41,6 +44,26 @@ public final class NettyIoExecutors {
         return io.servicetalk.transport.netty.internal.NettyIoExecutors.createIoExecutor(ioThreads, threadFactory);
     }
 
+    /**
+     * Creates a new {@link IoExecutor} with the specified number of {@code ioThreads} which reports the health of its
+     * IO threads to an {@link IoExecutorObserver}.
+     *
+     * @param <T> Type of the IO thread instances created by factory.
+     * @param ioThreads number of threads or {@code 0} (zero) to use the default value.
+     * @param threadFactory the {@link IoThreadFactory} to use.
+     * @param observer the {@link IoExecutorObserver} to report the health of IO threads to.
+     * @param probeInterval the interval between probe tasks executed on each IO thread to measure scheduling lag.
+     * @param blockedTaskThreshold the duration an IO thread may be unable to execute an overdue probe task before it is
+     * reported as blocked, or {@link Duration#ZERO} to disable blocked task detection.
+     * @return The created {@link IoExecutor}
+     */
+    public static <T extends Thread & IoThread> IoExecutor createIoExecutor(int ioThreads,
+            IoThreadFactory<T> threadFactory, IoExecutorObserver observer, Duration probeInterval,
+            Duration blockedTaskThreshold) {
+        return io.servicetalk.transport.netty.internal.NettyIoExecutors.createIoExecutor(ioThreads, threadFactory,
+                observer, probeInterval, blockedTaskThreshold);
+    }
+
     /**
      * Creates a new {@link IoExecutor} with the specified number of {@code ioThreads}.
      *